@@ -1,12 +1,19 @@
 package com.skax.aiplatform.batch;
 
+import com.skax.aiplatform.common.batch.BatchJobCoordinator;
 import com.skax.aiplatform.service.knowledge.DataPipelineMonitorService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import org.springframework.dao.DataAccessException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Data Pipeline 모니터링 배치
@@ -19,16 +26,52 @@ import org.springframework.dao.DataAccessException;
  *   <li>설정 파일(application.yml)에서 cron 표현식으로 변경 가능</li>
  * </ul>
  * 
+ * <p>여러 Pod 중 {@link BatchJobCoordinator} 잠금을 획득한 한 곳에서만 실행되며,
+ * 이전 주기의 상태 모니터링이 아직 실행 중이면 이번 주기는 건너뜁니다.
+ * 실행 시간은 {@code datapipeline.monitor.tick}, 건너뛴 횟수는 {@code datapipeline.monitor.skipped},
+ * 이 Pod 에서 마지막으로 완료된 이후 경과 시간은 {@code datapipeline.monitor.lag} 메트릭으로 확인할 수 있습니다
+ * (클러스터 기준 지연은 Pod 별 값 중 최솟값).</p>
+ * 
  * @author younglot
  * @since 2025-11-03
  * @version 1.0
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class DataPipelineMonitorBatch {
 
+    public static final String MONITOR_JOB_NAME = "datapipeline-monitor";
+    public static final String DATAIKU_MONITOR_JOB_NAME = "datapipeline-dataiku-monitor";
+
     private final DataPipelineMonitorService dataPipelineMonitorService;
+    private final BatchJobCoordinator batchJobCoordinator;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Timer tickTimer;
+    private final Counter skippedCounter;
+    private volatile long lastCompletedNanos = System.nanoTime();
+
+    public DataPipelineMonitorBatch(DataPipelineMonitorService dataPipelineMonitorService,
+            BatchJobCoordinator batchJobCoordinator, MeterRegistry meterRegistry) {
+        this.dataPipelineMonitorService = dataPipelineMonitorService;
+        this.batchJobCoordinator = batchJobCoordinator;
+        this.tickTimer = Timer.builder("datapipeline.monitor.tick")
+                .description("Data Pipeline 상태 모니터링 1회 실행 시간")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("datapipeline.monitor.skipped")
+                .description("이전 주기 실행 중이어서 건너뛴 모니터링 횟수")
+                .register(meterRegistry);
+        Gauge.builder("datapipeline.monitor.lag", this,
+                        batch -> (System.nanoTime() - batch.lastCompletedNanos) / 1_000_000_000.0)
+                .description("마지막 모니터링 완료 이후 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void registerJobs() {
+        batchJobCoordinator.register(MONITOR_JOB_NAME, Duration.ofMinutes(5), this::monitorPipelineStatus);
+        batchJobCoordinator.register(DATAIKU_MONITOR_JOB_NAME, Duration.ofMinutes(10), this::monitorDataiku);
+    }
 
     /**
      * Data Pipeline 상태 모니터링 배치 작업
@@ -39,19 +82,7 @@ public class DataPipelineMonitorBatch {
     @Scheduled(cron = "${datapipeline.monitor.cron:0 0/5 * * * ?}", zone = "Asia/Seoul")
     //@Scheduled(fixedRate = 10000) // 10초
     public void monitorDataPipeline() {
-
-        try {
-            dataPipelineMonitorService.monitorAndUpdatePipelineStatus();
-        } catch (DataAccessException e) {
-            // JPA Repository 메서드(findRunningPipelines)에서 발생 가능
-            log.error("[BATCH] DataPipelineMonitorBatch 실행 중 데이터베이스 접근 오류 발생: {}", e.getMessage(), e);
-        } catch (RuntimeException e) {
-            // 기타 런타임 예외 (트랜잭션 예외 포함)
-            log.error("[BATCH] DataPipelineMonitorBatch 실행 중 런타임 오류 발생: {}", e.getMessage(), e);
-        } catch (Exception e) {
-            // 예상치 못한 예외 (checked exception 등)
-            log.error("[BATCH] DataPipelineMonitorBatch 실행 중 예상치 못한 오류 발생: {}", e.getMessage(), e);
-        }
+        batchJobCoordinator.runScheduled(MONITOR_JOB_NAME);
     }
 
     /**
@@ -62,15 +93,29 @@ public class DataPipelineMonitorBatch {
      */
     @Scheduled(cron = "${datapipeline.monitor.cron_sync:0 0/30 * * * ?}", zone = "Asia/Seoul")
     public void monitorDataikuPipeline() {
+        batchJobCoordinator.runScheduled(DATAIKU_MONITOR_JOB_NAME);
+    }
+
+    private long monitorPipelineStatus() {
+        if (!running.compareAndSet(false, true)) {
+            skippedCounter.increment();
+            log.warn("[BATCH] DataPipelineMonitorBatch 이전 실행이 아직 진행 중이어서 이번 주기를 건너뜁니다.");
+            return -1;
+        }
+
+        long startNanos = System.nanoTime();
         try {
-            dataPipelineMonitorService.monitorDataikuContinuousActivities();
-        } catch (DataAccessException e) {
-            log.error("[BATCH] DataPipelineMonitorBatch (Dataiku) 실행 중 데이터베이스 접근 오류 발생: {}", e.getMessage(), e);
-        } catch (RuntimeException e) {
-            log.error("[BATCH] DataPipelineMonitorBatch (Dataiku) 실행 중 런타임 오류 발생: {}", e.getMessage(), e);
-        } catch (Exception e) {
-            log.error("[BATCH] DataPipelineMonitorBatch (Dataiku) 실행 중 예상치 못한 오류 발생: {}", e.getMessage(), e);
+            int updated = dataPipelineMonitorService.monitorAndUpdatePipelineStatus();
+            lastCompletedNanos = System.nanoTime();
+            return updated;
+        } finally {
+            tickTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            running.set(false);
         }
     }
-}
 
+    private long monitorDataiku() {
+        dataPipelineMonitorService.monitorDataikuContinuousActivities();
+        return -1;
+    }
+}
@@ -1,6 +1,10 @@
 package com.skax.aiplatform.batch;
 
+import java.time.Duration;
+
+import com.skax.aiplatform.common.batch.BatchJobCoordinator;
 import com.skax.aiplatform.service.home.IDEService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,7 +17,11 @@ import org.springframework.stereotype.Component;
 @Component
 @RequiredArgsConstructor
 public class IdeDeleteBatch {
+
+    public static final String JOB_NAME = "ide-delete";
+
     private final IDEService ideService;
+    private final BatchJobCoordinator batchJobCoordinator;
 
     @Value("${kube.ide.delete-batch-startup:true}")
     private boolean runOnStartup;
@@ -21,24 +29,35 @@ public class IdeDeleteBatch {
     @Value("${spring.profiles.active}")
     private String activeProfile;
 
+    @PostConstruct
+    public void registerJob() {
+        if (!activeProfile.equals("prod")) {
+            batchJobCoordinator.register(JOB_NAME, Duration.ofMinutes(10), this::deleteExpiredIdes);
+        }
+    }
+
     // 앱 기동 직후 1회 실행
     // @EventListener(ApplicationReadyEvent.class)
     public void runOnceOnStartup() {
         if (runOnStartup && !activeProfile.equals("prod")) {
             log.info("[BATCH] deleteIdeBatch (startup)");
-            ideService.deleteIdeBatch();
+            batchJobCoordinator.runScheduled(JOB_NAME);
         }
     }
 
     /**
      * application.yml 의 ide.delete-batch-cron 사용
+     * 여러 Pod 중 {@link BatchJobCoordinator} 잠금을 획득한 한 곳에서만 실행
      */
     @Scheduled(cron = "${kube.ide.delete-batch-cron}", zone = "Asia/Seoul")
     public void deleteIdeBatch() {
         if (!activeProfile.equals("prod")) {
-            log.info("[BATCH] deleteIdeBatch start");
-            ideService.deleteIdeBatch();   // 만료 IDE 정리 로직은 서비스에 구현
-            log.info("[BATCH] deleteIdeBatch end");
+            batchJobCoordinator.runScheduled(JOB_NAME);
         }
     }
+
+    private long deleteExpiredIdes() {
+        ideService.deleteIdeBatch();   // 만료 IDE 정리 로직은 서비스에 구현
+        return -1;
+    }
 }
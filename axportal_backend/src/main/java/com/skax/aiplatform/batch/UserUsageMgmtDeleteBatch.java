@@ -1,9 +1,12 @@
 package com.skax.aiplatform.batch;
 
+import java.time.Duration;
+
+import com.skax.aiplatform.common.batch.BatchJobCoordinator;
 import com.skax.aiplatform.service.admin.UserUsageMgmtService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataAccessException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -12,6 +15,7 @@ import org.springframework.stereotype.Component;
  * 
  * <p>
  * 매일 05:00에 현재 날짜 기준으로 30일 전 데이터를 삭제합니다.
+ * 여러 Pod 중 {@link BatchJobCoordinator} 잠금을 획득한 한 곳에서만 실행합니다.
  * </p>
  * 
  * @author sonmunwoo
@@ -21,8 +25,16 @@ import org.springframework.stereotype.Component;
 @Component
 @RequiredArgsConstructor
 public class UserUsageMgmtDeleteBatch {
+
+    public static final String JOB_NAME = "user-usage-mgmt-delete";
     
     private final UserUsageMgmtService userUsageMgmtService;
+    private final BatchJobCoordinator batchJobCoordinator;
+
+    @PostConstruct
+    public void registerJob() {
+        batchJobCoordinator.register(JOB_NAME, Duration.ofMinutes(10), this::deleteOldData);
+    }
 
     /**
      * 매일 05:00에 30일 전 사용자 사용량 관리 데이터 삭제
@@ -34,19 +46,12 @@ public class UserUsageMgmtDeleteBatch {
      */
     @Scheduled(cron = "${userUsageMgmt.delete-batch-cron:0 0 5 * * ?}", zone = "Asia/Seoul")
     public void deleteOldUserUsageMgmtData() {
-        try {
-            log.info("[BATCH] 사용자 사용량 관리 데이터 삭제 배치 시작");
-            
-            long deletedCount = userUsageMgmtService.deleteOldUserUsageMgmtData();
-            
-            log.info("[BATCH] 사용자 사용량 관리 데이터 삭제 배치 완료 - 삭제된 레코드 수: {}건", deletedCount);
-        } catch (DataAccessException e) {
-            log.error("[BATCH] 사용자 사용량 관리 데이터 삭제 배치 실패 (DataAccessException): {}", e.getMessage(), e);
-        } catch (IllegalArgumentException e) {
-            log.error("[BATCH] 사용자 사용량 관리 데이터 삭제 배치 실패 (IllegalArgumentException): {}", e.getMessage(), e);
-        } catch (RuntimeException e) {
-            log.error("[BATCH] 사용자 사용량 관리 데이터 삭제 배치 실패 (RuntimeException): {}", e.getMessage(), e);
-        }
+        batchJobCoordinator.runScheduled(JOB_NAME);
     }
-}
 
+    private long deleteOldData() {
+        long deletedCount = userUsageMgmtService.deleteOldUserUsageMgmtData();
+        log.info("[BATCH] 사용자 사용량 관리 데이터 삭제 - 삭제된 레코드 수: {}건", deletedCount);
+        return deletedCount;
+    }
+}
@@ -0,0 +1,274 @@
+package com.skax.aiplatform.client.common;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.okhttp3.OkHttpConnectionPoolMetrics;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.ConnectionPool;
+import okhttp3.ConnectionSpec;
+import okhttp3.Dispatcher;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+
+/**
+ * 외부 API 공용 HTTP 전송 계층 (OkHttp)
+ *
+ * <p>
+ * Feign Client 설정 클래스는 {@code @FeignClient} 마다 별도의 자식 컨텍스트에서 생성되므로,
+ * 설정 클래스 안에서 {@link ConnectionPool}/{@link Dispatcher} 를 만들면 클라이언트 수만큼 풀이 생기고
+ * 같은 호스트로의 keep-alive 연결도 공유되지 않습니다.
+ * 이 레지스트리는 애플리케이션 전체에서 하나의 연결 풀/디스패처를 소유하고,
+ * {@link #newClient(Duration, Duration, Duration, boolean)} 로 타임아웃과 SSL 설정만 다른
+ * 클라이언트를 파생({@link OkHttpClient#newBuilder()})해 제공합니다.
+ * </p>
+ *
+ * <h3>주요 기능:</h3>
+ * <ul>
+ * <li><strong>연결 공유</strong>: 모든 클라이언트가 하나의 연결 풀을 사용하며, 인증서 검증 우회용 SSL 설정도
+ * 단일 인스턴스를 사용해 같은 호스트의 연결이 클라이언트 간에 재사용됩니다.</li>
+ * <li><strong>호스트별 동시 요청 제한</strong>: 요청 URL 의 호스트 단위로 동시 요청 수를 제한하며
+ * ({@code http.transport.max-requests-per-host}, 호스트별 재정의 {@code http.transport.host-limits=host=N,...}),
+ * 대기 시간이 {@code http.transport.queue-timeout-ms} 를 넘으면 {@link IOException} 으로 실패합니다.
+ * Feign 은 동기 호출이라 {@link Dispatcher} 의 호스트별 제한이 적용되지 않으므로 인터셉터로 제한합니다.</li>
+ * <li><strong>HTTP/2</strong>: HTTPS 연결에서 ALPN 으로 상대가 지원하면 HTTP/2 를 사용합니다
+ * ({@code http.transport.http2-enabled}). 평문 HTTP 는 HTTP/1.1 을 사용합니다.</li>
+ * <li><strong>응답 압축</strong>: 요청에 Accept-Encoding 을 직접 지정하지 않으면 OkHttp 가 gzip 을 요청하고
+ * 응답을 투명하게 해제합니다.</li>
+ * </ul>
+ *
+ * <h3>메트릭:</h3>
+ * <ul>
+ * <li>{@code http.transport.pool.connection.count{state=active|idle}}: 연결 풀 상태</li>
+ * <li>{@code http.transport.in-flight{host}}: 호스트별 진행 중 요청 수</li>
+ * <li>{@code http.transport.queue.wait{host}}: 호스트별 동시 요청 제한 대기 시간</li>
+ * <li>{@code http.transport.rejected{host}}: 대기 시간 초과로 실패한 요청 수</li>
+ * </ul>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class HttpTransportRegistry {
+
+    private static final List<ConnectionSpec> CONNECTION_SPECS = Arrays.asList(
+            ConnectionSpec.MODERN_TLS, // HTTPS 지원
+            ConnectionSpec.CLEARTEXT // HTTP 지원
+    );
+
+    private final MeterRegistry meterRegistry;
+    private final OkHttpClient baseClient;
+    private final int maxRequestsPerHost;
+    private final Map<String, Integer> hostLimits;
+    private final long queueTimeoutMillis;
+    private final ConcurrentMap<String, Upstream> upstreams = new ConcurrentHashMap<>();
+
+    private final X509TrustManager trustAllManager;
+    private final SSLSocketFactory trustAllSocketFactory;
+    private final HostnameVerifier trustAllHostnameVerifier = (hostname, session) -> true;
+
+    public HttpTransportRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${http.transport.max-idle-connections:200}") int maxIdleConnections,
+            @Value("${http.transport.keep-alive-minutes:5}") long keepAliveMinutes,
+            @Value("${http.transport.max-requests:256}") int maxRequests,
+            @Value("${http.transport.max-requests-per-host:64}") int maxRequestsPerHost,
+            @Value("${http.transport.host-limits:}") String hostLimits,
+            @Value("${http.transport.queue-timeout-ms:30000}") long queueTimeoutMillis,
+            @Value("${http.transport.http2-enabled:true}") boolean http2Enabled) throws GeneralSecurityException {
+        this.meterRegistry = meterRegistry;
+        this.maxRequestsPerHost = maxRequestsPerHost;
+        this.hostLimits = parseHostLimits(hostLimits);
+        this.queueTimeoutMillis = queueTimeoutMillis;
+
+        this.trustAllManager = new X509TrustManager() {
+            @Override
+            public void checkClientTrusted(X509Certificate[] chain, String authType) {
+                // 모든 클라이언트 인증서를 신뢰
+            }
+
+            @Override
+            public void checkServerTrusted(X509Certificate[] chain, String authType) {
+                // 모든 서버 인증서를 신뢰 (자체 서명, 만료된 인증서 포함)
+            }
+
+            @Override
+            public X509Certificate[] getAcceptedIssuers() {
+                return new X509Certificate[0];
+            }
+        };
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(null, new TrustManager[] { trustAllManager }, new SecureRandom());
+        this.trustAllSocketFactory = sslContext.getSocketFactory();
+
+        ConnectionPool connectionPool = new ConnectionPool(maxIdleConnections, keepAliveMinutes, TimeUnit.MINUTES);
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
+        this.baseClient = new OkHttpClient.Builder()
+                .connectionPool(connectionPool)
+                .dispatcher(dispatcher)
+                .protocols(http2Enabled
+                        ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                        : List.of(Protocol.HTTP_1_1))
+                .connectionSpecs(CONNECTION_SPECS)
+                .addInterceptor(this::limitPerHost)
+                .build();
+
+        new OkHttpConnectionPoolMetrics(connectionPool, "http.transport.pool", Tags.empty(), maxIdleConnections)
+                .bindTo(meterRegistry);
+        Gauge.builder("http.transport.dispatcher.running", dispatcher, Dispatcher::runningCallsCount)
+                .description("진행 중인 HTTP 호출 수 (전체)")
+                .register(meterRegistry);
+        Gauge.builder("http.transport.dispatcher.queued", dispatcher, Dispatcher::queuedCallsCount)
+                .description("대기 중인 비동기 HTTP 호출 수")
+                .register(meterRegistry);
+
+        log.info("HTTP 전송 계층 초기화 - maxIdleConnections: {}, maxRequestsPerHost: {}, hostLimits: {}, http2: {}",
+                maxIdleConnections, maxRequestsPerHost, this.hostLimits, http2Enabled);
+    }
+
+    /**
+     * 공용 연결 풀을 사용하는 OkHttp 클라이언트 생성
+     *
+     * <strong>⚠️ 보안 경고:</strong> trustAllCertificates 는 자체 서명 인증서를 사용하는 내부 엔드포인트에만 사용하십시오.
+     *
+     * @param connectTimeout       연결 타임아웃
+     * @param readTimeout          읽기 타임아웃
+     * @param writeTimeout         쓰기 타임아웃
+     * @param trustAllCertificates SSL 인증서/호스트명 검증 우회 여부
+     * @return 공용 연결 풀/디스패처를 공유하는 OkHttp 클라이언트
+     */
+    public OkHttpClient newClient(Duration connectTimeout, Duration readTimeout, Duration writeTimeout,
+            boolean trustAllCertificates) {
+        OkHttpClient.Builder builder = baseClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .readTimeout(readTimeout)
+                .writeTimeout(writeTimeout);
+        if (trustAllCertificates) {
+            // 연결 풀의 Address 비교에 SSL 설정이 포함되므로 항상 같은 인스턴스를 사용
+            builder.sslSocketFactory(trustAllSocketFactory, trustAllManager)
+                    .hostnameVerifier(trustAllHostnameVerifier);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 호스트별 동시 요청 제한 (응답 헤더 수신 시점까지)
+     */
+    private Response limitPerHost(Interceptor.Chain chain) throws IOException {
+        Upstream upstream = upstreams.computeIfAbsent(chain.request().url().host(), this::createUpstream);
+
+        long startTime = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = upstream.permits.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("동시 요청 제한 대기 중 인터럽트 - host: " + upstream.host);
+        }
+        upstream.queueWait.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            upstream.rejected.increment();
+            throw new IOException("호스트 동시 요청 제한 대기 시간 초과 - host: " + upstream.host
+                    + ", limit: " + upstream.limit + ", waited: " + queueTimeoutMillis + " ms");
+        }
+
+        upstream.inFlight.incrementAndGet();
+        try {
+            return chain.proceed(chain.request());
+        } finally {
+            upstream.inFlight.decrementAndGet();
+            upstream.permits.release();
+        }
+    }
+
+    private Upstream createUpstream(String host) {
+        int limit = hostLimits.getOrDefault(host, maxRequestsPerHost);
+        Upstream upstream = new Upstream(host, limit, meterRegistry);
+        log.info("HTTP 전송 upstream 등록 - host: {}, limit: {}", host, limit);
+        return upstream;
+    }
+
+    private static Map<String, Integer> parseHostLimits(String value) {
+        Map<String, Integer> limits = new HashMap<>();
+        if (value == null || value.isBlank()) {
+            return limits;
+        }
+        for (String entry : value.split(",")) {
+            int separator = entry.indexOf('=');
+            if (separator <= 0) {
+                continue;
+            }
+            try {
+                limits.put(entry.substring(0, separator).trim(),
+                        Math.max(1, Integer.parseInt(entry.substring(separator + 1).trim())));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 호스트 동시 요청 제한 설정 무시: {}", entry);
+            }
+        }
+        return limits;
+    }
+
+    /**
+     * 호스트별 동시 요청 상태
+     */
+    private static final class Upstream {
+        private final String host;
+        private final int limit;
+        private final Semaphore permits;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Timer queueWait;
+        private final Counter rejected;
+
+        private Upstream(String host, int limit, MeterRegistry meterRegistry) {
+            this.host = host;
+            this.limit = limit;
+            this.permits = new Semaphore(limit, true);
+            Gauge.builder("http.transport.in-flight", inFlight, AtomicInteger::get)
+                    .description("호스트별 진행 중 HTTP 요청 수")
+                    .tag("host", host)
+                    .register(meterRegistry);
+            this.queueWait = Timer.builder("http.transport.queue.wait")
+                    .description("호스트별 동시 요청 제한 대기 시간")
+                    .tag("host", host)
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("http.transport.rejected")
+                    .description("동시 요청 제한 대기 시간 초과 건수")
+                    .tag("host", host)
+                    .register(meterRegistry);
+        }
+    }
+}
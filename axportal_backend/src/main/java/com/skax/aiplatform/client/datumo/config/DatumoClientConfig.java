@@ -1,24 +1,17 @@
 package com.skax.aiplatform.client.datumo.config;
 
-import java.security.cert.X509Certificate;
-import java.util.Arrays;
-import java.util.concurrent.TimeUnit;
-
-import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
+import java.time.Duration;
 
 import org.springframework.context.annotation.Bean;
 
+import com.skax.aiplatform.client.common.HttpTransportRegistry;
+
 import feign.Client;
 import feign.Request;
 import feign.RequestInterceptor;
 import feign.Retryer;
 import feign.codec.ErrorDecoder;
 import feign.okhttp.OkHttpClient;
-import okhttp3.ConnectionSpec;
-import okhttp3.OkHttpClient.Builder;
 
 /**
  * Datumo Feign Client 설정
@@ -129,60 +122,17 @@ public class DatumoClientConfig {
      * 운영 환경에서는 절대 사용하지 마십시오.
      * 
      * @return OkHttp 기반 Feign Client
-     * @throws Exception SSL 설정 실패 시
      */
     @Bean
-    public Client datumoFeignClientWithSSLBypass() throws Exception {
+    public Client datumoFeignClientWithSSLBypass(HttpTransportRegistry httpTransportRegistry) {
         // 현재 활성 프로필 확인
         String activeProfile = System.getProperty("spring.profiles.active", "");
 
-        Builder okHttpBuilder = new okhttp3.OkHttpClient.Builder()
-                .connectTimeout(10, TimeUnit.SECONDS)
-                .readTimeout(60, TimeUnit.SECONDS)
-                .writeTimeout(60, TimeUnit.SECONDS);
-
-        if (isDevelopmentProfile(activeProfile)) {
-            // 개발계: SSL 검증 완전 우회
-
-            // 모든 인증서를 신뢰하는 TrustManager
-            TrustManager[] trustAllCerts = new TrustManager[] {
-                    new X509TrustManager() {
-                        @Override
-                        public void checkClientTrusted(X509Certificate[] chain, String authType) {
-                            // 모든 클라이언트 인증서를 신뢰
-                        }
-
-                        @Override
-                        public void checkServerTrusted(X509Certificate[] chain, String authType) {
-                            // 모든 서버 인증서를 신뢰 (자체 서명, 만료된 인증서 포함)
-                        }
-
-                        @Override
-                        public X509Certificate[] getAcceptedIssuers() {
-                            return new X509Certificate[0];
-                        }
-                    }
-            };
-
-            // SSL 컨텍스트 생성
-            SSLContext sslContext = SSLContext.getInstance("TLS");
-            sslContext.init(null, trustAllCerts, new java.security.SecureRandom());
-
-            // 호스트명 검증을 완전히 우회
-            HostnameVerifier allHostsValid = (hostname, session) -> true;
-
-            okHttpBuilder
-                    .sslSocketFactory(sslContext.getSocketFactory(), (X509TrustManager) trustAllCerts[0])
-                    .hostnameVerifier(allHostsValid);
-        }
-
-        // 모든 환경에서 HTTP/HTTPS 통신 허용
-        okHttpBuilder.connectionSpecs(Arrays.asList(
-                ConnectionSpec.MODERN_TLS, // HTTPS 지원
-                ConnectionSpec.CLEARTEXT // HTTP 지원
-        ));
-
-        return new OkHttpClient(okHttpBuilder.build());
+        // 개발계: SSL 검증 완전 우회
+        // 공용 전송 계층: 전체 Feign Client 가 연결 풀/호스트별 동시 요청 제한을 공유
+        return new OkHttpClient(httpTransportRegistry.newClient(
+                Duration.ofSeconds(10), Duration.ofSeconds(60), Duration.ofSeconds(60),
+                isDevelopmentProfile(activeProfile)));
     }
 
     /**
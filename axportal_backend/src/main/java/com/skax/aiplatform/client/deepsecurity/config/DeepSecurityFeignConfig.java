@@ -1,25 +1,19 @@
 package com.skax.aiplatform.client.deepsecurity.config;
 
-import java.security.cert.X509Certificate;
-import java.util.Arrays;
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
-import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
-
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 
+import com.skax.aiplatform.client.common.HttpTransportRegistry;
+
 import feign.Client;
 import feign.RequestInterceptor;
 import feign.Retryer;
 import feign.codec.ErrorDecoder;
 import feign.okhttp.OkHttpClient;
 import lombok.extern.slf4j.Slf4j;
-import okhttp3.ConnectionSpec;
-import okhttp3.OkHttpClient.Builder;
 
 /**
  * DeepSecurity 서비스용 Feign 설정
@@ -105,67 +99,27 @@ public class DeepSecurityFeignConfig {
      * 운영 환경에서는 절대 사용하지 마십시오.
      * 
      * @return OkHttp 기반 Feign Client
-     * @throws Exception SSL 설정 실패 시
      */
     @Bean
-    public Client deepSecurityFeignClient() throws Exception {
+    public Client deepSecurityFeignClient(HttpTransportRegistry httpTransportRegistry) {
         // 현재 프로파일에 따라 적절한 Client 반환
-        String[] activeProfiles = getActiveProfiles();
-
-        Builder okHttpBuilder = new okhttp3.OkHttpClient.Builder()
-                .connectTimeout(connectTimeout, TimeUnit.MILLISECONDS)
-                .readTimeout(readTimeout, TimeUnit.MILLISECONDS)
-                .writeTimeout(readTimeout, TimeUnit.MILLISECONDS);
+        boolean sslBypass = isDevProfile(getActiveProfiles());
 
-        if (isDevProfile(activeProfiles)) {
+        if (sslBypass) {
             // 중복 로그 방지 - 최초 1회만 출력
             if (!sslConfigLogged) {
                 log.warn("DeepSecurity SSL 설정: 개발환경용 - 모든 SSL 인증서 검증 우회 활성화");
                 log.warn("⚠️  보안 경고: 개발환경에서만 사용하세요!");
                 sslConfigLogged = true;
             }
-
-            // 모든 인증서를 신뢰하는 TrustManager
-            TrustManager[] trustAllCerts = new TrustManager[] {
-                    new X509TrustManager() {
-                        @Override
-                        public void checkClientTrusted(X509Certificate[] chain, String authType) {
-                            // 모든 클라이언트 인증서를 신뢰
-                        }
-
-                        @Override
-                        public void checkServerTrusted(X509Certificate[] chain, String authType) {
-                            // 모든 서버 인증서를 신뢰 (자체 서명, 만료된 인증서 포함)
-                        }
-
-                        @Override
-                        public X509Certificate[] getAcceptedIssuers() {
-                            return new X509Certificate[0];
-                        }
-                    }
-            };
-
-            // SSL 컨텍스트 생성
-            SSLContext sslContext = SSLContext.getInstance("TLS");
-            sslContext.init(null, trustAllCerts, new java.security.SecureRandom());
-
-            // 호스트명 검증을 완전히 우회
-            HostnameVerifier allHostsValid = (hostname, session) -> true;
-
-            okHttpBuilder
-                    .sslSocketFactory(sslContext.getSocketFactory(), (X509TrustManager) trustAllCerts[0])
-                    .hostnameVerifier(allHostsValid);
         } else {
             log.info("DeepSecurity SSL 설정: 운영환경용 인증서 완전 검증 모드 활성화");
         }
 
-        // 모든 환경에서 HTTP/HTTPS 통신 허용
-        okHttpBuilder.connectionSpecs(Arrays.asList(
-                ConnectionSpec.MODERN_TLS, // HTTPS 지원
-                ConnectionSpec.CLEARTEXT // HTTP 지원
-        ));
-
-        return new OkHttpClient(okHttpBuilder.build());
+        // 공용 전송 계층: 전체 Feign Client 가 연결 풀/호스트별 동시 요청 제한을 공유
+        return new OkHttpClient(httpTransportRegistry.newClient(
+                Duration.ofMillis(connectTimeout), Duration.ofMillis(readTimeout), Duration.ofMillis(readTimeout),
+                sslBypass));
     }
 
     /**
@@ -227,6 +227,34 @@ public interface SktaiAgentGatewayClient {
         @RequestBody StreamRequest request
     );
 
+    /**
+     * Agent 스트리밍 추론 실행 (feign.Response)
+     * 
+     * <p>응답 본문을 버퍼링하지 않고 열린 스트림으로 반환하므로, 호출 측에서 SSE 이벤트를 수신 즉시
+     * 중계하고 응답을 닫아야 합니다. 오류 상태 코드는 ErrorDecoder 를 거치지 않으므로 호출 측에서 확인합니다.</p>
+     * 
+     * @param authorization Authorization 헤더
+     * @param aipUser aip-user 헤더
+     * @param agentId Agent 식별자
+     * @param routerPath 라우터 경로
+     * @param request 스트리밍 요청 정보
+     * @return 스트리밍 추론 실행 결과 (스트림 - feign.Response)
+     */
+    @PostMapping(value = "/api/v1/agent_gateway/{agent_id}/stream", 
+                 consumes = MediaType.APPLICATION_JSON_VALUE,
+                 produces = "text/event-stream")
+    @Operation(
+        summary = "Agent 스트리밍 추론 실행 (Stream Response)",
+        description = "Agent Gateway를 통해 스트리밍 추론을 실행하고 응답 스트림을 그대로 반환합니다."
+    )
+    feign.Response streamResponse(
+        @RequestHeader("Authorization") String authorization,
+        @RequestHeader(value = "aip-user", required = false) String aipUser,
+        @PathVariable("agent_id") String agentId,
+        @RequestParam(value = "router_path", required = false) String routerPath,
+        @RequestBody StreamRequest request
+    );
+
     /**
      * Agent 스트리밍 로그 실행
      * 
@@ -0,0 +1,78 @@
+package com.skax.aiplatform.client.sktai.agentgateway.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skax.aiplatform.client.sktai.agentgateway.dto.response.StreamResponse;
+import com.skax.aiplatform.common.exception.BusinessException;
+import com.skax.aiplatform.common.exception.ErrorCode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 열린 Agent Gateway 스트리밍 응답
+ *
+ * <p>
+ * {@link SktaiAgentGatewayService#openAgentStream} 로 업스트림 연결을 연 뒤
+ * {@link #relayTo(OutputStream)} 로 이벤트를 수신 즉시 중계합니다.
+ * 사용 후 반드시 {@link #close()} 해야 하며, 클라이언트 연결이 끊긴 경우 close 시 업스트림 호출도 취소됩니다.
+ * </p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+public final class AgentEventStream implements Closeable {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final feign.Response response;
+    private final SseEventRelay relay;
+    private final String agentId;
+    private final long startNanos;
+
+    AgentEventStream(feign.Response response, SseEventRelay relay, String agentId, long startNanos) {
+        this.response = response;
+        this.relay = relay;
+        this.agentId = agentId;
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * 이벤트를 수신 즉시 출력 스트림으로 중계
+     *
+     * @param outputStream 이벤트를 전달할 출력 스트림 (null 이면 집계만 수행)
+     * @return 마지막 유효 이벤트로 만든 최종 응답 (클라이언트 연결 종료 또는 유효 이벤트가 없으면 null)
+     * @throws IOException 업스트림 읽기 실패 시
+     */
+    public StreamResponse relayTo(OutputStream outputStream) throws IOException {
+        SseEventRelay.Result result;
+        try (InputStream inputStream = response.body().asInputStream()) {
+            result = relay.relay(inputStream, outputStream, startNanos);
+        }
+        log.debug("에이전트 스트리밍 중계 완료 - agentId: {}, events: {}, bytes: {}, clientDisconnected: {}",
+                agentId, result.eventCount(), result.byteCount(), result.clientDisconnected());
+        if (result.clientDisconnected() || result.lastData() == null) {
+            return null;
+        }
+        return toStreamResponse(result.lastData());
+    }
+
+    @Override
+    public void close() {
+        response.close();
+    }
+
+    private static StreamResponse toStreamResponse(String data) {
+        try {
+            return OBJECT_MAPPER.readValue(data, StreamResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "응답 파싱에 실패했습니다: " + e.getMessage());
+        }
+    }
+}
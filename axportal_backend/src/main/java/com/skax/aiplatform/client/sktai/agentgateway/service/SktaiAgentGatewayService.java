@@ -4,8 +4,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.skax.aiplatform.client.sktai.agentgateway.SktaiAgentGatewayClient;
 import com.skax.aiplatform.client.sktai.agentgateway.dto.request.BatchRequest;
 import com.skax.aiplatform.client.sktai.agentgateway.dto.request.InvokeRequest;
@@ -59,6 +57,7 @@ import lombok.extern.slf4j.Slf4j;
 public class SktaiAgentGatewayService {
     
     private final SktaiAgentGatewayClient agentGatewayClient;
+    private final SseEventRelay sseEventRelay;
     
     // ==================== Agent Gateway Operations ====================
     
@@ -195,11 +194,14 @@ public class SktaiAgentGatewayService {
             // 현재 사용자 memberId 가져오기 (aip-user 헤더용)
             String aipUser = getCurrentMemberId();
 
-            String rawResponse = agentGatewayClient.streamRaw(authorization, aipUser, agentId, finalRouterPath, request);
-            
-            // SSE 응답을 StreamResponse로 파싱
-            StreamResponse response = parseSSEResponse(rawResponse);
-            return response;
+            // 본문 전체를 문자열로 받지 않고 증분 파싱하여 마지막 유효 이벤트만 보관
+            try (AgentEventStream eventStream = connectAgentStream(authorization, aipUser, agentId, finalRouterPath, request)) {
+                StreamResponse response = eventStream.relayTo(null);
+                if (response == null) {
+                    throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "응답 파싱에 실패했습니다: 유효한 이벤트가 없습니다.");
+                }
+                return response;
+            }
         } catch (BusinessException e) {
             // BusinessException인 경우 SktaiErrorDecoder에서 이미 상세한 메시지가 설정됨
             log.error("에이전트 스트리밍 실패 (BusinessException) - agentId: {}, message: {}", 
@@ -467,50 +469,20 @@ public class SktaiAgentGatewayService {
     }
 
     /**
-     * SSE 응답을 StreamResponse로 파싱
+     * 에이전트 스트리밍 연결 열기 (증분 중계용)
+     * 
+     * <p>업스트림 응답을 버퍼링하지 않고 연 상태로 반환합니다. 호출 측은 요청 스레드에서 연결 오류를
+     * 처리한 뒤 {@link AgentEventStream#relayTo(java.io.OutputStream)} 로 이벤트를 수신 즉시 브라우저에 전달하고,
+     * 사용 후 반드시 닫아야 합니다.</p>
+     * 
+     * @param authorization Authorization 헤더
+     * @param agentId 실행할 에이전트 ID
+     * @param request 스트리밍 요청 정보
+     * @param routerPath 라우터 경로 (선택사항)
+     * @return 열린 스트리밍 응답
+     * @throws BusinessException SKTAI API 호출 실패 시
      */
-    private StreamResponse parseSSEResponse(String rawResponse) {
-        try {
-            
-            // SSE 형식 파싱
-            if (rawResponse != null && rawResponse.contains("event:")) {
-                // 모든 data 라인을 찾아서 마지막 유효한 데이터를 사용
-                String[] lines = rawResponse.split("\n");
-                String lastValidData = null;
-                
-                for (String line : lines) {
-                    if (line.startsWith("data: ")) {
-                        String dataContent = line.substring(6); // "data: " 제거
-                        
-                        // 빈 데이터나 null이 아닌 경우만 유효한 데이터로 간주
-                        if (!dataContent.equals("null") && !dataContent.trim().isEmpty()) {
-                            lastValidData = dataContent;
-                        }
-                    }
-                }
-                
-                if (lastValidData != null) {
-                    ObjectMapper mapper = new ObjectMapper();
-                    return mapper.readValue(lastValidData, StreamResponse.class);
-                }
-            }
-            
-            // 일반 JSON 응답인 경우
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.readValue(rawResponse, StreamResponse.class);
-        } catch (NullPointerException e) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "응답 파싱에 실패했습니다: " + e.getMessage());
-        } catch (JsonProcessingException e) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "응답 파싱에 실패했습니다: " + e.getMessage());
-        } catch (RuntimeException re) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "응답 파싱에 실패했습니다: " + re.getMessage());
-        } catch (Exception e) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "응답 파싱에 실패했습니다: " + e.getMessage());
-        }
-    }
-
-    public String streamAgentRaw(String authorization, String agentId, StreamRequest request, String routerPath) {
-        
+    public AgentEventStream openAgentStream(String authorization, String agentId, StreamRequest request, String routerPath) {
         try {
             // 요청 유효성 검사
             validateStreamRequest(request);
@@ -518,20 +490,40 @@ public class SktaiAgentGatewayService {
             // routerPath가 빈 문자열이면 null로 변환
             String finalRouterPath = (routerPath != null && routerPath.trim().isEmpty()) ? null : routerPath;
             
-            // 현재 사용자 memberId 가져오기 (aip-user 헤더용)
-            String aipUser = getCurrentMemberId();
-            
-            String rawResponse = agentGatewayClient.streamRaw(authorization, aipUser, agentId, finalRouterPath, request);
-            
-            return rawResponse;
+            return connectAgentStream(authorization, getCurrentMemberId(), agentId, finalRouterPath, request);
         } catch (BusinessException e) {
-            // BusinessException인 경우 SktaiErrorDecoder에서 이미 상세한 메시지가 설정됨
-            log.error("에이전트 스트리밍 Raw 실패 (BusinessException) - agentId: {}, message: {}", 
+            log.error("에이전트 스트리밍 연결 실패 (BusinessException) - agentId: {}, message: {}", 
                     agentId, e.getMessage());
-            throw e; // 원본 예외를 그대로 전파하여 상세 메시지 유지
+            throw e;
         } catch (Exception e) {
-            log.error("에이전트 스트리밍 Raw 실패 (예상치 못한 오류) - agentId: {}", agentId, e);
+            log.error("에이전트 스트리밍 연결 실패 (예상치 못한 오류) - agentId: {}", agentId, e);
             throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR, "에이전트 스트리밍에 실패했습니다: " + e.getMessage());
         }
     }
+
+    private AgentEventStream connectAgentStream(String authorization, String aipUser, String agentId,
+            String routerPath, StreamRequest request) {
+        long startNanos = System.nanoTime();
+        feign.Response response = agentGatewayClient.streamResponse(authorization, aipUser, agentId, routerPath, request);
+        // feign.Response 반환 시 ErrorDecoder 를 거치지 않으므로 상태 코드를 직접 확인
+        if (response.status() >= 400 || response.body() == null) {
+            String detail = readErrorBody(response);
+            response.close();
+            log.error("에이전트 스트리밍 응답 오류 - agentId: {}, status: {}, body: {}", agentId, response.status(), detail);
+            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR,
+                    "에이전트 스트리밍 요청이 실패했습니다. (status: " + response.status() + ")");
+        }
+        return new AgentEventStream(response, sseEventRelay, agentId, startNanos);
+    }
+
+    private static String readErrorBody(feign.Response response) {
+        if (response.body() == null) {
+            return "";
+        }
+        try (java.io.InputStream inputStream = response.body().asInputStream()) {
+            return new String(inputStream.readNBytes(4096), java.nio.charset.StandardCharsets.UTF_8);
+        } catch (java.io.IOException e) {
+            return e.getMessage();
+        }
+    }
 }
@@ -0,0 +1,263 @@
+package com.skax.aiplatform.client.sktai.agentgateway.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SSE(text/event-stream) 증분 중계기
+ *
+ * <p>
+ * 업스트림 응답 본문을 청크 단위로 읽으면서 빈 줄로 끝나는 SSE 프레임을 조립하고,
+ * 완성된 프레임을 원본 바이트 그대로 즉시 출력 스트림에 쓰고 flush 합니다.
+ * 전체 본문을 메모리에 모으지 않고, 최종 집계 응답을 위해 마지막 유효 {@code data} 한 건만 보관합니다.
+ * 한 프레임이 {@code sktai.agent-gateway.stream.max-event-bytes} 를 넘으면 보관하지 않고 그대로 흘려보냅니다.
+ * </p>
+ *
+ * <h3>메트릭:</h3>
+ * <ul>
+ * <li>{@code agent.gateway.stream.first-event}: 요청 시작부터 첫 data 이벤트까지 시간 (time-to-first-token)</li>
+ * <li>{@code agent.gateway.stream.duration}: 스트림 전체 시간</li>
+ * <li>{@code agent.gateway.stream.events}: 수신 이벤트 수</li>
+ * <li>{@code agent.gateway.stream.events-per-second}: 스트림별 초당 이벤트 수</li>
+ * </ul>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class SseEventRelay {
+
+    private static final int READ_BUFFER_SIZE = 8192;
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+    private static final String DATA_FIELD = "data:";
+
+    private final int maxEventBytes;
+    private final Timer firstEventTimer;
+    private final Timer durationTimer;
+    private final Counter eventCounter;
+    private final DistributionSummary eventRate;
+
+    public SseEventRelay(
+            MeterRegistry meterRegistry,
+            @Value("${sktai.agent-gateway.stream.max-event-bytes:1048576}") int maxEventBytes) {
+        this.maxEventBytes = maxEventBytes;
+        this.firstEventTimer = Timer.builder("agent.gateway.stream.first-event")
+                .description("스트리밍 요청 시작부터 첫 이벤트 수신까지 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.durationTimer = Timer.builder("agent.gateway.stream.duration")
+                .description("스트리밍 전체 시간")
+                .register(meterRegistry);
+        this.eventCounter = Counter.builder("agent.gateway.stream.events")
+                .description("스트리밍 수신 이벤트 수")
+                .register(meterRegistry);
+        this.eventRate = DistributionSummary.builder("agent.gateway.stream.events-per-second")
+                .description("스트림별 초당 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 중계 결과
+     *
+     * @param lastData           마지막 유효 data (없으면 null, SSE 가 아닌 응답이면 본문)
+     * @param eventCount         수신 이벤트 수
+     * @param byteCount          수신 바이트 수
+     * @param clientDisconnected 출력 스트림 쓰기 실패(클라이언트 연결 종료)로 중단했는지 여부
+     */
+    public record Result(String lastData, long eventCount, long byteCount, boolean clientDisconnected) {
+    }
+
+    /**
+     * 업스트림 SSE 본문 중계
+     *
+     * @param inputStream  업스트림 응답 본문
+     * @param outputStream 이벤트를 전달할 출력 스트림 (null 이면 전달하지 않고 집계만 수행)
+     * @param startNanos   요청 시작 시각 ({@link System#nanoTime()}, 첫 이벤트 시간 기준)
+     * @return 중계 결과
+     * @throws IOException 업스트림 읽기 실패 시
+     */
+    public Result relay(InputStream inputStream, OutputStream outputStream, long startNanos) throws IOException {
+        Frame frame = new Frame(outputStream, startNanos);
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        int read;
+        try {
+            while (!frame.clientDisconnected && (read = inputStream.read(buffer)) != -1) {
+                frame.byteCount += read;
+                int lineStart = 0;
+                for (int i = 0; i < read && !frame.clientDisconnected; i++) {
+                    if (buffer[i] == LF) {
+                        frame.append(buffer, lineStart, i + 1 - lineStart);
+                        lineStart = i + 1;
+                        if (frame.isComplete()) {
+                            frame.emit();
+                        }
+                    }
+                }
+                if (!frame.clientDisconnected) {
+                    frame.append(buffer, lineStart, read - lineStart);
+                    if (frame.length > maxEventBytes) {
+                        frame.spill();
+                    }
+                }
+            }
+            if (!frame.clientDisconnected && frame.length > 0) {
+                frame.emit();
+            }
+        } finally {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            durationTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            if (elapsedNanos > 0) {
+                eventRate.record(frame.eventCount * 1_000_000_000.0 / elapsedNanos);
+            }
+        }
+
+        String lastData = frame.lastData != null ? frame.lastData
+                : frame.eventCount == 0 ? frame.lastText : null;
+        return new Result(lastData, frame.eventCount, frame.byteCount, frame.clientDisconnected);
+    }
+
+    /**
+     * 조립 중인 SSE 프레임과 스트림 상태
+     */
+    private final class Frame {
+        private final OutputStream outputStream;
+        private final long startNanos;
+        private byte[] bytes = new byte[1024];
+        private int length;
+        private boolean spilled;
+        private long eventCount;
+        private long byteCount;
+        private String lastData;
+        private String lastText;
+        private boolean clientDisconnected;
+
+        private Frame(OutputStream outputStream, long startNanos) {
+            this.outputStream = outputStream;
+            this.startNanos = startNanos;
+        }
+
+        void append(byte[] source, int offset, int count) {
+            if (count <= 0) {
+                return;
+            }
+            if (length + count > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + count));
+            }
+            System.arraycopy(source, offset, bytes, length, count);
+            length += count;
+        }
+
+        /**
+         * 빈 줄(LF 또는 CRLF)로 끝나면 프레임 완성
+         */
+        boolean isComplete() {
+            if (length == 0 || bytes[length - 1] != LF) {
+                return false;
+            }
+            int lineEnd = length - 1;
+            if (lineEnd > 0 && bytes[lineEnd - 1] == CR) {
+                lineEnd--;
+            }
+            return lineEnd == 0 || bytes[lineEnd - 1] == LF;
+        }
+
+        /**
+         * 완성된 프레임 전달 및 data 추출
+         */
+        void emit() {
+            if (!spilled) {
+                inspect(new String(bytes, 0, length, StandardCharsets.UTF_8));
+            } else if (hasContent()) {
+                // 보관하지 않은 대용량 이벤트의 나머지
+                countEvent();
+            }
+            write();
+            spilled = false;
+        }
+
+        /**
+         * 최대 크기를 넘은 프레임은 보관하지 않고 지금까지의 바이트를 그대로 전달
+         */
+        void spill() {
+            if (!spilled) {
+                countEvent();
+            }
+            write();
+            spilled = true;
+        }
+
+        private void inspect(String text) {
+            StringBuilder data = null;
+            boolean field = false;
+            for (String line : text.split("\n")) {
+                if (line.endsWith("\r")) {
+                    line = line.substring(0, line.length() - 1);
+                }
+                if (line.startsWith(DATA_FIELD)) {
+                    String value = line.substring(DATA_FIELD.length());
+                    value = value.startsWith(" ") ? value.substring(1) : value;
+                    data = data == null ? new StringBuilder(value) : data.append('\n').append(value);
+                } else if (line.startsWith(":") || line.startsWith("event:") || line.startsWith("id:")
+                        || line.startsWith("retry:")) {
+                    field = true;
+                }
+            }
+
+            if (data != null) {
+                countEvent();
+                String value = data.toString();
+                if (!"null".equals(value) && !value.isBlank()) {
+                    lastData = value;
+                }
+            } else if (!field && !text.isBlank()) {
+                // SSE 형식이 아닌 응답 (일반 JSON 등)
+                lastText = text.trim();
+            }
+        }
+
+        private void countEvent() {
+            if (eventCount++ == 0) {
+                firstEventTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+            eventCounter.increment();
+        }
+
+        private boolean hasContent() {
+            for (int i = 0; i < length; i++) {
+                if (bytes[i] != LF && bytes[i] != CR) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void write() {
+            if (outputStream != null && length > 0) {
+                try {
+                    outputStream.write(bytes, 0, length);
+                    outputStream.flush();
+                } catch (IOException e) {
+                    log.debug("SSE 중계 중 클라이언트 연결 종료: {}", e.getMessage());
+                    clientDisconnected = true;
+                }
+            }
+            length = 0;
+        }
+    }
+}
@@ -1,19 +1,14 @@
 package com.skax.aiplatform.client.sktai.config;
 
-import java.security.cert.X509Certificate;
-import java.util.Arrays;
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
-import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
-
 import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
 import org.springframework.context.annotation.Bean;
 
+import com.skax.aiplatform.client.common.HttpTransportRegistry;
 import com.skax.aiplatform.repository.auth.GpoUsersMasRepository;
 import com.skax.aiplatform.repository.home.GpoPrjuserroleRepository;
 import com.skax.aiplatform.service.auth.TokenCacheService;
@@ -27,10 +22,6 @@ import feign.codec.ErrorDecoder;
 import feign.okhttp.OkHttpClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import okhttp3.ConnectionPool;
-import okhttp3.ConnectionSpec;
-import okhttp3.Dispatcher;
-import okhttp3.OkHttpClient.Builder;
 
 /**
  * SKTAI Feign Client 전용 설정 클래스
@@ -67,7 +58,6 @@ public class SktaiClientConfig {
     private final GpoPrjuserroleRepository gpoPrjuserroleRepository;
 
     // 중복 로그 방지를 위한 플래그들
-    private static volatile boolean sslConfigLogged = false;
     private static volatile boolean requestInterceptorLogged = false;
     private static volatile boolean timeoutLogged = false;
     private static volatile boolean encoderLogged = false;
@@ -92,110 +82,13 @@ public class SktaiClientConfig {
      * </ul>
      *
      * @return OkHttp 기반 Feign Client
-     * @throws Exception SSL 설정 실패 시
      */
     @Bean
-    public Client sktaiFeignClient() throws Exception {
-        // 현재 프로파일에 따라 적절한 Client 반환
-        String[] activeProfiles = getActiveProfiles();
-
-        Dispatcher dispatcher = new Dispatcher();
-        dispatcher.setMaxRequests(100);
-        dispatcher.setMaxRequestsPerHost(25);
-
-        Builder okHttpBuilder = new okhttp3.OkHttpClient.Builder()
-                .connectionPool(new ConnectionPool(100, 5, TimeUnit.MINUTES))
-                .dispatcher(dispatcher)
-                .connectTimeout(30, TimeUnit.SECONDS)
-                .readTimeout(60, TimeUnit.SECONDS)
-                .writeTimeout(60, TimeUnit.SECONDS);
-
-        // if (isDevProfile(activeProfiles)) {
-        // // 중복 로그 방지 - 최초 1회만 출력
-        // if (!sslConfigLogged) {
-        // log.warn("SKTAI SSL 설정: 개발환경용 - 모든 SSL 인증서 검증 우회 활성화");
-        // log.warn("⚠️ 보안 경고: 개발환경에서만 사용하세요!");
-        // sslConfigLogged = true;
-        // }
-
-        // 모든 인증서를 신뢰하는 TrustManager
-        TrustManager[] trustAllCerts = new TrustManager[] {
-                new X509TrustManager() {
-                    @Override
-                    public void checkClientTrusted(X509Certificate[] chain, String authType) {
-                        // 모든 클라이언트 인증서를 신뢰
-                    }
-
-                    @Override
-                    public void checkServerTrusted(X509Certificate[] chain, String authType) {
-                        // 모든 서버 인증서를 신뢰 (자체 서명, 만료된 인증서 포함)
-                    }
-
-                    @Override
-                    public X509Certificate[] getAcceptedIssuers() {
-                        return new X509Certificate[0];
-                    }
-                }
-        };
-
-        // SSL 컨텍스트 생성
-        SSLContext sslContext = SSLContext.getInstance("TLS");
-        sslContext.init(null, trustAllCerts, new java.security.SecureRandom());
-
-        // 호스트명 검증을 완전히 우회
-        HostnameVerifier allHostsValid = (hostname, session) -> true;
-
-        okHttpBuilder
-                .sslSocketFactory(sslContext.getSocketFactory(), (X509TrustManager) trustAllCerts[0])
-                .hostnameVerifier(allHostsValid);
-        // } else {
-        // log.info("SKTAI SSL 설정: 운영환경용 인증서 완전 검증 모드 활성화");
-        // }
-
-        // 모든 환경에서 HTTP/HTTPS 통신 허용
-        okHttpBuilder.connectionSpecs(Arrays.asList(
-                ConnectionSpec.MODERN_TLS, // HTTPS 지원
-                ConnectionSpec.CLEARTEXT // HTTP 지원
-        ));
-
-        return new OkHttpClient(okHttpBuilder.build());
-    }
-
-    /**
-     * 현재 활성 프로파일이 개발환경인지 확인
-     */
-    private boolean isDevProfile(String[] profiles) {
-        if (profiles == null || profiles.length == 0) {
-            return true; // 기본값은 개발환경으로 설정
-        }
-
-        for (String profile : profiles) {
-            if ("elocal".equals(profile) || "local".equals(profile) ||
-                    "edev".equals(profile) || "dev".equals(profile)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    /**
-     * 현재 활성 프로파일 조회
-     */
-    private String[] getActiveProfiles() {
-        // Spring 컨텍스트 없이 시스템 프로퍼티에서 프로파일 확인
-        String profileProperty = System.getProperty("spring.profiles.active");
-        if (profileProperty != null) {
-            return profileProperty.split(",");
-        }
-
-        // 환경변수에서 확인
-        String profileEnv = System.getenv("SPRING_PROFILES_ACTIVE");
-        if (profileEnv != null) {
-            return profileEnv.split(",");
-        }
-
-        // 기본값은 elocal
-        return new String[] { "elocal" };
+    public Client sktaiFeignClient(HttpTransportRegistry httpTransportRegistry) {
+        // 모든 환경에서 SSL 인증서 검증 우회 (자체 서명 인증서 지원)
+        // 공용 전송 계층: 전체 Feign Client 가 연결 풀/호스트별 동시 요청 제한을 공유
+        return new OkHttpClient(httpTransportRegistry.newClient(
+                Duration.ofSeconds(30), Duration.ofSeconds(60), Duration.ofSeconds(60), true));
     }
 
     // ================================
@@ -313,62 +313,8 @@ public class SktaiRequestInterceptor implements RequestInterceptor {
             return;
         }
 
-        // 2) 액세스 토큰은 만료되었지만 리프레시 토큰은 유효한 경우: 갱신
-        if (token.isExpired() && !token.isRefreshExpired()) {
-            synchronized (("SKTAI_REFRESH_" + username).intern()) {
-                TokenCacheData latest = tokenCacheService.getTokenByUsername(username);
-                if (latest != null && latest.isValid()) {
-                    String tokenType = StringUtils.hasText(latest.getTokenType()) ? latest.getTokenType() : DEFAULT_TOKEN_TYPE;
-                    template.header("Authorization", tokenType + " " + latest.getAccessToken());
-                    log.debug("사용자 {}의 Authorization 헤더 설정 완료 (동시 갱신 후 최신 토큰)", username);
-                    return;
-                }
-
-                try {
-                    log.debug("사용자 {}의 액세스 토큰 만료. 리프레시 토큰으로 갱신 시도", username);
-                    TokenCacheData toRefresh = latest != null ? latest : token;
-                    AccessTokenResponseWithProject refreshed = refreshTokenDirectly(toRefresh.getRefreshToken());
-
-                    // 응답 기반으로 토큰 데이터 갱신
-                    toRefresh.setAccessToken(refreshed.getAccessToken());
-                    if (StringUtils.hasText(refreshed.getRefreshToken())) {
-                        toRefresh.setRefreshToken(refreshed.getRefreshToken());
-                    }
-                    toRefresh.setTokenType(StringUtils.hasText(refreshed.getTokenType()) ? refreshed.getTokenType() : DEFAULT_TOKEN_TYPE);
-                    toRefresh.setTokenExpTimes(refreshed.getExpiresIn());
-                    toRefresh.setRefreshTokenExpTimes(refreshed.getRefreshExpiresIn());
-                    toRefresh.setExpAt(extractExpAtFromAccessToken(refreshed.getAccessToken(), refreshed.getExpiresIn()));
-                    toRefresh.setIssueAt(LocalDateTime.now());
-                    toRefresh.setRefreshTokenExpAt(LocalDateTime.now().plusSeconds(refreshed.getRefreshExpiresIn()));
-                    toRefresh.setTokenExpYn("N");
-
-                    tokenCacheService.cacheToken(toRefresh);
-
-                    String tokenType = StringUtils.hasText(toRefresh.getTokenType()) ? toRefresh.getTokenType() : DEFAULT_TOKEN_TYPE;
-                    template.header("Authorization", tokenType + " " + toRefresh.getAccessToken());
-                    log.debug("사용자 {}의 토큰 갱신 및 캐시 업데이트 완료", username);
-                    return;
-                } catch (IllegalStateException e) {
-                    log.error("사용자 {} 토큰 갱신 실패 (IllegalStateException) - 상태 오류: {}", username, e.getMessage(), e);
-                    // 갱신 실패 시 Authorization 헤더를 설정하지 않음
-                    return;
-                } catch (NullPointerException e) {
-                    log.error("사용자 {} 토큰 갱신 실패 (NullPointerException) - 필수 값 누락: {}", username, e.getMessage(), e);
-                    // 갱신 실패 시 Authorization 헤더를 설정하지 않음
-                    return;
-                } catch (RuntimeException e) {
-                    log.error("사용자 {} 토큰 갱신 실패 (RuntimeException) - 런타임 오류: {}", username, e.getMessage(), e);
-                    // 갱신 실패 시 Authorization 헤더를 설정하지 않음
-                    return;
-                } catch (Exception e) {
-                    log.error("사용자 {} 토큰 갱신 실패 (예상치 못한 오류): {}", username, e.getMessage(), e);
-                    // 갱신 실패 시 Authorization 헤더를 설정하지 않음
-                    return;
-                }
-            }
-        }
-
-        // 3) 리프레시 토큰도 만료된 경우 - 새로 로그인 시도
+        // 2) 갱신할 수 없는 토큰 - 새로 로그인 시도
+        // (액세스 토큰만 만료된 경우는 getTokenByUsername 이 저장소 조건부 교체로 갱신하므로 여기서 갱신하지 않음)
         log.warn("🚨 사용자 {}의 액세스/리프레시 토큰이 모두 만료되었습니다. 새로 로그인 시도 - URL: {}", username, template.url());
         TokenCacheData newToken = loginAndCacheToken(username);
         if (newToken != null && newToken.isValid()) {
@@ -458,46 +404,6 @@ public class SktaiRequestInterceptor implements RequestInterceptor {
         return false;
     }
 
-    /**
-     * 리프레시 토큰을 사용하여 새로운 액세스 토큰을 직접 HTTP 요청으로 갱신
-     * (Feign Client 의존성 순환 문제를 피하기 위해 RestTemplate 사용)
-     *
-     * @param refreshToken 리프레시 토큰
-     * @return 새로운 액세스 토큰 응답
-     */
-    private AccessTokenResponseWithProject refreshTokenDirectly(String refreshToken) {
-        try {
-            String url = sktaiBaseUrl + "/api/v1/auth/token/refresh?refresh_token=" + refreshToken;
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("User-Agent", USER_AGENT);
-            headers.set("Accept", CONTENT_TYPE_JSON);
-
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-
-            ResponseEntity<AccessTokenResponseWithProject> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.POST,
-                    entity,
-                    AccessTokenResponseWithProject.class
-            );
-
-            return response.getBody();
-        } catch (org.springframework.web.client.HttpClientErrorException e) {
-            log.error("토큰 갱신 HTTP 요청 실패 (HttpClientErrorException) - HTTP {}: {}", e.getStatusCode(), e.getMessage(), e);
-            throw new RuntimeException("토큰 갱신 실패 (HTTP 클라이언트 오류)", e);
-        } catch (org.springframework.web.client.HttpServerErrorException e) {
-            log.error("토큰 갱신 HTTP 요청 실패 (HttpServerErrorException) - HTTP {}: {}", e.getStatusCode(), e.getMessage(), e);
-            throw new RuntimeException("토큰 갱신 실패 (HTTP 서버 오류)", e);
-        } catch (org.springframework.web.client.ResourceAccessException e) {
-            log.error("토큰 갱신 HTTP 요청 실패 (ResourceAccessException) - 네트워크 연결 오류: {}", e.getMessage(), e);
-            throw new RuntimeException("토큰 갱신 실패 (네트워크 오류)", e);
-        } catch (Exception e) {
-            log.error("토큰 갱신 HTTP 요청 실패 (예상치 못한 오류): {}", e.getMessage(), e);
-            throw new RuntimeException("토큰 갱신 실패", e);
-        }
-    }
-
     /**
      * SKTAI login API 직접 호출
      *
@@ -12,9 +12,12 @@ import com.skax.aiplatform.client.sktai.lineage.dto.request.LineageObjectCreate;
 import com.skax.aiplatform.client.sktai.lineage.dto.response.LineageRelationWithTypes;
 import com.skax.aiplatform.common.exception.BusinessException;
 import com.skax.aiplatform.common.exception.ErrorCode;
+import com.skax.aiplatform.service.lineage.LineageResolver;
 import feign.FeignException;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * SKTAI Lineage 관리 서비스
@@ -47,6 +50,7 @@ import java.util.List;
 public class SktaiLineageService {
     
     private final SktaiLineageClient sktaiLineageClient;
+    private final LineageResolver lineageResolver;
     
     /**
      * Lineage 관계 생성
@@ -69,6 +73,9 @@ public class SktaiLineageService {
         
         try {
             sktaiLineageClient.createLineage(request);
+            lineageResolver.evict(request.getLineages().stream()
+                    .flatMap(item -> Stream.of(item.getSourceKey(), item.getTargetKey()))
+                    .toList());
             log.debug("Lineage 생성 성공 - source: {}, target: {}", 
                      firstItem.getSourceKey(), firstItem.getTargetKey());
         } catch (FeignException e) {
@@ -93,6 +100,7 @@ public class SktaiLineageService {
         
         try {
             sktaiLineageClient.deleteLineage(sourceKey);
+            lineageResolver.evict(Collections.singletonList(sourceKey));
             log.debug("Lineage 삭제 성공 - sourceKey: {}", sourceKey);
         } catch (FeignException e) {
             log.error("Lineage 삭제 실패 - sourceKey: {}", sourceKey, e);
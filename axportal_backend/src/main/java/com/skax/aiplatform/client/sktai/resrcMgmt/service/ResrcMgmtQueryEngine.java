@@ -0,0 +1,440 @@
+package com.skax.aiplatform.client.sktai.resrcMgmt.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.skax.aiplatform.client.sktai.resrcMgmt.ResrcMgmtClient;
+import com.skax.aiplatform.client.sktai.resrcMgmt.ResrcMgmtGpuClient;
+import com.skax.aiplatform.common.exception.BusinessException;
+import com.skax.aiplatform.common.exception.ErrorCode;
+import com.skax.aiplatform.common.util.ContextPropagatingTaskDecorator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 자원 관리(Prometheus) 쿼리 엔진
+ *
+ * <p>자원 관리 대시보드의 Prometheus 조회를 전용 스레드 풀에서 병렬로 수행하고, 결과를 짧게 캐시합니다.</p>
+ * <ul>
+ *   <li><strong>병렬 실행</strong>: {@link #submit(Source, String)} 로 먼저 모든 쿼리를 시작한 뒤
+ *       {@link #await(CompletableFuture)} 로 결과를 모읍니다. 작업 스레드에는 호출 스레드의 SecurityContext / MDC 를 전달합니다.</li>
+ *   <li><strong>중복 요청 병합</strong>: 같은 PromQL 이 실행 중이면 새로 호출하지 않고 진행 중인 결과를 함께 기다립니다.</li>
+ *   <li><strong>Instant 쿼리 캐시</strong>: {@code resrc-mgmt.query.instant-ttl-seconds} (기본 15초) 단위로 정렬된 시간 구간마다
+ *       한 번만 조회하므로, 같은 구간에 대시보드를 연 관리자들은 같은 결과를 공유합니다.</li>
+ *   <li><strong>Range 쿼리 캐시</strong>: start/end 를 step 배수로 정렬한 뒤 step × {@code range-window-points} 크기의
+ *       고정 구간(window)으로 나누어 조회/캐시하고, 요청 범위만 잘라 하나의 matrix 응답으로 합칩니다.
+ *       이미 지난 구간은 {@code range-window-ttl-seconds} (기본 600초), 현재 진행 중인 구간은 Instant 쿼리와 같은 TTL 로 보관합니다.</li>
+ * </ul>
+ *
+ * <p>캐시된 응답 객체는 여러 요청이 공유하므로 호출 측에서 수정하면 안 됩니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class ResrcMgmtQueryEngine implements DisposableBean {
+
+    /**
+     * 조회 대상 Prometheus
+     */
+    public enum Source {
+        /** 공통 Prometheus ({@code prometheus.api.base-url}) */
+        PORTAL,
+        /** GPU Prometheus ({@code prometheus.api.gpu-base-url}) */
+        GPU
+    }
+
+    private record InstantKey(Source source, String query, long bucket) {
+    }
+
+    private record WindowKey(Source source, String query, long start, long end, long step) {
+    }
+
+    /**
+     * Range 구간 조회 결과
+     *
+     * @param response Prometheus 응답
+     * @param closed   조회 시점에 이미 지난 구간인지 여부 (지난 구간은 값이 바뀌지 않으므로 오래 보관)
+     */
+    private record WindowResult(Object response, boolean closed) {
+    }
+
+    private final ResrcMgmtClient resrcMgmtClient;
+    private final ResrcMgmtGpuClient resrcMgmtGpuClient;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor executor;
+    private final AsyncCache<InstantKey, Object> instantCache;
+    private final AsyncCache<WindowKey, WindowResult> windowCache;
+    private final long instantTtlSeconds;
+    private final int windowPoints;
+    private final int maxWindows;
+
+    public ResrcMgmtQueryEngine(
+            ResrcMgmtClient resrcMgmtClient,
+            ResrcMgmtGpuClient resrcMgmtGpuClient,
+            MeterRegistry meterRegistry,
+            @Value("${resrc-mgmt.query.max-concurrency:8}") int maxConcurrency,
+            @Value("${resrc-mgmt.query.instant-ttl-seconds:15}") long instantTtlSeconds,
+            @Value("${resrc-mgmt.query.range-window-points:120}") int windowPoints,
+            @Value("${resrc-mgmt.query.range-max-windows:24}") int maxWindows,
+            @Value("${resrc-mgmt.query.range-window-ttl-seconds:600}") long closedWindowTtlSeconds,
+            @Value("${resrc-mgmt.query.maximum-size:2000}") long maximumSize) {
+        this.resrcMgmtClient = resrcMgmtClient;
+        this.resrcMgmtGpuClient = resrcMgmtGpuClient;
+        this.meterRegistry = meterRegistry;
+        this.instantTtlSeconds = Math.max(1, instantTtlSeconds);
+        this.windowPoints = Math.max(1, windowPoints);
+        this.maxWindows = Math.max(1, maxWindows);
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(200);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setKeepAliveSeconds(60);
+        executor.setThreadNamePrefix("ResrcQuery-");
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+
+        this.instantCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(this.instantTtlSeconds))
+                .executor(executor)
+                .recordStats()
+                .buildAsync();
+        long openTtlNanos = TimeUnit.SECONDS.toNanos(this.instantTtlSeconds);
+        long closedTtlNanos = TimeUnit.SECONDS.toNanos(Math.max(closedWindowTtlSeconds, this.instantTtlSeconds));
+        this.windowCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<WindowKey, WindowResult>() {
+                    @Override
+                    public long expireAfterCreate(WindowKey key, WindowResult value, long currentTime) {
+                        return value.closed() ? closedTtlNanos : openTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(WindowKey key, WindowResult value, long currentTime,
+                            long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(WindowKey key, WindowResult value, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .executor(executor)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, instantCache.synchronous(), "resrc.mgmt.query.instant");
+        CaffeineCacheMetrics.monitor(meterRegistry, windowCache.synchronous(), "resrc.mgmt.query.range");
+    }
+
+    /**
+     * Instant 쿼리 비동기 실행
+     *
+     * @param source 조회 대상 Prometheus
+     * @param query  PromQL
+     * @return 조회 결과 (캐시 또는 진행 중인 동일 요청과 공유)
+     */
+    public CompletableFuture<Object> submit(Source source, String query) {
+        long bucket = Instant.now().getEpochSecond() / instantTtlSeconds;
+        return instantCache.get(new InstantKey(source, query, bucket),
+                (key, cacheExecutor) -> CompletableFuture.supplyAsync(
+                        () -> execute(source, "instant", () -> executeQuery(source, query)), cacheExecutor));
+    }
+
+    /**
+     * Instant 쿼리 실행 (동기)
+     *
+     * @param source 조회 대상 Prometheus
+     * @param query  PromQL
+     * @return Prometheus 응답
+     */
+    public Object query(Source source, String query) {
+        return await(submit(source, query));
+    }
+
+    /**
+     * 여러 Instant 쿼리를 미리 시작
+     *
+     * <p>이후 {@link #query(Source, String)} 호출은 진행 중이거나 캐시된 결과를 사용합니다.</p>
+     *
+     * @param source  조회 대상 Prometheus
+     * @param queries PromQL 목록
+     */
+    public void prefetch(Source source, Collection<String> queries) {
+        for (String query : queries) {
+            submit(source, query);
+        }
+    }
+
+    /**
+     * Range 쿼리 비동기 실행
+     *
+     * <p>start/end 는 unix timestamp(초) 또는 ISO-8601 형식을 지원하며,
+     * 해석할 수 없는 형식이면 캐시 없이 그대로 조회합니다.</p>
+     *
+     * @param source 조회 대상 Prometheus
+     * @param query  PromQL
+     * @param start  시작 시간
+     * @param end    종료 시간
+     * @param step   조회 간격 (초)
+     * @return matrix 형식 Prometheus 응답
+     */
+    public CompletableFuture<Object> submitRange(Source source, String query, String start, String end, String step) {
+        Long startSeconds = parseTime(start);
+        Long endSeconds = parseTime(end);
+        Long stepSeconds = parseStep(step);
+        if (startSeconds == null || endSeconds == null || stepSeconds == null || endSeconds < startSeconds) {
+            return CompletableFuture.supplyAsync(() -> execute(source, "range",
+                    () -> executeQueryRange(source, query, start, end, step)), executor);
+        }
+
+        long alignedStart = Math.floorDiv(startSeconds, stepSeconds) * stepSeconds;
+        long alignedEnd = Math.floorDiv(endSeconds, stepSeconds) * stepSeconds;
+        long windowSeconds = stepSeconds * windowPoints;
+        long firstWindow = Math.floorDiv(alignedStart, windowSeconds) * windowSeconds;
+        long lastWindow = Math.floorDiv(alignedEnd, windowSeconds) * windowSeconds;
+
+        // 구간 수가 너무 많으면 정렬된 범위 전체를 한 번에 조회
+        if ((lastWindow - firstWindow) / windowSeconds + 1 > maxWindows) {
+            return fetchWindow(source, query, alignedStart, alignedEnd, stepSeconds)
+                    .thenApply(WindowResult::response);
+        }
+
+        List<CompletableFuture<WindowResult>> windows = new ArrayList<>();
+        for (long windowStart = firstWindow; windowStart <= lastWindow; windowStart += windowSeconds) {
+            windows.add(fetchWindow(source, query, windowStart, windowStart + windowSeconds - stepSeconds,
+                    stepSeconds));
+        }
+        return CompletableFuture.allOf(windows.toArray(new CompletableFuture[0]))
+                .thenCompose(ignored -> {
+                    List<Object> responses = windows.stream().map(window -> window.join().response()).toList();
+                    Object merged = mergeMatrix(responses, alignedStart, alignedEnd);
+                    if (merged != null) {
+                        return CompletableFuture.completedFuture(merged);
+                    }
+                    // matrix 가 아닌 응답이 섞여 있으면 정렬된 범위로 직접 조회
+                    log.debug("Range 응답 병합 불가 - 직접 조회: {}", query);
+                    return CompletableFuture.supplyAsync(() -> execute(source, "range",
+                            () -> executeQueryRange(source, query, String.valueOf(alignedStart),
+                                    String.valueOf(alignedEnd), String.valueOf(stepSeconds))), executor);
+                });
+    }
+
+    /**
+     * Range 쿼리 실행 (동기)
+     *
+     * @param source 조회 대상 Prometheus
+     * @param query  PromQL
+     * @param start  시작 시간
+     * @param end    종료 시간
+     * @param step   조회 간격 (초)
+     * @return matrix 형식 Prometheus 응답
+     */
+    public Object queryRange(Source source, String query, String start, String end, String step) {
+        return await(submitRange(source, query, start, end, step));
+    }
+
+    /**
+     * 비동기 조회 결과 대기
+     *
+     * <p>조회 중 발생한 예외(FeignException, BusinessException 등)는 원래 타입 그대로 다시 던지므로
+     * 기존 호출부의 예외 처리를 그대로 사용할 수 있습니다.</p>
+     *
+     * @param future 조회 결과
+     * @return Prometheus 응답
+     */
+    public Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR, "Prometheus 조회에 실패했습니다: " + cause.getMessage());
+        }
+    }
+
+    /**
+     * 자원 관리 조회용 실행기
+     *
+     * <p>Prometheus 외 자원 관리 대시보드의 병렬 조회(예: 엔드포인트 정보)에도 사용합니다.</p>
+     *
+     * @return 컨텍스트 전달 실행기
+     */
+    public Executor executor() {
+        return executor;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private CompletableFuture<WindowResult> fetchWindow(Source source, String query, long start, long end,
+            long step) {
+        return windowCache.get(new WindowKey(source, query, start, end, step),
+                (key, cacheExecutor) -> CompletableFuture.supplyAsync(() -> {
+                    // 마지막 스크랩 지연을 고려해 두 step 이상 지난 구간만 확정된 것으로 간주
+                    boolean closed = end + 2 * step < Instant.now().getEpochSecond();
+                    Object response = execute(source, "range", () -> executeQueryRange(source, query,
+                            String.valueOf(start), String.valueOf(end), String.valueOf(step)));
+                    return new WindowResult(response, closed);
+                }, cacheExecutor));
+    }
+
+    private Object execute(Source source, String type, Supplier<Object> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("resrc.mgmt.query")
+                    .description("자원 관리 Prometheus 쿼리 시간")
+                    .tag("source", source.name().toLowerCase())
+                    .tag("type", type)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private Object executeQuery(Source source, String query) {
+        return source == Source.GPU ? resrcMgmtGpuClient.executeQuery(query) : resrcMgmtClient.executeQuery(query);
+    }
+
+    private Object executeQueryRange(Source source, String query, String start, String end, String step) {
+        return source == Source.GPU
+                ? resrcMgmtGpuClient.executeQueryRange(query, start, end, step)
+                : resrcMgmtClient.executeQueryRange(query, start, end, step);
+    }
+
+    /**
+     * 구간별 matrix 응답을 하나로 병합 (metric 라벨 기준, [from, to] 범위의 값만 포함)
+     *
+     * @return 병합된 응답 (matrix 가 아닌 응답이 있으면 null)
+     */
+    static Object mergeMatrix(List<Object> responses, long from, long to) {
+        Map<Object, List<Object>> valuesByMetric = new LinkedHashMap<>();
+        for (Object response : responses) {
+            if (!(response instanceof Map<?, ?> body) || !"success".equals(body.get("status"))
+                    || !(body.get("data") instanceof Map<?, ?> data) || !"matrix".equals(data.get("resultType"))
+                    || !(data.get("result") instanceof List<?> result)) {
+                return null;
+            }
+            for (Object item : result) {
+                if (!(item instanceof Map<?, ?> series)) {
+                    continue;
+                }
+                List<Object> values = valuesByMetric.computeIfAbsent(series.get("metric"), metric -> new ArrayList<>());
+                if (series.get("values") instanceof List<?> points) {
+                    for (Object point : points) {
+                        if (point instanceof List<?> pair && !pair.isEmpty() && pair.get(0) instanceof Number timestamp
+                                && timestamp.doubleValue() >= from && timestamp.doubleValue() <= to) {
+                            values.add(point);
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Object> merged = new ArrayList<>();
+        valuesByMetric.forEach((metric, values) -> {
+            if (!values.isEmpty()) {
+                Map<String, Object> series = new LinkedHashMap<>();
+                series.put("metric", metric);
+                series.put("values", values);
+                merged.add(series);
+            }
+        });
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("resultType", "matrix");
+        data.put("result", merged);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", "success");
+        body.put("data", data);
+        return body;
+    }
+
+    /**
+     * unix timestamp(초, 소수 허용) 또는 ISO-8601 시간을 epoch 초로 변환
+     *
+     * @return epoch 초 (해석할 수 없으면 null)
+     */
+    private static Long parseTime(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        try {
+            return (long) Math.floor(Double.parseDouble(trimmed));
+        } catch (NumberFormatException ignored) {
+            // ISO-8601 형식 시도
+        }
+        try {
+            return Instant.parse(trimmed).getEpochSecond();
+        } catch (DateTimeParseException ignored) {
+            // 오프셋 포함 형식 시도
+        }
+        try {
+            return OffsetDateTime.parse(trimmed).toEpochSecond();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * step(초) 해석 - 정수 초만 캐시 대상으로 사용
+     *
+     * @return step 초 (해석할 수 없으면 null)
+     */
+    private static Long parseStep(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        if (trimmed.endsWith("s")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        }
+        try {
+            long step = Long.parseLong(trimmed);
+            return step > 0 ? step : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.skax.aiplatform.client.udp.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skax.aiplatform.client.common.HttpTransportRegistry;
 import feign.Client;
 import feign.RequestInterceptor;
 import feign.Response;
@@ -8,23 +9,16 @@ import feign.Retryer;
 import feign.codec.Decoder;
 import feign.codec.ErrorDecoder;
 import feign.okhttp.OkHttpClient;
-import okhttp3.ConnectionSpec;
-import okhttp3.OkHttpClient.Builder;
 import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
 import org.springframework.cloud.openfeign.support.SpringDecoder;
 import org.springframework.context.annotation.Bean;
 
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
 import java.nio.charset.StandardCharsets;
-import java.security.cert.X509Certificate;
-import java.util.Arrays;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 /**
  * UDP 서비스용 Feign 설정
@@ -86,53 +80,13 @@ public class UdpFeignDocumentConfig {
      * 운영 환경에서는 절대 사용하지 마십시오.
      *
      * @return OkHttp 기반 Feign Client
-     * @throws Exception SSL 설정 실패 시
      */
     @Bean
-    public Client udpFeignClient() throws Exception {
-        // 현재 활성 프로필 확인
-        String activeProfile = System.getProperty("spring.profiles.active", "");
-
-        Builder okHttpBuilder = new Builder()
-                .connectTimeout(10, TimeUnit.SECONDS)
-                .readTimeout(60, TimeUnit.SECONDS)
-                .writeTimeout(60, TimeUnit.SECONDS);
-
-        // elocal, local 프로필에서만 SSL 우회 적용
-        // if (activeProfile.contains("elocal") || activeProfile.contains("local")) {
+    public Client udpFeignClient(HttpTransportRegistry httpTransportRegistry) {
         // SSL 검증 우회 설정
-        TrustManager[] trustAllCerts = new TrustManager[]{
-                new X509TrustManager() {
-                    @Override
-                    public void checkClientTrusted(X509Certificate[] chain, String authType) {
-                        // 모든 클라이언트 인증서를 신뢰
-                    }
-
-                    @Override
-                    public void checkServerTrusted(X509Certificate[] chain, String authType) {
-                        // 모든 서버 인증서를 신뢰
-                    }
-
-                    @Override
-                    public X509Certificate[] getAcceptedIssuers() {
-                        return new X509Certificate[]{};
-                    }
-                }
-        };
-
-        SSLContext sslContext = SSLContext.getInstance("SSL");
-        sslContext.init(null, trustAllCerts, new java.security.SecureRandom());
-
-        okHttpBuilder.sslSocketFactory(sslContext.getSocketFactory(), (X509TrustManager) trustAllCerts[0])
-                .hostnameVerifier((hostname, session) -> true);
-        // }
-
-        // HTTPS 및 HTTP 연결 허용
-        okHttpBuilder.connectionSpecs(Arrays.asList(
-                ConnectionSpec.MODERN_TLS,
-                ConnectionSpec.CLEARTEXT));
-
-        return new OkHttpClient(okHttpBuilder.build());
+        // 공용 전송 계층: 전체 Feign Client 가 연결 풀/호스트별 동시 요청 제한을 공유
+        return new OkHttpClient(httpTransportRegistry.newClient(
+                Duration.ofSeconds(10), Duration.ofSeconds(60), Duration.ofSeconds(60), true));
     }
 
     @Bean
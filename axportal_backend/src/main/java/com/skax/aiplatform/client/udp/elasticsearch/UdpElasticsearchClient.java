@@ -14,6 +14,7 @@ import com.skax.aiplatform.client.udp.elasticsearch.dto.request.IndexCreateReque
 import com.skax.aiplatform.client.udp.elasticsearch.dto.response.IndexCreateResponse;
 import com.skax.aiplatform.client.udp.elasticsearch.dto.response.IndexExistsResponse;
 import com.skax.aiplatform.client.udp.elasticsearch.dto.response.IndexListResponse;
+import com.skax.aiplatform.client.udp.elasticsearch.dto.response.MultiSearchResponse;
 import com.skax.aiplatform.client.udp.elasticsearch.dto.response.SearchResponse;
 import com.skax.aiplatform.client.udp.elasticsearch.dto.response.IndexResponse;
 
@@ -186,6 +187,31 @@ public interface UdpElasticsearchClient {
             @RequestBody Object searchBody
     );
 
+    /**
+     * Elasticsearch 다중 검색
+     *
+     * <p>여러 검색을 NDJSON 본문 하나로 묶어 한 번의 요청으로 실행합니다.
+     * 본문은 검색마다 헤더 줄({"index": ...})과 쿼리 줄을 번갈아 담고 줄바꿈으로 끝나야 합니다.</p>
+     *
+     * @param searchBody NDJSON 형식 다중 검색 본문
+     * @return 요청 순서대로의 검색 결과
+     */
+    @PostMapping(value = "/_msearch", consumes = "application/x-ndjson")
+    @Operation(
+            summary = "다중 검색",
+            description = "여러 Index 검색을 한 번의 요청으로 실행합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검색 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 검색 쿼리"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    MultiSearchResponse multiSearch(
+            @Parameter(description = "NDJSON 형식 다중 검색 본문")
+            @RequestBody String searchBody
+    );
+
     /**
      * 데이터 삽입
      * 
@@ -0,0 +1,34 @@
+package com.skax.aiplatform.client.udp.elasticsearch.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Elasticsearch 다중 검색(_msearch) 응답
+ *
+ * <p>요청한 검색 순서대로 개별 검색 결과를 담습니다. 개별 검색이 실패한 경우 해당 항목의 hits 는 비어 있습니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Schema(description = "Elasticsearch 다중 검색 응답")
+public class MultiSearchResponse {
+
+    @Schema(description = "검색 수행 시간 (밀리초)", example = "15")
+    private Long took;
+
+    @Schema(description = "개별 검색 결과 목록 (요청 순서)")
+    private List<SearchResponse> responses;
+}
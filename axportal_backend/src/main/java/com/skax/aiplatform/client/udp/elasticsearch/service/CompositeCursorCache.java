@@ -0,0 +1,174 @@
+package com.skax.aiplatform.client.udp.elasticsearch.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skax.aiplatform.common.exception.BusinessException;
+import com.skax.aiplatform.common.exception.ErrorCode;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Elasticsearch composite aggregation 페이지 커서 캐시
+ *
+ * <p>
+ * composite aggregation 은 offset 페이징을 지원하지 않아 N 페이지를 조회하려면 앞선 페이지의
+ * {@code after_key} 를 순서대로 따라가야 합니다. 인덱스/검색 조건/페이지 크기별로 각 페이지의 시작
+ * {@code after_key} 와 전체 고유 개수를 짧은 TTL 동안 보관하여 깊은 페이지도 한 번의 조회로 처리합니다.
+ * </p>
+ *
+ * <p>
+ * 캐시 항목은 {@code udp.elasticsearch.cursor-cache.ttl-seconds} (기본 30초) 후 만료되며,
+ * 적중률은 {@code udp.es.cursor}, {@code udp.es.count} 캐시 메트릭으로 확인할 수 있습니다.
+ * </p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class CompositeCursorCache {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> AFTER_KEY_TYPE = new TypeReference<>() {
+    };
+
+    /**
+     * 페이지 시작 커서 키
+     */
+    private record CursorKey(String indexName, String filter, int pageSize, int page) {
+    }
+
+    /**
+     * 전체 개수 키
+     */
+    private record CountKey(String indexName, String filter) {
+    }
+
+    /**
+     * 캐시된 페이지 시작 위치
+     *
+     * @param page     페이지 번호 (1-based)
+     * @param afterKey 해당 페이지의 시작 after_key (1 페이지는 null)
+     */
+    public record Cursor(int page, Map<String, Object> afterKey) {
+    }
+
+    private final Cache<CursorKey, Map<String, Object>> afterKeys;
+    private final Cache<CountKey, Long> counts;
+
+    public CompositeCursorCache(
+            MeterRegistry meterRegistry,
+            @Value("${udp.elasticsearch.cursor-cache.ttl-seconds:30}") long ttlSeconds,
+            @Value("${udp.elasticsearch.cursor-cache.maximum-size:10000}") long maximumSize) {
+        this.afterKeys = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        this.counts = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, afterKeys, "udp.es.cursor");
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "udp.es.count");
+    }
+
+    /**
+     * 요청 페이지 이하에서 가장 가까운 캐시된 시작 위치 조회
+     *
+     * @param indexName 인덱스명
+     * @param filter    검색 조건 식별자
+     * @param pageSize  페이지 크기
+     * @param page      요청 페이지 (1-based)
+     * @return 가장 가까운 시작 위치 (캐시가 없으면 1 페이지)
+     */
+    public Cursor nearest(String indexName, String filter, int pageSize, int page) {
+        for (int candidate = page; candidate > 1; candidate--) {
+            Map<String, Object> afterKey = afterKeys.getIfPresent(new CursorKey(indexName, filter, pageSize, candidate));
+            if (afterKey != null) {
+                return new Cursor(candidate, afterKey);
+            }
+        }
+        return new Cursor(1, null);
+    }
+
+    /**
+     * 페이지 시작 after_key 저장
+     *
+     * @param indexName 인덱스명
+     * @param filter    검색 조건 식별자
+     * @param pageSize  페이지 크기
+     * @param page      after_key 로 시작하는 페이지 (2 이상)
+     * @param afterKey  after_key
+     */
+    public void putAfterKey(String indexName, String filter, int pageSize, int page, Map<String, Object> afterKey) {
+        if (page > 1 && afterKey != null) {
+            afterKeys.put(new CursorKey(indexName, filter, pageSize, page), afterKey);
+        }
+    }
+
+    /**
+     * 전체 고유 개수 조회
+     *
+     * @return 캐시된 개수 (없으면 null)
+     */
+    public Long getCount(String indexName, String filter) {
+        return counts.getIfPresent(new CountKey(indexName, filter));
+    }
+
+    /**
+     * 전체 고유 개수 저장
+     */
+    public void putCount(String indexName, String filter, long count) {
+        counts.put(new CountKey(indexName, filter), count);
+    }
+
+    /**
+     * after_key 를 외부 전달용 커서 문자열로 변환
+     *
+     * @param afterKey after_key (null 이면 null)
+     * @return URL-safe Base64 커서
+     */
+    public String encode(Map<String, Object> afterKey) {
+        if (afterKey == null) {
+            return null;
+        }
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(OBJECT_MAPPER.writeValueAsBytes(afterKey));
+        } catch (JsonProcessingException e) {
+            log.warn("[UDP ES] after_key 커서 변환 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 커서 문자열을 after_key 로 변환
+     *
+     * @param cursor 이전 응답의 nextCursor
+     * @return after_key
+     * @throws BusinessException 커서 형식이 올바르지 않은 경우
+     */
+    public Map<String, Object> decode(String cursor) {
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor.trim());
+            return OBJECT_MAPPER.readValue(new String(json, StandardCharsets.UTF_8), AFTER_KEY_TYPE);
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 커서입니다: " + cursor);
+        }
+    }
+}
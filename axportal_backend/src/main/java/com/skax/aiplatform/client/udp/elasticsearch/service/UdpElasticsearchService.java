@@ -90,8 +90,10 @@ public interface UdpElasticsearchService {
     /**
      * 파일 목록 조회
      *
+     * <p>요청에 cursor(이전 응답의 nextCursor)가 있으면 page 대신 커서 다음 페이지를 조회합니다.</p>
+     *
      * @param request 파일 목록 조회 요청 정보
-     * @return 페이지 정보와 bucket 목록을 포함한 응답
+     * @return 페이지 정보와 bucket 목록, 다음 페이지 커서를 포함한 응답
      */
     ExternalKnowledgeFilesRes searchFilesAggregated(ExternalKnowledgeFilesReq request);
 
@@ -16,6 +16,7 @@ import com.skax.aiplatform.client.udp.elasticsearch.dto.response.IndexExistsResp
 import com.skax.aiplatform.client.udp.elasticsearch.dto.response.IndexListResponse;
 import com.skax.aiplatform.client.udp.elasticsearch.dto.response.IndexResponse;
 import com.skax.aiplatform.client.udp.elasticsearch.dto.response.SearchResponse;
+import com.skax.aiplatform.client.udp.elasticsearch.service.CompositeCursorCache;
 import com.skax.aiplatform.client.udp.elasticsearch.service.UdpElasticsearchService;
 import com.skax.aiplatform.common.exception.BusinessException;
 import com.skax.aiplatform.common.exception.ErrorCode;
@@ -50,6 +51,7 @@ public class UdpElasticsearchServiceImpl implements UdpElasticsearchService {
     private static final String WAIT_FOR_ACTIVE_SHARDS_ALL = "1";
 
     private final UdpElasticsearchClient udpElasticsearchClient;
+    private final CompositeCursorCache compositeCursorCache;
 
     @Value("${udp.elasticsearch.index.number_of_shards}")
     private String number_of_shards;
@@ -492,10 +494,11 @@ public class UdpElasticsearchServiceImpl implements UdpElasticsearchService {
         Integer countPerPage = request.getCountPerPage();
         String search = request.getSearch();
         String uuid = request.getUuid();
+        String cursor = request.getCursor();
 
         log.info(
-                ">>> [UDP Elasticsearch] doc_path_anony 집계 페이지 조회 - indexName: {}, page: {}, countPerPage: {}, search: {}, uuid: {}",
-                indexName, page, countPerPage, search, uuid);
+                ">>> [UDP Elasticsearch] doc_path_anony 집계 페이지 조회 - indexName: {}, page: {}, countPerPage: {}, search: {}, uuid: {}, cursor: {}",
+                indexName, page, countPerPage, search, uuid, cursor);
 
         if (page == null || page < 1)
             page = 1;
@@ -529,6 +532,9 @@ public class UdpElasticsearchServiceImpl implements UdpElasticsearchService {
                 query = Map.of("match_all", new HashMap<>());
             }
             countBody.put("query", query);
+            // 커서/개수 캐시 키로 사용할 검색 조건 식별자
+            String filter = search != null && !search.trim().isEmpty() ? "doc_nm:" + search
+                    : uuid != null && !uuid.trim().isEmpty() ? "doc_uuid:" + uuid : "";
             // cardinality aggregation에는 from/size 불필요 (size: 0만 있으면 됨)
 
             log.info(
@@ -536,178 +542,77 @@ public class UdpElasticsearchServiceImpl implements UdpElasticsearchService {
                     indexName, page, countPerPage, query);
             log.info(">>> [UDP Elasticsearch] countBody: {}", countBody);
 
-            SearchResponse countResp = udpElasticsearchClient.searchData(indexName, countBody);
+            // 검색 조건별 전체 개수는 커서와 함께 짧게 캐시 (페이지 이동 시 재조회 생략)
+            Long totalCount = compositeCursorCache.getCount(indexName, filter);
+            if (totalCount == null) {
+                SearchResponse countResp = udpElasticsearchClient.searchData(indexName, countBody);
 
-            log.info(">>> [UDP Elasticsearch] countResp: {}", countResp);
+                log.info(">>> [UDP Elasticsearch] countResp: {}", countResp);
 
-            Long totalCount = 0L;
-            try {
-                Object aggObj = countResp.getAggregations().get("unique_paths_count");
-                if (aggObj instanceof Map) {
-                    Object value = ((Map<?, ?>) aggObj).get("value");
-                    if (value instanceof Number)
-                        totalCount = ((Number) value).longValue();
+                totalCount = 0L;
+                try {
+                    Object aggObj = countResp.getAggregations().get("unique_paths_count");
+                    if (aggObj instanceof Map) {
+                        Object value = ((Map<?, ?>) aggObj).get("value");
+                        if (value instanceof Number)
+                            totalCount = ((Number) value).longValue();
+                    }
+                } catch (ClassCastException e) {
+                    log.warn("[UDP ES] cardinality 총계 파싱 실패 (ClassCastException), 0으로 처리");
+                } catch (NullPointerException e) {
+                    log.warn("[UDP ES] cardinality 총계 파싱 실패 (NullPointerException), 0으로 처리");
+                } catch (RuntimeException e) {
+                    log.warn("[UDP ES] cardinality 총계 파싱 실패 (RuntimeException), 0으로 처리");
+                } catch (Exception e) {
+                    log.warn("[UDP ES] cardinality 총계 파싱 실패 (Exception), 0으로 처리");
                 }
-            } catch (ClassCastException e) {
-                log.warn("[UDP ES] cardinality 총계 파싱 실패 (ClassCastException), 0으로 처리");
-            } catch (NullPointerException e) {
-                log.warn("[UDP ES] cardinality 총계 파싱 실패 (NullPointerException), 0으로 처리");
-            } catch (RuntimeException e) {
-                log.warn("[UDP ES] cardinality 총계 파싱 실패 (RuntimeException), 0으로 처리");
-            } catch (Exception e) {
-                log.warn("[UDP ES] cardinality 총계 파싱 실패 (Exception), 0으로 처리");
+                compositeCursorCache.putCount(indexName, filter, totalCount);
             }
 
-            // 2) composite agg로 페이지 찾아가기 (after_key 반복)
-            Map<String, Object> afterKey = null;
-            List<ExternalKnowledgeFilesRes.Item> pageBuckets = new java.util.ArrayList<>();
-
-            for (int currentPage = 1; currentPage <= page; currentPage++) {
-                Map<String, Object> comp = new HashMap<>();
-                comp.put("size", countPerPage);
-                java.util.List<Map<String, Object>> sources = new java.util.ArrayList<>();
-                sources.add(Map.of("doc_path_anony", Map.of("terms", Map.of("field", "doc_path_anony"))));
-                comp.put("sources", sources);
-                if (afterKey != null)
-                    comp.put("after", afterKey);
-
-                // sub-aggregation: top_hits
-                Map<String, Object> topHits = new HashMap<>();
-                topHits.put("size", 1);
-                topHits.put("_source", Boolean.TRUE);
-
-                Map<String, Object> uniqueDocs = new HashMap<>();
-                uniqueDocs.put("composite", comp);
-                uniqueDocs.put("aggs", java.util.Map.of("top_doc", java.util.Map.of("top_hits", topHits)));
-
-                Map<String, Object> aggs = new HashMap<>();
-                aggs.put("unique_docs", uniqueDocs);
-
-                Map<String, Object> body = new HashMap<>();
-                body.put("size", 0);
-                body.put("query", query); // 첫 번째 호출과 동일한 검색 필터 적용
-                body.put("aggs", aggs);
-
-                SearchResponse resp = udpElasticsearchClient.searchData(indexName, body);
-
-                Object uniquePathsObj = resp.getAggregations().get("unique_docs");
-                if (!(uniquePathsObj instanceof Map)) {
-                    break;
-                }
-                Map<?, ?> aggsMap = (Map<?, ?>) uniquePathsObj;
-                // LBG if (aggsMap == null) break;
-
-                Object bucketsObj = aggsMap.get("buckets");
-                java.util.List<?> buckets = (bucketsObj instanceof java.util.List) ? (java.util.List<?>) bucketsObj
-                        : java.util.Collections.emptyList();
-                Object afterKeyObj = aggsMap.get("after_key");
-                if (afterKeyObj instanceof Map) {
-                    afterKey = new java.util.HashMap<>();
-                    for (Object k : ((Map<?, ?>) afterKeyObj).keySet()) {
-                        afterKey.put(String.valueOf(k), ((Map<?, ?>) afterKeyObj).get(k));
+            // 2) composite agg로 페이지 찾아가기
+            // 캐시된 가장 가까운 after_key 에서 시작하고, 중간 페이지는 top_hits 없이 키만 조회
+            boolean cursorMode = cursor != null && !cursor.isBlank();
+            Map<String, Object> afterKey;
+            boolean reachedEnd = false;
+            if (cursorMode) {
+                afterKey = compositeCursorCache.decode(cursor);
+            } else {
+                CompositeCursorCache.Cursor start = compositeCursorCache.nearest(indexName, filter, countPerPage, page);
+                afterKey = start.afterKey();
+                for (int currentPage = start.page(); currentPage < page; currentPage++) {
+                    Map<?, ?> aggsMap = searchComposite(indexName, query, countPerPage, afterKey, false);
+                    afterKey = compositeAfterKey(aggsMap);
+                    if (compositeBuckets(aggsMap).isEmpty() || afterKey == null) {
+                        reachedEnd = true;
+                        break;
                     }
-                } else {
-                    afterKey = null;
+                    compositeCursorCache.putAfterKey(indexName, filter, countPerPage, currentPage + 1, afterKey);
                 }
+            }
 
-                if (currentPage == page) {
-                    if (buckets != null) {
-                        for (Object b : buckets) {
-                            if (b instanceof Map) {
-                                Map<?, ?> bm = (Map<?, ?>) b;
-                                String docPath = null;
-                                Long docCount = null;
-                                String topIndex = null;
-                                String topId = null;
-                                Double topScore = null;
-                                Object topSourceObj = null;
-                                try {
-                                    Object keyObj = bm.get("key");
-                                    if (keyObj instanceof Map) {
-                                        Object path = ((Map<?, ?>) keyObj).get("doc_path_anony");
-                                        if (path != null)
-                                            docPath = String.valueOf(path);
-                                    }
-                                    Object dc = bm.get("doc_count");
-                                    if (dc instanceof Number)
-                                        docCount = ((Number) dc).longValue();
-
-                                    Object topDoc = bm.get("top_doc");
-                                    if (topDoc instanceof Map) {
-                                        Object hitsObj = ((Map<?, ?>) topDoc).get("hits");
-                                        if (hitsObj instanceof Map) {
-                                            Object innerHitsObj = ((Map<?, ?>) hitsObj).get("hits");
-                                            if (innerHitsObj instanceof java.util.List
-                                                    && !((java.util.List<?>) innerHitsObj).isEmpty()) {
-                                                Object firstHit = ((java.util.List<?>) innerHitsObj).get(0);
-                                                if (firstHit instanceof Map) {
-                                                    Object idx = ((Map<?, ?>) firstHit).get("_index");
-                                                    Object id = ((Map<?, ?>) firstHit).get("_id");
-                                                    Object score = ((Map<?, ?>) firstHit).get("_score");
-                                                    if (idx != null)
-                                                        topIndex = String.valueOf(idx);
-                                                    if (id != null)
-                                                        topId = String.valueOf(id);
-                                                    if (score instanceof Number)
-                                                        topScore = ((Number) score).doubleValue();
-                                                    try {
-                                                        Object sourceObj = ((Map<?, ?>) firstHit).get("_source");
-                                                        if (sourceObj instanceof Map) {
-                                                            ((Map<?, ?>) sourceObj).remove("chunk_embedding");
-                                                            topSourceObj = sourceObj;
-                                                        }
-                                                    } catch (ClassCastException e) {
-                                                        log.debug(
-                                                                "[UDP ES] chunk_embedding sanitize 실패 (ClassCastException), 무시합니다.");
-                                                    } catch (NullPointerException e) {
-                                                        log.debug(
-                                                                "[UDP ES] chunk_embedding sanitize 실패 (NullPointerException), 무시합니다.");
-                                                    } catch (UnsupportedOperationException e) {
-                                                        log.debug(
-                                                                "[UDP ES] chunk_embedding sanitize 실패 (UnsupportedOperationException), 무시합니다.");
-                                                    } catch (RuntimeException e) {
-                                                        log.debug(
-                                                                "[UDP ES] chunk_embedding sanitize 실패 (RuntimeException), 무시합니다.");
-                                                    } catch (Exception e) {
-                                                        log.debug(
-                                                                "[UDP ES] chunk_embedding sanitize 실패 (Exception), 무시합니다.");
-                                                    }
-                                                }
-                                            }
-                                        }
-                                    }
-                                } catch (ClassCastException e) {
-                                    log.debug("[UDP ES] 버킷 처리 중 ClassCastException 발생, 무시합니다.");
-                                } catch (NullPointerException e) {
-                                    log.debug("[UDP ES] 버킷 처리 중 NullPointerException 발생, 무시합니다.");
-                                } catch (RuntimeException e) {
-                                    log.debug("[UDP ES] 버킷 처리 중 런타임 오류 발생, 무시합니다.");
-                                } catch (Exception e) {
-                                    log.debug("[UDP ES] 버킷 처리 중 예상치 못한 오류 발생, 무시합니다.");
-                                }
-
-                                ExternalKnowledgeFilesRes.Item item = ExternalKnowledgeFilesRes.Item.builder()
-                                        .docPathAnony(docPath)
-                                        .docCount(docCount)
-                                        .topIndex(topIndex)
-                                        .topId(topId)
-                                        .topScore(topScore)
-                                        .topSource(topSourceObj)
-                                        .build();
-                                pageBuckets.add(item);
-                            }
-                        }
+            List<ExternalKnowledgeFilesRes.Item> pageBuckets = new java.util.ArrayList<>();
+            Map<String, Object> nextAfterKey = null;
+            if (!reachedEnd) {
+                Map<?, ?> aggsMap = searchComposite(indexName, query, countPerPage, afterKey, true);
+                java.util.List<?> buckets = compositeBuckets(aggsMap);
+                for (Object b : buckets) {
+                    if (b instanceof Map) {
+                        pageBuckets.add(toFileItem((Map<?, ?>) b));
+                    }
+                }
+                if (buckets.size() >= countPerPage) {
+                    nextAfterKey = compositeAfterKey(aggsMap);
+                    if (!cursorMode) {
+                        compositeCursorCache.putAfterKey(indexName, filter, countPerPage, page + 1, nextAfterKey);
                     }
                 }
-
-                if (buckets == null || buckets.isEmpty() || afterKey == null)
-                    break;
             }
 
             int totalPages = (int) Math.ceil((totalCount != null ? totalCount : 0L) / (double) countPerPage);
             boolean first = page == 1;
             boolean last = totalPages == 0 ? true : page >= totalPages;
-            boolean hasNext = !last;
+            // 커서 모드에서는 다음 커서 존재 여부로 판단
+            boolean hasNext = cursorMode ? nextAfterKey != null : !last;
             boolean hasPrevious = !first && totalPages > 0;
 
             PageableInfo pageableInfo = PageableInfo.builder()
@@ -727,7 +632,10 @@ public class UdpElasticsearchServiceImpl implements UdpElasticsearchService {
                     .hasPrevious(hasPrevious)
                     .build();
 
-            return ExternalKnowledgeFilesRes.builder().page(pageRes).build();
+            return ExternalKnowledgeFilesRes.builder()
+                    .page(pageRes)
+                    .nextCursor(compositeCursorCache.encode(nextAfterKey))
+                    .build();
 
         } catch (BusinessException e) {
             throw handleException("집계 페이지 조회", e);
@@ -835,4 +743,147 @@ public class UdpElasticsearchServiceImpl implements UdpElasticsearchService {
             throw handleException("파일별 청크 조회", e);
         }
     }
+
+    /**
+     * composite aggregation 조회
+     *
+     * @param withTopHits 버킷별 대표 문서(top_hits) 포함 여부 (페이지 이동용 조회는 키만 조회)
+     * @return unique_docs 집계 결과 (없으면 빈 Map)
+     */
+    private Map<?, ?> searchComposite(String indexName, Map<String, Object> query, int countPerPage,
+            Map<String, Object> afterKey, boolean withTopHits) {
+        Map<String, Object> comp = new HashMap<>();
+        comp.put("size", countPerPage);
+        java.util.List<Map<String, Object>> sources = new java.util.ArrayList<>();
+        sources.add(Map.of("doc_path_anony", Map.of("terms", Map.of("field", "doc_path_anony"))));
+        comp.put("sources", sources);
+        if (afterKey != null)
+            comp.put("after", afterKey);
+
+        Map<String, Object> uniqueDocs = new HashMap<>();
+        uniqueDocs.put("composite", comp);
+        if (withTopHits) {
+            // sub-aggregation: top_hits
+            Map<String, Object> topHits = new HashMap<>();
+            topHits.put("size", 1);
+            topHits.put("_source", Boolean.TRUE);
+            uniqueDocs.put("aggs", java.util.Map.of("top_doc", java.util.Map.of("top_hits", topHits)));
+        }
+
+        Map<String, Object> aggs = new HashMap<>();
+        aggs.put("unique_docs", uniqueDocs);
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("size", 0);
+        body.put("query", query); // 개수 조회와 동일한 검색 필터 적용
+        body.put("aggs", aggs);
+
+        SearchResponse resp = udpElasticsearchClient.searchData(indexName, body);
+
+        Object uniquePathsObj = resp.getAggregations() != null ? resp.getAggregations().get("unique_docs") : null;
+        return uniquePathsObj instanceof Map ? (Map<?, ?>) uniquePathsObj : java.util.Collections.emptyMap();
+    }
+
+    private static java.util.List<?> compositeBuckets(Map<?, ?> aggsMap) {
+        Object bucketsObj = aggsMap.get("buckets");
+        return (bucketsObj instanceof java.util.List) ? (java.util.List<?>) bucketsObj
+                : java.util.Collections.emptyList();
+    }
+
+    private static Map<String, Object> compositeAfterKey(Map<?, ?> aggsMap) {
+        Object afterKeyObj = aggsMap.get("after_key");
+        if (!(afterKeyObj instanceof Map)) {
+            return null;
+        }
+        Map<String, Object> afterKey = new java.util.HashMap<>();
+        for (Object k : ((Map<?, ?>) afterKeyObj).keySet()) {
+            afterKey.put(String.valueOf(k), ((Map<?, ?>) afterKeyObj).get(k));
+        }
+        return afterKey;
+    }
+
+    /**
+     * composite 버킷을 파일 항목으로 변환 (대표 문서의 임베딩 필드는 제거)
+     */
+    private ExternalKnowledgeFilesRes.Item toFileItem(Map<?, ?> bm) {
+        String docPath = null;
+        Long docCount = null;
+        String topIndex = null;
+        String topId = null;
+        Double topScore = null;
+        Object topSourceObj = null;
+        try {
+            Object keyObj = bm.get("key");
+            if (keyObj instanceof Map) {
+                Object path = ((Map<?, ?>) keyObj).get("doc_path_anony");
+                if (path != null)
+                    docPath = String.valueOf(path);
+            }
+            Object dc = bm.get("doc_count");
+            if (dc instanceof Number)
+                docCount = ((Number) dc).longValue();
+
+            Object topDoc = bm.get("top_doc");
+            if (topDoc instanceof Map) {
+                Object hitsObj = ((Map<?, ?>) topDoc).get("hits");
+                if (hitsObj instanceof Map) {
+                    Object innerHitsObj = ((Map<?, ?>) hitsObj).get("hits");
+                    if (innerHitsObj instanceof java.util.List
+                            && !((java.util.List<?>) innerHitsObj).isEmpty()) {
+                        Object firstHit = ((java.util.List<?>) innerHitsObj).get(0);
+                        if (firstHit instanceof Map) {
+                            Object idx = ((Map<?, ?>) firstHit).get("_index");
+                            Object id = ((Map<?, ?>) firstHit).get("_id");
+                            Object score = ((Map<?, ?>) firstHit).get("_score");
+                            if (idx != null)
+                                topIndex = String.valueOf(idx);
+                            if (id != null)
+                                topId = String.valueOf(id);
+                            if (score instanceof Number)
+                                topScore = ((Number) score).doubleValue();
+                            try {
+                                Object sourceObj = ((Map<?, ?>) firstHit).get("_source");
+                                if (sourceObj instanceof Map) {
+                                    ((Map<?, ?>) sourceObj).remove("chunk_embedding");
+                                    topSourceObj = sourceObj;
+                                }
+                            } catch (ClassCastException e) {
+                                log.debug(
+                                        "[UDP ES] chunk_embedding sanitize 실패 (ClassCastException), 무시합니다.");
+                            } catch (NullPointerException e) {
+                                log.debug(
+                                        "[UDP ES] chunk_embedding sanitize 실패 (NullPointerException), 무시합니다.");
+                            } catch (UnsupportedOperationException e) {
+                                log.debug(
+                                        "[UDP ES] chunk_embedding sanitize 실패 (UnsupportedOperationException), 무시합니다.");
+                            } catch (RuntimeException e) {
+                                log.debug(
+                                        "[UDP ES] chunk_embedding sanitize 실패 (RuntimeException), 무시합니다.");
+                            } catch (Exception e) {
+                                log.debug(
+                                        "[UDP ES] chunk_embedding sanitize 실패 (Exception), 무시합니다.");
+                            }
+                        }
+                    }
+                }
+            }
+        } catch (ClassCastException e) {
+            log.debug("[UDP ES] 버킷 처리 중 ClassCastException 발생, 무시합니다.");
+        } catch (NullPointerException e) {
+            log.debug("[UDP ES] 버킷 처리 중 NullPointerException 발생, 무시합니다.");
+        } catch (RuntimeException e) {
+            log.debug("[UDP ES] 버킷 처리 중 런타임 오류 발생, 무시합니다.");
+        } catch (Exception e) {
+            log.debug("[UDP ES] 버킷 처리 중 예상치 못한 오류 발생, 무시합니다.");
+        }
+
+        return ExternalKnowledgeFilesRes.Item.builder()
+                .docPathAnony(docPath)
+                .docCount(docCount)
+                .topIndex(topIndex)
+                .topId(topId)
+                .topScore(topScore)
+                .topSource(topSourceObj)
+                .build();
+    }
 }
@@ -0,0 +1,546 @@
+package com.skax.aiplatform.common.batch;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.skax.aiplatform.common.exception.BusinessException;
+import com.skax.aiplatform.common.exception.ErrorCode;
+import com.skax.aiplatform.dto.admin.response.BatchJobRes;
+import com.skax.aiplatform.dto.admin.response.BatchJobRunRes;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 클러스터 배치 작업 조정기
+ *
+ * <p>
+ * 여러 Pod 에서 같은 {@code @Scheduled} 작업이 동시에 실행되지 않도록 Primary DataSource 의 잠금 행
+ * ({@code gpo_batch_lock_mas}) 과 임대 만료 시각으로 스케줄당 한 번만 실행되도록 보장합니다.
+ * 실행 결과는 소요 시간/처리 건수와 함께 {@code gpo_batch_run_mas} 에 이력으로 남깁니다.
+ * </p>
+ *
+ * <h3>잠금 방식:</h3>
+ * <ul>
+ * <li>획득: {@code lock_until} 이 지난 행만 조건부 UPDATE 하고, 행이 없으면 INSERT 합니다 (PK 충돌 시 다른 Pod 가 획득).</li>
+ * <li>갱신: 실행 중에는 임대 시간의 1/3 마다 {@code lock_until} 을 연장하므로, Pod 가 비정상 종료되면 임대 시간 후 다른 Pod 가 이어받습니다.</li>
+ * <li>해제: Pod 간 시계/스케줄 오차로 같은 주기를 다시 실행하지 않도록 획득 후
+ * {@code batch.coordinator.min-hold-seconds} (기본 30초) 까지는 잠금을 유지합니다.</li>
+ * <li>시각은 Pod 시계가 아닌 DB 시각을 기준으로 합니다.</li>
+ * </ul>
+ *
+ * <p>
+ * 작업은 {@link #register(String, Duration, BatchJob)} 로 등록한 뒤 스케줄러에서 {@link #runScheduled(String)} 로 실행하며,
+ * 관리자 API 에서는 {@link #trigger(String, String)} 로 수동 실행합니다.
+ * {@code batch.coordinator.enabled=false} 이면 잠금/이력 없이 각 Pod 에서 그대로 실행합니다 (단일 인스턴스 개발 환경용).
+ * </p>
+ *
+ * <p>
+ * 테이블 DDL 은 {@code db/ddl/postgresql|tibero/gpo_batch_coordinator.sql} 입니다 ({@code ddl-auto: none}).
+ * 테이블이 없거나 잠금 조회에 실패하면 여러 Pod 에서 중복 실행되지 않도록 작업을 건너뛰고 오류 로그를 남깁니다.
+ * 실행 이력은 {@code batch.coordinator.run-retention-days} (기본 30일) 가 지나면 매일 삭제합니다.
+ * </p>
+ *
+ * <p>
+ * 실행 시간은 {@code batch.job.duration{job,status}}, 다른 Pod 실행 중이어서 건너뛴 횟수는
+ * {@code batch.job.skipped{job}}, 잠금 오류로 건너뛴 횟수는 {@code batch.job.lock.error{job,reason}}
+ * 메트릭으로 확인할 수 있습니다.
+ * </p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class BatchJobCoordinator implements DisposableBean {
+
+    /**
+     * 배치 작업
+     */
+    @FunctionalInterface
+    public interface BatchJob {
+
+        /**
+         * 작업 실행
+         *
+         * @return 처리 건수 (집계하지 않는 작업은 음수)
+         * @throws Exception 작업 실패 시 (FAILED 로 기록)
+         */
+        long execute() throws Exception;
+    }
+
+    /**
+     * 실행 구분
+     */
+    public enum TriggerType {
+        SCHEDULED, MANUAL
+    }
+
+    /**
+     * 실행 상태
+     */
+    public enum RunStatus {
+        RUNNING, SUCCESS, FAILED
+    }
+
+    private record Registration(String jobName, Duration lease, BatchJob job) {
+    }
+
+    private record Lease(String owner, LocalDateTime lockedAt) {
+    }
+
+    private static final String TIBERO_DRIVER = "com.tmax.tibero.jdbc.TbDriver";
+    private static final String DB_NOW_SQL_POSTGRESQL = "SELECT CURRENT_TIMESTAMP";
+    private static final String DB_NOW_SQL_TIBERO = "SELECT SYSTIMESTAMP FROM DUAL";
+
+    private static final String ACQUIRE_SQL = "UPDATE gpo_batch_lock_mas "
+            + "SET lock_owner = ?, locked_at = ?, lock_until = ? "
+            + "WHERE job_nm = ? AND lock_until <= ?";
+    private static final String INSERT_LOCK_SQL = "INSERT INTO gpo_batch_lock_mas "
+            + "(job_nm, lock_owner, locked_at, lock_until) VALUES (?, ?, ?, ?)";
+    private static final String EXTEND_SQL = "UPDATE gpo_batch_lock_mas SET lock_until = ? "
+            + "WHERE job_nm = ? AND lock_owner = ?";
+    private static final String RELEASE_SQL = "UPDATE gpo_batch_lock_mas SET lock_until = ? "
+            + "WHERE job_nm = ? AND lock_owner = ?";
+    private static final String SELECT_LOCK_SQL = "SELECT lock_owner, locked_at, lock_until "
+            + "FROM gpo_batch_lock_mas WHERE job_nm = ?";
+
+    private static final String INSERT_RUN_SQL = "INSERT INTO gpo_batch_run_mas "
+            + "(run_id, job_nm, trigger_type, run_status, instance_id, rqst_user_id, started_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String FINISH_RUN_SQL = "UPDATE gpo_batch_run_mas "
+            + "SET run_status = ?, ended_at = ?, duration_ms = ?, row_cnt = ?, error_msg = ? WHERE run_id = ?";
+    private static final String SELECT_RUNS_SQL_POSTGRESQL = "SELECT run_id, job_nm, trigger_type, run_status, "
+            + "instance_id, rqst_user_id, started_at, ended_at, duration_ms, row_cnt, error_msg "
+            + "FROM gpo_batch_run_mas WHERE job_nm = ? ORDER BY started_at DESC LIMIT ?";
+    private static final String SELECT_RUNS_SQL_TIBERO = "SELECT * FROM (SELECT run_id, job_nm, trigger_type, "
+            + "run_status, instance_id, rqst_user_id, started_at, ended_at, duration_ms, row_cnt, error_msg "
+            + "FROM gpo_batch_run_mas WHERE job_nm = ? ORDER BY started_at DESC) WHERE ROWNUM <= ?";
+    private static final String PURGE_RUNS_SQL_POSTGRESQL = "DELETE FROM gpo_batch_run_mas WHERE run_id IN "
+            + "(SELECT run_id FROM gpo_batch_run_mas WHERE started_at < ? AND run_status <> 'RUNNING' LIMIT ?)";
+    private static final String PURGE_RUNS_SQL_TIBERO = "DELETE FROM gpo_batch_run_mas "
+            + "WHERE started_at < ? AND run_status <> 'RUNNING' AND ROWNUM <= ?";
+
+    private static final int PURGE_CHUNK_SIZE = 1000;
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private static final RowMapper<BatchJobRunRes> RUN_ROW_MAPPER = (rs, rowNum) -> BatchJobRunRes.builder()
+            .runId(rs.getString("run_id"))
+            .jobName(rs.getString("job_nm"))
+            .triggerType(rs.getString("trigger_type"))
+            .status(rs.getString("run_status"))
+            .instanceId(rs.getString("instance_id"))
+            .requestUserId(rs.getString("rqst_user_id"))
+            .startedAt(toLocalDateTime(rs, "started_at"))
+            .endedAt(toLocalDateTime(rs, "ended_at"))
+            .durationMs(rs.getObject("duration_ms") != null ? rs.getLong("duration_ms") : null)
+            .rowCount(rs.getObject("row_cnt") != null ? rs.getLong("row_cnt") : null)
+            .errorMessage(rs.getString("error_msg"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String dbNowSql;
+    private final String selectRunsSql;
+    private final String purgeRunsSql;
+    private final boolean enabled;
+    private final int runRetentionDays;
+    private final Duration minHold;
+    private final String instanceId;
+
+    private final Map<String, Registration> registrations = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService leaseKeeper;
+    private final ExecutorService manualExecutor;
+
+    public BatchJobCoordinator(
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            @Value("${spring.datasource.driver-class-name:}") String driverClassName,
+            @Value("${batch.coordinator.enabled:true}") boolean enabled,
+            @Value("${batch.coordinator.min-hold-seconds:30}") long minHoldSeconds,
+            @Value("${batch.coordinator.run-retention-days:30}") int runRetentionDays) {
+        // Vertica JdbcTemplate 과 구분하기 위해 Primary DataSource 로 전용 JdbcTemplate 생성
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.meterRegistry = meterRegistry;
+        boolean tibero = TIBERO_DRIVER.equals(driverClassName);
+        this.dbNowSql = tibero ? DB_NOW_SQL_TIBERO : DB_NOW_SQL_POSTGRESQL;
+        this.selectRunsSql = tibero ? SELECT_RUNS_SQL_TIBERO : SELECT_RUNS_SQL_POSTGRESQL;
+        this.purgeRunsSql = tibero ? PURGE_RUNS_SQL_TIBERO : PURGE_RUNS_SQL_POSTGRESQL;
+        this.enabled = enabled;
+        this.runRetentionDays = runRetentionDays;
+        this.minHold = Duration.ofSeconds(minHoldSeconds);
+        this.instanceId = resolveInstanceId();
+
+        this.leaseKeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "BatchLeaseKeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger manualThreadSeq = new AtomicInteger();
+        this.manualExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "BatchManual-" + manualThreadSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("[BATCH] 배치 작업 조정기 - enabled: {}, instanceId: {}", enabled, instanceId);
+    }
+
+    /**
+     * 배치 작업 등록
+     *
+     * @param jobName 작업명 (클러스터 전체에서 고유)
+     * @param lease   잠금 임대 시간 (실행 중에는 자동 연장되며, Pod 비정상 종료 시 이 시간 후 다른 Pod 가 실행 가능)
+     * @param job     작업
+     */
+    public void register(String jobName, Duration lease, BatchJob job) {
+        registrations.put(jobName, new Registration(jobName, lease, job));
+        log.info("[BATCH] 배치 작업 등록 - job: {}, lease: {}", jobName, lease);
+    }
+
+    /**
+     * 스케줄 실행
+     *
+     * <p>잠금을 획득한 경우에만 현재 스레드에서 작업을 실행합니다. 작업 예외는 이력에 기록하고 전파하지 않습니다.</p>
+     *
+     * @param jobName 작업명
+     * @return 이 Pod 에서 실행했으면 true, 다른 Pod 가 실행 중이거나 잠금 오류로 건너뛰었으면 false
+     */
+    public boolean runScheduled(String jobName) {
+        Registration registration = getRegistration(jobName);
+        if (!enabled) {
+            execute(registration, null, null, TriggerType.SCHEDULED, null);
+            return true;
+        }
+
+        String runId = UUID.randomUUID().toString();
+        Lease lease;
+        try {
+            lease = tryAcquire(registration, runId);
+        } catch (BadSqlGrammarException e) {
+            // 잠금 테이블 미생성 (DDL 미적용) - 조정 없이 실행하면 모든 Pod 에서 중복 실행되므로 건너뜀
+            lockError(jobName, "missing_table");
+            log.error("[BATCH] 배치 잠금 테이블이 없어 실행하지 않습니다. "
+                    + "db/ddl/*/gpo_batch_coordinator.sql 을 적용하세요 - job: {}, error: {}", jobName, e.getMessage());
+            return false;
+        } catch (DataAccessException e) {
+            lockError(jobName, "db_error");
+            log.error("[BATCH] 배치 잠금 획득 실패로 실행하지 않습니다 - job: {}, error: {}", jobName, e.getMessage(), e);
+            return false;
+        }
+        if (lease == null) {
+            skipped(jobName);
+            return false;
+        }
+        execute(registration, lease, runId, TriggerType.SCHEDULED, null);
+        return true;
+    }
+
+    /**
+     * 수동 실행
+     *
+     * <p>요청 스레드에서 잠금을 획득한 뒤 작업은 별도 스레드에서 실행하고, 실행 이력을 바로 반환합니다.</p>
+     *
+     * @param jobName 작업명
+     * @param userId  요청자
+     * @return 시작된 실행 이력
+     * @throws BusinessException 등록되지 않은 작업이거나 이미 실행 중인 경우
+     */
+    public BatchJobRunRes trigger(String jobName, String userId) {
+        Registration registration = getRegistration(jobName);
+        String runId = UUID.randomUUID().toString();
+        Lease lease = null;
+        if (enabled) {
+            lease = tryAcquire(registration, runId);
+            if (lease == null) {
+                skipped(jobName);
+                throw new BusinessException(ErrorCode.DUPLICATE_RESOURCE,
+                        "이미 실행 중이거나 최근에 실행된 배치 작업입니다: " + jobName);
+            }
+            insertRun(runId, jobName, TriggerType.MANUAL, userId, lease.lockedAt());
+        }
+
+        Lease acquired = lease;
+        manualExecutor.execute(() -> execute(registration, acquired, runId, TriggerType.MANUAL, userId));
+        log.info("[BATCH] 배치 작업 수동 실행 - job: {}, runId: {}, userId: {}", jobName, runId, userId);
+
+        return BatchJobRunRes.builder()
+                .runId(runId)
+                .jobName(jobName)
+                .triggerType(TriggerType.MANUAL.name())
+                .status(RunStatus.RUNNING.name())
+                .instanceId(instanceId)
+                .requestUserId(userId)
+                .startedAt(acquired != null ? acquired.lockedAt() : LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 등록된 배치 작업 상태 조회
+     *
+     * @return 작업별 잠금 상태와 마지막 실행 이력
+     */
+    public List<BatchJobRes> getJobs() {
+        LocalDateTime now = enabled ? dbNow() : LocalDateTime.now();
+        List<BatchJobRes> jobs = new ArrayList<>();
+        registrations.values().stream()
+                .sorted(Comparator.comparing(Registration::jobName))
+                .forEach(registration -> {
+                    BatchJobRes.BatchJobResBuilder builder = BatchJobRes.builder()
+                            .jobName(registration.jobName())
+                            .leaseSeconds(registration.lease().getSeconds());
+                    if (enabled) {
+                        jdbcTemplate.query(SELECT_LOCK_SQL, rs -> {
+                            LocalDateTime lockUntil = toLocalDateTime(rs, "lock_until");
+                            builder.lockOwner(rs.getString("lock_owner"))
+                                    .lockedAt(toLocalDateTime(rs, "locked_at"))
+                                    .lockUntil(lockUntil)
+                                    .locked(lockUntil != null && lockUntil.isAfter(now));
+                        }, registration.jobName());
+                        List<BatchJobRunRes> lastRun = getRuns(registration.jobName(), 1);
+                        builder.lastRun(lastRun.isEmpty() ? null : lastRun.get(0));
+                    }
+                    jobs.add(builder.build());
+                });
+        return jobs;
+    }
+
+    /**
+     * 배치 작업 실행 이력 조회
+     *
+     * @param jobName 작업명
+     * @param limit   최대 건수
+     * @return 최근 실행 이력 (최신순)
+     */
+    public List<BatchJobRunRes> getRuns(String jobName, int limit) {
+        getRegistration(jobName);
+        if (!enabled) {
+            return List.of();
+        }
+        return jdbcTemplate.query(selectRunsSql, RUN_ROW_MAPPER, jobName, Math.max(1, limit));
+    }
+
+    /**
+     * 보관 기간이 지난 실행 이력 삭제
+     *
+     * <p>여러 Pod 에서 동시에 실행되어도 같은 행을 지울 뿐이므로 잠금 없이 {@value #PURGE_CHUNK_SIZE} 건씩 삭제합니다.</p>
+     *
+     */
+    @Scheduled(cron = "${batch.coordinator.run-retention-cron:0 40 3 * * *}", zone = "Asia/Seoul")
+    public void purgeRunHistory() {
+        if (!enabled || runRetentionDays <= 0) {
+            return;
+        }
+        long deleted = 0;
+        try {
+            Timestamp cutoff = Timestamp.valueOf(dbNow().minusDays(runRetentionDays));
+            int chunk;
+            do {
+                chunk = jdbcTemplate.update(purgeRunsSql, cutoff, PURGE_CHUNK_SIZE);
+                deleted += chunk;
+            } while (chunk >= PURGE_CHUNK_SIZE);
+            log.info("[BATCH] 배치 실행 이력 정리 - 기준: {}일, 삭제: {}건", runRetentionDays, deleted);
+        } catch (DataAccessException e) {
+            log.warn("[BATCH] 배치 실행 이력 정리 실패 - 삭제: {}건, error: {}", deleted, e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        leaseKeeper.shutdownNow();
+        manualExecutor.shutdownNow();
+    }
+
+    private void execute(Registration registration, Lease lease, String runId, TriggerType triggerType,
+            String userId) {
+        String jobName = registration.jobName();
+        LocalDateTime startedAt = lease != null ? lease.lockedAt() : LocalDateTime.now();
+        if (lease != null && triggerType == TriggerType.SCHEDULED) {
+            insertRun(runId, jobName, triggerType, userId, startedAt);
+        }
+
+        ScheduledFuture<?> keeper = null;
+        if (lease != null) {
+            long periodMillis = Math.max(1000L, registration.lease().toMillis() / 3);
+            keeper = leaseKeeper.scheduleAtFixedRate(() -> extend(registration, lease),
+                    periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        }
+
+        long startNanos = System.nanoTime();
+        RunStatus status = RunStatus.SUCCESS;
+        Long rowCount = null;
+        String errorMessage = null;
+        try {
+            log.info("[BATCH] {} 시작 ({})", jobName, triggerType);
+            long result = registration.job().execute();
+            rowCount = result >= 0 ? result : null;
+            log.info("[BATCH] {} 완료 - 처리 건수: {}, 소요 시간: {} ms", jobName, rowCount,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        } catch (Exception e) {
+            status = RunStatus.FAILED;
+            errorMessage = e.getClass().getSimpleName() + ": " + e.getMessage();
+            log.error("[BATCH] {} 실행 실패: {}", jobName, e.getMessage(), e);
+        } finally {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            Timer.builder("batch.job.duration")
+                    .description("배치 작업 실행 시간")
+                    .tag("job", jobName)
+                    .tag("status", status.name())
+                    .register(meterRegistry)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+            if (keeper != null) {
+                keeper.cancel(false);
+            }
+            if (lease != null) {
+                finishRun(runId, status, startedAt, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowCount, errorMessage);
+                release(registration, lease);
+            }
+        }
+    }
+
+    private Lease tryAcquire(Registration registration, String runId) {
+        LocalDateTime now = dbNow();
+        String owner = instanceId + "/" + runId;
+        Timestamp lockedAt = Timestamp.valueOf(now);
+        Timestamp lockUntil = Timestamp.valueOf(now.plus(registration.lease()));
+
+        int updated = jdbcTemplate.update(ACQUIRE_SQL, owner, lockedAt, lockUntil, registration.jobName(), lockedAt);
+        if (updated == 0) {
+            try {
+                jdbcTemplate.update(INSERT_LOCK_SQL, registration.jobName(), owner, lockedAt, lockUntil);
+            } catch (DataIntegrityViolationException e) {
+                // 잠금 행이 이미 있고 아직 만료되지 않음 (다른 Pod 실행 중)
+                return null;
+            }
+        }
+        return new Lease(owner, now);
+    }
+
+    private void extend(Registration registration, Lease lease) {
+        try {
+            Timestamp lockUntil = Timestamp.valueOf(dbNow().plus(registration.lease()));
+            int updated = jdbcTemplate.update(EXTEND_SQL, lockUntil, registration.jobName(), lease.owner());
+            if (updated == 0) {
+                log.warn("[BATCH] 배치 잠금을 다른 Pod 가 가져갔습니다 - job: {}, owner: {}", registration.jobName(),
+                        lease.owner());
+            }
+        } catch (DataAccessException e) {
+            log.warn("[BATCH] 배치 잠금 연장 실패 - job: {}, error: {}", registration.jobName(), e.getMessage());
+        }
+    }
+
+    private void release(Registration registration, Lease lease) {
+        try {
+            LocalDateTime now = dbNow();
+            LocalDateTime holdUntil = lease.lockedAt().plus(minHold);
+            Timestamp lockUntil = Timestamp.valueOf(holdUntil.isAfter(now) ? holdUntil : now);
+            jdbcTemplate.update(RELEASE_SQL, lockUntil, registration.jobName(), lease.owner());
+        } catch (DataAccessException e) {
+            // 해제하지 못해도 임대 시간이 지나면 자동으로 만료됨
+            log.warn("[BATCH] 배치 잠금 해제 실패 - job: {}, error: {}", registration.jobName(), e.getMessage());
+        }
+    }
+
+    private void insertRun(String runId, String jobName, TriggerType triggerType, String userId,
+            LocalDateTime startedAt) {
+        try {
+            jdbcTemplate.update(INSERT_RUN_SQL, runId, jobName, triggerType.name(), RunStatus.RUNNING.name(),
+                    instanceId, userId, Timestamp.valueOf(startedAt));
+        } catch (DataAccessException e) {
+            log.warn("[BATCH] 배치 실행 이력 저장 실패 - job: {}, error: {}", jobName, e.getMessage());
+        }
+    }
+
+    private void finishRun(String runId, RunStatus status, LocalDateTime startedAt, long durationMs, Long rowCount,
+            String errorMessage) {
+        try {
+            String error = errorMessage != null && errorMessage.length() > MAX_ERROR_LENGTH
+                    ? errorMessage.substring(0, MAX_ERROR_LENGTH)
+                    : errorMessage;
+            jdbcTemplate.update(FINISH_RUN_SQL, status.name(),
+                    Timestamp.valueOf(startedAt.plus(Duration.ofMillis(durationMs))), durationMs, rowCount, error,
+                    runId);
+        } catch (DataAccessException e) {
+            log.warn("[BATCH] 배치 실행 이력 갱신 실패 - runId: {}, error: {}", runId, e.getMessage());
+        }
+    }
+
+    private void skipped(String jobName) {
+        Counter.builder("batch.job.skipped")
+                .description("다른 Pod 실행 중이어서 건너뛴 배치 작업 수")
+                .tag("job", jobName)
+                .register(meterRegistry)
+                .increment();
+        log.info("[BATCH] {} 다른 Pod 에서 실행 중이거나 이미 실행되어 건너뜁니다.", jobName);
+    }
+
+    private void lockError(String jobName, String reason) {
+        Counter.builder("batch.job.lock.error")
+                .description("잠금 오류로 건너뛴 배치 작업 수")
+                .tag("job", jobName)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Registration getRegistration(String jobName) {
+        Registration registration = registrations.get(jobName);
+        if (registration == null) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "등록되지 않은 배치 작업입니다: " + jobName);
+        }
+        return registration;
+    }
+
+    private LocalDateTime dbNow() {
+        Timestamp now = jdbcTemplate.queryForObject(dbNowSql, Timestamp.class);
+        return now != null ? now.toLocalDateTime() : LocalDateTime.now();
+    }
+
+    private static LocalDateTime toLocalDateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static String resolveInstanceId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
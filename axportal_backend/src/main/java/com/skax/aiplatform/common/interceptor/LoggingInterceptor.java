@@ -23,6 +23,12 @@ import lombok.extern.slf4j.Slf4j;
  * 메서드 실행 시간, 파라미터, 결과를 구조화된 형태로 기록합니다.
  * </p>
  * 
+ * <p>
+ * 서비스/레포지토리 레이어는 {@link MethodTraceSampler} 가 상세 추적 대상으로 판단한 요청만 로그를 남기며,
+ * 나머지 호출은 레이어별 실행 시간 메트릭만 기록합니다.
+ * 파라미터/결과 포맷팅은 해당 로그가 실제로 출력될 때만 수행합니다.
+ * </p>
+ * 
  * @author ByounggwanLee
  * @since 2025-08-01
  * @version 1.0.0
@@ -36,6 +42,7 @@ public class LoggingInterceptor {
     private final UserActivityLogger userActivityLogger;
     private final HttpInfoExtractor httpInfoExtractor;
     private final LogValueFormatter logValueFormatter;
+    private final MethodTraceSampler methodTraceSampler;
 
     // 사용자 활동 로그 중복 방지를 위한 ThreadLocal
     private static final ThreadLocal<Boolean> isFeignClientCallExpected = new ThreadLocal<>();
@@ -53,6 +60,7 @@ public class LoggingInterceptor {
         if (isUserUsageMgmtController(joinPoint)) {
             return joinPoint.proceed();
         }
+        methodTraceSampler.markForcedFromRequest();
         return logMethodExecution(joinPoint, Constants.Logging.CATEGORY_CONTROLLER);
     }
 
@@ -65,6 +73,9 @@ public class LoggingInterceptor {
      */
     @Around("execution(* com.skax.aiplatform.service..*(..))")
     public Object logService(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!methodTraceSampler.isDeepTraced()) {
+            return proceedWithTiming(joinPoint, Constants.Logging.CATEGORY_SERVICE);
+        }
         return logMethodExecution(joinPoint, Constants.Logging.CATEGORY_SERVICE);
     }
 
@@ -77,6 +88,9 @@ public class LoggingInterceptor {
      */
     @Around("execution(* com.skax.aiplatform.repository..*(..))")
     public Object logRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!methodTraceSampler.isDeepTraced()) {
+            return proceedWithTiming(joinPoint, Constants.Logging.CATEGORY_REPOSITORY);
+        }
         return logMethodExecution(joinPoint, Constants.Logging.CATEGORY_REPOSITORY);
     }
 
@@ -92,6 +106,26 @@ public class LoggingInterceptor {
         return logApiCall(joinPoint);
     }
 
+    /**
+     * 상세 추적 대상이 아닌 호출 실행 (로그 없이 실행 시간 메트릭만 기록)
+     * 
+     * @param joinPoint 조인 포인트
+     * @param layer     레이어 타입 (SERVICE, REPOSITORY)
+     * @return 메서드 실행 결과
+     * @throws Throwable 메서드 실행 중 발생한 예외
+     */
+    private Object proceedWithTiming(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        long startNanos = System.nanoTime();
+        boolean success = false;
+        try {
+            Object result = joinPoint.proceed();
+            success = true;
+            return result;
+        } finally {
+            methodTraceSampler.record(layer, System.nanoTime() - startNanos, success);
+        }
+    }
+
     /**
      * 메서드 실행 로깅 공통 로직
      * 
@@ -112,16 +146,20 @@ public class LoggingInterceptor {
         TraceUtils.setParentSpanId(parentSpanId);
 
         long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        boolean success = false;
         String resultStatus = "SUCCESS";
         String errorMessage = null;
 
         // 메서드 시작 로그
-        log.info("{}|{}|{}|{}|args={}",
-                layer,
-                Constants.Logging.METHOD_START,
-                className,
-                methodName,
-                logValueFormatter.formatArgs(args));
+        if (log.isInfoEnabled()) {
+            log.info("{}|{}|{}|{}|args={}",
+                    layer,
+                    Constants.Logging.METHOD_START,
+                    className,
+                    methodName,
+                    logValueFormatter.formatArgs(args));
+        }
 
         try {
             // 메서드 실행
@@ -129,14 +167,18 @@ public class LoggingInterceptor {
 
             long duration = System.currentTimeMillis() - startTime;
 
+            success = true;
+
             // 메서드 완료 로그
-            log.info("{}|{}|{}|{}|duration={}ms|result={}",
-                    layer,
-                    Constants.Logging.METHOD_END,
-                    className,
-                    methodName,
-                    duration,
-                    logValueFormatter.formatResult(result));
+            if (log.isInfoEnabled()) {
+                log.info("{}|{}|{}|{}|duration={}ms|result={}",
+                        layer,
+                        Constants.Logging.METHOD_END,
+                        className,
+                        methodName,
+                        duration,
+                        logValueFormatter.formatResult(result));
+            }
 
             // Controller 레이어인 경우 사용자 활동 로그 저장 (성공)
             if (Constants.Logging.CATEGORY_CONTROLLER.equals(layer)
@@ -239,6 +281,8 @@ public class LoggingInterceptor {
             throw error;
 
         } finally {
+            methodTraceSampler.record(layer, System.nanoTime() - startNanos, success);
+
             // 스팬 ID 복원
             TraceUtils.setSpanId(parentSpanId);
             TraceUtils.removeParentSpanId();
@@ -288,9 +332,14 @@ public class LoggingInterceptor {
         Object[] args = joinPoint.getArgs();
 
         // API 호출 시작 로그
-        TraceUtils.logApiCallStart(className, methodName, logValueFormatter.formatArgs(args));
+        boolean apiCallLoggingEnabled = TraceUtils.isApiCallLoggingEnabled();
+        if (apiCallLoggingEnabled) {
+            TraceUtils.logApiCallStart(className, methodName, logValueFormatter.formatArgs(args));
+        }
 
         long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        boolean success = false;
         String resultStatus = "SUCCESS";
         String errorMessage = null;
 
@@ -299,9 +348,12 @@ public class LoggingInterceptor {
             Object result = joinPoint.proceed();
 
             long duration = System.currentTimeMillis() - startTime;
+            success = true;
 
             // API 호출 완료 로그
-            TraceUtils.logApiCallEnd(className, methodName, duration, logValueFormatter.formatResult(result));
+            if (apiCallLoggingEnabled) {
+                TraceUtils.logApiCallEnd(className, methodName, duration, logValueFormatter.formatResult(result));
+            }
 
             // 사용자 활동 로그 저장 (성공)
             try {
@@ -405,6 +457,8 @@ public class LoggingInterceptor {
 
             // Error는 다시 던져서 상위로 전파
             throw error;
+        } finally {
+            methodTraceSampler.record(Constants.Logging.CATEGORY_CLIENT, System.nanoTime() - startNanos, success);
         }
     }
 
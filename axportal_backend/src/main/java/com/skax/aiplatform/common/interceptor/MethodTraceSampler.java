@@ -0,0 +1,161 @@
+package com.skax.aiplatform.common.interceptor;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.skax.aiplatform.common.constant.Constants;
+import com.skax.aiplatform.common.util.TraceUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메서드 추적 샘플러
+ *
+ * <p>
+ * {@link LoggingInterceptor} 의 메서드 단위 추적 범위를 결정하고 레이어별 실행 시간을 기록합니다.
+ * </p>
+ *
+ * <h3>추적 모드 ({@code logging.method-trace.mode}):</h3>
+ * <ul>
+ * <li>SAMPLED (기본): 컨트롤러/클라이언트 레이어는 항상 추적하고, 서비스/레포지토리 레이어는
+ * 샘플링된 trace 에 대해서만 START/END 로그를 남깁니다.</li>
+ * <li>FULL: 모든 레이어를 항상 추적합니다 (기존 동작).</li>
+ * </ul>
+ *
+ * <p>
+ * 샘플링은 traceId 해시 기준({@code logging.method-trace.sample-rate}, 기본 1%)으로 결정하므로
+ * 같은 요청의 모든 호출이 함께 추적되거나 함께 제외됩니다. 요청 헤더
+ * ({@code logging.method-trace.force-header}, 기본 X-Trace-Sampled: true)로 특정 요청을 강제로 추적할 수 있습니다.
+ * 추적 여부와 관계없이 레이어별 실행 시간은 {@code method.trace.duration} 히스토그램으로 기록됩니다.
+ * </p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class MethodTraceSampler {
+
+    /**
+     * 추적 모드
+     */
+    public enum Mode {
+        FULL, SAMPLED;
+
+        static Mode from(String value) {
+            if (value == null || value.isBlank()) {
+                return SAMPLED;
+            }
+            try {
+                return Mode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                log.warn("알 수 없는 메서드 추적 모드: {} - SAMPLED 로 동작합니다.", value);
+                return SAMPLED;
+            }
+        }
+    }
+
+    /**
+     * 강제 추적 여부 MDC 키
+     */
+    private static final String SAMPLED_MDC_KEY = "traceSampled";
+
+    private static final int SAMPLE_SCALE = 10_000;
+
+    private static final String[] LAYERS = {
+            Constants.Logging.CATEGORY_CONTROLLER,
+            Constants.Logging.CATEGORY_SERVICE,
+            Constants.Logging.CATEGORY_REPOSITORY,
+            Constants.Logging.CATEGORY_CLIENT
+    };
+
+    private final Mode mode;
+    private final int sampleThreshold;
+    private final String forceHeader;
+    private final Map<String, Timer> successTimers = new HashMap<>();
+    private final Map<String, Timer> errorTimers = new HashMap<>();
+
+    public MethodTraceSampler(
+            MeterRegistry meterRegistry,
+            @Value("${logging.method-trace.mode:SAMPLED}") String mode,
+            @Value("${logging.method-trace.sample-rate:0.01}") double sampleRate,
+            @Value("${logging.method-trace.force-header:X-Trace-Sampled}") String forceHeader) {
+        this.mode = Mode.from(mode);
+        this.sampleThreshold = (int) Math.round(Math.min(1.0, Math.max(0.0, sampleRate)) * SAMPLE_SCALE);
+        this.forceHeader = forceHeader;
+
+        for (String layer : LAYERS) {
+            successTimers.put(layer, timer(meterRegistry, layer, "success"));
+            errorTimers.put(layer, timer(meterRegistry, layer, "error"));
+        }
+
+        log.info("메서드 추적 모드: {}, sampleRate: {}", this.mode, sampleRate);
+    }
+
+    /**
+     * 서비스/레포지토리 레이어 상세 추적 여부
+     *
+     * @return 현재 요청(trace)을 상세 추적하면 true
+     */
+    public boolean isDeepTraced() {
+        if (mode == Mode.FULL || MDC.get(SAMPLED_MDC_KEY) != null) {
+            return true;
+        }
+        if (sampleThreshold <= 0) {
+            return false;
+        }
+        String traceId = TraceUtils.getTraceId();
+        return traceId != null && Math.floorMod(traceId.hashCode(), SAMPLE_SCALE) < sampleThreshold;
+    }
+
+    /**
+     * 강제 추적 헤더가 있는 요청이면 현재 요청을 상세 추적 대상으로 표시 (컨트롤러 진입 시 호출)
+     */
+    public void markForcedFromRequest() {
+        if (mode == Mode.FULL || forceHeader == null || forceHeader.isBlank()) {
+            return;
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            String value = servletAttributes.getRequest().getHeader(forceHeader);
+            if ("true".equalsIgnoreCase(value) || "1".equals(value)) {
+                MDC.put(SAMPLED_MDC_KEY, "true");
+            }
+        }
+    }
+
+    /**
+     * 레이어별 실행 시간 기록
+     *
+     * @param layer   레이어 (CONTROLLER, SERVICE, REPOSITORY, CLIENT)
+     * @param nanos   실행 시간 (나노초)
+     * @param success 정상 완료 여부
+     */
+    public void record(String layer, long nanos, boolean success) {
+        Timer timer = (success ? successTimers : errorTimers).get(layer);
+        if (timer != null) {
+            timer.record(Duration.ofNanos(nanos));
+        }
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String layer, String outcome) {
+        return Timer.builder("method.trace.duration")
+                .description("레이어별 메서드 실행 시간")
+                .tag("layer", layer)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
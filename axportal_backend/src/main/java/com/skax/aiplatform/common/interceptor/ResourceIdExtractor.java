@@ -0,0 +1,164 @@
+package com.skax.aiplatform.common.interceptor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 클래스별 리소스 ID 접근자 레지스트리
+ *
+ * <p>
+ * 사용자 활동 로그의 대상 자산(targetAsset) ID 추출 시, 클래스마다 한 번만 리플렉션으로
+ * ID 접근자를 찾아 {@link MethodHandle} 로 변환해 두고 이후에는 캐시된 핸들만 호출합니다.
+ * 접근자가 없는 클래스도 빈 추출기로 캐시하므로 매 호출마다 메서드를 다시 탐색하지 않습니다.
+ * </p>
+ *
+ * <h3>탐색 순서 (기존 규칙 유지):</h3>
+ * <ol>
+ * <li>getId()</li>
+ * <li>getSeq()</li>
+ * <li>get*Id() / get*Seq() 형태의 public getter</li>
+ * <li>id, seq, *id, *seq 이름의 선언 필드</li>
+ * <li>toString() 결과의 id= 패턴 (마지막 수단, 캐시 대상 아님)</li>
+ * </ol>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+final class ResourceIdExtractor {
+
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<MethodHandle[]> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected MethodHandle[] computeValue(Class<?> type) {
+            return resolveAccessors(type);
+        }
+    };
+
+    private ResourceIdExtractor() {
+    }
+
+    /**
+     * 객체에서 ID 추출
+     *
+     * @param obj 객체
+     * @return ID 문자열 (찾지 못하면 null)
+     */
+    static String extract(Object obj) {
+        if (obj == null) {
+            return null;
+        }
+
+        for (MethodHandle accessor : ACCESSORS.get(obj.getClass())) {
+            try {
+                Object value = (Object) accessor.invokeExact(obj);
+                if (value != null) {
+                    return String.valueOf(value);
+                }
+            } catch (RuntimeException e) {
+                log.debug("ID 접근자 호출 실패: type={}, error={}", obj.getClass().getName(), e.getMessage());
+            } catch (Throwable e) {
+                if (e instanceof Error error) {
+                    throw error;
+                }
+                log.debug("ID 접근자 호출 실패: type={}, error={}", obj.getClass().getName(), e.getMessage());
+            }
+        }
+
+        return extractFromToString(obj);
+    }
+
+    /**
+     * 클래스의 ID 접근자 목록 생성 (클래스당 1회)
+     */
+    private static MethodHandle[] resolveAccessors(Class<?> type) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        List<MethodHandle> accessors = new ArrayList<>();
+
+        addGetter(lookup, type, "getId", accessors);
+        addGetter(lookup, type, "getSeq", accessors);
+
+        for (Method method : type.getMethods()) {
+            String methodName = method.getName();
+            if (methodName.startsWith("get")
+                    && (methodName.endsWith("Id") || methodName.endsWith("Seq"))
+                    && !methodName.equals("getId") && !methodName.equals("getSeq")
+                    && method.getParameterCount() == 0
+                    && method.getReturnType() != void.class) {
+                addHandle(lookup, method, accessors);
+            }
+        }
+
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            String fieldName = field.getName().toLowerCase();
+            if (fieldName.endsWith("id") || fieldName.endsWith("seq")) {
+                try {
+                    field.setAccessible(true);
+                    accessors.add(lookup.unreflectGetter(field).asType(ACCESSOR_TYPE));
+                } catch (IllegalAccessException | RuntimeException e) {
+                    log.debug("{} 필드 접근 불가: {}", field.getName(), e.getMessage());
+                }
+            }
+        }
+
+        log.debug("ID 접근자 등록: type={}, accessors={}", type.getName(), accessors.size());
+        return accessors.toArray(new MethodHandle[0]);
+    }
+
+    private static void addGetter(MethodHandles.Lookup lookup, Class<?> type, String name,
+            List<MethodHandle> accessors) {
+        try {
+            Method method = type.getMethod(name);
+            if (method.getReturnType() != void.class) {
+                addHandle(lookup, method, accessors);
+            }
+        } catch (NoSuchMethodException e) {
+            // 해당 getter 없음
+        }
+    }
+
+    private static void addHandle(MethodHandles.Lookup lookup, Method method, List<MethodHandle> accessors) {
+        try {
+            accessors.add(lookup.unreflect(method).asType(ACCESSOR_TYPE));
+        } catch (IllegalAccessException e) {
+            log.debug("{}() 메서드 접근 불가: {}", method.getName(), e.getMessage());
+        }
+    }
+
+    /**
+     * toString()에서 id= 패턴으로 ID 추출
+     */
+    private static String extractFromToString(Object obj) {
+        String objStr = obj.toString();
+        if (objStr == null) {
+            return null;
+        }
+        int start = objStr.indexOf("id=");
+        if (start < 0) {
+            return null;
+        }
+        start += 3;
+        int end = start;
+        while (end < objStr.length()) {
+            char c = objStr.charAt(end);
+            if (c == ',' || c == ')' || c == ' ' || objStr.startsWith("id=", end)) {
+                break;
+            }
+            end++;
+        }
+        return objStr.substring(start, end).trim();
+    }
+}
@@ -3,24 +3,21 @@ package com.skax.aiplatform.common.interceptor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.skax.aiplatform.common.response.AxResponse;
 import com.skax.aiplatform.common.util.TokenInfo;
-import com.skax.aiplatform.entity.auth.GpoPortalResourceMas;
-import com.skax.aiplatform.entity.mapping.ProjectUserRole;
-import com.skax.aiplatform.entity.mapping.ProjectUserRoleStatus;
-import com.skax.aiplatform.repository.admin.GpoAuthorityMasRepository;
-import com.skax.aiplatform.repository.admin.GpoPortalResourceMasRepository;
 import com.skax.aiplatform.repository.admin.RoleRepository;
-import com.skax.aiplatform.repository.home.GpoPrjuserroleRepository;
 import com.skax.aiplatform.repository.home.GpoProjectsRepository;
+import com.skax.aiplatform.service.common.PortalAuthorizationIndex;
+import com.skax.aiplatform.service.common.ProjectMembershipCache;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.servlet.HandlerInterceptor;
 
-import java.util.List;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * 서비스 컨트롤러 요청 인터셉터
@@ -39,13 +36,11 @@ public class ServiceControllerInterceptor implements HandlerInterceptor {
 
     private final ObjectMapper objectMapper;
     private final TokenInfo tokenInfo;
-    private final GpoPrjuserroleRepository gpoPrjuserroleRepository;
     private final GpoProjectsRepository gpoProjectsRepository;
     private final RoleRepository roleRepository;
-    private final GpoAuthorityMasRepository gpoAuthorityMasRepository;
-    private final GpoPortalResourceMasRepository gpoPortalResourceMasRepository;
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
-    private final List<String> excludedPaths = List.of(
+    private final ProjectMembershipCache projectMembershipCache;
+    private final PortalAuthorizationIndex portalAuthorizationIndex;
+    private final Set<String> excludedPaths = Set.of(
             "/modelGarden/file-import-complete",
             "/modelGarden/vaccine-complete",
             "/modelGarden/vulnerability-complete",
@@ -77,62 +72,68 @@ public class ServiceControllerInterceptor implements HandlerInterceptor {
         }
 
         // 예외처리
-        for (String path : excludedPaths) {
-            if (path.equals(servletPath)) {
-                return true;
-            }
+        if (excludedPaths.contains(servletPath)) {
+            return true;
         }
 
         if (memberId == null) {
             return false;
         }
 
-        // 사용자 프로젝트 정보 추출
-        ProjectUserRole projectUserRole = gpoPrjuserroleRepository.findByMemberIdAndStatusNm(memberId, ProjectUserRoleStatus.ACTIVE);
-        long prjSeq = projectUserRole.getProject().getPrjSeq();
-        long roleSeq = projectUserRole.getRole().getRoleSeq();
-
-        // 권한 URL 목록 조회
-        List<String> authKeys = gpoAuthorityMasRepository.findAuthKeysByRoleSeq(roleSeq);
-        authKeys.add("A000001"); // 기본권한 추가
-
-        List<GpoPortalResourceMas> portalResourceList = gpoPortalResourceMasRepository.findAll().stream()
-                .filter(resource -> authKeys.contains(resource.getAuthorityId()))
-                .toList();
+        // 사용자 프로젝트 정보 추출 (사용자별 캐시)
+        Optional<ProjectMembershipCache.ActiveRole> activeRole = projectMembershipCache.getActiveRole(memberId);
+        if (activeRole.isEmpty()) {
+            log.warn("권한 오류: 활성 프로젝트 역할 없음: [{}] {} (memberId: {})", method, servletPath, memberId);
+            writeForbidden(response, "[%s] %s".formatted(method, servletPath));
+            return false;
+        }
+        long prjSeq = activeRole.get().prjSeq();
+        long roleSeq = activeRole.get().roleSeq();
 
-        for (GpoPortalResourceMas portalResource : portalResourceList) {
-            if (method.equals(portalResource.getScope()) && pathMatcher.match(portalResource.getResourceUrl(), servletPath)) {
-                log.info("권한 허용: {} -> {}", servletPath, portalResource.getResourceUrl());
-                return true;
-            }
+        // 역할별 컴파일된 권한 인덱스로 판단 (기본권한 포함)
+        String matchedResource = portalAuthorizationIndex.findMatchingResource(roleSeq, method, servletPath);
+        if (matchedResource != null) {
+            log.debug("권한 허용: {} -> {}", servletPath, matchedResource);
+            return true;
         }
 
         // 조건에 맞지 않는 경우: 권한 오류 응답
         log.warn("권한 오류: 조건에 맞지 않는 요청: [{}] {}", method, servletPath);
 
+        String prjNm = gpoProjectsRepository.getByPrjSeq(prjSeq).getPrjNm();
+        String roleNm = roleRepository.findByRoleSeq(roleSeq).get().getRoleNm();
+
+        writeForbidden(response, """
+                %s (%s)
+                 : [%s] %s""".formatted(prjNm, roleNm, method, servletPath));
+
+        return false;  // 요청 중단
+    }
+
+    /**
+     * 권한 오류(403) 응답을 작성합니다.
+     *
+     * @param response HTTP 응답
+     * @param detail   오류 상세
+     * @throws IOException 응답 작성 중 발생한 예외
+     */
+    private void writeForbidden(HttpServletResponse response, String detail) throws IOException {
         // 응답 설정
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         response.setCharacterEncoding("UTF-8");
         response.setStatus(HttpServletResponse.SC_FORBIDDEN);
 
-        String prjNm = gpoProjectsRepository.getByPrjSeq(prjSeq).getPrjNm();
-        String roleNm = roleRepository.findByRoleSeq(roleSeq).get().getRoleNm();
-
         // 에러 응답 생성
         AxResponse<Void> errorResponse = AxResponse.failure(
                 """
                         접근 권한이 없습니다.
                         포탈 관리자에게 문의해주세요.""",
                 "ACCESS_DENIED",
-                """
-                        %s (%s)
-                         : [%s] %s""".formatted(prjNm, roleNm, method, servletPath)
+                detail
         );
 
         // JSON 응답 작성
         response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
-
-        return false;  // 요청 중단
     }
 
     /**
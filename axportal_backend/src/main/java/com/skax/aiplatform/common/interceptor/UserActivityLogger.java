@@ -1,7 +1,5 @@
 package com.skax.aiplatform.common.interceptor;
 
-import java.util.List;
-
 import org.springframework.dao.DataAccessException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -12,10 +10,11 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.skax.aiplatform.common.response.AxResponse;
+import com.skax.aiplatform.common.response.AxResponseEntity;
 import com.skax.aiplatform.dto.admin.request.UserUsageMgmtReq;
-import com.skax.aiplatform.dto.admin.response.UserUsageMgmtRes;
-import com.skax.aiplatform.repository.admin.ProjectUserRoleRepository;
 import com.skax.aiplatform.service.admin.UserUsageMgmtService;
+import com.skax.aiplatform.service.common.ProjectMembershipCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -44,7 +43,7 @@ public class UserActivityLogger {
     private final UserUsageMgmtService userUsageMgmtService;
     private final HttpInfoExtractor httpInfoExtractor;
     private final MenuPathResolver menuPathResolver;
-    private final ProjectUserRoleRepository projectUserRoleRepository;
+    private final ProjectMembershipCache projectMembershipCache;
 
     /**
      * Feign Client 사용자 활동 로그 저장 (중복 방지)
@@ -152,13 +151,11 @@ public class UserActivityLogger {
                     .fourthResponseDetail(responseDetails[3])
                     .build();
 
-            // 비동기로 사용자 사용량 관리 저장 (트랜잭션 분리)
-            UserUsageMgmtRes savedLog = userUsageMgmtService.createUserUsageMgmt(logRequest);
+            // /api/auth/users/me 호출 시 저장 후 로그인 로그에 사용자 정보 업데이트
+            String loginLogUserInfo = isUserInfoCall(className, methodName) ? extractUserInfoFromResult(result) : null;
 
-            // /api/auth/users/me 호출 시 로그인 로그에 사용자 정보 업데이트 (저장 성공한 경우만)
-            if (isUserInfoCall(className, methodName) && savedLog != null && savedLog.getId() != null) {
-                updateLoginLogWithUserInfo(Long.valueOf(savedLog.getId()), userName, result);
-            }
+            // 배치 저장 큐에 적재 (요청 스레드에서 INSERT 하지 않음)
+            userUsageMgmtService.submitUserUsageMgmt(logRequest, loginLogUserInfo);
 
             log.debug("사용자 사용량 관리 저장 완료: user={}, client={}, method={}, result={}",
                     userName, className, methodName, result);
@@ -249,8 +246,8 @@ public class UserActivityLogger {
                     .fourthResponseDetail(responseDetails[3])
                     .build();
 
-            // 비동기로 사용자 사용량 관리 저장 (트랜잭션 분리)
-            userUsageMgmtService.createUserUsageMgmtAsync(logRequest);
+            // 배치 저장 큐에 적재 (요청 스레드에서 INSERT 하지 않음)
+            userUsageMgmtService.submitUserUsageMgmt(logRequest, null);
 
             log.debug("Controller 사용자 사용량 관리 저장 완료: user={}, controller={}, method={}, result={}",
                     userName, className, methodName, result);
@@ -336,22 +333,15 @@ public class UserActivityLogger {
      */
     private String[] getProjectAndRoleName(String userName) {
         try {
-            // 사용자의 활성 프로젝트명과 역할명 조회 (여러 개일 경우 첫 번째만 사용)
-            List<Object[]> results = projectUserRoleRepository.findActiveProjectAndRoleByMemberId(userName);
-            if (results != null && !results.isEmpty()) {
-                Object[] result = results.get(0); // 첫 번째 결과만 사용
-                return new String[] {
-                        (String) result[0], // 프로젝트명
-                        (String) result[1] // 역할명
-                };
-            }
-            return new String[] { "Ax_Portal", null }; // 활성 프로젝트 없으면 기본값
+            // 사용자별 캐시 조회 (구성원/역할 변경 시 명시적으로 무효화됨)
+            ProjectMembershipCache.Membership membership = projectMembershipCache.get(userName);
+            return new String[] { membership.projectName(), membership.roleName() };
         } catch (DataAccessException e) {
             log.debug("프로젝트/역할 조회 실패 (데이터베이스 오류), 기본값 사용: user={}, error={}", userName, e.getMessage());
-            return new String[] { "Ax_Portal", null }; // 조회 실패 시 기본값
+            return new String[] { ProjectMembershipCache.DEFAULT_PROJECT_NAME, null }; // 조회 실패 시 기본값
         } catch (RuntimeException e) {
             log.debug("프로젝트/역할 조회 실패 (런타임 오류), 기본값 사용: user={}, error={}", userName, e.getMessage());
-            return new String[] { "Ax_Portal", null }; // 조회 실패 시 기본값
+            return new String[] { ProjectMembershipCache.DEFAULT_PROJECT_NAME, null }; // 조회 실패 시 기본값
         }
     }
 
@@ -378,25 +368,16 @@ public class UserActivityLogger {
      */
     private String buildTargetAsset(String className, String methodName, String action,
             Object[] args, Object responseObject) {
-        log.info("=== buildTargetAsset 호출 시작 ===");
-        log.info("className: {}", className);
-        log.info("methodName: {}", methodName);
-        log.info("action: {}", action);
-        log.info("args 개수: {}", args != null ? args.length : 0);
-        log.info("responseObject 타입: {}", responseObject != null ? responseObject.getClass().getName() : "null");
-
         // 로그인/로그아웃은 빈 값
         if ((className.contains("Auth") && (methodName.equalsIgnoreCase("login") || methodName.equalsIgnoreCase(
                 "logout"))) ||
                 (className.equals("SktaiAuthService") && (methodName.equals("login") || methodName.equals("logout"))) ||
                 methodName.equalsIgnoreCase("login") || methodName.equalsIgnoreCase("logout")) {
-            log.info("로그인/로그아웃 메서드 -> 빈 값 반환");
             return "";
         }
 
         // GET이나 기타 액션은 빈 값
         if (action == null || (!action.equals("POST") && !action.equals("PUT") && !action.equals("DELETE"))) {
-            log.info("GET 또는 기타 액션 -> 빈 값 반환");
             return "";
         }
 
@@ -405,62 +386,31 @@ public class UserActivityLogger {
         try {
             // POST: 응답 객체에서 ID 추출
             if ("POST".equals(action)) {
-                log.info("POST 액션: 응답 객체에서 ID 추출 시도");
                 if (responseObject != null && !(responseObject instanceof Throwable)) {
                     resourceId = extractIdFromResponse(responseObject);
-                    log.info("POST ID 추출 결과: {}", resourceId);
                     if (resourceId != null && !resourceId.isEmpty()) {
                         // POST: 응답 ID + 상세조회 API 경로 생성
-                        String detailApiPath = buildDetailApiPath(className, methodName, resourceId);
-                        log.info("POST targetAsset 생성 성공: {}", detailApiPath);
-                        return detailApiPath;
-                    } else {
-                        log.warn("POST ID 추출 실패: responseObject가 있지만 ID를 찾을 수 없음");
-                    }
-                } else {
-                    log.warn("POST responseObject가 null");
-                }
-            }
-
-            // PUT: 파라미터에서 ID 추출
-            if ("PUT".equals(action)) {
-                log.info("PUT 액션: 파라미터에서 ID 추출 시도");
-                if (args != null && args.length > 0) {
-                    log.info("PUT args[0] 타입: {}, 값: {}", args[0] != null ? args[0].getClass().getName() : "null",
-                            args[0]);
-                    resourceId = extractIdFromArgs(args);
-                    log.info("PUT ID 추출 결과: {}", resourceId);
-                    if (resourceId != null && !resourceId.isEmpty()) {
-                        // PUT: 파라미터 ID + 상세조회 API 경로 생성
-                        String detailApiPath = buildDetailApiPath(className, methodName, resourceId);
-                        log.info("PUT targetAsset 생성 성공: {}", detailApiPath);
-                        return detailApiPath;
+                        return buildDetailApiPath(className, methodName, resourceId);
                     } else {
-                        log.warn("PUT ID 추출 실패: args가 있지만 ID를 찾을 수 없음");
+                        log.debug("POST ID 추출 실패: responseObject가 있지만 ID를 찾을 수 없음");
                     }
                 } else {
-                    log.warn("PUT args가 null이거나 비어있음");
+                    log.debug("POST responseObject가 null");
                 }
             }
 
-            // DELETE: 파라미터에서 ID 추출
-            if ("DELETE".equals(action)) {
-                log.info("DELETE 액션: 파라미터에서 ID 추출 시도");
+            // PUT/DELETE: 파라미터에서 ID 추출
+            if ("PUT".equals(action) || "DELETE".equals(action)) {
                 if (args != null && args.length > 0) {
-                    log.info("DELETE args[0] 타입: {}, 값: {}", args[0] != null ? args[0].getClass().getName() : "null",
-                            args[0]);
                     resourceId = extractIdFromArgs(args);
-                    log.info("DELETE ID 추출 결과: {}", resourceId);
                     if (resourceId != null && !resourceId.isEmpty()) {
-                        // DELETE: 파라미터 ID + 상세조회 API 경로 생성
-                        String detailApiPath = buildDetailApiPath(className, methodName, resourceId);
-                        log.info("DELETE targetAsset 생성 성공: {}", detailApiPath);
-                        return detailApiPath;
+                        // PUT/DELETE: 파라미터 ID + 상세조회 API 경로 생성
+                        return buildDetailApiPath(className, methodName, resourceId);
                     } else {
-                        log.warn("DELETE ID 추출 실패: args가 있지만 ID를 찾을 수 없음");
+                        log.debug("{} ID 추출 실패: args가 있지만 ID를 찾을 수 없음", action);
                     }
                 } else {
-                    log.warn("DELETE args가 null이거나 비어있음");
+                    log.debug("{} args가 null이거나 비어있음", action);
                 }
             }
 
@@ -473,8 +423,8 @@ public class UserActivityLogger {
         }
 
         // ID 추출 실패 시 빈 값
-        log.warn("=== targetAsset 생성 실패: ID 추출 실패, 빈 값 저장 ===");
-        log.warn("action={}, className={}, methodName={}", action, className, methodName);
+        log.debug("targetAsset 생성 실패 (ID 추출 실패, 빈 값 저장): action={}, className={}, methodName={}",
+                action, className, methodName);
         return "";
     }
 
@@ -572,70 +522,26 @@ public class UserActivityLogger {
      * @return 추출된 ID
      */
     private String extractIdFromResponse(Object responseObject) {
-        if (responseObject == null) {
-            log.info("extractIdFromResponse: responseObject가 null");
-            return null;
-        }
-
         // 예외 객체인 경우 ID 추출 불가
-        if (responseObject instanceof Throwable) {
-            log.info("extractIdFromResponse: responseObject가 예외 객체이므로 ID 추출 불가");
+        if (responseObject == null || responseObject instanceof Throwable) {
             return null;
         }
 
-        log.info("extractIdFromResponse: responseObject 타입 = {}", responseObject.getClass().getName());
-
         try {
-            // AxResponseEntity인 경우 body에서 추출
-            if (responseObject.getClass().getName().contains("AxResponseEntity")) {
-                log.info("AxResponseEntity 감지, body 추출 시도");
-                try {
-                    java.lang.reflect.Method getBodyMethod = responseObject.getClass().getMethod("getBody");
-                    Object body = getBodyMethod.invoke(responseObject);
-                    if (body != null) {
-                        log.info("body 추출 성공, 타입: {}", body.getClass().getName());
-                        // AxResponse인 경우 data 필드에서 추출
-                        if (body.getClass().getName().contains("AxResponse")) {
-                            log.info("AxResponse 감지, data 필드 추출 시도");
-                            try {
-                                java.lang.reflect.Method getDataMethod = body.getClass().getMethod("getData");
-                                Object data = getDataMethod.invoke(body);
-                                if (data != null) {
-                                    log.info("data 추출 성공, 타입: {}", data.getClass().getName());
-                                    String id = extractIdFromObject(data);
-                                    log.info("data에서 ID 추출 결과: {}", id);
-                                    return id;
-                                } else {
-                                    log.warn("data가 null");
-                                }
-                            } catch (NoSuchMethodException e) {
-                                log.warn("AxResponse getData 메서드 없음: {}", e.getMessage());
-                            } catch (IllegalAccessException | java.lang.reflect.InvocationTargetException e) {
-                                log.warn("AxResponse data 추출 실패 (리플렉션 오류): {}", e.getMessage());
-                            } catch (RuntimeException e) {
-                                log.warn("AxResponse data 추출 실패: {}", e.getMessage());
-                            }
-                        }
-                        String id = extractIdFromObject(body);
-                        log.info("body에서 ID 추출 결과: {}", id);
-                        return id;
-                    } else {
-                        log.warn("body가 null");
-                    }
-                } catch (NoSuchMethodException e) {
-                    log.warn("AxResponseEntity getBody 메서드 없음: {}", e.getMessage());
-                } catch (IllegalAccessException | java.lang.reflect.InvocationTargetException e) {
-                    log.warn("AxResponseEntity body 추출 실패 (리플렉션 오류): {}", e.getMessage());
-                } catch (RuntimeException e) {
-                    log.warn("AxResponseEntity body 추출 실패: {}", e.getMessage());
+            // AxResponseEntity인 경우 body(AxResponse)의 data에서 추출
+            if (responseObject instanceof AxResponseEntity<?> responseEntity) {
+                AxResponse<?> body = responseEntity.getBody();
+                if (body == null) {
+                    return null;
+                }
+                if (body.getData() != null) {
+                    return ResourceIdExtractor.extract(body.getData());
                 }
+                return ResourceIdExtractor.extract(body);
             }
 
             // 일반 객체에서 ID 추출
-            log.info("일반 객체에서 ID 추출 시도");
-            String id = extractIdFromObject(responseObject);
-            log.info("일반 객체에서 ID 추출 결과: {}", id);
-            return id;
+            return ResourceIdExtractor.extract(responseObject);
 
         } catch (RuntimeException e) {
             log.error("응답에서 ID 추출 실패: {}", e.getMessage(), e);
@@ -643,139 +549,6 @@ public class UserActivityLogger {
         }
     }
 
-    /**
-     * 객체에서 ID 추출 (리플렉션 사용)
-     *
-     * @param obj 객체
-     * @return ID 문자열
-     */
-    private String extractIdFromObject(Object obj) {
-        if (obj == null) {
-            log.info("extractIdFromObject: obj가 null");
-            return null;
-        }
-
-        log.info("extractIdFromObject: obj 타입 = {}", obj.getClass().getName());
-
-        try {
-            // 1. getId() 메서드 시도
-            try {
-                java.lang.reflect.Method getIdMethod = obj.getClass().getMethod("getId");
-                Object id = getIdMethod.invoke(obj);
-                if (id != null) {
-                    log.info("getId() 메서드로 ID 추출 성공: {}", id);
-                    return String.valueOf(id);
-                } else {
-                    log.info("getId() 메서드는 있지만 결과가 null");
-                }
-            } catch (NoSuchMethodException e) {
-                log.info("getId() 메서드 없음");
-            } catch (IllegalAccessException e) {
-                log.debug("getId() 메서드 호출 실패 (접근 권한 오류): {}", e.getMessage());
-            } catch (java.lang.reflect.InvocationTargetException e) {
-                log.debug("getId() 메서드 호출 실패 (호출 대상 오류): {}", e.getMessage());
-            }
-
-            // 2. getSeq() 메서드 시도
-            try {
-                java.lang.reflect.Method getSeqMethod = obj.getClass().getMethod("getSeq");
-                Object seq = getSeqMethod.invoke(obj);
-                if (seq != null) {
-                    log.info("getSeq() 메서드로 ID 추출 성공: {}", seq);
-                    return String.valueOf(seq);
-                } else {
-                    log.info("getSeq() 메서드는 있지만 결과가 null");
-                }
-            } catch (NoSuchMethodException e) {
-                log.info("getSeq() 메서드 없음");
-            } catch (IllegalAccessException e) {
-                log.debug("getSeq() 메서드 호출 실패 (접근 권한 오류): {}", e.getMessage());
-            } catch (java.lang.reflect.InvocationTargetException e) {
-                log.debug("getSeq() 메서드 호출 실패 (호출 대상 오류): {}", e.getMessage());
-            }
-
-            // 3. 모든 getter 메서드에서 *Id, *Seq 패턴 찾기
-            java.lang.reflect.Method[] methods = obj.getClass().getMethods();
-            for (java.lang.reflect.Method method : methods) {
-                String methodName = method.getName();
-                // get으로 시작하고 Id나 Seq로 끝나는 메서드
-                if (methodName.startsWith("get") &&
-                        (methodName.endsWith("Id") || methodName.endsWith("Seq")) &&
-                        method.getParameterCount() == 0) {
-                    try {
-                        Object value = method.invoke(obj);
-                        if (value != null) {
-                            log.info("{}() 메서드로 ID 추출 성공: {}", methodName, value);
-                            return String.valueOf(value);
-                        }
-                    } catch (IllegalAccessException | java.lang.reflect.InvocationTargetException e) {
-                        log.debug("{}() 호출 실패 (리플렉션 오류): {}", methodName, e.getMessage());
-                    } catch (RuntimeException e) {
-                        log.debug("{}() 호출 실패: {}", methodName, e.getMessage());
-                    }
-                }
-            }
-            log.info("*Id, *Seq 패턴의 getter 메서드 없음");
-
-            // 4. 필드에서 직접 추출 시도 (id, seq, *Id, *Seq 패턴)
-            java.lang.reflect.Field[] fields = obj.getClass().getDeclaredFields();
-            for (java.lang.reflect.Field field : fields) {
-                String fieldName = field.getName().toLowerCase();
-                // id 또는 seq로 끝나는 필드
-                if (fieldName.equals("id") || fieldName.equals("seq") ||
-                        fieldName.endsWith("id") || fieldName.endsWith("seq")) {
-                    try {
-                        field.setAccessible(true);
-                        Object value = field.get(obj);
-                        if (value != null) {
-                            log.info("{} 필드에서 ID 추출 성공: {}", field.getName(), value);
-                            return String.valueOf(value);
-                        }
-                    } catch (IllegalAccessException e) {
-                        log.debug("{} 필드 접근 실패 (접근 권한 오류): {}", field.getName(), e.getMessage());
-                    } catch (RuntimeException e) {
-                        log.debug("{} 필드 접근 실패: {}", field.getName(), e.getMessage());
-                    }
-                }
-            }
-            log.info("*Id, *Seq 패턴의 필드 없음");
-
-            // 5. toString()에서 id= 패턴 찾기 (마지막 수단)
-            String objStr = obj.toString();
-            log.info("toString() 결과: {}", objStr.length() > 200 ? objStr.substring(0, 200) + "..." : objStr);
-            if (objStr.contains("id=")) {
-                String[] parts = objStr.split("id=");
-                if (parts.length > 1) {
-                    String idPart = parts[1];
-                    // 쉼표나 괄호 전까지 추출
-                    if (idPart.contains(",")) {
-                        idPart = idPart.split(",")[0];
-                    }
-                    if (idPart.contains(")")) {
-                        idPart = idPart.split("\\)")[0];
-                    }
-                    if (idPart.contains(" ")) {
-                        idPart = idPart.split(" ")[0];
-                    }
-                    log.info("toString()에서 id= 패턴으로 ID 추출 성공: {}", idPart.trim());
-                    return idPart.trim();
-                }
-            } else {
-                log.info("toString()에 id= 패턴 없음");
-            }
-
-        } catch (ClassCastException e) {
-            log.error("객체에서 ID 추출 중 오류 (ClassCastException)", e);
-        } catch (NullPointerException e) {
-            log.error("객체에서 ID 추출 중 오류 (NullPointerException)", e);
-        } catch (RuntimeException e) {
-            log.error("객체에서 ID 추출 중 오류 (RuntimeException)", e);
-        }
-
-        log.warn("객체에서 ID 추출 실패");
-        return null;
-    }
-
     /**
      * 파라미터에서 ID 추출 (PUT/DELETE 용)
      *
@@ -784,57 +557,37 @@ public class UserActivityLogger {
      */
     private String extractIdFromArgs(Object[] args) {
         if (args == null || args.length == 0) {
-            log.info("extractIdFromArgs: args가 null이거나 비어있음");
             return null;
         }
 
-        log.info("extractIdFromArgs: args 개수 = {}", args.length);
-
-        try {
-            // 모든 파라미터 로깅
-            for (int i = 0; i < args.length; i++) {
-                if (args[i] != null) {
-                    log.info("args[{}] 타입: {}, 값: {}", i, args[i].getClass().getName(), args[i]);
-                } else {
-                    log.info("args[{}] null", i);
-                }
-            }
-
-            // 첫 번째 파라미터가 보통 ID (Long, String, Integer 등)
-            Object firstArg = args[0];
-
-            if (firstArg == null) {
-                log.info("첫 번째 파라미터가 null");
-                return null;
-            }
+        // 첫 번째 파라미터가 보통 ID (Long, String, Integer 등)
+        Object firstArg = args[0];
+        if (firstArg == null) {
+            return null;
+        }
 
-            // Long, Integer, String 타입이면 ID로 간주
-            if (firstArg instanceof Long ||
-                    firstArg instanceof Integer ||
-                    firstArg instanceof String) {
-                log.info("첫 번째 파라미터가 숫자/문자열 타입, ID로 사용: {}", firstArg);
-                return String.valueOf(firstArg);
-            }
+        // Long, Integer, String 타입이면 ID로 간주
+        if (firstArg instanceof Long ||
+                firstArg instanceof Integer ||
+                firstArg instanceof String) {
+            return String.valueOf(firstArg);
+        }
 
-            // PathVariable로 전달된 경우 toString() 사용
-            String argStr = firstArg.toString();
-            log.info("첫 번째 파라미터 toString(): {}", argStr);
+        // PathVariable로 전달된 경우 toString() 사용, 숫자로만 구성되어 있으면 ID로 간주
+        String argStr = firstArg.toString();
+        return isDigits(argStr) ? argStr : null;
+    }
 
-            // 숫자로만 구성되어 있으면 ID로 간주
-            if (argStr.matches("\\d+")) {
-                log.info("숫자 패턴 매칭, ID로 사용: {}", argStr);
-                return argStr;
-            } else {
-                log.info("숫자 패턴 매칭 실패");
+    private static boolean isDigits(String value) {
+        if (value == null || value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
             }
-
-        } catch (IllegalArgumentException e) {
-            log.debug("파라미터에서 ID 추출 실패 (잘못된 인자): {}", e.getMessage());
-        } catch (RuntimeException e) {
-            log.debug("파라미터에서 ID 추출 실패: {}", e.getMessage());
         }
-
-        return null;
+        return true;
     }
 
     /**
@@ -949,31 +702,6 @@ public class UserActivityLogger {
         return null;
     }
 
-    /**
-     * 로그인 로그에 사용자 정보 업데이트
-     */
-    private void updateLoginLogWithUserInfo(Long currentLogId, String userName, Object apiResult) {
-        try {
-            String userInfo = extractUserInfoFromResult(apiResult);
-            if (userInfo != null && !userInfo.isEmpty()) {
-                userUsageMgmtService.updateNearestLoginLogWithUserInfo(currentLogId, userName, userInfo);
-                log.debug("로그인 로그 업데이트 요청: currentLogId={}, user={}, info={}", currentLogId, userName, userInfo);
-            }
-        } catch (DataAccessException e) {
-            log.warn("로그인 로그 업데이트 중 오류 (DataAccessException): user={}, currentLogId={}, error={}", userName,
-                    currentLogId, e.getMessage());
-        } catch (IllegalArgumentException e) {
-            log.warn("로그인 로그 업데이트 중 오류 (IllegalArgumentException): user={}, currentLogId={}, error={}", userName,
-                    currentLogId, e.getMessage());
-        } catch (NullPointerException e) {
-            log.warn("로그인 로그 업데이트 중 오류 (NullPointerException): user={}, currentLogId={}, error={}", userName,
-                    currentLogId, e.getMessage());
-        } catch (RuntimeException e) {
-            log.warn("로그인 로그 업데이트 중 오류 (RuntimeException): user={}, currentLogId={}, error={}", userName, currentLogId,
-                    e.getMessage());
-        }
-    }
-
     /**
      * API 결과에서 사용자 정보 추출
      */
@@ -6,16 +6,13 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -37,11 +34,13 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtPrincipalCache jwtPrincipalCache;
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
 
+    private final WebAuthenticationDetailsSource authenticationDetailsSource = new WebAuthenticationDetailsSource();
+
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
                                     @NonNull FilterChain filterChain) throws ServletException, IOException {
@@ -49,35 +48,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // JWT 토큰 추출
         String jwt = extractJwtFromRequest(request);
 
-        if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
+        // 서명 검증/클레임 파싱 1회 (동일 토큰 재요청 시 캐시 적중)
+        JwtPrincipal principal = StringUtils.hasText(jwt) ? jwtPrincipalCache.resolve(jwt) : null;
+
+        if (principal != null) {
             try {
-                // 토큰에서 사용자 정보 추출
-                String username = jwtTokenProvider.getUsernameFromToken(jwt);
-                String authorities = jwtTokenProvider.getAuthoritiesFromToken(jwt);
+                String username = principal.getUsername();
+                List<SimpleGrantedAuthority> grantedAuthorities = principal.getGrantedAuthorities();
 
                 // 사용자 정보를 MDC에 설정
                 TraceUtils.setUserId(username);
 
-                // 권한 정보 파싱
-                List<SimpleGrantedAuthority> grantedAuthorities = parseAuthorities(authorities);
-
-                // UserDetails 객체 생성
-                // TODO 행번 생성 필요
-                UserDetails userDetails = User.builder()
-                        .username(username)
-                        .password("") // JWT 토큰 기반 인증에서는 비밀번호 불필요
-                        .authorities(grantedAuthorities)
-                        .build();
+                UserDetails userDetails = principal.getUserDetails();
 
                 // Authentication 객체 생성
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(userDetails, null, grantedAuthorities);
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                authentication.setDetails(authenticationDetailsSource.buildDetails(request));
 
                 // Security Context에 인증 정보 설정
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                log.debug("JWT 토큰으로 사용자 인증 완료: username={}, authorities={}", username, authorities);
+                log.debug("JWT 토큰으로 사용자 인증 완료: username={}, authorities={}", username,
+                        principal.getAuthorities());
 
             } catch (IllegalArgumentException e) {
                 log.error("JWT 토큰 처리 실패 (IllegalArgumentException) - 잘못된 토큰 데이터: {}", e.getMessage(), e);
@@ -85,9 +78,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             } catch (NullPointerException e) {
                 log.error("JWT 토큰 처리 실패 (NullPointerException) - 필수 값 누락: {}", e.getMessage(), e);
                 SecurityContextHolder.clearContext();
-            } catch (io.jsonwebtoken.JwtException e) {
-                log.error("JWT 토큰 처리 실패 (JwtException) - 토큰 파싱 오류: {}", e.getMessage(), e);
-                SecurityContextHolder.clearContext();
             } catch (Exception e) {
                 log.error("JWT 토큰 처리 실패 (예상치 못한 오류): {}", e.getMessage(), e);
                 SecurityContextHolder.clearContext();
@@ -113,38 +103,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 
-    /**
-     * 권한 문자열을 SimpleGrantedAuthority 리스트로 변환
-     *
-     * @param authorities 권한 문자열 (예: "[ROLE_USER, ROLE_ADMIN]")
-     * @return SimpleGrantedAuthority 리스트
-     */
-    private List<SimpleGrantedAuthority> parseAuthorities(String authorities) {
-        try {
-            if (!StringUtils.hasText(authorities)) {
-                return List.of(new SimpleGrantedAuthority("ROLE_USER"));
-            }
-
-            // "[ROLE_USER, ROLE_ADMIN]" -> "ROLE_USER, ROLE_ADMIN"
-            String cleanAuthorities = authorities.replaceAll("[\\[\\]]", "");
-
-            return Arrays.stream(cleanAuthorities.split(","))
-                    .map(String::trim)
-                    .filter(StringUtils::hasText)
-                    .map(SimpleGrantedAuthority::new)
-                    .collect(Collectors.toList());
-        } catch (IllegalArgumentException e) {
-            log.warn("권한 파싱 실패 (IllegalArgumentException) - 잘못된 권한 형식: {}, 기본 권한 사용", authorities);
-            return List.of(new SimpleGrantedAuthority("ROLE_USER"));
-        } catch (NullPointerException e) {
-            log.warn("권한 파싱 실패 (NullPointerException) - null 값 발견: {}, 기본 권한 사용", authorities);
-            return List.of(new SimpleGrantedAuthority("ROLE_USER"));
-        } catch (Exception e) {
-            log.warn("권한 파싱 실패 (예상치 못한 오류): {}, 기본 권한 사용", authorities, e);
-            return List.of(new SimpleGrantedAuthority("ROLE_USER"));
-        }
-    }
-
     /**
      * 특정 경로에 대해 필터를 건너뛸지 결정
      *
@@ -0,0 +1,97 @@
+package com.skax.aiplatform.common.security;
+
+import io.jsonwebtoken.Claims;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.util.StringUtils;
+
+/**
+ * 서명 검증이 끝난 JWT 주체 정보
+ *
+ * <p>토큰 1건당 1회만 생성되며 불변 객체이므로
+ * {@link JwtPrincipalCache} 에서 여러 요청이 공유해도 안전합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+@Getter
+public final class JwtPrincipal {
+
+    private static final List<SimpleGrantedAuthority> DEFAULT_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private final String username;
+    private final String authorities;
+    private final List<SimpleGrantedAuthority> grantedAuthorities;
+    private final UserDetails userDetails;
+    private final Date expiration;
+
+    private JwtPrincipal(String username, String authorities, Date expiration) {
+        this.username = username;
+        this.authorities = authorities;
+        this.grantedAuthorities = parseAuthorities(authorities);
+        this.userDetails = User.builder()
+                .username(username)
+                .password("") // JWT 토큰 기반 인증에서는 비밀번호 불필요
+                .authorities(grantedAuthorities)
+                .build();
+        this.expiration = expiration;
+    }
+
+    /**
+     * 검증된 클레임으로 주체 정보 생성
+     *
+     * @param claims 서명 검증이 완료된 클레임
+     * @return 주체 정보
+     */
+    static JwtPrincipal from(Claims claims) {
+        return new JwtPrincipal(claims.getSubject(), (String) claims.get("authorities"), claims.getExpiration());
+    }
+
+    /**
+     * 토큰 만료 여부 확인
+     *
+     * @param nowMillis 현재 시각 (epoch millis)
+     * @return 만료 여부
+     */
+    public boolean isExpired(long nowMillis) {
+        return expiration != null && expiration.getTime() <= nowMillis;
+    }
+
+    /**
+     * 권한 문자열을 SimpleGrantedAuthority 리스트로 변환
+     *
+     * @param authorities 권한 문자열 (예: "[ROLE_USER, ROLE_ADMIN]")
+     * @return SimpleGrantedAuthority 리스트
+     */
+    private static List<SimpleGrantedAuthority> parseAuthorities(String authorities) {
+        try {
+            if (!StringUtils.hasText(authorities)) {
+                return DEFAULT_AUTHORITIES;
+            }
+
+            // "[ROLE_USER, ROLE_ADMIN]" -> "ROLE_USER, ROLE_ADMIN" (정규식 없이 처리)
+            String cleanAuthorities = authorities.replace("[", "").replace("]", "");
+
+            return Arrays.stream(cleanAuthorities.split(","))
+                    .map(String::trim)
+                    .filter(StringUtils::hasText)
+                    .map(SimpleGrantedAuthority::new)
+                    .toList();
+        } catch (IllegalArgumentException e) {
+            log.warn("권한 파싱 실패 (IllegalArgumentException) - 잘못된 권한 형식: {}, 기본 권한 사용", authorities);
+            return DEFAULT_AUTHORITIES;
+        } catch (Exception e) {
+            log.warn("권한 파싱 실패 (예상치 못한 오류): {}, 기본 권한 사용", authorities, e);
+            return DEFAULT_AUTHORITIES;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.skax.aiplatform.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증된 JWT 주체 정보 캐시
+ *
+ * <p>동일 브라우저 세션의 반복 요청에서 서명 검증/클레임 파싱/UserDetails 생성을 생략하기 위해
+ * 토큰 다이제스트(SHA-256)를 키로 {@link JwtPrincipal} 을 보관합니다.
+ * 원문 토큰은 힙에 보관하지 않으며, 각 항목은 토큰 만료 시각에 함께 만료됩니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class JwtPrincipalCache {
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    });
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final boolean enabled;
+    private final Cache<String, JwtPrincipal> cache;
+
+    /**
+     * JWT 주체 캐시 생성자
+     *
+     * @param jwtTokenProvider JWT 토큰 프로바이더
+     * @param meterRegistry    캐시 적중률 노출용 메트릭 레지스트리
+     * @param enabled          캐시 사용 여부
+     * @param maximumSize      최대 캐시 항목 수
+     * @param maxTtlSeconds    토큰 만료와 무관한 최대 보관 시간 (초)
+     */
+    public JwtPrincipalCache(
+            JwtTokenProvider jwtTokenProvider,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.principal-cache.enabled:true}") boolean enabled,
+            @Value("${jwt.principal-cache.maximum-size:10000}") long maximumSize,
+            @Value("${jwt.principal-cache.max-ttl-seconds:900}") long maxTtlSeconds) {
+
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.enabled = enabled;
+
+        final long maxTtlNanos = TimeUnit.SECONDS.toNanos(maxTtlSeconds);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, JwtPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(String key, JwtPrincipal value, long currentTime) {
+                        if (value.getExpiration() == null) {
+                            return maxTtlNanos;
+                        }
+                        long remainingMillis = value.getExpiration().getTime() - System.currentTimeMillis();
+                        return Math.max(0L, Math.min(maxTtlNanos, TimeUnit.MILLISECONDS.toNanos(remainingMillis)));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JwtPrincipal value, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JwtPrincipal value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.principal");
+
+        log.info("JWT 주체 캐시 초기화: enabled={}, maximumSize={}, maxTtl={}",
+                enabled, maximumSize, Duration.ofSeconds(maxTtlSeconds));
+    }
+
+    /**
+     * 토큰에 해당하는 검증된 주체 정보 조회
+     *
+     * <p>캐시에 있으면 서명 검증 없이 반환하고, 없으면 1회 검증 후 캐시에 저장합니다.
+     * 유효하지 않은 토큰은 캐시하지 않습니다.</p>
+     *
+     * @param token JWT 토큰
+     * @return 주체 정보 (유효하지 않은 토큰이면 null)
+     */
+    public JwtPrincipal resolve(String token) {
+        if (!enabled) {
+            return jwtTokenProvider.parseVerifiedToken(token);
+        }
+
+        String digest = digest(token);
+        JwtPrincipal cached = cache.getIfPresent(digest);
+        if (cached != null) {
+            if (!cached.isExpired(System.currentTimeMillis())) {
+                return cached;
+            }
+            cache.invalidate(digest);
+        }
+
+        JwtPrincipal principal = jwtTokenProvider.parseVerifiedToken(token);
+        if (principal != null) {
+            cache.put(digest, principal);
+        }
+        return principal;
+    }
+
+    private static String digest(String token) {
+        MessageDigest md = SHA256.get();
+        md.reset();
+        byte[] hash = md.digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+}
@@ -29,6 +29,7 @@ import java.util.function.Function;
 public class JwtTokenProvider {
 
     private final SecretKey key;
+    private final JwtParser jwtParser;
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
 
@@ -45,6 +46,8 @@ public class JwtTokenProvider {
             @Value("${jwt.refresh-token-validity-in-seconds:4500}") long refreshTokenValidityInSeconds) {
 
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
+        // JwtParser 는 불변/스레드 안전하므로 1회 생성 후 재사용
+        this.jwtParser = Jwts.parser().verifyWith(key).build();
         this.accessTokenValidityInMilliseconds = accessTokenValidityInSeconds * 1000;
         this.refreshTokenValidityInMilliseconds = refreshTokenValidityInSeconds * 1000;
     }
@@ -184,11 +187,34 @@ public class JwtTokenProvider {
      * @return 클레임 객체
      */
     private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * 토큰 서명 검증과 클레임 파싱을 1회에 수행
+     *
+     * <p>{@link #validateToken(String)}, {@link #getUsernameFromToken(String)},
+     * {@link #getAuthoritiesFromToken(String)} 를 각각 호출하면 서명 검증이 3회 반복되므로
+     * 인증 필터에서는 이 메서드로 검증된 주체 정보를 한 번에 얻습니다.</p>
+     *
+     * @param token JWT 토큰
+     * @return 검증된 주체 정보 (유효하지 않은 토큰이면 null)
+     */
+    public JwtPrincipal parseVerifiedToken(String token) {
+        try {
+            return JwtPrincipal.from(getAllClaimsFromToken(token));
+        } catch (MalformedJwtException e) {
+            log.error("잘못된 JWT 토큰입니다: {}", e.getMessage());
+        } catch (ExpiredJwtException e) {
+            log.error("만료된 JWT 토큰입니다: {}", e.getMessage());
+        } catch (UnsupportedJwtException e) {
+            log.error("지원되지 않는 JWT 토큰입니다: {}", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            log.error("JWT 토큰이 잘못되었습니다: {}", e.getMessage());
+        } catch (Exception e) {
+            log.error("JWT 토큰 검증 중 오류가 발생했습니다: {}", e.getMessage());
+        }
+        return null;
     }
 
     /**
@@ -234,10 +260,7 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
+            jwtParser.parseSignedClaims(token);
             return true;
         } catch (MalformedJwtException e) {
             log.error("잘못된 JWT 토큰입니다: {}", e.getMessage());
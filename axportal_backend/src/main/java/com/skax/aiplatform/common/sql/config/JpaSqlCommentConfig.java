@@ -1,16 +1,25 @@
 package com.skax.aiplatform.common.sql.config;
 
+import com.skax.aiplatform.common.sql.interceptor.ApplicationNameDataSourceProxy;
 import com.skax.aiplatform.common.sql.interceptor.SqlCommentInterceptor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
 
 /**
  * JPA SQL 주석 설정 클래스
  * 
  * <p>Hibernate StatementInspector를 등록하여 SQL 쿼리에 자동으로 주석을 추가합니다.</p>
  * 
+ * <p>{@code sql-comment.mode=APPLICATION_NAME} 인 경우 SQL 원문 대신
+ * Primary DataSource 세션의 application_name 으로 컨텍스트를 전달합니다.</p>
+ * 
  * @author ByounggwanLee
  * @since 2025-10-20
  * @version 1.0
@@ -45,4 +54,26 @@ public class JpaSqlCommentConfig {
             log.info("SQL Comment Interceptor 등록 완료 - Hibernate 기본 주석 비활성화");
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * APPLICATION_NAME 모드에서 Primary DataSource를 application_name 태깅 프록시로 래핑
+     * 
+     * @param environment 환경 설정
+     * @return DataSource 래핑용 BeanPostProcessor
+     */
+    @Bean
+    @ConditionalOnProperty(name = "sql-comment.mode", havingValue = "APPLICATION_NAME")
+    public static BeanPostProcessor applicationNameDataSourcePostProcessor(Environment environment) {
+        String defaultApplicationName = environment.getProperty("spring.application.name", "axportal-backend");
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                    log.info("SQL 컨텍스트를 application_name 으로 전달하도록 DataSource 래핑");
+                    return ApplicationNameDataSourceProxy.wrap(dataSource, defaultApplicationName);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,163 @@
+package com.skax.aiplatform.common.sql.interceptor;
+
+import com.skax.aiplatform.common.sql.SqlCommentContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * SQL 주석 대신 세션 application_name(ClientInfo)으로 호출 컨텍스트를 전달하는 DataSource 프록시
+ *
+ * <p>SQL 원문을 변경하지 않으므로 동일 쿼리가 컨텍스트별로 서로 다른 SQL 문자열로 분화되지 않고,
+ * JDBC 드라이버/DB의 PreparedStatement 캐시를 그대로 활용할 수 있습니다.
+ * DB 모니터링 툴에서는 세션의 application_name(pg_stat_activity 등)으로 호출 위치를 확인합니다.</p>
+ *
+ * <p>Statement 생성 시점의 {@link SqlCommentContext} 값을 Connection 에 설정하며,
+ * 직전에 설정한 값과 같으면 다시 설정하지 않아 컨텍스트가 바뀔 때만 DB 왕복이 발생합니다.
+ * 드라이버가 ClientInfo 를 지원하지 않으면 해당 Connection 에서는 더 이상 시도하지 않습니다.</p>
+ *
+ * <p>{@link DelegatingDataSource} 기반이므로 {@code unwrap} 으로 원본(HikariDataSource)에 접근할 수 있고,
+ * 컨텍스트 종료 시 {@link #close()} 가 원본으로 전달되어 커넥션 풀이 정상 종료됩니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+public final class ApplicationNameDataSourceProxy extends DelegatingDataSource implements Closeable {
+
+    /**
+     * JDBC 표준 ClientInfo 속성명 (PostgreSQL: application_name)
+     */
+    static final String CLIENT_INFO_APPLICATION_NAME = "ApplicationName";
+
+    /**
+     * PostgreSQL application_name 최대 길이 (NAMEDATALEN - 1)
+     */
+    private static final int MAX_APPLICATION_NAME_LENGTH = 63;
+
+    private final String defaultApplicationName;
+
+    private ApplicationNameDataSourceProxy(DataSource target, String defaultApplicationName) {
+        super(target);
+        this.defaultApplicationName = defaultApplicationName;
+    }
+
+    /**
+     * DataSource를 프록시로 래핑
+     *
+     * @param target                 원본 DataSource
+     * @param defaultApplicationName 컨텍스트가 없을 때 사용할 application_name
+     * @return 래핑된 DataSource
+     */
+    public static DataSource wrap(DataSource target, String defaultApplicationName) {
+        return new ApplicationNameDataSourceProxy(target, defaultApplicationName);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    /**
+     * 원본 DataSource 종료 (HikariDataSource 등 커넥션 풀 정리)
+     */
+    @Override
+    public void close() throws IOException {
+        DataSource target = getTargetDataSource();
+        if (target instanceof Closeable closeable) {
+            closeable.close();
+        } else if (target instanceof AutoCloseable autoCloseable) {
+            try {
+                autoCloseable.close();
+            } catch (IOException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException("DataSource 종료 실패", e);
+            }
+        }
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class[]{Connection.class},
+                new ConnectionInvocationHandler(connection, defaultApplicationName));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * Connection 프록시 핸들러
+     */
+    private static final class ConnectionInvocationHandler implements InvocationHandler {
+        private final Connection target;
+        private final String defaultApplicationName;
+        private String currentApplicationName;
+        private boolean unsupported;
+
+        private ConnectionInvocationHandler(Connection target, String defaultApplicationName) {
+            this.target = target;
+            this.defaultApplicationName = defaultApplicationName;
+            // 풀에서 재사용된 Connection 은 직전 사용 시 설정한 값을 유지하므로 현재 값에서 시작
+            this.currentApplicationName = readApplicationName(target);
+        }
+
+        private static String readApplicationName(Connection connection) {
+            try {
+                return connection.getClientInfo(CLIENT_INFO_APPLICATION_NAME);
+            } catch (SQLException | RuntimeException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!unsupported && ("prepareStatement".equals(name) || "prepareCall".equals(name)
+                    || "createStatement".equals(name))) {
+                applyApplicationName();
+            }
+            return ApplicationNameDataSourceProxy.invoke(target, method, args);
+        }
+
+        private void applyApplicationName() {
+            String comment = SqlCommentContext.getCurrentComment();
+            String applicationName = comment == null || comment.isBlank() ? defaultApplicationName : comment;
+            if (applicationName.length() > MAX_APPLICATION_NAME_LENGTH) {
+                // 뒤쪽(Repository.method)이 더 구체적이므로 앞부분을 자름
+                applicationName = applicationName.substring(applicationName.length() - MAX_APPLICATION_NAME_LENGTH);
+            }
+            if (applicationName.equals(currentApplicationName)) {
+                return;
+            }
+            try {
+                target.setClientInfo(CLIENT_INFO_APPLICATION_NAME, applicationName);
+                currentApplicationName = applicationName;
+            } catch (SQLException | RuntimeException e) {
+                unsupported = true;
+                log.debug("ClientInfo(ApplicationName) 설정 미지원 - 이후 생략: {}", e.getMessage());
+            }
+        }
+    }
+}
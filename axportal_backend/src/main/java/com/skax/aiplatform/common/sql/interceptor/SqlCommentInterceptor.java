@@ -1,16 +1,42 @@
 package com.skax.aiplatform.common.sql.interceptor;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.skax.aiplatform.common.sql.SqlCommentContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 /**
  * SQL 쿼리에 주석을 추가하는 Hibernate StatementInspector
  * 
  * <p>
  * 실행되는 SQL 쿼리에 ServiceImpl.method.Repository.method 형식의 주석을 자동으로 추가합니다.
  * </p>
+ *
+ * <p>
+ * 동작 모드 ({@code sql-comment.mode}):
+ * </p>
+ * <ul>
+ * <li>COMMENT (기본): SQL 앞에 주석을 추가합니다. (컨텍스트, 원본 SQL) 쌍별 변환 결과를
+ * 크기 제한 캐시에 보관하여 문장마다 정규식/문자열 처리를 반복하지 않습니다.</li>
+ * <li>APPLICATION_NAME: SQL 원문은 그대로 두고 태그를 세션의 application_name(ClientInfo)으로 전달합니다.
+ * SQL 문자열이 컨텍스트별로 분화되지 않으므로 PreparedStatement 캐시 효율이 유지됩니다.
+ * ({@link ApplicationNameDataSourceProxy} 참고)</li>
+ * <li>OFF: 태그를 추가하지 않습니다.</li>
+ * </ul>
+ *
+ * <p>
+ * 변환 캐시 적중률은 actuator 메트릭({@code cache.gets{cache=sql.comment}})으로,
+ * 캐시 크기({@code cache.size})는 드라이버로 전달되는 서로 다른 SQL 문자열 수로 확인할 수 있습니다.
+ * </p>
  * 
  * @author ByounggwanLee
  * @since 2025-10-20
@@ -20,6 +46,66 @@ import org.springframework.stereotype.Component;
 @Component
 public class SqlCommentInterceptor implements StatementInspector {
 
+    /**
+     * SQL 태그 전달 방식
+     */
+    public enum Mode {
+        COMMENT, APPLICATION_NAME, OFF;
+
+        /**
+         * 설정값을 모드로 변환 (대소문자 구분 없음)
+         *
+         * @param value 설정값
+         * @return 모드
+         */
+        public static Mode from(String value) {
+            return Mode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private static final Pattern HIBERNATE_COMMENT_PATTERN = Pattern.compile(
+            "/\\*\\s*(?:insert|update|delete|select)\\s+for\\s+[^*/]+\\*/|/\\*\\s*[^*/]*entity[^*/]*\\*/");
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+    private static final Pattern ENTITY_COMMENT_PATTERN = Pattern.compile(
+            "/\\*\\s*(?:insert|update|delete)\\s+for\\s+([^*/]+)\\*/");
+    private static final Pattern UPDATE_TABLE_PATTERN = Pattern.compile(
+            "UPDATE\\s+([a-zA-Z_][a-zA-Z0-9_]*)\\s+SET", Pattern.CASE_INSENSITIVE);
+    private static final Pattern INSERT_TABLE_PATTERN = Pattern.compile(
+            "INSERT\\s+INTO\\s+([a-zA-Z_][a-zA-Z0-9_]*)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern DELETE_TABLE_PATTERN = Pattern.compile(
+            "DELETE\\s+FROM\\s+([a-zA-Z_][a-zA-Z0-9_]*)", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * 변환 캐시 키 (Service 컨텍스트, 현재 주석, 원본 SQL)
+     */
+    private record CacheKey(String serviceContext, String comment, String sql) {
+    }
+
+    private final Mode mode;
+    private final Cache<CacheKey, String> rewriteCache;
+
+    public SqlCommentInterceptor(
+            MeterRegistry meterRegistry,
+            @Value("${sql-comment.mode:COMMENT}") String mode,
+            @Value("${sql-comment.cache.maximum-size:5000}") long maximumSize) {
+        this.mode = Mode.from(mode);
+        this.rewriteCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, rewriteCache, "sql.comment");
+        log.info("SQL Comment Interceptor 모드: {}, 변환 캐시 크기: {}", this.mode, maximumSize);
+    }
+
+    /**
+     * 현재 동작 모드
+     *
+     * @return 동작 모드
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
     /**
      * SQL 쿼리 실행 전 주석을 추가하여 수정된 쿼리를 반환
      * 
@@ -28,28 +114,43 @@ public class SqlCommentInterceptor implements StatementInspector {
      */
     @Override
     public String inspect(String sql) {
-        String sqlType = getSqlType(sql);
+        if (mode != Mode.COMMENT || sql == null) {
+            return sql;
+        }
+
         String currentComment = SqlCommentContext.getCurrentComment();
+        if (currentComment == null || currentComment.isBlank()) {
+            log.debug("SQL 주석 컨텍스트 없음");
+            return sql;
+        }
+
+        CacheKey key = new CacheKey(SqlCommentContext.getServiceContext(), currentComment, sql);
+        return rewriteCache.get(key, this::rewrite);
+    }
+
+    /**
+     * 주석이 추가된 SQL 생성 (캐시 미스 시에만 호출)
+     *
+     * @param key 변환 캐시 키
+     * @return 주석이 추가된 SQL 쿼리
+     */
+    private String rewrite(CacheKey key) {
+        String sql = key.sql();
+        String sqlType = getSqlType(sql);
+        String currentComment = key.comment();
 
         // UPDATE/INSERT의 경우 Entity 기반으로 Repository 추론 시도
-        if (("UPDATE".equals(sqlType) || "INSERT".equals(sqlType)) && currentComment != null) {
-            String entityBasedComment = inferRepositoryFromSql(sql, currentComment);
+        if ("UPDATE".equals(sqlType) || "INSERT".equals(sqlType)) {
+            String entityBasedComment = inferRepositoryFromSql(sql, currentComment, key.serviceContext());
             if (entityBasedComment != null) {
                 currentComment = entityBasedComment;
             }
         }
 
-        if (currentComment != null && !currentComment.trim().isEmpty()) {
-            // Hibernate 기본 주석을 완전히 제거하고 커스텀 주석으로 교체
-            String cleanedSql = removeHibernateComments(sql);
-            String commentedSql = String.format("/* %s */ %s", currentComment, cleanedSql);
-
-            log.info("SQL Comment: {} [{}]", currentComment, sqlType);
-            return commentedSql;
-        }
-
-        log.warn("⚠️ SQL 주석 컨텍스트 없음 [{}]", sqlType);
-        return sql;
+        // Hibernate 기본 주석을 완전히 제거하고 커스텀 주석으로 교체
+        String commentedSql = "/* " + currentComment + " */ " + removeHibernateComments(sql);
+        log.debug("SQL Comment: {} [{}]", currentComment, sqlType);
+        return commentedSql;
     }
 
     /**
@@ -63,14 +164,14 @@ public class SqlCommentInterceptor implements StatementInspector {
             return "UNKNOWN";
         }
 
-        String trimmedSql = sql.trim().toUpperCase();
-        if (trimmedSql.startsWith("SELECT"))
+        String trimmedSql = sql.trim();
+        if (trimmedSql.regionMatches(true, 0, "SELECT", 0, 6))
             return "SELECT";
-        if (trimmedSql.startsWith("INSERT"))
+        if (trimmedSql.regionMatches(true, 0, "INSERT", 0, 6))
             return "INSERT";
-        if (trimmedSql.startsWith("UPDATE"))
+        if (trimmedSql.regionMatches(true, 0, "UPDATE", 0, 6))
             return "UPDATE";
-        if (trimmedSql.startsWith("DELETE"))
+        if (trimmedSql.regionMatches(true, 0, "DELETE", 0, 6))
             return "DELETE";
 
         return "OTHER";
@@ -87,17 +188,11 @@ public class SqlCommentInterceptor implements StatementInspector {
             return sql;
         }
 
-        String result = sql;
-
         // Hibernate 자동 주석 패턴 제거
-        result = result.replaceAll("/\\*\\s*insert\\s+for\\s+[^*/]+\\*/", "");
-        result = result.replaceAll("/\\*\\s*update\\s+for\\s+[^*/]+\\*/", "");
-        result = result.replaceAll("/\\*\\s*delete\\s+for\\s+[^*/]+\\*/", "");
-        result = result.replaceAll("/\\*\\s*select\\s+for\\s+[^*/]+\\*/", "");
-        result = result.replaceAll("/\\*\\s*[^*/]*entity[^*/]*\\*/", "");
+        String result = HIBERNATE_COMMENT_PATTERN.matcher(sql).replaceAll("");
 
         // 연속된 공백 정리
-        return result.replaceAll("\\s+", " ").trim();
+        return WHITESPACE_PATTERN.matcher(result).replaceAll(" ").trim();
     }
 
     /**
@@ -105,9 +200,10 @@ public class SqlCommentInterceptor implements StatementInspector {
      * 
      * @param sql             SQL 쿼리
      * @param originalComment 원본 주석
+     * @param serviceContext  Service 컨텍스트
      * @return 추론된 Repository 주석
      */
-    private String inferRepositoryFromSql(String sql, String originalComment) {
+    private String inferRepositoryFromSql(String sql, String originalComment, String serviceContext) {
         try {
             // 1. Hibernate 주석에서 Entity 클래스명 추출
             String entityClass = extractEntityFromHibernateComment(sql);
@@ -115,7 +211,6 @@ public class SqlCommentInterceptor implements StatementInspector {
                 String repositoryName = inferRepositoryName(entityClass);
                 if (repositoryName != null) {
                     // Service 컨텍스트는 유지하고 Repository만 교체
-                    String serviceContext = SqlCommentContext.getServiceContext();
                     if (serviceContext != null) {
                         return serviceContext + "." + repositoryName + ".save";
                     }
@@ -127,9 +222,8 @@ public class SqlCommentInterceptor implements StatementInspector {
             if (tableName != null) {
                 String repositoryName = inferRepositoryFromTableName(tableName);
                 if (repositoryName != null) {
-                    String serviceContext = SqlCommentContext.getServiceContext();
                     if (serviceContext != null) {
-                        String operation = getSqlType(sql).toLowerCase();
+                        String operation = getSqlType(sql).toLowerCase(Locale.ROOT);
                         return serviceContext + "." + repositoryName + "." + operation;
                     }
                 }
@@ -151,9 +245,7 @@ public class SqlCommentInterceptor implements StatementInspector {
      */
     private String extractEntityFromHibernateComment(String sql) {
         // /* update for com.skax.aiplatform.entity.GpoUsersMas */ 패턴에서 추출
-        java.util.regex.Pattern pattern = java.util.regex.Pattern.compile(
-                "/\\*\\s*(?:insert|update|delete)\\s+for\\s+([^*/]+)\\*/");
-        java.util.regex.Matcher matcher = pattern.matcher(sql);
+        Matcher matcher = ENTITY_COMMENT_PATTERN.matcher(sql);
 
         if (matcher.find()) {
             String fullEntityName = matcher.group(1).trim();
@@ -211,32 +303,23 @@ public class SqlCommentInterceptor implements StatementInspector {
      */
     private String extractTableNameFromSql(String sql) {
         try {
-            String upperSql = sql.toUpperCase().trim();
+            String sqlType = getSqlType(sql);
 
-            if (upperSql.startsWith("UPDATE")) {
+            if ("UPDATE".equals(sqlType)) {
                 // UPDATE table_name SET ... 패턴
-                java.util.regex.Pattern pattern = java.util.regex.Pattern.compile(
-                        "UPDATE\\s+([a-zA-Z_][a-zA-Z0-9_]*)\\s+SET",
-                        java.util.regex.Pattern.CASE_INSENSITIVE);
-                java.util.regex.Matcher matcher = pattern.matcher(sql);
+                Matcher matcher = UPDATE_TABLE_PATTERN.matcher(sql);
                 if (matcher.find()) {
                     return matcher.group(1).toLowerCase();
                 }
-            } else if (upperSql.startsWith("INSERT")) {
+            } else if ("INSERT".equals(sqlType)) {
                 // INSERT INTO table_name ... 패턴
-                java.util.regex.Pattern pattern = java.util.regex.Pattern.compile(
-                        "INSERT\\s+INTO\\s+([a-zA-Z_][a-zA-Z0-9_]*)",
-                        java.util.regex.Pattern.CASE_INSENSITIVE);
-                java.util.regex.Matcher matcher = pattern.matcher(sql);
+                Matcher matcher = INSERT_TABLE_PATTERN.matcher(sql);
                 if (matcher.find()) {
                     return matcher.group(1).toLowerCase();
                 }
-            } else if (upperSql.startsWith("DELETE")) {
+            } else if ("DELETE".equals(sqlType)) {
                 // DELETE FROM table_name ... 패턴
-                java.util.regex.Pattern pattern = java.util.regex.Pattern.compile(
-                        "DELETE\\s+FROM\\s+([a-zA-Z_][a-zA-Z0-9_]*)",
-                        java.util.regex.Pattern.CASE_INSENSITIVE);
-                java.util.regex.Matcher matcher = pattern.matcher(sql);
+                Matcher matcher = DELETE_TABLE_PATTERN.matcher(sql);
                 if (matcher.find()) {
                     return matcher.group(1).toLowerCase();
                 }
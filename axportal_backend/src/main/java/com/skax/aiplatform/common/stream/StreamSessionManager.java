@@ -0,0 +1,338 @@
+package com.skax.aiplatform.common.stream;
+
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.skax.aiplatform.common.exception.BusinessException;
+import com.skax.aiplatform.common.exception.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 장시간 스트리밍 응답(SSE/StreamingResponseBody) 실행 및 동시성 관리
+ *
+ * <p>
+ * 스트리밍 엔드포인트는 연결이 유지되는 동안 비동기 스레드 하나를 계속 점유하므로,
+ * MVC 전역 비동기 실행기와 분리된 전용 실행기({@link #asyncTask})에서 실행하고 동시 스트림 수를 제한합니다.
+ * 다른 비동기 응답(파일 다운로드 등)은 전역 실행기를 그대로 사용합니다.
+ * </p>
+ *
+ * <h3>실행 모드 ({@code streaming.executor.mode}):</h3>
+ * <ul>
+ * <li>BOUNDED (기본): 최대 {@code streaming.executor.max-threads} 개의 전용 스레드 풀</li>
+ * <li>VIRTUAL: 가상 스레드 (Java 21 이상 런타임에서만 동작하며, 그 외에는 BOUNDED 로 동작)</li>
+ * </ul>
+ *
+ * <h3>제한:</h3>
+ * <ul>
+ * <li>전체 동시 스트림 수 ({@code streaming.max-concurrent}) 및 사용자별 동시 스트림 수
+ * ({@code streaming.max-per-user}) 를 넘으면 스트림을 시작하지 않고 429 로 응답합니다.</li>
+ * <li>업스트림에서 {@code streaming.idle-timeout-seconds} 동안 데이터가 없으면 업스트림 연결을 닫아 스트림을 종료하고
+ * 슬롯을 회수합니다.</li>
+ * </ul>
+ *
+ * <p>
+ * 활성 스트림 수는 {@code streaming.sessions.active}, 거절/유휴 종료 건수는
+ * {@code streaming.sessions.rejected{reason}}, {@code streaming.sessions.idle-closed} 메트릭으로 확인할 수 있습니다.
+ * </p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class StreamSessionManager implements DisposableBean {
+
+    /**
+     * 실행 모드
+     */
+    public enum Mode {
+        BOUNDED, VIRTUAL;
+
+        static Mode from(String value) {
+            if (value == null || value.isBlank()) {
+                return BOUNDED;
+            }
+            try {
+                return Mode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                log.warn("알 수 없는 스트리밍 실행 모드: {} - BOUNDED 로 동작합니다.", value);
+                return BOUNDED;
+            }
+        }
+    }
+
+    private static final String ANONYMOUS_USER = "anonymous";
+    private static final long IDLE_CHECK_INTERVAL_SECONDS = 5;
+
+    private final int maxConcurrent;
+    private final int maxPerUser;
+    private final long idleTimeoutNanos;
+    private final AsyncTaskExecutor executor;
+    private final ScheduledExecutorService idleWatcher;
+
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final Map<String, Integer> activeByUser = new ConcurrentHashMap<>();
+    private final Set<StreamSession> sessions = ConcurrentHashMap.newKeySet();
+
+    private final Counter globalRejected;
+    private final Counter userRejected;
+    private final Counter idleClosed;
+
+    public StreamSessionManager(
+            MeterRegistry meterRegistry,
+            @Value("${streaming.executor.mode:BOUNDED}") String mode,
+            @Value("${streaming.executor.max-threads:256}") int maxThreads,
+            @Value("${streaming.max-concurrent:200}") int maxConcurrent,
+            @Value("${streaming.max-per-user:5}") int maxPerUser,
+            @Value("${streaming.idle-timeout-seconds:120}") long idleTimeoutSeconds) {
+        this.maxConcurrent = maxConcurrent;
+        this.maxPerUser = maxPerUser;
+        this.idleTimeoutNanos = TimeUnit.SECONDS.toNanos(idleTimeoutSeconds);
+        this.executor = createExecutor(Mode.from(mode), maxThreads);
+
+        this.idleWatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "StreamIdleWatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (idleTimeoutNanos > 0) {
+            idleWatcher.scheduleWithFixedDelay(this::closeIdleSessions,
+                    IDLE_CHECK_INTERVAL_SECONDS, IDLE_CHECK_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        }
+
+        Gauge.builder("streaming.sessions.active", activeCount, AtomicInteger::get)
+                .description("진행 중인 스트리밍 응답 수")
+                .register(meterRegistry);
+        this.globalRejected = Counter.builder("streaming.sessions.rejected")
+                .description("동시 스트림 제한으로 거절된 요청 수")
+                .tag("reason", "global")
+                .register(meterRegistry);
+        this.userRejected = Counter.builder("streaming.sessions.rejected")
+                .description("동시 스트림 제한으로 거절된 요청 수")
+                .tag("reason", "user")
+                .register(meterRegistry);
+        this.idleClosed = Counter.builder("streaming.sessions.idle-closed")
+                .description("유휴 시간 초과로 종료된 스트림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 스트리밍 전용 실행기에서 응답 본문을 쓰는 비동기 작업 생성
+     *
+     * <p>컨트롤러는 응답 헤더를 {@code response} 에 설정한 뒤 이 작업을 반환합니다.
+     * 실행기가 포화되어 작업이 실행되지 못한 경우에도 비동기 요청이 끝나면 세션을 닫아 슬롯을 회수합니다.</p>
+     *
+     * @param session  스트림 세션
+     * @param response 컨트롤러 인자로 받은 응답
+     * @param body     응답 본문 작성
+     * @return 컨트롤러에서 반환할 비동기 작업
+     */
+    public WebAsyncTask<Void> asyncTask(StreamSession session, HttpServletResponse response,
+            StreamingResponseBody body) {
+        WebAsyncTask<Void> task = new WebAsyncTask<>(null, executor, () -> {
+            OutputStream outputStream = response.getOutputStream();
+            body.writeTo(outputStream);
+            outputStream.flush();
+            return null;
+        });
+        task.onCompletion(session::close);
+        return task;
+    }
+
+    /**
+     * 스트림 시작 (동시 스트림 제한 확인)
+     *
+     * <p>요청 스레드에서 업스트림 호출 전에 호출하며, 반환된 세션은 스트림 종료 시 반드시 닫아야 합니다.</p>
+     *
+     * @param userId 사용자 ID (없으면 anonymous 로 집계)
+     * @param name   스트림 이름 (로그용)
+     * @return 스트림 세션
+     * @throws BusinessException 전체 또는 사용자별 동시 스트림 수를 초과한 경우
+     */
+    public StreamSession open(String userId, String name) {
+        String owner = userId == null || userId.isBlank() ? ANONYMOUS_USER : userId;
+
+        if (activeCount.incrementAndGet() > maxConcurrent) {
+            activeCount.decrementAndGet();
+            globalRejected.increment();
+            log.warn("동시 스트림 제한 초과 (전체) - name: {}, userId: {}, limit: {}", name, owner, maxConcurrent);
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS, "동시에 실행 중인 스트리밍 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        boolean[] acquired = new boolean[1];
+        activeByUser.compute(owner, (key, count) -> {
+            int current = count != null ? count : 0;
+            if (current >= maxPerUser) {
+                return count;
+            }
+            acquired[0] = true;
+            return current + 1;
+        });
+        if (!acquired[0]) {
+            activeCount.decrementAndGet();
+            userRejected.increment();
+            log.warn("동시 스트림 제한 초과 (사용자) - name: {}, userId: {}, limit: {}", name, owner, maxPerUser);
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS, "동시에 실행 중인 스트리밍 요청이 많습니다. 진행 중인 대화를 종료한 뒤 다시 시도해주세요.");
+        }
+
+        StreamSession session = new StreamSession(owner, name);
+        sessions.add(session);
+        return session;
+    }
+
+    @Override
+    public void destroy() {
+        idleWatcher.shutdownNow();
+        if (executor instanceof ThreadPoolTaskExecutor threadPool) {
+            threadPool.shutdown();
+        }
+    }
+
+    private void release(StreamSession session) {
+        if (!sessions.remove(session)) {
+            return;
+        }
+        activeCount.decrementAndGet();
+        activeByUser.computeIfPresent(session.userId, (key, count) -> count <= 1 ? null : count - 1);
+    }
+
+    private void closeIdleSessions() {
+        long now = System.nanoTime();
+        for (StreamSession session : sessions) {
+            if (now - session.lastActivityNanos > idleTimeoutNanos) {
+                idleClosed.increment();
+                log.warn("유휴 스트림 종료 - name: {}, userId: {}, idle: {} s", session.name, session.userId,
+                        TimeUnit.NANOSECONDS.toSeconds(now - session.lastActivityNanos));
+                // 업스트림을 닫아 블로킹된 읽기를 깨우고, 실행되지 못한 스트림의 슬롯도 회수
+                session.close();
+            }
+        }
+    }
+
+    private static AsyncTaskExecutor createExecutor(Mode mode, int maxThreads) {
+        if (mode == Mode.VIRTUAL) {
+            if (Runtime.version().feature() >= 21) {
+                SimpleAsyncTaskExecutor virtualExecutor = new SimpleAsyncTaskExecutor("StreamV-");
+                virtualExecutor.setVirtualThreads(true);
+                log.info("스트리밍 실행 모드: VIRTUAL");
+                return virtualExecutor;
+            }
+            log.warn("가상 스레드는 Java 21 이상에서만 사용할 수 있습니다 (현재 {}) - BOUNDED 로 동작합니다.",
+                    Runtime.version().feature());
+        }
+
+        ThreadPoolTaskExecutor threadPool = new ThreadPoolTaskExecutor();
+        threadPool.setCorePoolSize(maxThreads);
+        threadPool.setMaxPoolSize(maxThreads);
+        threadPool.setQueueCapacity(0);
+        threadPool.setAllowCoreThreadTimeOut(true);
+        threadPool.setKeepAliveSeconds(60);
+        threadPool.setThreadNamePrefix("Stream-");
+        threadPool.initialize();
+        log.info("스트리밍 실행 모드: BOUNDED (maxThreads: {})", maxThreads);
+        return threadPool;
+    }
+
+    /**
+     * 진행 중인 스트림
+     *
+     * <p>업스트림 연결({@link #attach(Closeable)})을 등록하면 유휴 시간 초과 시 해당 연결을 닫아
+     * 블로킹된 읽기를 깨웁니다. 데이터를 받을 때마다 {@link #touch()} 로 활동 시각을 갱신합니다.</p>
+     */
+    public final class StreamSession implements AutoCloseable {
+        private final String userId;
+        private final String name;
+        private volatile long lastActivityNanos = System.nanoTime();
+        private volatile Closeable upstream;
+
+        private StreamSession(String userId, String name) {
+            this.userId = userId;
+            this.name = name;
+        }
+
+        /**
+         * 업스트림 연결 등록 (유휴 종료/취소 대상)
+         *
+         * @param upstream 업스트림 응답
+         */
+        public void attach(Closeable upstream) {
+            this.upstream = upstream;
+            touch();
+        }
+
+        /**
+         * 활동 시각 갱신
+         */
+        public void touch() {
+            lastActivityNanos = System.nanoTime();
+        }
+
+        /**
+         * 쓰기마다 활동 시각을 갱신하는 출력 스트림
+         *
+         * <p>업스트림 이벤트를 그대로 중계하는 경우 별도의 {@link #touch()} 호출 없이 유휴 판정에 사용합니다.</p>
+         *
+         * @param outputStream 클라이언트 출력 스트림
+         * @return 활동 시각을 갱신하는 출력 스트림
+         */
+        public OutputStream touching(OutputStream outputStream) {
+            return new FilterOutputStream(outputStream) {
+                @Override
+                public void write(int b) throws IOException {
+                    touch();
+                    out.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    touch();
+                    out.write(b, off, len);
+                }
+            };
+        }
+
+        /**
+         * 업스트림 연결 종료 (클라이언트 연결 종료, 유휴 시간 초과 시)
+         */
+        public void closeUpstream() {
+            Closeable target = upstream;
+            if (target != null) {
+                try {
+                    target.close();
+                } catch (IOException | RuntimeException e) {
+                    log.debug("업스트림 연결 종료 실패 (무시) - name: {}, error: {}", name, e.getMessage());
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            closeUpstream();
+            release(this);
+        }
+    }
+}
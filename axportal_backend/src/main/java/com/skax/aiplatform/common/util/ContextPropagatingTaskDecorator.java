@@ -0,0 +1,47 @@
+package com.skax.aiplatform.common.util;
+
+import java.util.Map;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 호출 스레드의 SecurityContext / MDC 를 작업 스레드로 전달하는 TaskDecorator
+ *
+ * <p>SKTAI 호출 시 사용자별 토큰을 찾을 수 있도록 SecurityContext 를, 로그 추적을 위해 MDC(traceId 등)를 전달합니다.
+ * {@code CallerRunsPolicy} 로 호출 스레드에서 직접 실행되는 경우도 있으므로 실행 후 이전 컨텍스트로 복원합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+public final class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        return () -> {
+            SecurityContext previousSecurityContext = SecurityContextHolder.getContext();
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            SecurityContextHolder.setContext(securityContext);
+            restoreMdc(mdc);
+            try {
+                runnable.run();
+            } finally {
+                SecurityContextHolder.setContext(previousSecurityContext);
+                restoreMdc(previousMdc);
+            }
+        };
+    }
+
+    private static void restoreMdc(Map<String, String> context) {
+        if (context != null) {
+            MDC.setContextMap(context);
+        } else {
+            MDC.clear();
+        }
+    }
+}
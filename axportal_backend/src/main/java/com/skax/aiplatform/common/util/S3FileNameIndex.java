@@ -0,0 +1,132 @@
+package com.skax.aiplatform.common.util;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 버킷별 원본 파일명 → S3 키 인덱스
+ *
+ * <p>
+ * S3 키의 {@code __gaf__} 뒤 원본 파일명(NFC 정규화)을 키로 하는 해시 인덱스를
+ * 페이지 단위 목록 조회로 한 번 만들어 짧은 TTL 동안 재사용합니다.
+ * 파일명 검색이 버킷 객체 수 × 요청 파일 수의 중첩 비교 대신 해시 조회가 됩니다.
+ * </p>
+ *
+ * <p>
+ * 같은 버킷에 업로드한 경우 {@link #invalidate(String)} 로 즉시 무효화하며,
+ * 그 밖의 경로로 추가된 객체는 TTL({@code s3.file-name-index.ttl-seconds}) 이후 반영됩니다.
+ * </p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class S3FileNameIndex {
+
+    private final S3Util s3Util;
+    private final Cache<String, Index> cache;
+
+    public S3FileNameIndex(
+            S3Util s3Util,
+            MeterRegistry meterRegistry,
+            @Value("${s3.file-name-index.ttl-seconds:30}") long ttlSeconds,
+            @Value("${s3.file-name-index.maximum-buckets:50}") long maximumBuckets) {
+        this.s3Util = s3Util;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumBuckets)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "s3.file-name-index");
+    }
+
+    /**
+     * 버킷 인덱스 조회 (없거나 만료되었으면 새로 생성)
+     *
+     * @param bucketName 버킷 이름
+     * @return 원본 파일명 인덱스
+     */
+    public Index get(String bucketName) {
+        return cache.get(bucketName, this::build);
+    }
+
+    /**
+     * 버킷 인덱스 무효화
+     *
+     * @param bucketName 버킷 이름
+     */
+    public void invalidate(String bucketName) {
+        if (bucketName != null) {
+            cache.invalidate(bucketName);
+        }
+    }
+
+    /**
+     * S3 키에서 원본 파일명 추출 ({@code __gaf__} 뒤, 없으면 키 전체)
+     *
+     * @param key S3 키
+     * @return 원본 파일명
+     */
+    public static String originalFileName(String key) {
+        String originalFileName = S3Util.extractOriginalFileName(key);
+        return originalFileName != null ? originalFileName : key;
+    }
+
+    private Index build(String bucketName) {
+        long startTime = System.currentTimeMillis();
+        Map<String, List<String>> keysByName = new HashMap<>();
+        long objectCount = s3Util.scanObjectKeys(bucketName, null, key -> {
+            keysByName.computeIfAbsent(normalize(originalFileName(key)), name -> new ArrayList<>(1)).add(key);
+            return true;
+        });
+        log.info(">>> S3 파일명 인덱스 생성 - bucketName: {}, objects: {}, names: {}, elapsed: {} ms",
+                bucketName, objectCount, keysByName.size(), System.currentTimeMillis() - startTime);
+        return new Index(keysByName);
+    }
+
+    private static String normalize(String name) {
+        return Normalizer.normalize(name, Normalizer.Form.NFC);
+    }
+
+    /**
+     * 원본 파일명 인덱스 (불변)
+     */
+    public static final class Index {
+
+        private final Map<String, List<String>> keysByName;
+
+        private Index(Map<String, List<String>> keysByName) {
+            this.keysByName = keysByName;
+        }
+
+        /**
+         * 원본 파일명으로 S3 키 조회
+         *
+         * @param fileName 원본 파일명 (NFC 정규화 후 비교)
+         * @return 일치하는 S3 키 목록 (목록 조회 순서, 없으면 빈 목록)
+         */
+        public List<String> findKeys(String fileName) {
+            if (fileName == null) {
+                return Collections.emptyList();
+            }
+            return Collections.unmodifiableList(keysByName.getOrDefault(normalize(fileName), Collections.emptyList()));
+        }
+    }
+}
@@ -1,32 +1,59 @@
 package com.skax.aiplatform.common.util;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import com.skax.aiplatform.common.config.S3Config;
+import com.skax.aiplatform.config.S3TransferProperties;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.BucketAlreadyExistsException;
 import software.amazon.awssdk.services.s3.model.BucketLocationConstraint;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
 import software.amazon.awssdk.services.s3.model.CreateBucketConfiguration;
 import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
 import software.amazon.awssdk.services.s3.model.CreateBucketResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteBucketRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
 import software.amazon.awssdk.services.s3.model.HeadBucketResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
@@ -36,6 +63,8 @@ import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
 /**
  * S3 관련 공통 유틸리티 클래스
@@ -50,11 +79,54 @@ import software.amazon.awssdk.services.s3.model.S3Object;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class S3Util {
 
+    /**
+     * 멀티파트 업로드 최소 파트 크기 (마지막 파트 제외)
+     */
+    private static final int MIN_MULTIPART_PART_SIZE = 5 * 1024 * 1024;
+
+    /**
+     * 멀티파트 업로드 최대 파트 수
+     */
+    private static final int MAX_MULTIPART_PARTS = 10000;
+
+    private static final Pattern MD5_ETAG_PATTERN = Pattern.compile("[0-9a-fA-F]{32}(-\\d+)?");
+
+    /**
+     * 목록 조회 페이지 크기 및 DeleteObjects 요청당 최대 키 수
+     */
+    private static final int LIST_PAGE_SIZE = 1000;
+
+    /**
+     * 일괄 삭제(DeleteObjects) 동시 요청 수
+     */
+    private static final int DELETE_BATCH_PARALLELISM = 4;
+
+    /**
+     * S3 키의 원본 파일명 구분자
+     */
+    private static final String ORIGINAL_NAME_DELIMITER = "__gaf__";
+
     private final S3Config s3Config;
 
+    /**
+     * 스트리밍 업로드 파트 크기/동시성 설정 ({@code s3.transfer.*})
+     */
+    private final S3TransferProperties transferProperties;
+
+    /**
+     * 파트 업로드 / 일괄 삭제 공용 스레드 풀 ({@code s3TransferExecutor})
+     */
+    private final ExecutorService transferExecutor;
+
+    public S3Util(S3Config s3Config, S3TransferProperties transferProperties,
+            @Qualifier("s3TransferExecutor") ExecutorService transferExecutor) {
+        this.s3Config = s3Config;
+        this.transferProperties = transferProperties;
+        this.transferExecutor = transferExecutor;
+    }
+
     /**
      * S3Client 인스턴스를 생성합니다.
      * 
@@ -174,6 +246,284 @@ public class S3Util {
         }
     }
 
+    /**
+     * 입력 스트림을 임시 파일 없이 S3에 업로드합니다 (멀티파트 스트리밍).
+     *
+     * <p>
+     * 스트림을 파트 크기({@code s3.transfer.part-size-mb}) 단위로 메모리 버퍼에 읽어 파트별로 병렬 업로드합니다.
+     * 동시에 보유하는 버퍼는 최대 {@code s3.transfer.upload-parallelism} 개이므로
+     * 메모리 사용량은 파트 크기 × 동시 파트 수로 제한됩니다.
+     * 첫 파트를 채우기 전에 스트림이 끝나면 단일 PutObject 로 업로드합니다.
+     * </p>
+     *
+     * <p>
+     * 각 파트에 Content-MD5 를 지정하여 저장소가 파트 무결성을 검증하도록 하고,
+     * 완료 후 ETag 가 MD5 기반 형식이면 로컬에서 계산한 값과 비교합니다.
+     * 전체 내용의 SHA-256 은 결과의 {@code sha256} 으로 반환합니다.
+     * </p>
+     *
+     * @param inputStream 업로드할 입력 스트림 (호출자가 닫음)
+     * @param s3Key       S3 키 (파일 경로)
+     * @param contentType 콘텐츠 타입
+     * @param bucketName  버킷 이름 (null이면 기본 버킷 사용)
+     * @return 업로드 결과 정보
+     */
+    public Map<String, Object> uploadStream(InputStream inputStream, String s3Key, String contentType,
+            String bucketName) {
+        String targetBucketName = bucketName != null && !bucketName.trim().isEmpty()
+                ? bucketName
+                : s3Config.getBucketName();
+        int effectivePartSize = Math.max(transferProperties.getPartSizeBytes(), MIN_MULTIPART_PART_SIZE);
+        int effectiveParallelism = Math.max(transferProperties.getUploadParallelism(), 1);
+
+        log.info(">>> S3 스트리밍 업로드 시작 - s3Key: {}, bucketName: {}, partSize: {} bytes, parallelism: {}",
+                s3Key, targetBucketName, effectivePartSize, effectiveParallelism);
+
+        try (S3Client s3Client = createS3Client()) {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+
+            byte[] firstPart = new byte[effectivePartSize];
+            int firstLength = readPart(inputStream, firstPart);
+            if (firstLength == 0) {
+                throw new IllegalArgumentException("업로드할 데이터가 비어 있습니다: " + s3Key);
+            }
+            sha256.update(firstPart, 0, firstLength);
+
+            Map<String, Object> result;
+            if (firstLength < effectivePartSize) {
+                result = putSinglePart(s3Client, targetBucketName, s3Key, contentType, firstPart, firstLength);
+            } else {
+                result = putMultipart(s3Client, targetBucketName, s3Key, contentType, inputStream, firstPart,
+                        effectivePartSize, effectiveParallelism, sha256);
+            }
+            result.put("sha256", HexFormat.of().formatHex(sha256.digest()));
+
+            log.info(">>> S3 스트리밍 업로드 완료 - s3Key: {}, bucketName: {}, etag: {}, fileSize: {} bytes, parts: {}",
+                    s3Key, targetBucketName, result.get("etag"), result.get("fileSize"), result.get("partCount"));
+            return result;
+
+        } catch (IllegalArgumentException e) {
+            log.error(">>> S3 스트리밍 업로드 실패 - 잘못된 파라미터: s3Key={}, error={}", s3Key, e.getMessage(), e);
+            throw new RuntimeException("S3 스트리밍 업로드 실패: " + e.getMessage(), e);
+        } catch (software.amazon.awssdk.services.s3.model.S3Exception e) {
+            log.error(">>> S3 스트리밍 업로드 실패 - S3 서비스 오류: s3Key={}, statusCode={}, error={}",
+                    s3Key, e.statusCode(), e.getMessage(), e);
+            throw new RuntimeException("S3 스트리밍 업로드 실패: S3 서비스 오류 (" + e.statusCode() + ")", e);
+        } catch (software.amazon.awssdk.core.exception.SdkClientException e) {
+            log.error(">>> S3 스트리밍 업로드 실패 - AWS SDK 클라이언트 오류: s3Key={}, error={}", s3Key, e.getMessage(), e);
+            throw new RuntimeException("S3 스트리밍 업로드 실패: AWS SDK 클라이언트 오류입니다.", e);
+        } catch (IllegalStateException e) {
+            log.error(">>> S3 스트리밍 업로드 실패 - 무결성 검증 오류: s3Key={}, error={}", s3Key, e.getMessage(), e);
+            throw new RuntimeException("S3 스트리밍 업로드 실패: " + e.getMessage(), e);
+        } catch (IOException e) {
+            log.error(">>> S3 스트리밍 업로드 실패 - 입력 스트림 오류: s3Key={}, error={}", s3Key, e.getMessage(), e);
+            throw new RuntimeException("S3 스트리밍 업로드 실패: 원본 스트림을 읽을 수 없습니다.", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("체크섬 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    private Map<String, Object> putSinglePart(S3Client s3Client, String bucketName, String s3Key, String contentType,
+            byte[] data, int length) {
+        byte[] md5 = md5(data, length);
+        PutObjectResponse response = s3Client.putObject(PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(s3Key)
+                .contentType(contentType)
+                .contentLength((long) length)
+                .contentMD5(Base64.getEncoder().encodeToString(md5))
+                .build(),
+                software.amazon.awssdk.core.sync.RequestBody.fromByteBuffer(ByteBuffer.wrap(data, 0, length)));
+
+        verifyEtag(s3Key, response.eTag(), HexFormat.of().formatHex(md5));
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("s3Key", s3Key);
+        result.put("bucketName", bucketName);
+        result.put("etag", response.eTag());
+        result.put("versionId", response.versionId());
+        result.put("fileSize", (long) length);
+        result.put("partCount", 1);
+        return result;
+    }
+
+    private Map<String, Object> putMultipart(S3Client s3Client, String bucketName, String s3Key, String contentType,
+            InputStream inputStream, byte[] firstPart, int partSize, int parallelism, MessageDigest sha256)
+            throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(s3Key)
+                .contentType(contentType)
+                .build()).uploadId();
+
+        // 채우는 중인 버퍼 + 업로드 중인 버퍼 수 제한 (업로드 1건당 동시 파트 수)
+        Semaphore buffers = new Semaphore(parallelism);
+        // 실패한 파트가 있으면 남은 스트림을 읽지 않고 즉시 중단
+        AtomicReference<Throwable> partFailure = new AtomicReference<>();
+        List<Future<CompletedPart>> parts = new ArrayList<>();
+        ByteArrayOutputStream partDigests = new ByteArrayOutputStream();
+        long totalBytes = 0;
+
+        try {
+            buffers.acquire();
+            byte[] buffer = firstPart;
+            int length = partSize;
+            int partNumber = 1;
+            while (true) {
+                if (partNumber > MAX_MULTIPART_PARTS) {
+                    throw new IllegalArgumentException("파트 수가 최대치(" + MAX_MULTIPART_PARTS + ")를 초과했습니다.");
+                }
+                byte[] md5 = md5(buffer, length);
+                partDigests.writeBytes(md5);
+                totalBytes += length;
+                parts.add(submitPart(partFailure, buffers, s3Client, bucketName, s3Key, uploadId, partNumber,
+                        buffer, length, md5));
+                partNumber++;
+
+                buffers.acquire();
+                throwIfPartFailed(partFailure);
+                buffer = new byte[partSize];
+                length = readPart(inputStream, buffer);
+                if (length == 0) {
+                    buffers.release();
+                    break;
+                }
+                sha256.update(buffer, 0, length);
+            }
+
+            List<CompletedPart> completedParts = new ArrayList<>(parts.size());
+            for (Future<CompletedPart> part : parts) {
+                throwIfPartFailed(partFailure);
+                completedParts.add(part.get());
+            }
+
+            CompleteMultipartUploadResponse response = s3Client.completeMultipartUpload(
+                    CompleteMultipartUploadRequest.builder()
+                            .bucket(bucketName)
+                            .key(s3Key)
+                            .uploadId(uploadId)
+                            .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                            .build());
+
+            verifyEtag(s3Key, response.eTag(),
+                    HexFormat.of().formatHex(md5(partDigests.toByteArray(), partDigests.size()))
+                            + "-" + completedParts.size());
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("s3Key", s3Key);
+            result.put("bucketName", bucketName);
+            result.put("etag", response.eTag());
+            result.put("versionId", response.versionId());
+            result.put("fileSize", totalBytes);
+            result.put("partCount", completedParts.size());
+            return result;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abortMultipartUpload(s3Client, bucketName, s3Key, uploadId, parts);
+            throw new IOException("S3 스트리밍 업로드가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            abortMultipartUpload(s3Client, bucketName, s3Key, uploadId, parts);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException("S3 파트 업로드 실패: " + cause.getMessage(), cause);
+        } catch (IOException | RuntimeException e) {
+            abortMultipartUpload(s3Client, bucketName, s3Key, uploadId, parts);
+            throw e;
+        }
+    }
+
+    private static void throwIfPartFailed(AtomicReference<Throwable> partFailure) throws ExecutionException {
+        Throwable failure = partFailure.get();
+        if (failure != null) {
+            throw new ExecutionException(failure);
+        }
+    }
+
+    private Future<CompletedPart> submitPart(AtomicReference<Throwable> partFailure, Semaphore buffers,
+            S3Client s3Client, String bucketName, String s3Key, String uploadId, int partNumber, byte[] buffer,
+            int length, byte[] md5) {
+        return transferExecutor.submit(() -> {
+            try {
+                UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucketName)
+                        .key(s3Key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) length)
+                        .contentMD5(Base64.getEncoder().encodeToString(md5))
+                        .build(),
+                        software.amazon.awssdk.core.sync.RequestBody.fromByteBuffer(ByteBuffer.wrap(buffer, 0, length)));
+                log.debug(">>> S3 파트 업로드 완료 - s3Key: {}, partNumber: {}, size: {} bytes", s3Key, partNumber, length);
+                return CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build();
+            } catch (RuntimeException e) {
+                partFailure.compareAndSet(null, e);
+                throw e;
+            } finally {
+                buffers.release();
+            }
+        });
+    }
+
+    private void abortMultipartUpload(S3Client s3Client, String bucketName, String s3Key, String uploadId,
+            List<Future<CompletedPart>> parts) {
+        parts.forEach(part -> part.cancel(true));
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(s3Key)
+                    .uploadId(uploadId)
+                    .build());
+            log.warn(">>> S3 멀티파트 업로드 취소 - s3Key: {}, uploadId: {}", s3Key, uploadId);
+        } catch (RuntimeException e) {
+            log.error(">>> S3 멀티파트 업로드 취소 실패 - s3Key: {}, uploadId: {}, error: {}", s3Key, uploadId,
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * ETag 가 MD5 기반 형식인 경우 로컬 체크섬과 비교합니다.
+     * (SSE-KMS 등으로 MD5 형식이 아닌 ETag 는 비교하지 않고 Content-MD5 검증에 맡김)
+     */
+    private void verifyEtag(String s3Key, String etag, String expected) {
+        if (etag == null) {
+            return;
+        }
+        String actual = etag.replace("\"", "");
+        if (!MD5_ETAG_PATTERN.matcher(actual).matches()) {
+            log.debug(">>> MD5 형식이 아닌 ETag - 비교 생략: s3Key={}, etag={}", s3Key, etag);
+            return;
+        }
+        if (!actual.equalsIgnoreCase(expected)) {
+            throw new IllegalStateException(
+                    "S3 업로드 체크섬 불일치: s3Key=" + s3Key + ", expected=" + expected + ", actual=" + actual);
+        }
+    }
+
+    private static int readPart(InputStream inputStream, byte[] buffer) throws IOException {
+        int offset = 0;
+        while (offset < buffer.length) {
+            int read = inputStream.read(buffer, offset, buffer.length - offset);
+            if (read == -1) {
+                break;
+            }
+            offset += read;
+        }
+        return offset;
+    }
+
+    private static byte[] md5(byte[] data, int length) {
+        try {
+            MessageDigest md5 = MessageDigest.getInstance("MD5");
+            md5.update(data, 0, length);
+            return md5.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
     /**
      * 새로운 S3 버킷을 생성합니다.
      * 
@@ -365,53 +715,60 @@ public class S3Util {
      * @return 삭제 결과
      */
     public Map<String, Object> deleteObject(String bucketName) {
-        log.info(">>> delete_object 실행 - bucketName: {}", bucketName);
-
-        long deletedCount = 0L;
-        try (S3Client s3Client = createS3Client()) {
-            String continuationToken = null;
-            boolean isTruncated;
-
-            do {
-                ListObjectsV2Request.Builder listRequestBuilder = ListObjectsV2Request.builder()
-                        .bucket(bucketName);
-
-                if (continuationToken != null) {
-                    listRequestBuilder.continuationToken(continuationToken);
-                }
-
-                ListObjectsV2Response listResponse = s3Client.listObjectsV2(listRequestBuilder.build());
-
-                if (listResponse.contents() != null && !listResponse.contents().isEmpty()) {
-                    List<ObjectIdentifier> objectsToDelete = listResponse.contents().stream()
-                            .map(s3Object -> ObjectIdentifier.builder()
-                                    .key(s3Object.key())
-                                    .build())
-                            .collect(java.util.stream.Collectors.toList());
+        return deleteObjects(bucketName, null);
+    }
 
-                    DeleteObjectsRequest deleteRequest = DeleteObjectsRequest.builder()
-                            .bucket(bucketName)
-                            .delete(Delete.builder()
-                                    .objects(objectsToDelete)
-                                    .build())
-                            .build();
+    /**
+     * 버킷 내 객체를 1000건 단위 DeleteObjects 요청으로 병렬 삭제합니다.
+     *
+     * <p>
+     * 목록은 페이지 단위로 조회하면서 1000건이 모일 때마다 삭제 요청을 제출하므로
+     * 버킷 전체 키 목록을 메모리에 올리지 않습니다. 동시 삭제 요청 수는 {@value #DELETE_BATCH_PARALLELISM}개로 제한합니다.
+     * </p>
+     *
+     * @param bucketName 삭제할 객체가 있는 버킷 이름
+     * @param prefix     삭제할 객체 키 접두사 (null이면 전체)
+     * @return 삭제 결과 (deletedObjectCount, failedObjectCount 포함)
+     */
+    public Map<String, Object> deleteObjects(String bucketName, String prefix) {
+        log.info(">>> delete_object 실행 - bucketName: {}, prefix: {}", bucketName, prefix);
 
-                    s3Client.deleteObjects(deleteRequest);
-                    deletedCount += objectsToDelete.size();
-                    log.info(">>> delete_object - bucketName: {}, 누적 삭제 객체 수: {}", bucketName, deletedCount);
+        List<Future<Integer>> batches = new ArrayList<>();
+        try (S3Client s3Client = createS3Client()) {
+            // 공용 전송 풀을 사용하되 삭제 1건당 동시 요청 수는 제한
+            Semaphore inFlight = new Semaphore(DELETE_BATCH_PARALLELISM);
+            List<ObjectIdentifier> batch = new ArrayList<>(LIST_PAGE_SIZE);
+            long requestedCount = 0L;
+
+            for (S3Object s3Object : s3Client.listObjectsV2Paginator(listRequest(bucketName, prefix)).contents()) {
+                batch.add(ObjectIdentifier.builder().key(s3Object.key()).build());
+                if (batch.size() == LIST_PAGE_SIZE) {
+                    batches.add(submitDeleteBatch(s3Client, inFlight, bucketName, batch));
+                    requestedCount += batch.size();
+                    batch = new ArrayList<>(LIST_PAGE_SIZE);
                 }
+            }
+            if (!batch.isEmpty()) {
+                batches.add(submitDeleteBatch(s3Client, inFlight, bucketName, batch));
+                requestedCount += batch.size();
+            }
 
-                continuationToken = listResponse.nextContinuationToken();
-                isTruncated = listResponse.isTruncated();
-            } while (isTruncated);
+            long deletedCount = 0L;
+            for (Future<Integer> future : batches) {
+                deletedCount += future.get();
+            }
+            long failedCount = requestedCount - deletedCount;
 
             Map<String, Object> result = new HashMap<>();
             result.put("bucketName", bucketName);
             result.put("deletedObjectCount", deletedCount);
-            result.put("success", true);
-            result.put("message", "총 " + deletedCount + "개의 객체를 삭제했습니다.");
+            result.put("failedObjectCount", failedCount);
+            result.put("success", failedCount == 0);
+            result.put("message", "총 " + deletedCount + "개의 객체를 삭제했습니다."
+                    + (failedCount > 0 ? " (실패 " + failedCount + "개)" : ""));
 
-            log.info(">>> delete_object 완료 - bucketName: {}, deletedObjectCount: {}", bucketName, deletedCount);
+            log.info(">>> delete_object 완료 - bucketName: {}, deletedObjectCount: {}, failedObjectCount: {}, batches: {}",
+                    bucketName, deletedCount, failedCount, batches.size());
             return result;
 
         } catch (NoSuchBucketException e) {
@@ -429,9 +786,54 @@ public class S3Util {
             log.error(">>> delete_object 실패 - AWS SDK 클라이언트 오류: bucketName={}, error={}",
                     bucketName, e.getMessage(), e);
             throw new RuntimeException("버킷 내 모든 객체 삭제 실패: AWS SDK 클라이언트 오류입니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("버킷 내 모든 객체 삭제가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            log.error(">>> delete_object 실패 - bucketName: {}, error: {}", bucketName, cause.getMessage(), cause);
+            throw new RuntimeException("버킷 내 모든 객체 삭제 중 오류가 발생했습니다: " + cause.getMessage(), cause);
         } catch (Exception e) {
             log.error(">>> delete_object 실패 - bucketName: {}, error: {}", bucketName, e.getMessage(), e);
             throw new RuntimeException("버킷 내 모든 객체 삭제 중 오류가 발생했습니다: " + e.getMessage(), e);
+        } finally {
+            // 실패로 빠져나온 경우 남은 삭제 요청은 취소 (완료된 요청에는 영향 없음)
+            batches.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * DeleteObjects 요청 1건 제출 (동시 요청 수 제한)
+     *
+     * @return 실제 삭제된 객체 수
+     */
+    private Future<Integer> submitDeleteBatch(S3Client s3Client, Semaphore inFlight, String bucketName,
+            List<ObjectIdentifier> objects) throws InterruptedException {
+        inFlight.acquire();
+        try {
+            return transferExecutor.submit(() -> {
+                try {
+                    DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                            .bucket(bucketName)
+                            .delete(Delete.builder()
+                                    .objects(objects)
+                                    .quiet(true)
+                                    .build())
+                            .build());
+                    if (response.hasErrors() && !response.errors().isEmpty()) {
+                        log.warn(">>> delete_object 일부 실패 - bucketName: {}, 실패: {}개, 첫 오류: {} ({})",
+                                bucketName, response.errors().size(), response.errors().get(0).key(),
+                                response.errors().get(0).message());
+                        return objects.size() - response.errors().size();
+                    }
+                    return objects.size();
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
         }
     }
 
@@ -472,30 +874,7 @@ public class S3Util {
 
                 if (response.contents() != null) {
                     for (S3Object s3Object : response.contents()) {
-                        Map<String, Object> objectInfo = new HashMap<>();
-                        objectInfo.put("key", s3Object.key());
-                        objectInfo.put("size", s3Object.size());
-                        objectInfo.put("lastModified", s3Object.lastModified());
-                        objectInfo.put("etag", s3Object.eTag());
-                        objectInfo.put("storageClass", s3Object.storageClass());
-
-                        // Owner 정보를 수동으로 구성
-                        if (s3Object.owner() != null) {
-                            Map<String, Object> ownerInfo = new HashMap<>();
-                            ownerInfo.put("id", s3Object.owner().id());
-                            ownerInfo.put("displayName", s3Object.owner().displayName());
-                            objectInfo.put("owner", ownerInfo);
-                        }
-
-                        // S3 키에서 원본 파일명 추출 (구분자 | 사용)
-                        String key = s3Object.key();
-                        if (key != null && key.contains("__gaf__")) {
-                            // 구분자 | 이후가 원본 파일명
-                            String originalFileName = key.substring(key.lastIndexOf("__gaf__") + 7);
-                            objectInfo.put("originalFileName", originalFileName);
-                        }
-
-                        objects.add(objectInfo);
+                        objects.add(S3ObjectSummary.of(bucketName, s3Object).toMap());
                     }
                 }
 
@@ -548,21 +927,7 @@ public class S3Util {
 
                     if (response.contents() != null) {
                         for (S3Object s3Object : response.contents()) {
-                            Map<String, Object> objectInfo = new HashMap<>();
-                            objectInfo.put("key", s3Object.key());
-                            objectInfo.put("size", s3Object.size());
-                            objectInfo.put("lastModified", s3Object.lastModified());
-                            objectInfo.put("etag", s3Object.eTag());
-                            objectInfo.put("storageClass", s3Object.storageClass());
-
-                            // Owner 정보를 수동으로 구성
-                            if (s3Object.owner() != null) {
-                                Map<String, Object> ownerInfo = new HashMap<>();
-                                ownerInfo.put("id", s3Object.owner().id());
-                                ownerInfo.put("displayName", s3Object.owner().displayName());
-                                objectInfo.put("owner", ownerInfo);
-                            }
-                            objects.add(objectInfo);
+                            objects.add(S3ObjectSummary.of(bucketName, s3Object).toMap());
                         }
                     }
 
@@ -599,6 +964,95 @@ public class S3Util {
         }
     }
 
+    /**
+     * 버킷의 객체 목록을 지연 스트림으로 조회합니다.
+     *
+     * <p>
+     * ListObjectsV2 페이지(최대 1000건)는 스트림을 소비하는 만큼만 조회되므로
+     * {@code findFirst()}, {@code limit()} 등으로 조기 종료하면 이후 페이지는 요청하지 않습니다.
+     * 반환된 스트림은 S3Client 를 점유하므로 반드시 try-with-resources 로 닫아야 하며,
+     * 소비 중 발생한 S3 오류는 SDK 예외(RuntimeException)로 그대로 전파됩니다.
+     * </p>
+     *
+     * @param bucketName 조회할 버킷 이름
+     * @param prefix     객체 키 접두사 (선택사항)
+     * @return 객체 요약 스트림
+     */
+    public Stream<S3ObjectSummary> streamObjects(String bucketName, String prefix) {
+        S3Client s3Client = createS3Client();
+        try {
+            return streamObjects(s3Client, bucketName, prefix).onClose(s3Client::close);
+        } catch (RuntimeException e) {
+            s3Client.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 버킷의 객체를 페이지 단위로 순회합니다.
+     *
+     * <p>
+     * visitor 가 false 를 반환하면 다음 페이지를 조회하지 않고 즉시 종료합니다.
+     * </p>
+     *
+     * @param bucketName 조회할 버킷 이름
+     * @param prefix     객체 키 접두사 (선택사항)
+     * @param visitor    객체 처리 함수 (false 반환 시 순회 중단)
+     * @return 순회한 객체 수
+     */
+    public long scanObjects(String bucketName, String prefix, Predicate<S3ObjectSummary> visitor) {
+        long visited = 0;
+        try (Stream<S3ObjectSummary> objects = streamObjects(bucketName, prefix)) {
+            Iterator<S3ObjectSummary> iterator = objects.iterator();
+            while (iterator.hasNext()) {
+                visited++;
+                if (!visitor.test(iterator.next())) {
+                    break;
+                }
+            }
+            return visited;
+        } catch (NoSuchBucketException e) {
+            log.error(">>> 버킷 객체 순회 실패 - 버킷이 존재하지 않음: bucketName={}", bucketName);
+            throw new RuntimeException("버킷이 존재하지 않습니다: " + bucketName, e);
+        } catch (software.amazon.awssdk.services.s3.model.S3Exception e) {
+            log.error(">>> 버킷 객체 순회 실패 - S3 서비스 오류: bucketName={}, statusCode={}, error={}",
+                    bucketName, e.statusCode(), e.getMessage(), e);
+            throw new RuntimeException("버킷 객체 목록 조회 실패: S3 서비스 오류 (" + e.statusCode() + ")", e);
+        } catch (software.amazon.awssdk.core.exception.SdkClientException e) {
+            log.error(">>> 버킷 객체 순회 실패 - AWS SDK 클라이언트 오류: bucketName={}, error={}",
+                    bucketName, e.getMessage(), e);
+            throw new RuntimeException("버킷 객체 목록 조회 실패: AWS SDK 클라이언트 오류입니다.", e);
+        }
+    }
+
+    /**
+     * 버킷의 객체 키를 페이지 단위로 순회합니다.
+     *
+     * @param bucketName 조회할 버킷 이름
+     * @param prefix     객체 키 접두사 (선택사항)
+     * @param visitor    키 처리 함수 (false 반환 시 순회 중단)
+     * @return 순회한 객체 수
+     * @see #scanObjects(String, String, Predicate)
+     */
+    public long scanObjectKeys(String bucketName, String prefix, Predicate<String> visitor) {
+        return scanObjects(bucketName, prefix, summary -> visitor.test(summary.key()));
+    }
+
+    private Stream<S3ObjectSummary> streamObjects(S3Client s3Client, String bucketName, String prefix) {
+        return s3Client.listObjectsV2Paginator(listRequest(bucketName, prefix)).contents().stream()
+                .map(s3Object -> S3ObjectSummary.of(bucketName, s3Object));
+    }
+
+    private static ListObjectsV2Request listRequest(String bucketName, String prefix) {
+        ListObjectsV2Request.Builder requestBuilder = ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .maxKeys(LIST_PAGE_SIZE);
+        if (prefix != null && !prefix.isEmpty()) {
+            requestBuilder.prefix(prefix);
+        }
+        return requestBuilder.build();
+    }
+
     /**
      * 버킷의 리전을 조회합니다.
      * 
@@ -735,9 +1189,9 @@ public class S3Util {
             long fileSize = targetFile.length();
 
             // 파일명 추출 (__gaf__ 기준)
-            String actualFileName = fileName;
-            if (foundS3Key != null && foundS3Key.contains("__gaf__")) {
-                actualFileName = foundS3Key.substring(foundS3Key.lastIndexOf("__gaf__") + 7);
+            String actualFileName = extractOriginalFileName(foundS3Key);
+            if (actualFileName == null) {
+                actualFileName = fileName;
             }
 
             Map<String, Object> result = new HashMap<>();
@@ -803,28 +1257,16 @@ public class S3Util {
     private String findS3KeyByFileName(String fileName, String bucketName, S3Client s3Client) {
         log.info(">>> S3 키 검색 시작 - fileName: {}, bucketName: {}", fileName, bucketName);
 
-        try {
-            ListObjectsV2Request listRequest = ListObjectsV2Request.builder()
-                    .bucket(bucketName)
-                    .build();
-
-            ListObjectsV2Response response = s3Client.listObjectsV2(listRequest);
-
-            if (response.contents() != null) {
-                for (S3Object s3Object : response.contents()) {
-                    String key = s3Object.key();
-
-                    // __gaf__ 구분자 뒤의 파일명 추출
-                    if (key != null && key.contains("__gaf__")) {
-                        String originalFileName = key.substring(key.lastIndexOf("__gaf__") + 7);
-
-                        // 파일명 비교 (정규화)
-                        if (originalFileName.equals(fileName)) {
-                            log.info(">>> 파일명으로 S3 키 발견 - fileName: {}, s3Key: {}", fileName, key);
-                            return key;
-                        }
-                    }
-                }
+        try (Stream<S3ObjectSummary> objects = streamObjects(s3Client, bucketName, null)) {
+            // 페이지 단위로 조회하다 첫 일치 항목에서 중단
+            String key = objects
+                    .filter(summary -> fileName != null && fileName.equals(summary.originalFileName()))
+                    .map(S3ObjectSummary::key)
+                    .findFirst()
+                    .orElse(null);
+            if (key != null) {
+                log.info(">>> 파일명으로 S3 키 발견 - fileName: {}, s3Key: {}", fileName, key);
+                return key;
             }
 
             log.warn(">>> 파일명으로 S3 키를 찾을 수 없음 - fileName: {}", fileName);
@@ -902,4 +1344,80 @@ public class S3Util {
             throw new RuntimeException("S3 객체 복사 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * S3 키에서 {@code __gaf__} 뒤 원본 파일명 추출
+     *
+     * @param key S3 키
+     * @return 원본 파일명 (키가 없거나 구분자가 없으면 null)
+     */
+    public static String extractOriginalFileName(String key) {
+        if (key == null) {
+            return null;
+        }
+        int index = key.lastIndexOf(ORIGINAL_NAME_DELIMITER);
+        return index >= 0 ? key.substring(index + ORIGINAL_NAME_DELIMITER.length()) : null;
+    }
+
+    /**
+     * 객체 목록 조회 결과 요약
+     *
+     * @param bucketName       버킷 이름
+     * @param key              객체 키
+     * @param size             객체 크기 (bytes)
+     * @param lastModified     최종 수정 시각
+     * @param etag             ETag
+     * @param storageClass     스토리지 클래스
+     * @param ownerId          소유자 ID (목록 조회 시 미제공이면 null)
+     * @param ownerDisplayName 소유자 표시명 (목록 조회 시 미제공이면 null)
+     */
+    public record S3ObjectSummary(String bucketName, String key, long size, Instant lastModified, String etag,
+            String storageClass, String ownerId, String ownerDisplayName) {
+
+        static S3ObjectSummary of(String bucketName, S3Object s3Object) {
+            return new S3ObjectSummary(
+                    bucketName,
+                    s3Object.key(),
+                    s3Object.size() != null ? s3Object.size() : 0L,
+                    s3Object.lastModified(),
+                    s3Object.eTag(),
+                    s3Object.storageClassAsString(),
+                    s3Object.owner() != null ? s3Object.owner().id() : null,
+                    s3Object.owner() != null ? s3Object.owner().displayName() : null);
+        }
+
+        /**
+         * 키의 {@code __gaf__} 뒤 원본 파일명
+         *
+         * @return 원본 파일명 (구분자가 없으면 null)
+         */
+        public String originalFileName() {
+            return extractOriginalFileName(key);
+        }
+
+        /**
+         * 기존 목록 조회 응답 형식(Map)으로 변환
+         *
+         * @return key, size, lastModified, etag, storageClass, owner, originalFileName 을 담은 Map
+         */
+        public Map<String, Object> toMap() {
+            Map<String, Object> objectInfo = new HashMap<>();
+            objectInfo.put("key", key);
+            objectInfo.put("size", size);
+            objectInfo.put("lastModified", lastModified);
+            objectInfo.put("etag", etag);
+            objectInfo.put("storageClass", storageClass);
+            if (ownerId != null || ownerDisplayName != null) {
+                Map<String, Object> ownerInfo = new HashMap<>();
+                ownerInfo.put("id", ownerId);
+                ownerInfo.put("displayName", ownerDisplayName);
+                objectInfo.put("owner", ownerInfo);
+            }
+            String originalFileName = originalFileName();
+            if (originalFileName != null) {
+                objectInfo.put("originalFileName", originalFileName);
+            }
+            return objectInfo;
+        }
+    }
 }
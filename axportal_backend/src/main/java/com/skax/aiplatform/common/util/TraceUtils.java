@@ -248,6 +248,15 @@ public class TraceUtils {
         log.info("REQUEST_END: {} {} - {} ({}ms)", method, uri, statusCode, duration);
     }
 
+    /**
+     * API 호출 시작/완료 로그 출력 여부 (파라미터/결과 포맷팅 생략 판단용)
+     * 
+     * @return DEBUG 레벨 활성화 여부
+     */
+    public static boolean isApiCallLoggingEnabled() {
+        return log.isDebugEnabled();
+    }
+
     /**
      * API 호출 시작 로그
      * 
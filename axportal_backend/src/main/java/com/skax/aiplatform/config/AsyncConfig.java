@@ -1,11 +1,15 @@
 package com.skax.aiplatform.config;
 
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
@@ -33,4 +37,24 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * S3 전송(멀티파트 파트 업로드, 일괄 삭제)용 공용 스레드 풀
+     *
+     * <p>요청마다 스레드 풀을 만들지 않도록 전체 동시 전송 수를 여기서 제한합니다.
+     * 큐가 가득 차면 호출 스레드가 직접 실행하여 자연스럽게 속도를 늦춥니다.
+     * {@code @Async} 기본 실행기 선택에 영향을 주지 않도록 {@link ExecutorService} 로 등록합니다.
+     * 크기는 {@link S3TransferProperties} ({@code s3.transfer.*}) 로 설정합니다.</p>
+     */
+    @Bean(name = "s3TransferExecutor", destroyMethod = "shutdownNow")
+    public ExecutorService s3TransferExecutor(S3TransferProperties s3TransferProperties) {
+        int poolSize = s3TransferProperties.getPoolSize();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("s3-transfer-");
+        threadFactory.setDaemon(true);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(s3TransferProperties.getQueueCapacity()), threadFactory,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
 }
@@ -0,0 +1,66 @@
+package com.skax.aiplatform.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * S3 전송 설정 Properties
+ *
+ * <p>application.yml의 s3.transfer 속성을 바인딩하는 설정 클래스입니다.
+ * 공용 전송 스레드 풀({@code s3TransferExecutor})과 멀티파트 스트리밍 업로드, 서버 측 복사의 동시성을 설정합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "s3.transfer")
+public class S3TransferProperties {
+
+    /**
+     * 공용 전송 스레드 수 (파트 업로드, 일괄 삭제)
+     */
+    private int poolSize = 16;
+
+    /**
+     * 공용 전송 스레드 풀 대기열 크기 (가득 차면 호출 스레드가 직접 실행)
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * 스트리밍 업로드 파트 크기 (MB, 최소 5MB)
+     */
+    private int partSizeMb = 8;
+
+    /**
+     * 스트리밍 업로드 동시 파트 수 (업로드당 메모리 버퍼 수)
+     */
+    private int uploadParallelism = 4;
+
+    /**
+     * 서버 측 복사(copy_object) 동시 실행 수
+     */
+    private int copyParallelism = 8;
+
+    /**
+     * 스트리밍 업로드 파트 크기 (bytes)
+     *
+     * @return 파트 크기
+     */
+    public int getPartSizeBytes() {
+        return partSizeMb * 1024 * 1024;
+    }
+
+    /**
+     * 서버 측 복사 동시 실행 수 (최소 1)
+     *
+     * @return 동시 복사 수
+     */
+    public int getCopyParallelism() {
+        return Math.max(1, copyParallelism);
+    }
+}
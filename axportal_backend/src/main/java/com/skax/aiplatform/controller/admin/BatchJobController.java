@@ -0,0 +1,89 @@
+package com.skax.aiplatform.controller.admin;
+
+import java.util.List;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.skax.aiplatform.common.batch.BatchJobCoordinator;
+import com.skax.aiplatform.common.response.AxResponseEntity;
+import com.skax.aiplatform.dto.admin.response.BatchJobRes;
+import com.skax.aiplatform.dto.admin.response.BatchJobRunRes;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 배치 작업 관리 컨트롤러
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/admin/batch-jobs")
+@RequiredArgsConstructor
+@Tag(name = "BatchJobController", description = "배치 작업 관리 API")
+public class BatchJobController {
+
+    private static final int MAX_RUN_LIMIT = 200;
+
+    private final BatchJobCoordinator batchJobCoordinator;
+
+    @GetMapping
+    @Operation(summary = "배치 작업 목록 조회", description = "등록된 배치 작업의 잠금 상태와 마지막 실행 이력을 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "배치 작업 목록 조회 성공"),
+        @ApiResponse(responseCode = "500", description = "배치 작업 목록 조회 실패")
+    })
+    public AxResponseEntity<List<BatchJobRes>> getJobs() {
+        log.info("배치 작업 목록 조회 요청");
+
+        return AxResponseEntity.ok(batchJobCoordinator.getJobs(), "배치 작업 목록을 성공적으로 조회했습니다.");
+    }
+
+    @GetMapping("/{jobName}/runs")
+    @Operation(summary = "배치 작업 실행 이력 조회", description = "배치 작업의 최근 실행 이력을 최신순으로 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "배치 작업 실행 이력 조회 성공"),
+        @ApiResponse(responseCode = "404", description = "등록되지 않은 배치 작업"),
+        @ApiResponse(responseCode = "500", description = "배치 작업 실행 이력 조회 실패")
+    })
+    public AxResponseEntity<List<BatchJobRunRes>> getRuns(
+            @Parameter(description = "작업명", example = "hr-data-import") @PathVariable String jobName,
+            @Parameter(description = "최대 조회 건수", example = "20") @RequestParam(defaultValue = "20") int limit) {
+        log.info("배치 작업 실행 이력 조회 요청 - jobName: {}, limit: {}", jobName, limit);
+
+        List<BatchJobRunRes> runs = batchJobCoordinator.getRuns(jobName, Math.min(limit, MAX_RUN_LIMIT));
+        return AxResponseEntity.ok(runs, "배치 작업 실행 이력을 성공적으로 조회했습니다.");
+    }
+
+    @PostMapping("/{jobName}/run")
+    @Operation(summary = "배치 작업 수동 실행", description = "배치 작업을 즉시 실행합니다. 다른 Pod 에서 실행 중이면 실행하지 않습니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "배치 작업 실행 시작"),
+        @ApiResponse(responseCode = "404", description = "등록되지 않은 배치 작업"),
+        @ApiResponse(responseCode = "409", description = "이미 실행 중인 배치 작업"),
+        @ApiResponse(responseCode = "500", description = "배치 작업 실행 실패")
+    })
+    public AxResponseEntity<BatchJobRunRes> runJob(
+            @Parameter(description = "작업명", example = "hr-data-import") @PathVariable String jobName) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String userId = authentication != null ? authentication.getName() : null;
+        log.info("배치 작업 수동 실행 요청 - jobName: {}, userId: {}", jobName, userId);
+
+        return AxResponseEntity.ok(batchJobCoordinator.trigger(jobName, userId), "배치 작업 실행을 시작했습니다.");
+    }
+}
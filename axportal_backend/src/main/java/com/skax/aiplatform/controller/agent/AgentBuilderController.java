@@ -8,7 +8,6 @@ import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
@@ -23,11 +22,14 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 import com.skax.aiplatform.common.exception.BusinessException;
 import com.skax.aiplatform.common.exception.ErrorCode;
 import com.skax.aiplatform.common.response.AxResponseEntity;
 import com.skax.aiplatform.common.response.PageResponse;
+import com.skax.aiplatform.common.stream.StreamSessionManager;
+import com.skax.aiplatform.common.stream.StreamSessionManager.StreamSession;
 import com.skax.aiplatform.dto.agent.response.AgentAppInfoRes;
 import com.skax.aiplatform.dto.agent.response.AgentBuilderRes;
 import com.skax.aiplatform.repository.auth.GpoUsersMasRepository;
@@ -38,6 +40,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -61,6 +64,7 @@ public class AgentBuilderController {
 
     private final AgentBuilderService agentBuilderService;
     private final GpoUsersMasRepository gpoUsersMasRepository;
+    private final StreamSessionManager streamSessionManager;
 
     @Value("${sktai.api.phoenix-base-url}")
     private String phoenixBaseUrl;
@@ -218,15 +222,22 @@ public class AgentBuilderController {
      */
     @PostMapping(value = "/builder/graphs/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     @Operation(summary = "에이전트 채팅")
-    public ResponseEntity<org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody> executeAgentGraphStream(
-            @RequestBody Map<String, Object> request) {
+    public WebAsyncTask<Void> executeAgentGraphStream(
+            @RequestBody Map<String, Object> request, HttpServletResponse response) {
+
+        // 전체/사용자별 동시 스트림 제한 확인 (초과 시 스트림을 시작하지 않고 429 응답)
+        StreamSession session = streamSessionManager.open(
+                SecurityContextHolder.getContext().getAuthentication() != null
+                        ? SecurityContextHolder.getContext().getAuthentication().getName()
+                        : null,
+                "agent-graph");
 
         org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody responseBody = outputStream -> {
             try {
-                agentBuilderService.streamAgentGraph(request, outputStream);
-
-                // 스트리밍 완료 후 명시적으로 종료 신호 전송
-                writeSseDone(outputStream);
+                if (agentBuilderService.streamAgentGraph(request, outputStream, session)) {
+                    // 스트리밍 완료 후 명시적으로 종료 신호 전송
+                    writeSseDone(outputStream);
+                }
             } catch (BusinessException e) {
                 log.error("에이전트 그래프 실행 스트리밍 비즈니스 오류: {}", e.getMessage(), e);
                 writeSseError(outputStream, e.getMessage() != null ? e.getMessage() : "Business error",
@@ -262,15 +273,17 @@ public class AgentBuilderController {
                 writeSseError(outputStream, errorMessage, e.getClass().getSimpleName());
                 // 🔥 스트림 종료 신호 전송
                 writeSseDone(outputStream);
+            } finally {
+                session.close();
             }
         };
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.TEXT_EVENT_STREAM)
-                .header("Cache-Control", "no-cache")
-                .header("Connection", "keep-alive")
-                .header("X-Accel-Buffering", "no")
-                .body(responseBody);
+        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        response.setHeader("Cache-Control", "no-cache");
+        response.setHeader("Connection", "keep-alive");
+        response.setHeader("X-Accel-Buffering", "no");
+        // MVC 전역 비동기 실행기가 아닌 스트리밍 전용 실행기에서 실행
+        return streamSessionManager.asyncTask(session, response, responseBody);
     }
 
     /**
@@ -1,11 +1,13 @@
 package com.skax.aiplatform.controller.deploy;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -16,11 +18,16 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.skax.aiplatform.client.sktai.agentgateway.service.AgentEventStream;
 import com.skax.aiplatform.client.sktai.auth.dto.request.PolicyRequest;
 import com.skax.aiplatform.common.response.AxResponseEntity;
 import com.skax.aiplatform.common.response.PageResponse;
+import com.skax.aiplatform.common.stream.StreamSessionManager;
+import com.skax.aiplatform.common.stream.StreamSessionManager.StreamSession;
 import com.skax.aiplatform.dto.deploy.request.AgentSysLogSearchReq;
 import com.skax.aiplatform.dto.deploy.request.AppCreateReq;
 import com.skax.aiplatform.dto.deploy.request.AppUpdateReq;
@@ -42,6 +49,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -60,6 +68,7 @@ import lombok.extern.slf4j.Slf4j;
 public class AgentDeployController {
 
     private final AgentDeployService agentDeployService;
+    private final StreamSessionManager streamSessionManager;
     
     @Value("${sktai.api.base-url}")
     private String baseUrl;
@@ -630,18 +639,45 @@ public class AgentDeployController {
     @PostMapping(value = "/app/{deployId}/stream", 
                  produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     @Operation(summary = "Agent 스트리밍 추론", description = "Agent Gateway를 통해 스트리밍 추론을 실행합니다.")
-    public ResponseEntity<String> getStreamAgent(
+    public WebAsyncTask<Void> getStreamAgent(
         @PathVariable("deployId") @Parameter(description = "배포 ID", example = "074c42fe-04ae-41a2-94f6-a3b6f722061e") String deployId,
         @RequestParam(value = "routerPath", required = false) @Parameter(description = "라우터 경로", example = "") String routerPath,
         @RequestBody @Valid StreamReq request,
-        @RequestParam("authorization") @Parameter(description = "인증 토큰", example = "sk-853133bfec004bf9b39405f37f9dfcf6") String authorization) {
+        @RequestParam("authorization") @Parameter(description = "인증 토큰", example = "sk-853133bfec004bf9b39405f37f9dfcf6") String authorization,
+        HttpServletResponse response) {
     
-        // Raw SSE 응답을 그대로 반환
-        String rawSSEResponse = agentDeployService.getStreamAgentRaw(deployId, routerPath, request, authorization);
-
-        return ResponseEntity.ok()
-                .contentType(MediaType.TEXT_EVENT_STREAM)
-                .body(rawSSEResponse);
+        // 전체/사용자별 동시 스트림 제한 확인 (초과 시 스트림을 시작하지 않고 429 응답)
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        StreamSession session = streamSessionManager.open(
+                authentication != null ? authentication.getName() : null, "agent-deploy-stream");
+
+        // 업스트림 연결은 요청 스레드에서 열어 연결 오류를 일반 오류 응답으로 반환
+        AgentEventStream eventStream;
+        try {
+            eventStream = agentDeployService.openStreamAgent(deployId, routerPath, request, authorization);
+        } catch (RuntimeException e) {
+            session.close();
+            throw e;
+        }
+        // 유휴 시간 초과 시 업스트림을 닫아 블로킹된 읽기를 깨움
+        session.attach(eventStream);
+
+        // SSE 이벤트를 수신 즉시 브라우저로 중계 (클라이언트 연결 종료 시 close 로 업스트림 호출 취소)
+        StreamingResponseBody responseBody = outputStream -> {
+            try (eventStream) {
+                eventStream.relayTo(session.touching(outputStream));
+            } catch (IOException e) {
+                log.warn("Agent 스트리밍 중계 중단 - deployId: {}, error: {}", deployId, e.getMessage());
+            } finally {
+                session.close();
+            }
+        };
+
+        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        response.setHeader("Cache-Control", "no-cache");
+        response.setHeader("X-Accel-Buffering", "no");
+        // MVC 전역 비동기 실행기가 아닌 스트리밍 전용 실행기에서 실행
+        return streamSessionManager.asyncTask(session, response, responseBody);
     }
 
     @GetMapping("/app/cluster/resources")
@@ -0,0 +1,41 @@
+package com.skax.aiplatform.dto.admin.response;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 배치 작업 상태 응답 DTO
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Data
+@Builder
+@Schema(description = "배치 작업 상태")
+public class BatchJobRes {
+
+    @Schema(description = "작업명", example = "hr-data-import")
+    private String jobName;
+
+    @Schema(description = "잠금 임대 시간 (초)")
+    private long leaseSeconds;
+
+    @Schema(description = "잠금 여부 (다른 실행이 진행 중이거나 최소 유지 시간 이내)")
+    private boolean locked;
+
+    @Schema(description = "잠금 소유자")
+    private String lockOwner;
+
+    @Schema(description = "잠금 획득 일시")
+    private LocalDateTime lockedAt;
+
+    @Schema(description = "잠금 만료 일시")
+    private LocalDateTime lockUntil;
+
+    @Schema(description = "마지막 실행 이력")
+    private BatchJobRunRes lastRun;
+}
@@ -0,0 +1,53 @@
+package com.skax.aiplatform.dto.admin.response;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 배치 작업 실행 이력 응답 DTO
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Data
+@Builder
+@Schema(description = "배치 작업 실행 이력")
+public class BatchJobRunRes {
+
+    @Schema(description = "실행ID")
+    private String runId;
+
+    @Schema(description = "작업명", example = "hr-data-import")
+    private String jobName;
+
+    @Schema(description = "실행 구분 (SCHEDULED, MANUAL)")
+    private String triggerType;
+
+    @Schema(description = "실행 상태 (RUNNING, SUCCESS, FAILED)")
+    private String status;
+
+    @Schema(description = "실행 인스턴스ID")
+    private String instanceId;
+
+    @Schema(description = "요청자 (수동 실행 시)")
+    private String requestUserId;
+
+    @Schema(description = "시작 일시")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "종료 일시")
+    private LocalDateTime endedAt;
+
+    @Schema(description = "소요 시간 (ms)")
+    private Long durationMs;
+
+    @Schema(description = "처리 건수 (집계하지 않는 작업은 null)")
+    private Long rowCount;
+
+    @Schema(description = "오류 메시지")
+    private String errorMessage;
+}
@@ -15,4 +15,5 @@ public class ExternalKnowledgeFilesReq {
     private Integer countPerPage;
     private String search;
     private String uuid;
+    private String cursor; // 이전 응답의 nextCursor (지정 시 page 대신 커서 다음부터 조회)
 }
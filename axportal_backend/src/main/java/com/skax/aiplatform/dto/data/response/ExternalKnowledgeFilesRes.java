@@ -12,6 +12,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class ExternalKnowledgeFilesRes {
 	private PageResponse<Item> page;
+	private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
 
 	@Data
 	@Builder
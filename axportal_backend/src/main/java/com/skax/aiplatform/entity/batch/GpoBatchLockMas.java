@@ -0,0 +1,57 @@
+package com.skax.aiplatform.entity.batch;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 작업 잠금 엔티티
+ *
+ * <p>배치 작업별 잠금 행으로, {@code lock_until} 이 지나기 전까지는 다른 인스턴스가 같은 작업을 실행하지 않습니다.
+ * 잠금 획득/해제는 {@link com.skax.aiplatform.common.batch.BatchJobCoordinator} 가 조건부 UPDATE 로 처리합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Entity
+@Table(name = "gpo_batch_lock_mas")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Data
+@Builder
+public class GpoBatchLockMas {
+
+    /**
+     * 작업명 (PK)
+     */
+    @Id
+    @Column(name = "job_nm", nullable = false, length = 100)
+    private String jobNm;
+
+    /**
+     * 잠금 소유자 (인스턴스ID/실행ID)
+     */
+    @Column(name = "lock_owner", length = 200)
+    private String lockOwner;
+
+    /**
+     * 잠금 획득 일시
+     */
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+
+    /**
+     * 잠금 만료 일시
+     */
+    @Column(name = "lock_until", nullable = false)
+    private LocalDateTime lockUntil;
+}
@@ -0,0 +1,99 @@
+package com.skax.aiplatform.entity.batch;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 작업 실행 이력 엔티티
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Entity
+@Table(name = "gpo_batch_run_mas", indexes = {
+        @Index(name = "ix_gpo_batch_run_mas_01", columnList = "job_nm, started_at"),
+        @Index(name = "ix_gpo_batch_run_mas_02", columnList = "started_at") })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Data
+@Builder
+public class GpoBatchRunMas {
+
+    /**
+     * 실행ID (PK)
+     */
+    @Id
+    @Column(name = "run_id", nullable = false, length = 50)
+    private String runId;
+
+    /**
+     * 작업명
+     */
+    @Column(name = "job_nm", nullable = false, length = 100)
+    private String jobNm;
+
+    /**
+     * 실행 구분 (SCHEDULED, MANUAL)
+     */
+    @Column(name = "trigger_type", length = 20)
+    private String triggerType;
+
+    /**
+     * 실행 상태 (RUNNING, SUCCESS, FAILED)
+     */
+    @Column(name = "run_status", length = 20)
+    private String runStatus;
+
+    /**
+     * 실행 인스턴스ID
+     */
+    @Column(name = "instance_id", length = 200)
+    private String instanceId;
+
+    /**
+     * 요청자 (수동 실행 시)
+     */
+    @Column(name = "rqst_user_id", length = 50)
+    private String rqstUserId;
+
+    /**
+     * 시작 일시
+     */
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    /**
+     * 종료 일시
+     */
+    @Column(name = "ended_at")
+    private LocalDateTime endedAt;
+
+    /**
+     * 소요 시간 (ms)
+     */
+    @Column(name = "duration_ms")
+    private Long durationMs;
+
+    /**
+     * 처리 건수
+     */
+    @Column(name = "row_cnt")
+    private Long rowCnt;
+
+    /**
+     * 오류 메시지
+     */
+    @Column(name = "error_msg", length = 2000)
+    private String errorMsg;
+}
@@ -1,5 +1,6 @@
 package com.skax.aiplatform.repository.deploy;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -67,6 +68,15 @@ public interface GpoMigMasRepository extends JpaRepository<GpoMigMas, GpoMigMasI
          */
         Optional<GpoMigMas> findByPgmDescCtnt(String pgmDescCtnt);
 
+        /**
+         * 프로그램 설명 내용(자산 ID) 목록 중 운영 이행 이력이 있는 값 조회
+         * 
+         * @param pgmDescCtnts 프로그램 설명 내용 목록
+         * @return 운영 이행 이력이 있는 프로그램 설명 내용
+         */
+        @Query("SELECT DISTINCT m.pgmDescCtnt FROM GpoMigMas m WHERE m.pgmDescCtnt IN :pgmDescCtnts")
+        List<String> findPgmDescCtntIn(@Param("pgmDescCtnts") Collection<String> pgmDescCtnts);
+
         /**
          * 운영 이행 관리 조회 (페이지네이션 지원) - Native Query
          * 
@@ -29,6 +29,17 @@ public interface UserUsageMgmtService {
      * @param userUsageMgmt 사용자 사용량 관리 정보
      */
     void createUserUsageMgmtAsync(UserUsageMgmtReq userUsageMgmt);
+
+    /**
+     * 사용자 사용량 관리 배치 저장 요청
+     *
+     * <p>요청 스레드에서는 큐 적재만 수행하고 실제 저장은 백그라운드에서 배치로 처리합니다.
+     * loginLogUserInfo 가 있으면 저장 후 가장 가까운 로그인 로그를 갱신합니다.</p>
+     *
+     * @param userUsageMgmt    사용자 사용량 관리 정보
+     * @param loginLogUserInfo 로그인 로그에 반영할 사용자 정보 (users/me 호출이 아니면 null)
+     */
+    void submitUserUsageMgmt(UserUsageMgmtReq userUsageMgmt, String loginLogUserInfo);
     
     /**
      * 가장 가까운 로그인 로그에 사용자 정보 업데이트
@@ -109,9 +120,11 @@ public interface UserUsageMgmtService {
     List<ProjectRes> getProjectsByName(String projectName);
 
     /**
-     * 30일 전 사용자 사용량 관리 데이터 삭제
+     * 보관 기간(기본 30일)이 지난 사용자 사용량 관리 데이터 삭제
+     * 
+     * <p>SEQ_NO 구간 단위로 나누어 구간마다 커밋합니다.</p>
      * 
-     * @return 삭제된 레코드 수
+     * @return 삭제된 레코드 수 (파티션 삭제분 제외)
      */
     long deleteOldUserUsageMgmtData();
 
@@ -25,6 +25,7 @@ import com.skax.aiplatform.repository.auth.GpoUsersMasRepository;
 import com.skax.aiplatform.repository.mapping.GpoAssetPrjMapMasRepository;
 import com.skax.aiplatform.service.admin.AdminAuthService;
 import com.skax.aiplatform.service.auth.TokenCacheService;
+import com.skax.aiplatform.service.common.AssetVisibilityResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
@@ -72,6 +73,7 @@ public class AdminAuthServiceImpl implements AdminAuthService {
     private final SktaiProjectClient sktaiProjectClient;
 
     private final GpoAssetPrjMapMasRepository assetPrjMapMasRepository;
+    private final AssetVisibilityResolver assetVisibilityResolver;
     private final ProjectMgmtRepository projectMgmtRepository;
 
     // 프로젝트명 → 프로젝트 정보 캐시 (변하지 않는 값이므로 메모리에 1회 캐싱)
@@ -661,6 +663,7 @@ public class AdminAuthServiceImpl implements AdminAuthService {
                     .lstPrjSeq(Math.toIntExact(projectSeq))
                     .build();
             assetPrjMapMasRepository.save(mapping);
+            assetVisibilityResolver.evict(resourceUrl);
 
             log.info("프라이빗 프로젝트 리소스 정책 설정 완료: resourceUrl={}, prjSeq={}", resourceUrl, projectSeq);
         } catch (BusinessException ex) {
@@ -745,6 +748,7 @@ public class AdminAuthServiceImpl implements AdminAuthService {
             // 성공 시 lst_prj_seq만 -999로 업데이트
             existing.setLstPrjSeq(-999);
             assetPrjMapMasRepository.save(existing);
+            assetVisibilityResolver.evict(resourceUrl);
 
             log.info("리소스 공개프로젝트 정책 설정 완료: resourceUrl={}", resourceUrl);
         } catch (BusinessException ex) {
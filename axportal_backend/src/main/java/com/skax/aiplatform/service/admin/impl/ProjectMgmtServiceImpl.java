@@ -101,6 +101,9 @@ import com.skax.aiplatform.repository.home.GpoUsersRepository;
 import com.skax.aiplatform.repository.mapping.GpoAssetPrjMapMasRepository;
 import com.skax.aiplatform.service.admin.AdminAuthService;
 import com.skax.aiplatform.service.admin.ProjectMgmtService;
+import com.skax.aiplatform.service.common.AssetVisibilityResolver;
+import com.skax.aiplatform.service.common.PortalAuthorizationIndex;
+import com.skax.aiplatform.service.common.ProjectMembershipCache;
 import com.skax.aiplatform.service.deploy.AgentDeployService;
 import com.skax.aiplatform.service.model.ModelDeployService;
 
@@ -126,10 +129,13 @@ public class ProjectMgmtServiceImpl implements ProjectMgmtService {
     private final ProjectMgmtRepository projectMgmtRepository;
     private final RoleRepository roleRepository;
     private final ProjectUserRoleRepository projectUserRoleRepository;
+    private final ProjectMembershipCache projectMembershipCache;
+    private final PortalAuthorizationIndex portalAuthorizationIndex;
     private final GpoAdxpResourceMasRepository gpoAdxpResourceMasRepository;
     private final GpoRoleAuthMapMasRepository gpoRoleAuthMapMasRepository;
     private final GpoAuthorityMasRepository gpoAuthorityMasRepository;
     private final GpoAssetPrjMapMasRepository assetRepository;
+    private final AssetVisibilityResolver assetVisibilityResolver;
 
     // Admin 권한/그룹 연동 서비스 (ADXP)
     private final AdminAuthService adminAuthService;
@@ -336,10 +342,12 @@ public class ProjectMgmtServiceImpl implements ProjectMgmtService {
 
             // 1. 역할-권한 매핑 정보 삭제
             gpoRoleAuthMapMasRepository.deleteByRolePrjSeq(prjSeq);
+            portalAuthorizationIndex.evictAll();
             log.info("역할-권한 매핑 정보 삭제 완료: prjSeq={}", prjSeq);
 
             // 2. 프로젝트-사용자-역할 매핑 정보 삭제
             projectUserRoleRepository.deleteByPrjSeq(prjSeq);
+            projectMembershipCache.evictAll();
             log.info("프로젝트 구성원 매핑 정보 삭제 완료: prjSeq={}", prjSeq);
 
             // 3. 프로젝트 역할 정보 삭제
@@ -455,6 +463,7 @@ public class ProjectMgmtServiceImpl implements ProjectMgmtService {
 
             // 내부 private 에셋 전체 삭제
             assetRepository.deleteAllInBatch(nonPublicAssets);
+            assetVisibilityResolver.evictAll(nonPublicAssets.stream().map(GpoAssetPrjMapMas::getAsstUrl).toList());
             log.info("프로젝트 자산 매핑 삭제 완료 - count={}", nonPublicAssets.size());
         }
     }
@@ -580,6 +589,7 @@ public class ProjectMgmtServiceImpl implements ProjectMgmtService {
                 List<ProjectUserRole> projectUserRoles =
                         projectUserRoleRepository.findByRoleRoleSeq(role.getRoleSeq());
                 projectUserRoleRepository.deleteAll(projectUserRoles);
+                projectMembershipCache.evictAll();
                 log.info("프로젝트-사용자-역할 매핑 삭제 완료: roleSeq={}, count={}", role.getRoleSeq(),
                         projectUserRoles.size());
 
@@ -587,6 +597,7 @@ public class ProjectMgmtServiceImpl implements ProjectMgmtService {
                 List<GpoRoleAuthMapMas> roleAuthMappings =
                         gpoRoleAuthMapMasRepository.findByRoleRoleSeq(role.getRoleSeq());
                 gpoRoleAuthMapMasRepository.deleteAll(roleAuthMappings);
+                portalAuthorizationIndex.evictRole(role.getRoleSeq());
                 log.info("역할-권한 매핑 삭제 완료: roleSeq={}, count={}", role.getRoleSeq(), roleAuthMappings.size());
 
                 // 5. 역할 삭제
@@ -697,6 +708,7 @@ public class ProjectMgmtServiceImpl implements ProjectMgmtService {
         }
 
         role.update(newRoleName, roleDesc);
+        projectMembershipCache.evictAll();
     }
 
     // ================================
@@ -900,6 +912,7 @@ public class ProjectMgmtServiceImpl implements ProjectMgmtService {
 
                 // 2-1) DB에서 매핑 실제 삭제
                 projectUserRoleRepository.delete(mapping);
+                projectMembershipCache.evict(memberId);
                 log.debug("프로젝트 구성원 매핑 삭제 완료 - projectSeq={}, userUuid={}", project.getPrjSeq(), userUuid);
                 successCount++;
 
@@ -1008,6 +1021,7 @@ public class ProjectMgmtServiceImpl implements ProjectMgmtService {
                 if (mapping == null) {
                     mapping = ProjectUserRole.create(project, role, user);
                     projectUserRoleRepository.save(mapping);
+                    projectMembershipCache.evict(memberId);
 
                     // ADXP 그룹 권한 부여 (베스트 에포트)
                     if (prjSeq != null && role != null) {
@@ -1049,6 +1063,7 @@ public class ProjectMgmtServiceImpl implements ProjectMgmtService {
 
                     // b) DB 매핑 역할 변경
                     mapping.changeRole(role);
+                    projectMembershipCache.evict(memberId);
 
                     // c) 신규 역할 그룹 권한 부여 (베스트 에포트)
                     if (prjSeq != null && role != null) {
@@ -1143,6 +1158,7 @@ public class ProjectMgmtServiceImpl implements ProjectMgmtService {
                 .orElseGet(Collections::emptyList);
 
         List<GpoRoleAuthMapMas> existingMappings = gpoRoleAuthMapMasRepository.findByRoleRoleSeq(role.getRoleSeq());
+        portalAuthorizationIndex.evictRole(role.getRoleSeq());
 
         if (normalizedAuthorityIds.isEmpty()) {
             if (removeMissing && !existingMappings.isEmpty()) {
@@ -1440,6 +1456,7 @@ public class ProjectMgmtServiceImpl implements ProjectMgmtService {
 
                     // 2) DB 매핑 역할 변경
                     mapping.changeRole(newRole);
+                    projectMembershipCache.evict(memberId);
 
                     // 3) 새 역할 그룹 권한 부여 (베스트 에포트)
                     if (prjSeq != null && newRole != null) {
@@ -1,8 +1,8 @@
 package com.skax.aiplatform.service.admin.impl;
 
 import com.skax.aiplatform.client.lablup.api.dto.response.GetEndpointResponse;
-import com.skax.aiplatform.client.sktai.resrcMgmt.ResrcMgmtClient;
-import com.skax.aiplatform.client.sktai.resrcMgmt.ResrcMgmtGpuClient;
+import com.skax.aiplatform.client.sktai.resrcMgmt.service.ResrcMgmtQueryEngine;
+import com.skax.aiplatform.client.sktai.resrcMgmt.service.ResrcMgmtQueryEngine.Source;
 import com.skax.aiplatform.client.sktai.serving.dto.response.ServingStatus;
 import com.skax.aiplatform.common.context.AdminContext;
 import com.skax.aiplatform.common.exception.BusinessException;
@@ -56,6 +56,31 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
     // Prometheus 쿼리 step 값 (초 단위)
     private static final String PROMETHEUS_STEP = "30";
 
+    // GPU 노드별 자원 현황 쿼리
+    private static final List<ResrcMgmtQueryEnum> GPU_NODE_RESOURCE_QUERIES = List.of(
+            ResrcMgmtQueryEnum.GPU_NODES_BY_INSTANCE_CPU_USAGE,
+            ResrcMgmtQueryEnum.GPU_NODES_BY_INSTANCE_TOTAL_CPU,
+            ResrcMgmtQueryEnum.GPU_NODES_BY_INSTANCE_TOTAL_MEMORY,
+            ResrcMgmtQueryEnum.GPU_NODES_BY_INSTANCE_MEMORY_USAGE,
+            ResrcMgmtQueryEnum.GPU_NODES_BY_INSTANCE_TOTAL_GPU,
+            ResrcMgmtQueryEnum.GPU_NODES_BY_INSTANCE_GPU_USAGE);
+
+    // 솔루션 자원 현황 쿼리 (네임스페이스별)
+    private static final List<ResrcMgmtQueryEnum> SOLUTION_RESOURCE_QUERIES = List.of(
+            ResrcMgmtQueryEnum.SOLUTION_CPU_REQUESTS,
+            ResrcMgmtQueryEnum.SOLUTION_CPU_LIMITS,
+            ResrcMgmtQueryEnum.SOLUTION_CPU_USAGE_WITH_CONTAINER,
+            ResrcMgmtQueryEnum.SOLUTION_MEMORY_REQUESTS,
+            ResrcMgmtQueryEnum.SOLUTION_MEMORY_LIMITS,
+            ResrcMgmtQueryEnum.SOLUTION_MEMORY_USAGE_WITH_CONTAINER);
+
+    // 모델 세션 자원 현황 쿼리 (세션별)
+    private static final List<ResrcMgmtQueryEnum> SESSION_RESOURCE_QUERIES = List.of(
+            ResrcMgmtQueryEnum.PORTAL_MODEL_CPU_USAGE,
+            ResrcMgmtQueryEnum.PORTAL_MODEL_MEMORY_USAGE,
+            ResrcMgmtQueryEnum.PORTAL_MODEL_GPU_USAGE,
+            ResrcMgmtQueryEnum.PORTAL_MODEL_GPU_UTILIZATION);
+
     @Value("${prometheus.api.base-url}")
     private String prometheusApiBaseUrl;
 
@@ -64,8 +89,7 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
 
     private final Environment environment;
 
-    private final ResrcMgmtClient resrcMgmtClient;
-    private final ResrcMgmtGpuClient resrcMgmtGpuClient;
+    private final ResrcMgmtQueryEngine resrcMgmtQueryEngine;
 
     private final AgentDeployService agentDeployService;
     private final ModelDeployService modelDeployService;
@@ -345,7 +369,7 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
                                 log.warn("Endpoint 정보 조회 실패 (RuntimeException) - servingId: {}, error: {}",
                                         modelDeploy.getServingId(), endpointEx.getMessage());
                             }
-                        }))
+                        }, resrcMgmtQueryEngine.executor()))
                         .collect(Collectors.toList());
 
                 // 4. 모든 병렬 조회 완료 대기
@@ -379,6 +403,12 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
 
                 log.info("세션별 자원 데이터 조회 시작 - 유효한 세션: {}건", validSessionList.size());
 
+                // 세션별 쿼리를 미리 병렬로 시작 (아래 순차 조회는 진행 중인 결과를 사용)
+                for (GetModelDeploySessionRes modelDeploy : validSessionList) {
+                    resrcMgmtQueryEngine.prefetch(Source.GPU,
+                            formatQueries(SESSION_RESOURCE_QUERIES, modelDeploy.getSessionId()));
+                }
+
                 // 각 세션별로 자원 데이터 조회
                 for (GetModelDeploySessionRes modelDeploy : validSessionList) {
                     try {
@@ -453,14 +483,17 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
         try {
             Map<String, Object> gpuNodeData = new HashMap<>();
 
+            // CPU/Memory/GPU 쿼리를 미리 병렬로 시작 (아래 순차 조회는 진행 중인 결과를 사용)
+            resrcMgmtQueryEngine.prefetch(Source.GPU, formatQueries(GPU_NODE_RESOURCE_QUERIES));
+
             // 1) 노드별 CPU 데이터 조회
             Object cpuUsageResponse = null;
             Object cpuRequestResponse = null;
             try {
-                cpuUsageResponse = resrcMgmtGpuClient
-                        .executeQuery(ResrcMgmtQueryEnum.GPU_NODES_BY_INSTANCE_CPU_USAGE.getQuery()); // CPU 사용량
-                cpuRequestResponse = resrcMgmtGpuClient
-                        .executeQuery(ResrcMgmtQueryEnum.GPU_NODES_BY_INSTANCE_TOTAL_CPU.getQuery()); // CPU 총량
+                cpuUsageResponse = resrcMgmtQueryEngine
+                        .query(Source.GPU, ResrcMgmtQueryEnum.GPU_NODES_BY_INSTANCE_CPU_USAGE.getQuery()); // CPU 사용량
+                cpuRequestResponse = resrcMgmtQueryEngine
+                        .query(Source.GPU, ResrcMgmtQueryEnum.GPU_NODES_BY_INSTANCE_TOTAL_CPU.getQuery()); // CPU 총량
                 log.info("GPU 노드별 CPU 데이터 조회 완료");
             } catch (BusinessException e) {
                 log.warn("GPU 노드별 CPU 데이터 조회 실패 (BusinessException): {}", e.getMessage());
@@ -474,10 +507,10 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
             Object memoryUsageResponse = null;
             Object memoryRequestResponse = null;
             try {
-                memoryRequestResponse = resrcMgmtGpuClient
-                        .executeQuery(ResrcMgmtQueryEnum.GPU_NODES_BY_INSTANCE_TOTAL_MEMORY.getQuery()); // Memory 총량
-                memoryUsageResponse = resrcMgmtGpuClient
-                        .executeQuery(ResrcMgmtQueryEnum.GPU_NODES_BY_INSTANCE_MEMORY_USAGE.getQuery()); // Memory 사용량
+                memoryRequestResponse = resrcMgmtQueryEngine
+                        .query(Source.GPU, ResrcMgmtQueryEnum.GPU_NODES_BY_INSTANCE_TOTAL_MEMORY.getQuery()); // Memory 총량
+                memoryUsageResponse = resrcMgmtQueryEngine
+                        .query(Source.GPU, ResrcMgmtQueryEnum.GPU_NODES_BY_INSTANCE_MEMORY_USAGE.getQuery()); // Memory 사용량
                 log.info("GPU 노드별 Memory 데이터 조회 완료");
             } catch (BusinessException e) {
                 log.warn("GPU 노드별 Memory 데이터 조회 실패 (BusinessException): {}", e.getMessage());
@@ -491,11 +524,11 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
             Object gpuUsageResponse = null;
             Object gpuRequestResponse = null;
             try {
-                gpuRequestResponse = resrcMgmtGpuClient
-                        .executeQuery(ResrcMgmtQueryEnum.GPU_NODES_BY_INSTANCE_TOTAL_GPU.getQuery()); // GPU 개수 1코어
+                gpuRequestResponse = resrcMgmtQueryEngine
+                        .query(Source.GPU, ResrcMgmtQueryEnum.GPU_NODES_BY_INSTANCE_TOTAL_GPU.getQuery()); // GPU 개수 1코어
                 // 100%로 계산
-                gpuUsageResponse = resrcMgmtGpuClient
-                        .executeQuery(ResrcMgmtQueryEnum.GPU_NODES_BY_INSTANCE_GPU_USAGE.getQuery()); // GPU 사용률
+                gpuUsageResponse = resrcMgmtQueryEngine
+                        .query(Source.GPU, ResrcMgmtQueryEnum.GPU_NODES_BY_INSTANCE_GPU_USAGE.getQuery()); // GPU 사용률
                 log.info("GPU 노드별 GPU 데이터 조회 완료");
             } catch (BusinessException e) {
                 log.warn("GPU 노드별 GPU 데이터 조회 실패 (BusinessException): {}", e.getMessage());
@@ -601,6 +634,14 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
             log.info("🔍 [솔루션 자원 조회] 활성 프로파일: {}, 네임스페이스 타입: {}",
                     Arrays.toString(environment.getActiveProfiles()), activeProfile);
 
+            // 모든 솔루션의 자원 쿼리를 미리 병렬로 시작 (아래 순차 조회는 진행 중인 결과를 사용)
+            for (ResrcMgmtNamespaceEnum solution : ResrcMgmtNamespaceEnum.values()) {
+                if (solution != ResrcMgmtNamespaceEnum.AGENT && solution != ResrcMgmtNamespaceEnum.MODEL) {
+                    resrcMgmtQueryEngine.prefetch(Source.PORTAL,
+                            formatQueries(SOLUTION_RESOURCE_QUERIES, solution.getNamespace(activeProfile)));
+                }
+            }
+
             for (ResrcMgmtNamespaceEnum solution : ResrcMgmtNamespaceEnum.values()) {
                 // 포탈 자원(AGENT, MODEL)은 제외하고 솔루션만 포함
                 if (solution != ResrcMgmtNamespaceEnum.AGENT &&
@@ -665,26 +706,28 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
             Object agentPodMemoryLimitResponse = null;
 
             try {
-                agentPodCpuUsageResponse = resrcMgmtClient.executeQuery(String.format(
-                        ResrcMgmtQueryEnum.PORTAL_AGENT_POD_CPU_USAGE.getQuery(),
-                        ResrcMgmtNamespaceEnum.AGENT.getNamespace(), ResrcMgmtNamespaceEnum.AGENT.getPodPattern()));
-                agentPodCpuRequestsResponse = resrcMgmtClient.executeQuery(String.format(
-                        ResrcMgmtQueryEnum.PORTAL_AGENT_POD_CPU_REQUESTS.getQuery(),
-                        ResrcMgmtNamespaceEnum.AGENT.getNamespace(), ResrcMgmtNamespaceEnum.AGENT.getPodPattern()));
-                agentPodCpuLimitResponse = resrcMgmtClient.executeQuery(String.format(
-                        ResrcMgmtQueryEnum.PORTAL_AGENT_POD_CPU_LIMITS.getQuery(),
-                        ResrcMgmtNamespaceEnum.AGENT.getNamespace(),
-                        ResrcMgmtNamespaceEnum.AGENT.getPodPattern()));
-                agentPodMemoryUsageResponse = resrcMgmtClient.executeQuery(String.format(
-                        ResrcMgmtQueryEnum.PORTAL_AGENT_POD_MEMORY_USAGE.getQuery(),
-                        ResrcMgmtNamespaceEnum.AGENT.getNamespace(), ResrcMgmtNamespaceEnum.AGENT.getPodPattern()));
-                agentPodMemoryRequestsResponse = resrcMgmtClient.executeQuery(String.format(
-                        ResrcMgmtQueryEnum.PORTAL_AGENT_POD_MEMORY_REQUESTS.getQuery(),
-                        ResrcMgmtNamespaceEnum.AGENT.getNamespace(), ResrcMgmtNamespaceEnum.AGENT.getPodPattern()));
-                agentPodMemoryLimitResponse = resrcMgmtClient.executeQuery(String.format(
-                        ResrcMgmtQueryEnum.PORTAL_AGENT_POD_MEMORY_LIMITS.getQuery(),
-                        ResrcMgmtNamespaceEnum.AGENT.getNamespace(),
-                        ResrcMgmtNamespaceEnum.AGENT.getPodPattern()));
+                String namespace = ResrcMgmtNamespaceEnum.AGENT.getNamespace();
+                String podPattern = ResrcMgmtNamespaceEnum.AGENT.getPodPattern();
+                // 6개 쿼리를 병렬로 시작한 뒤 결과 수집
+                CompletableFuture<Object> cpuUsage = resrcMgmtQueryEngine.submit(Source.PORTAL, String.format(
+                        ResrcMgmtQueryEnum.PORTAL_AGENT_POD_CPU_USAGE.getQuery(), namespace, podPattern));
+                CompletableFuture<Object> cpuRequests = resrcMgmtQueryEngine.submit(Source.PORTAL, String.format(
+                        ResrcMgmtQueryEnum.PORTAL_AGENT_POD_CPU_REQUESTS.getQuery(), namespace, podPattern));
+                CompletableFuture<Object> cpuLimit = resrcMgmtQueryEngine.submit(Source.PORTAL, String.format(
+                        ResrcMgmtQueryEnum.PORTAL_AGENT_POD_CPU_LIMITS.getQuery(), namespace, podPattern));
+                CompletableFuture<Object> memoryUsage = resrcMgmtQueryEngine.submit(Source.PORTAL, String.format(
+                        ResrcMgmtQueryEnum.PORTAL_AGENT_POD_MEMORY_USAGE.getQuery(), namespace, podPattern));
+                CompletableFuture<Object> memoryRequests = resrcMgmtQueryEngine.submit(Source.PORTAL, String.format(
+                        ResrcMgmtQueryEnum.PORTAL_AGENT_POD_MEMORY_REQUESTS.getQuery(), namespace, podPattern));
+                CompletableFuture<Object> memoryLimit = resrcMgmtQueryEngine.submit(Source.PORTAL, String.format(
+                        ResrcMgmtQueryEnum.PORTAL_AGENT_POD_MEMORY_LIMITS.getQuery(), namespace, podPattern));
+
+                agentPodCpuUsageResponse = resrcMgmtQueryEngine.await(cpuUsage);
+                agentPodCpuRequestsResponse = resrcMgmtQueryEngine.await(cpuRequests);
+                agentPodCpuLimitResponse = resrcMgmtQueryEngine.await(cpuLimit);
+                agentPodMemoryUsageResponse = resrcMgmtQueryEngine.await(memoryUsage);
+                agentPodMemoryRequestsResponse = resrcMgmtQueryEngine.await(memoryRequests);
+                agentPodMemoryLimitResponse = resrcMgmtQueryEngine.await(memoryLimit);
                 log.info("에이전트 파드별 자원 데이터 조회 완료 (namespace: {}, pod: {})", ResrcMgmtNamespaceEnum.AGENT.getNamespace(),
                         ResrcMgmtNamespaceEnum.AGENT.getPodPattern());
             } catch (BusinessException e) {
@@ -745,7 +788,7 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
             try {
                 String workloadCountQuery = String.format(ResrcMgmtQueryEnum.GPU_NODE_WORKLOAD_LIST.getQuery(),
                         nodeName);
-                workloadCountResponse = resrcMgmtGpuClient.executeQuery(workloadCountQuery);
+                workloadCountResponse = resrcMgmtQueryEngine.query(Source.GPU, workloadCountQuery);
                 workloads = extractSessionIdList(workloadCountResponse);
                 gpuNodeDetailData.put("workloads", workloads);
                 gpuNodeDetailData.put("workload_count", workloads.size());
@@ -784,7 +827,7 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
                         nodeName,
                         workloadName
                 );
-                instanceCpuAvgUtilResponse = resrcMgmtGpuClient.executeQuery(cpuUsageVsRequestsQuery);
+                CompletableFuture<Object> cpuAvgUtil = resrcMgmtQueryEngine.submit(Source.GPU, cpuUsageVsRequestsQuery);
 
                 // Memory 요청량 대비 사용률 조회 (할당량 대비)
                 String memoryUsageVsRequestsQuery = String.format(
@@ -793,14 +836,20 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
                         workloadName,
                         nodeName,
                         workloadName);
-                instanceMemoryAvgUtilResponse = resrcMgmtGpuClient.executeQuery(memoryUsageVsRequestsQuery);
+                CompletableFuture<Object> memoryAvgUtil =
+                        resrcMgmtQueryEngine.submit(Source.GPU, memoryUsageVsRequestsQuery);
 
                 // GPU 요청량 대비 사용률 조회 (할당량 대비)
                 String gpuUsageVsRequestsQuery = String.format(
                         ResrcMgmtQueryEnum.GPU_NODE_GPU_USAGE_VS_REQUESTS.getQuery(),
                         nodeName,
                         workloadName);
-                instanceGpuAvgUtilResponse = resrcMgmtGpuClient.executeQuery(gpuUsageVsRequestsQuery);
+                CompletableFuture<Object> gpuAvgUtil = resrcMgmtQueryEngine.submit(Source.GPU, gpuUsageVsRequestsQuery);
+
+                // 병렬로 시작한 쿼리 결과 수집
+                instanceCpuAvgUtilResponse = resrcMgmtQueryEngine.await(cpuAvgUtil);
+                instanceMemoryAvgUtilResponse = resrcMgmtQueryEngine.await(memoryAvgUtil);
+                instanceGpuAvgUtilResponse = resrcMgmtQueryEngine.await(gpuAvgUtil);
 
             } catch (BusinessException e) {
                 log.warn("GPU 노드 {} 요청량 대비 사용률 조회 실패 (BusinessException): {}", nodeName, e.getMessage());
@@ -828,24 +877,29 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
                 String workloadCpuUsageGraphQuery = String.format(
                         ResrcMgmtQueryEnum.GPU_NODE_WORKLOAD_CPU_USAGE_GRAPH.getQuery(),
                         nodeName, nodeName);
-                workloadCpuTimeseriesResponse = resrcMgmtGpuClient.executeQueryRange(
+                CompletableFuture<Object> workloadCpuTimeseries = resrcMgmtQueryEngine.submitRange(Source.GPU,
                         workloadCpuUsageGraphQuery, startTime, endTime, step);
-                log.info("GPU 노드 {} 워크로드별 CPU 사용량 그래프 조회 완료 (start: {}, end: {})", nodeName, startTime, endTime);
 
                 // Memory 사용량 그래프 조회 (session_id별)
                 String workloadMemoryUsageGraphQuery = String.format(
                         ResrcMgmtQueryEnum.GPU_NODE_WORKLOAD_MEMORY_USAGE_GRAPH.getQuery(),
                         nodeName, nodeName);
-                workloadMemoryTimeseriesResponse = resrcMgmtGpuClient.executeQueryRange(
+                CompletableFuture<Object> workloadMemoryTimeseries = resrcMgmtQueryEngine.submitRange(Source.GPU,
                         workloadMemoryUsageGraphQuery, startTime, endTime, step);
-                log.info("GPU 노드 {} 워크로드별 Memory 사용량 그래프 조회 완료 (start: {}, end: {})", nodeName, startTime, endTime);
 
                 // GPU 사용량 그래프 조회 (session_id별)
                 String workloadGpuUsageGraphQuery = String.format(
                         ResrcMgmtQueryEnum.GPU_NODE_WORKLOAD_GPU_USAGE_GRAPH.getQuery(),
                         nodeName);
-                workloadGpuTimeseriesResponse = resrcMgmtGpuClient.executeQueryRange(
+                CompletableFuture<Object> workloadGpuTimeseries = resrcMgmtQueryEngine.submitRange(Source.GPU,
                         workloadGpuUsageGraphQuery, startTime, endTime, step);
+
+                // 병렬로 시작한 그래프 쿼리 결과 수집
+                workloadCpuTimeseriesResponse = resrcMgmtQueryEngine.await(workloadCpuTimeseries);
+                log.info("GPU 노드 {} 워크로드별 CPU 사용량 그래프 조회 완료 (start: {}, end: {})", nodeName, startTime, endTime);
+                workloadMemoryTimeseriesResponse = resrcMgmtQueryEngine.await(workloadMemoryTimeseries);
+                log.info("GPU 노드 {} 워크로드별 Memory 사용량 그래프 조회 완료 (start: {}, end: {})", nodeName, startTime, endTime);
+                workloadGpuTimeseriesResponse = resrcMgmtQueryEngine.await(workloadGpuTimeseries);
                 log.info("GPU 노드 {} 워크로드별 GPU 사용량 그래프 조회 완료 (start: {}, end: {})", nodeName, startTime, endTime);
 
             } catch (BusinessException e) {
@@ -925,19 +979,19 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
 
             // 4. 세션별 Quota 그리드 조회 (CPU, Memory, GPU)
             List<Map<String, Object>> sessionCpuQuotaGrid = processSessionQuotaGrid(
-                    nodeName, durationParam, resrcMgmtGpuClient,
+                    nodeName, durationParam,
                     ResrcMgmtQueryEnum.GPU_NODE_SESSION_CPU_CAPACITY,
                     ResrcMgmtQueryEnum.GPU_NODE_SESSION_CPU_USAGE,
                     "cpu");
 
             List<Map<String, Object>> sessionMemoryQuotaGrid = processSessionQuotaGrid(
-                    nodeName, durationParam, resrcMgmtGpuClient,
+                    nodeName, durationParam,
                     ResrcMgmtQueryEnum.GPU_NODE_SESSION_MEMORY_CAPACITY,
                     ResrcMgmtQueryEnum.GPU_NODE_SESSION_MEMORY_USAGE,
                     "memory");
 
             List<Map<String, Object>> sessionGpuQuotaGrid = processSessionQuotaGrid(
-                    nodeName, durationParam, resrcMgmtGpuClient,
+                    nodeName, durationParam,
                     ResrcMgmtQueryEnum.GPU_NODE_SESSION_GPU_CAPACITY,
                     ResrcMgmtQueryEnum.GPU_NODE_SESSION_GPU_MEMORY_USAGE,
                     ResrcMgmtQueryEnum.GPU_NODE_SESSION_GPU_UTILIZATION,
@@ -1568,13 +1622,15 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
                         String.format(ResrcMgmtQueryEnum.SOLUTION_DETAIL_POD_CPU_REQUEST_AVG_RATE.getQuery()
                                 , nameSpace, podName, durationRange, nameSpace, podName);
 
-                cpuRequestUsageRateResponse = resrcMgmtClient.executeQuery(cpuRequestUsageRateQuery);
+                CompletableFuture<Object> cpuRequestUsageRate =
+                        resrcMgmtQueryEngine.submit(Source.PORTAL, cpuRequestUsageRateQuery);
                 log.debug("@@@@@@@@@@@@@@@@@@@@@@@@@@cpuRequestUsageRateQuery: {}", cpuRequestUsageRateQuery);
                 // CPU 상한량 대비 사용률 (전체 기간 평균 - 단일값)
                 String cpuLimitUsageRateQuery =
                         String.format(ResrcMgmtQueryEnum.SOLUTION_DETAIL_POD_CPU_LIMIT_AVG_RATE.getQuery(),
                                 nameSpace, podName, durationRange, nameSpace, podName);
-                cpuLimitUsageRateResponse = resrcMgmtClient.executeQuery(cpuLimitUsageRateQuery);
+                CompletableFuture<Object> cpuLimitUsageRate =
+                        resrcMgmtQueryEngine.submit(Source.PORTAL, cpuLimitUsageRateQuery);
                 log.debug("@@@@@@@@@@@@@@@@@@@@@@@@@@cpuLimitUsageRateQuery: {}", cpuLimitUsageRateQuery);
                 // Memory 요청량 대비 사용률 (전체 기간 평균 - 단일값)
                 String memoryRequestUsageRateQuery = hasPodName
@@ -1582,7 +1638,8 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
                         nameSpace, podName, nameSpace, podName, durationRange)
                         : String.format(ResrcMgmtQueryEnum.SOLUTION_DETAIL_NS_MEMORY_REQUEST_AVG_RATE.getQuery(),
                         nameSpace, nameSpace, durationRange);
-                memoryRequestUsageRateResponse = resrcMgmtClient.executeQuery(memoryRequestUsageRateQuery);
+                CompletableFuture<Object> memoryRequestUsageRate =
+                        resrcMgmtQueryEngine.submit(Source.PORTAL, memoryRequestUsageRateQuery);
 
                 // Memory 상한량 대비 사용률 (전체 기간 평균 - 단일값)
                 String memoryLimitUsageRateQuery = hasPodName
@@ -1590,7 +1647,14 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
                         nameSpace, podName, nameSpace, podName, durationRange)
                         : String.format(ResrcMgmtQueryEnum.SOLUTION_DETAIL_NS_MEMORY_LIMIT_AVG_RATE.getQuery(),
                         nameSpace, nameSpace, durationRange);
-                memoryLimitUsageRateResponse = resrcMgmtClient.executeQuery(memoryLimitUsageRateQuery);
+                CompletableFuture<Object> memoryLimitUsageRate =
+                        resrcMgmtQueryEngine.submit(Source.PORTAL, memoryLimitUsageRateQuery);
+
+                // 병렬로 시작한 쿼리 결과 수집
+                cpuRequestUsageRateResponse = resrcMgmtQueryEngine.await(cpuRequestUsageRate);
+                cpuLimitUsageRateResponse = resrcMgmtQueryEngine.await(cpuLimitUsageRate);
+                memoryRequestUsageRateResponse = resrcMgmtQueryEngine.await(memoryRequestUsageRate);
+                memoryLimitUsageRateResponse = resrcMgmtQueryEngine.await(memoryLimitUsageRate);
 
                 log.info("평균 사용률 조회 완료 (단일값) - namespace: {}, podName: {}, duration: {}",
                         nameSpace, hasPodName ? podName : "전체", durationRange);
@@ -1613,7 +1677,7 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
                         nameSpace);
                 log.info("CPU 사용량 그래프 쿼리: query={}, start={}, end={}, step={}",
                         cpuUsageGraphQuery, fromDate, toDate, PROMETHEUS_STEP);
-                cpuUsageGraphResponse = resrcMgmtClient.executeQueryRange(cpuUsageGraphQuery, fromDate, toDate,
+                cpuUsageGraphResponse = resrcMgmtQueryEngine.queryRange(Source.PORTAL, cpuUsageGraphQuery, fromDate, toDate,
                         PROMETHEUS_STEP);
                 log.info("네임스페이스 CPU 사용량 그래프 조회 완료: {}", nameSpace);
                 // log.debug("CPU 그래프 response: {}", cpuUsageGraphResponse);
@@ -1632,7 +1696,7 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
                 String podCpuRequestsQuery = String.format(
                         ResrcMgmtQueryEnum.SOLUTION_DETAIL_POD_CPU_REQUESTS.getQuery(),
                         nameSpace);
-                podCpuRequestsResponse = resrcMgmtClient.executeQuery(podCpuRequestsQuery);
+                podCpuRequestsResponse = resrcMgmtQueryEngine.query(Source.PORTAL, podCpuRequestsQuery);
                 log.info("Pod별 CPU 요청량 조회 완료: {}", nameSpace);
             } catch (BusinessException e) {
                 log.warn("Pod별 CPU 요청량 조회 실패 (BusinessException): {}", e.getMessage());
@@ -1648,7 +1712,7 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
                 String podCpuLimitsQuery = String.format(
                         ResrcMgmtQueryEnum.SOLUTION_DETAIL_POD_CPU_LIMITS.getQuery(),
                         nameSpace);
-                podCpuLimitsResponse = resrcMgmtClient.executeQuery(podCpuLimitsQuery);
+                podCpuLimitsResponse = resrcMgmtQueryEngine.query(Source.PORTAL, podCpuLimitsQuery);
                 log.info("Pod별 CPU 할당량 조회 완료: {}", nameSpace);
             } catch (BusinessException e) {
                 log.warn("Pod별 CPU 할당량 조회 실패 (BusinessException): {}", e.getMessage());
@@ -1665,7 +1729,7 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
                         ResrcMgmtQueryEnum.SOLUTION_DETAIL_POD_CPU_USAGE.getQuery(),
                         nameSpace);
                 log.info("Pod별 CPU 실제 사용량 쿼리 실행: {}", podCpuUsageQuery);
-                podCpuUsageResponse = resrcMgmtClient.executeQuery(podCpuUsageQuery);
+                podCpuUsageResponse = resrcMgmtQueryEngine.query(Source.PORTAL, podCpuUsageQuery);
                 log.info("Pod별 CPU 실제 사용량 조회 완료: {}", nameSpace);
                 // log.debug("CPU 실제 사용량 response: {}", podCpuUsageResponse);
             } catch (BusinessException e) {
@@ -1684,7 +1748,7 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
                         nameSpace);
                 log.info("메모리 사용량 그래프 쿼리: query={}, start={}, end={}, step={}",
                         memoryUsageGraphQuery, fromDate, toDate, PROMETHEUS_STEP);
-                memoryUsageGraphResponse = resrcMgmtClient.executeQueryRange(memoryUsageGraphQuery, fromDate, toDate,
+                memoryUsageGraphResponse = resrcMgmtQueryEngine.queryRange(Source.PORTAL, memoryUsageGraphQuery, fromDate, toDate,
                         PROMETHEUS_STEP);
                 log.info("네임스페이스 메모리 사용량 그래프 조회 완료: {}", nameSpace);
                 // log.debug("메모리 그래프 response: {}", memoryUsageGraphResponse);
@@ -1703,7 +1767,7 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
                 String podMemoryRequestsQuery = String.format(
                         ResrcMgmtQueryEnum.SOLUTION_DETAIL_POD_MEMORY_REQUESTS.getQuery(),
                         nameSpace);
-                podMemoryRequestsResponse = resrcMgmtClient.executeQuery(podMemoryRequestsQuery);
+                podMemoryRequestsResponse = resrcMgmtQueryEngine.query(Source.PORTAL, podMemoryRequestsQuery);
                 log.info("Pod별 메모리 요청량 조회 완료: {}", nameSpace);
             } catch (BusinessException e) {
                 log.warn("Pod별 메모리 요청량 조회 실패 (BusinessException): {}", e.getMessage());
@@ -1719,7 +1783,7 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
                 String podMemoryLimitsQuery = String.format(
                         ResrcMgmtQueryEnum.SOLUTION_DETAIL_POD_MEMORY_LIMITS.getQuery(),
                         nameSpace);
-                podMemoryLimitsResponse = resrcMgmtClient.executeQuery(podMemoryLimitsQuery);
+                podMemoryLimitsResponse = resrcMgmtQueryEngine.query(Source.PORTAL, podMemoryLimitsQuery);
                 log.info("Pod별 메모리 할당량 조회 완료: {}", nameSpace);
             } catch (BusinessException e) {
                 log.warn("Pod별 메모리 할당량 조회 실패 (BusinessException): {}", e.getMessage());
@@ -1736,7 +1800,7 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
                         ResrcMgmtQueryEnum.SOLUTION_DETAIL_POD_MEMORY_USAGE.getQuery(),
                         nameSpace);
                 log.info("Pod별 메모리 실제 사용량 쿼리 실행: {}", podMemoryUsageQuery);
-                podMemoryUsageResponse = resrcMgmtClient.executeQuery(podMemoryUsageQuery);
+                podMemoryUsageResponse = resrcMgmtQueryEngine.query(Source.PORTAL, podMemoryUsageQuery);
                 log.info("Pod별 메모리 실제 사용량 조회 완료: {}", nameSpace);
                 // log.debug("메모리 실제 사용량 response: {}", podMemoryUsageResponse);
             } catch (BusinessException e) {
@@ -2553,7 +2617,7 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
         try {
             String podCountQuery = String.format(
                     ResrcMgmtQueryEnum.SOLUTION_DETAIL_POD_COUNT.getQuery(), nameSpace);
-            podCountResponse = resrcMgmtClient.executeQuery(podCountQuery);
+            podCountResponse = resrcMgmtQueryEngine.query(Source.PORTAL, podCountQuery);
             log.info("네임스페이스 Pod 개수 조회 완료: {}", nameSpace);
         } catch (BusinessException e) {
             log.warn("네임스페이스 Pod 개수 조회 실패 (BusinessException): {}", e.getMessage());
@@ -2568,7 +2632,7 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
         try {
             String podNameQuery = String.format(
                     ResrcMgmtQueryEnum.SOLUTION_DETAIL_POD_NAME.getQuery(), nameSpace);
-            podNameResponse = resrcMgmtClient.executeQuery(podNameQuery);
+            podNameResponse = resrcMgmtQueryEngine.query(Source.PORTAL, podNameQuery);
             log.info("네임스페이스 Pod 이름 조회 완료: {}", nameSpace);
         } catch (BusinessException e) {
             log.warn("네임스페이스 Pod 이름 조회 실패 (BusinessException): {}", e.getMessage());
@@ -2936,17 +3000,17 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
 
         try {
             // 공통 쿼리를 사용하여 각 메트릭 조회
-            cpuRequestsResponse = resrcMgmtClient.executeQuery(
+            cpuRequestsResponse = resrcMgmtQueryEngine.query(Source.PORTAL,
                     String.format(ResrcMgmtQueryEnum.SOLUTION_CPU_REQUESTS.getQuery(), namespace));
-            cpuLimitsResponse = resrcMgmtClient.executeQuery(
+            cpuLimitsResponse = resrcMgmtQueryEngine.query(Source.PORTAL,
                     String.format(ResrcMgmtQueryEnum.SOLUTION_CPU_LIMITS.getQuery(), namespace));
-            cpuUsageResponse = resrcMgmtClient.executeQuery(
+            cpuUsageResponse = resrcMgmtQueryEngine.query(Source.PORTAL,
                     String.format(ResrcMgmtQueryEnum.SOLUTION_CPU_USAGE_WITH_CONTAINER.getQuery(), namespace));
-            memoryRequestsResponse = resrcMgmtClient.executeQuery(
+            memoryRequestsResponse = resrcMgmtQueryEngine.query(Source.PORTAL,
                     String.format(ResrcMgmtQueryEnum.SOLUTION_MEMORY_REQUESTS.getQuery(), namespace));
-            memoryLimitsResponse = resrcMgmtClient.executeQuery(
+            memoryLimitsResponse = resrcMgmtQueryEngine.query(Source.PORTAL,
                     String.format(ResrcMgmtQueryEnum.SOLUTION_MEMORY_LIMITS.getQuery(), namespace));
-            memoryUsageResponse = resrcMgmtClient.executeQuery(
+            memoryUsageResponse = resrcMgmtQueryEngine.query(Source.PORTAL,
                     String.format(ResrcMgmtQueryEnum.SOLUTION_MEMORY_USAGE_WITH_CONTAINER.getQuery(), namespace));
 
             log.info("{} 솔루션 데이터 조회 완료 (namespace: {})", solutionName, namespace);
@@ -2976,6 +3040,17 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
         return null;
     }
 
+    /**
+     * 쿼리 템플릿 목록에 동일한 인자를 적용
+     *
+     * @param queries 쿼리 Enum 목록
+     * @param args    쿼리 인자
+     * @return PromQL 목록
+     */
+    private static List<String> formatQueries(List<ResrcMgmtQueryEnum> queries, Object... args) {
+        return queries.stream().map(query -> String.format(query.getQuery(), args)).toList();
+    }
+
     /**
      * 특정 세션의 자원 데이터 조회
      *
@@ -3010,7 +3085,7 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
         try {
             // 2. CPU 사용량 조회 (Core 단위)
             String cpuUsageQuery = String.format(ResrcMgmtQueryEnum.PORTAL_MODEL_CPU_USAGE.getQuery(), sessionId);
-            Object cpuUsageResponse = resrcMgmtGpuClient.executeQuery(cpuUsageQuery);
+            Object cpuUsageResponse = resrcMgmtQueryEngine.query(Source.GPU, cpuUsageQuery);
             cpuUsage = extractNumericValue(cpuUsageResponse);
 
             // 3. CPU 사용률 조회 (%)
@@ -3022,18 +3097,18 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
 
             // 4. Memory 사용량 조회 (GiB 단위)
             String memoryUsageQuery = String.format(ResrcMgmtQueryEnum.PORTAL_MODEL_MEMORY_USAGE.getQuery(), sessionId);
-            Object memoryUsageResponse = resrcMgmtGpuClient.executeQuery(memoryUsageQuery);
+            Object memoryUsageResponse = resrcMgmtQueryEngine.query(Source.GPU, memoryUsageQuery);
             Double memoryUsageGiB = extractNumericValue(memoryUsageResponse);
             memoryUsage = memoryUsageGiB != null ? memoryUsageGiB : 0.0;
 
             // 5. GPU 사용량 조회 (메모리 관련부분이라 사용하지 않음)
             String gpuUsageQuery = String.format(ResrcMgmtQueryEnum.PORTAL_MODEL_GPU_USAGE.getQuery(), sessionId);
-            Object gpuUsageResponse = resrcMgmtGpuClient.executeQuery(gpuUsageQuery);
+            Object gpuUsageResponse = resrcMgmtQueryEngine.query(Source.GPU, gpuUsageQuery);
             gpuUsage = extractNumericValue(gpuUsageResponse);
 
             // 6. GPU 사용률 조회 (모니터링용; 요청/제한은 GetModelDeployRes 값을 사용)
             String gpuUtilQuery = String.format(ResrcMgmtQueryEnum.PORTAL_MODEL_GPU_UTILIZATION.getQuery(), sessionId);
-            Object gpuUtilResponse = resrcMgmtGpuClient.executeQuery(gpuUtilQuery);
+            Object gpuUtilResponse = resrcMgmtQueryEngine.query(Source.GPU, gpuUtilQuery);
             gpuUtilization = extractNumericValue(gpuUtilResponse);
 
         } catch (BusinessException e) {
@@ -3216,7 +3291,6 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
      *
      * @param nodeName      노드 이름 (display_name)
      * @param durationParam 기간 파라미터 (예: "300s")
-     * @param client        Prometheus 클라이언트
      * @param capacityQuery 할당량 쿼리 Enum
      * @param usageQuery    사용량 쿼리 Enum
      * @param resourceType  리소스 타입 ("cpu" 또는 "memory")
@@ -3225,7 +3299,6 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
     private List<Map<String, Object>> processSessionQuotaGrid(
             String nodeName,
             String durationParam,
-            ResrcMgmtGpuClient client,
             ResrcMgmtQueryEnum capacityQuery,
             ResrcMgmtQueryEnum usageQuery,
             String resourceType) {
@@ -3235,7 +3308,7 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
         try {
             // 할당량 쿼리 실행
             String capacityQueryStr = String.format(capacityQuery.getQuery(), nodeName);
-            Object capacityResponse = client.executeQuery(capacityQueryStr);
+            CompletableFuture<Object> capacity = resrcMgmtQueryEngine.submit(Source.GPU, capacityQueryStr);
 
             // 사용량 쿼리 실행 (CPU는 durationParam 필요)
             String usageQueryStr;
@@ -3244,7 +3317,10 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
             } else {
                 usageQueryStr = String.format(usageQuery.getQuery(), nodeName);
             }
-            Object usageResponse = client.executeQuery(usageQueryStr);
+            CompletableFuture<Object> usage = resrcMgmtQueryEngine.submit(Source.GPU, usageQueryStr);
+
+            Object capacityResponse = resrcMgmtQueryEngine.await(capacity);
+            Object usageResponse = resrcMgmtQueryEngine.await(usage);
 
             // 세션별 데이터 추출
             Map<String, Double> capacityMap = extractSessionMetricsAsDouble(capacityResponse);
@@ -3303,7 +3379,6 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
      *
      * @param nodeName         노드 이름 (display_name)
      * @param durationParam    기간 파라미터 (사용하지 않지만 시그니처 일관성 유지)
-     * @param client           Prometheus 클라이언트
      * @param capacityQuery    할당량 쿼리 Enum (GPU 메모리 capacity)
      * @param usageQuery       사용량 쿼리 Enum (GPU 메모리 usage)
      * @param utilizationQuery 사용률 쿼리 Enum (GPU utilization)
@@ -3313,7 +3388,6 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
     private List<Map<String, Object>> processSessionQuotaGrid(
             String nodeName,
             String durationParam,
-            ResrcMgmtGpuClient client,
             ResrcMgmtQueryEnum capacityQuery,
             ResrcMgmtQueryEnum usageQuery,
             ResrcMgmtQueryEnum utilizationQuery,
@@ -3324,15 +3398,19 @@ public class ResrcMgmtServiceImpl implements ResrcMgmtService {
         try {
             // GPU 메모리 할당량 쿼리 실행
             String capacityQueryStr = String.format(capacityQuery.getQuery(), nodeName);
-            Object capacityResponse = client.executeQuery(capacityQueryStr);
+            CompletableFuture<Object> capacity = resrcMgmtQueryEngine.submit(Source.GPU, capacityQueryStr);
 
             // GPU 메모리 사용량 쿼리 실행
             String usageQueryStr = String.format(usageQuery.getQuery(), nodeName);
-            Object usageResponse = client.executeQuery(usageQueryStr);
+            CompletableFuture<Object> usage = resrcMgmtQueryEngine.submit(Source.GPU, usageQueryStr);
 
             // GPU 사용률 쿼리 실행
             String utilizationQueryStr = String.format(utilizationQuery.getQuery(), nodeName);
-            Object utilizationResponse = client.executeQuery(utilizationQueryStr);
+            CompletableFuture<Object> utilization = resrcMgmtQueryEngine.submit(Source.GPU, utilizationQueryStr);
+
+            Object capacityResponse = resrcMgmtQueryEngine.await(capacity);
+            Object usageResponse = resrcMgmtQueryEngine.await(usage);
+            Object utilizationResponse = resrcMgmtQueryEngine.await(utilization);
 
             // 세션별 데이터 추출
             Map<String, Double> capacityMap = extractSessionMetricsAsDouble(capacityResponse);
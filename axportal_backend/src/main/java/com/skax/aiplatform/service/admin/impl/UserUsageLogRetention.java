@@ -0,0 +1,271 @@
+package com.skax.aiplatform.service.admin.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 사용자 활동 로그(GPO_LOG_MAS) 보관 기간 정리기
+ *
+ * <p>보관 기간이 지난 로그를 한 번에 삭제하지 않고 PK({@code SEQ_NO}) 구간 단위로 나누어
+ * 구간마다 별도 트랜잭션으로 삭제합니다. 잠금 유지 시간과 WAL 증가를 줄이기 위해 구간 사이에
+ * {@code pause-ms} 만큼 쉬며, 삭제 건수는 전체 count 없이 각 DELETE 결과를 합산합니다.</p>
+ *
+ * <p>{@code SEQ_NO} 는 시퀀스로 채번되어 생성 시각 순서와 거의 일치하므로, PK 인덱스 조회만으로
+ * 보관 기준 시각 이전 구간의 끝을 이분 탐색합니다. 각 DELETE 에도 생성 시각 조건을 함께 걸어
+ * 순서가 어긋난 최신 로그는 삭제하지 않습니다.</p>
+ *
+ * <p>{@code partition-mode} 가 DAILY/MONTHLY 이고 테이블이 PostgreSQL 파티션 테이블이면
+ * ({@code gpo_log_mas_yyyyMMdd} / {@code gpo_log_mas_yyyyMM} 명명) 범위 전체가 보관 기간을 지난 파티션을
+ * 먼저 DROP 한 뒤 남은 로그를 구간 삭제합니다.</p>
+ *
+ * <p>메트릭: {@code user.usage.log.purged{method}}, {@code user.usage.log.purge}</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class UserUsageLogRetention {
+
+    /**
+     * 파티션 정리 방식
+     */
+    public enum PartitionMode {
+        NONE, DAILY, MONTHLY
+    }
+
+    /**
+     * 정리 결과
+     *
+     * @param cutoff            보관 기준 시각 (이전 로그 삭제)
+     * @param deletedRows       구간 삭제로 삭제된 행 수
+     * @param droppedPartitions 삭제된 파티션 수
+     * @param chunks            실행한 구간 삭제 수
+     */
+    public record PurgeResult(LocalDateTime cutoff, long deletedRows, int droppedPartitions, int chunks) {
+    }
+
+    private static final String TABLE_NAME = "gpo_log_mas";
+    private static final String TIBERO_DRIVER = "com.tmax.tibero.jdbc.TbDriver";
+
+    private static final String MIN_SEQ_SQL = "SELECT MIN(SEQ_NO) FROM GPO_LOG_MAS";
+    private static final String MAX_SEQ_SQL = "SELECT MAX(SEQ_NO) FROM GPO_LOG_MAS";
+    private static final String NEXT_SEQ_SQL = "SELECT MIN(SEQ_NO) FROM GPO_LOG_MAS WHERE SEQ_NO >= ?";
+    private static final String CREATED_AT_SQL = "SELECT FST_CREATED_AT FROM GPO_LOG_MAS WHERE SEQ_NO = ?";
+    private static final String DELETE_RANGE_SQL = "DELETE FROM GPO_LOG_MAS "
+            + "WHERE SEQ_NO >= ? AND SEQ_NO < ? AND FST_CREATED_AT < ?";
+
+    private static final String PARTITIONS_SQL_POSTGRESQL = "SELECT c.relname FROM pg_inherits i "
+            + "JOIN pg_class c ON c.oid = i.inhrelid JOIN pg_class p ON p.oid = i.inhparent "
+            + "WHERE lower(p.relname) = '" + TABLE_NAME + "'";
+
+    private static final Pattern DAILY_PARTITION = Pattern.compile(TABLE_NAME + "_(\\d{8})");
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile(TABLE_NAME + "_(\\d{6})");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate chunkTransaction;
+    private final boolean tibero;
+    private final int retentionDays;
+    private final int chunkSize;
+    private final long pauseMs;
+    private final PartitionMode partitionMode;
+
+    private final Counter deletedCounter;
+    private final Counter droppedCounter;
+    private final Timer purgeTimer;
+
+    public UserUsageLogRetention(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${spring.datasource.driver-class-name:}") String driverClassName,
+            @Value("${user-usage-log.retention.days:30}") int retentionDays,
+            @Value("${user-usage-log.retention.chunk-size:5000}") int chunkSize,
+            @Value("${user-usage-log.retention.pause-ms:200}") long pauseMs,
+            @Value("${user-usage-log.retention.partition-mode:NONE}") PartitionMode partitionMode) {
+
+        // Vertica JdbcTemplate 과 구분하기 위해 Primary DataSource 로 전용 JdbcTemplate 생성
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // 호출 측 트랜잭션과 무관하게 구간마다 커밋
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.tibero = TIBERO_DRIVER.equals(driverClassName);
+        this.retentionDays = retentionDays;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.pauseMs = pauseMs;
+        this.partitionMode = partitionMode;
+
+        this.deletedCounter = Counter.builder("user.usage.log.purged")
+                .description("보관 기간이 지나 삭제된 사용자 활동 로그 건수")
+                .tag("method", "delete")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("user.usage.log.purged")
+                .description("보관 기간이 지나 삭제된 사용자 활동 로그 건수")
+                .tag("method", "partition")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("user.usage.log.purge")
+                .description("사용자 활동 로그 보관 기간 정리 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 보관 기간이 지난 로그 정리
+     *
+     * @return 정리 결과
+     */
+    public PurgeResult purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        long startNanos = System.nanoTime();
+        try {
+            int droppedPartitions = dropExpiredPartitions(cutoff);
+            PurgeResult result = deleteInChunks(cutoff, droppedPartitions);
+            log.info("사용자 활동 로그 정리 완료 - 기준: {}, 삭제: {}건, 파티션 삭제: {}개, 구간: {}개, 소요: {} ms",
+                    cutoff, result.deletedRows(), result.droppedPartitions(), result.chunks(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            return result;
+        } finally {
+            purgeTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private PurgeResult deleteInChunks(LocalDateTime cutoff, int droppedPartitions) {
+        Long minSeq = jdbcTemplate.queryForObject(MIN_SEQ_SQL, Long.class);
+        Long maxSeq = jdbcTemplate.queryForObject(MAX_SEQ_SQL, Long.class);
+        if (minSeq == null || maxSeq == null) {
+            return new PurgeResult(cutoff, 0, droppedPartitions, 0);
+        }
+
+        long boundary = findBoundary(minSeq, maxSeq, cutoff);
+        Timestamp cutoffTs = Timestamp.valueOf(cutoff);
+        log.info("사용자 활동 로그 구간 삭제 시작 - 기준: {}, SEQ_NO: {} ~ {}", cutoff, minSeq, boundary);
+
+        long deletedRows = 0;
+        int chunks = 0;
+        Long start = minSeq;
+        while (start != null && start < boundary) {
+            long from = start;
+            long to = Math.min(from + chunkSize, boundary);
+            Integer deleted = chunkTransaction.execute(status -> jdbcTemplate.update(DELETE_RANGE_SQL, from, to, cutoffTs));
+            int count = deleted != null ? deleted : 0;
+            deletedRows += count;
+            deletedCounter.increment(count);
+            chunks++;
+
+            // 시퀀스 공백 구간은 건너뜀
+            start = to < boundary ? jdbcTemplate.queryForObject(NEXT_SEQ_SQL, Long.class, to) : null;
+            if (start != null && start < boundary && !pause()) {
+                log.warn("사용자 활동 로그 정리 중단 (인터럽트) - 삭제: {}건", deletedRows);
+                break;
+            }
+        }
+        return new PurgeResult(cutoff, deletedRows, droppedPartitions, chunks);
+    }
+
+    /**
+     * 생성 시각이 기준 이후인 첫 SEQ_NO 이분 탐색 (PK 인덱스 조회만 사용)
+     *
+     * @return 삭제 구간의 끝 (미포함)
+     */
+    long findBoundary(long minSeq, long maxSeq, LocalDateTime cutoff) {
+        long low = minSeq;
+        long high = maxSeq + 1;
+        while (low < high) {
+            long mid = low + (high - low) / 2;
+            if (isExpired(mid, cutoff)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private boolean isExpired(long seq, LocalDateTime cutoff) {
+        Long next = jdbcTemplate.queryForObject(NEXT_SEQ_SQL, Long.class, seq);
+        if (next == null) {
+            return false;
+        }
+        List<Timestamp> createdAt = jdbcTemplate.queryForList(CREATED_AT_SQL, Timestamp.class, next);
+        return !createdAt.isEmpty() && createdAt.get(0) != null && createdAt.get(0).toLocalDateTime().isBefore(cutoff);
+    }
+
+    private int dropExpiredPartitions(LocalDateTime cutoff) {
+        if (partitionMode == PartitionMode.NONE) {
+            return 0;
+        }
+        if (tibero) {
+            log.warn("파티션 정리는 PostgreSQL 에서만 지원합니다 - 구간 삭제로 정리합니다.");
+            return 0;
+        }
+
+        int dropped = 0;
+        for (String partition : jdbcTemplate.queryForList(PARTITIONS_SQL_POSTGRESQL, String.class)) {
+            LocalDate partitionEnd = partitionEnd(partition.toLowerCase(Locale.ROOT));
+            if (partitionEnd == null || partitionEnd.atStartOfDay().isAfter(cutoff)) {
+                continue;
+            }
+            // 이름은 파티션 명명 규칙으로 검증된 값만 사용
+            jdbcTemplate.execute("DROP TABLE " + partition.toLowerCase(Locale.ROOT));
+            droppedCounter.increment();
+            dropped++;
+            log.info("보관 기간이 지난 사용자 활동 로그 파티션 삭제: {}", partition);
+        }
+        return dropped;
+    }
+
+    /**
+     * 파티션 범위의 끝 날짜 (미포함)
+     *
+     * @return 명명 규칙에 맞지 않으면 null
+     */
+    LocalDate partitionEnd(String partition) {
+        try {
+            if (partitionMode == PartitionMode.DAILY) {
+                Matcher matcher = DAILY_PARTITION.matcher(partition);
+                return matcher.matches()
+                        ? LocalDate.parse(matcher.group(1), DateTimeFormatter.BASIC_ISO_DATE).plusDays(1)
+                        : null;
+            }
+            Matcher matcher = MONTHLY_PARTITION.matcher(partition);
+            return matcher.matches()
+                    ? YearMonth.parse(matcher.group(1), DateTimeFormatter.ofPattern("yyyyMM")).plusMonths(1).atDay(1)
+                    : null;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private boolean pause() {
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
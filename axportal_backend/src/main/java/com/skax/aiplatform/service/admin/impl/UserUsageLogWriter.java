@@ -0,0 +1,347 @@
+package com.skax.aiplatform.service.admin.impl;
+
+import com.skax.aiplatform.entity.UserUsageMgmt;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 사용자 활동 로그(GPO_LOG_MAS) 비동기 배치 저장기
+ *
+ * <p>요청 스레드는 로그를 bounded queue 에 적재만 하고, 백그라운드 flusher 가
+ * 건수({@code batch-size}) 또는 시간({@code flush-interval-ms}) 기준으로 모아서
+ * 하나의 트랜잭션에서 JDBC batch insert 합니다.</p>
+ *
+ * <p>큐가 가득 찬 경우 {@code backpressure} 설정에 따라 로그를 버리거나(DROP)
+ * 최대 {@code block-timeout-ms} 동안 대기(BLOCK) 합니다.
+ * 애플리케이션 종료 시 남은 로그를 모두 저장한 뒤 종료합니다.</p>
+ *
+ * <p>메트릭: {@code user.usage.log.queue.depth}, {@code user.usage.log.dropped},
+ * {@code user.usage.log.written}, {@code user.usage.log.failed}, {@code user.usage.log.flush}</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class UserUsageLogWriter implements SmartLifecycle {
+
+    /**
+     * 큐가 가득 찼을 때의 처리 정책
+     */
+    public enum BackpressurePolicy {
+        DROP, BLOCK
+    }
+
+    private static final String INSERT_SQL = "INSERT INTO GPO_LOG_MAS (SEQ_NO, UUID, GPO_PRJ_NM, GPO_ROLE_NM, "
+            + "MENU_LINK_PATH, ACTN_NM, HMK_NM, RESRC_TYPE, API_URL, API_RST_CD, CLIENT_IP_NO, DTL_CTNT, "
+            + "RQST_CTNT, FIST_RQST_DTL_CTNT, SECD_RQST_DTL_CTNT, THI_RQST_DTL_CTNT, FRH_RQST_DTL_CTNT, "
+            + "RESP_CTNT, FIST_RESP_DTL_CTNT, SECD_RESP_DTL_CTNT, THI_RESP_DTL_CTNT, FRH_RESP_DTL_CTNT, "
+            + "FST_CREATED_AT, CREATED_BY) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String NEXT_SEQ_SQL_POSTGRESQL = "SELECT nextval('S_SEQ_NO_LOG') FROM generate_series(1, ?)";
+
+    private static final String NEXT_SEQ_SQL_TIBERO = "SELECT S_SEQ_NO_LOG.NEXTVAL FROM DUAL CONNECT BY LEVEL <= ?";
+
+    private record PendingLog(UserUsageMgmt entity, LongConsumer afterInsert) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingLog> queue;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final BackpressurePolicy backpressure;
+    private final long blockTimeoutMs;
+    private final long shutdownTimeoutMs;
+    private final String nextSeqSql;
+
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public UserUsageLogWriter(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${spring.datasource.driver-class-name:}") String driverClassName,
+            @Value("${user-usage-log.batch.enabled:true}") boolean enabled,
+            @Value("${user-usage-log.batch.queue-capacity:10000}") int queueCapacity,
+            @Value("${user-usage-log.batch.batch-size:200}") int batchSize,
+            @Value("${user-usage-log.batch.flush-interval-ms:1000}") long flushIntervalMs,
+            @Value("${user-usage-log.batch.backpressure:DROP}") BackpressurePolicy backpressure,
+            @Value("${user-usage-log.batch.block-timeout-ms:100}") long blockTimeoutMs,
+            @Value("${user-usage-log.batch.shutdown-timeout-ms:10000}") long shutdownTimeoutMs) {
+
+        // Vertica JdbcTemplate 과 구분하기 위해 Primary DataSource 로 전용 JdbcTemplate 생성
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.backpressure = backpressure;
+        this.blockTimeoutMs = blockTimeoutMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.nextSeqSql = "com.tmax.tibero.jdbc.TbDriver".equals(driverClassName)
+                ? NEXT_SEQ_SQL_TIBERO
+                : NEXT_SEQ_SQL_POSTGRESQL;
+
+        Gauge.builder("user.usage.log.queue.depth", queue, BlockingQueue::size)
+                .description("사용자 활동 로그 대기 건수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("user.usage.log.dropped")
+                .description("큐 포화로 버려진 사용자 활동 로그 건수")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("user.usage.log.written")
+                .description("저장된 사용자 활동 로그 건수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("user.usage.log.failed")
+                .description("배치 저장 실패로 유실된 사용자 활동 로그 건수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("user.usage.log.flush")
+                .description("사용자 활동 로그 배치 저장 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 배치 저장 사용 여부
+     *
+     * @return 사용 여부 (false 이면 호출 측에서 동기 저장)
+     */
+    public boolean isEnabled() {
+        return enabled && running;
+    }
+
+    /**
+     * 로그를 저장 큐에 적재
+     *
+     * @param entity      저장할 로그 엔티티 (SEQ_NO 는 저장 시 채번)
+     * @param afterInsert 저장 후 채번된 SEQ_NO 로 실행할 후속 작업 (없으면 null)
+     * @return 적재 성공 여부 (false 이면 로그 유실)
+     */
+    public boolean submit(UserUsageMgmt entity, LongConsumer afterInsert) {
+        PendingLog pending = new PendingLog(entity, afterInsert);
+        boolean accepted;
+        if (backpressure == BackpressurePolicy.BLOCK) {
+            try {
+                accepted = queue.offer(pending, blockTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                accepted = false;
+            }
+        } else {
+            accepted = queue.offer(pending);
+        }
+
+        if (!accepted) {
+            droppedCounter.increment();
+            log.debug("사용자 활동 로그 큐 포화로 로그 유실: user={}, api={}", entity.getUserName(),
+                    entity.getApiEndpoint());
+        }
+        return accepted;
+    }
+
+    private void runFlushLoop() {
+        List<PendingLog> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingLog first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 배치가 찰 때까지 최대 flush-interval 동안 추가 수집
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                        break;
+                    }
+                    PendingLog next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                // 종료 신호: running 플래그 기준으로 남은 로그를 마저 저장
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            } catch (RuntimeException e) {
+                log.error("사용자 활동 로그 flusher 오류: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingLog> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<PendingLog> saved = batch;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Long> seqNos = jdbcTemplate.queryForList(nextSeqSql, Long.class, batch.size());
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).entity().setId(seqNos.get(i));
+                }
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), this::bindLog);
+            });
+            writtenCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            // 한 건의 오류로 배치 전체가 롤백되므로 건별로 다시 저장하여 문제 행만 제외
+            log.warn("사용자 활동 로그 배치 저장 실패 - 건별 재시도: count={}, error={}", batch.size(), e.getMessage());
+            saved = flushEach(batch);
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        // 채번된 SEQ_NO 기반 후속 작업 (예: /users/me 호출 시 로그인 로그 갱신)
+        for (PendingLog pending : saved) {
+            if (pending.afterInsert() != null) {
+                try {
+                    pending.afterInsert().accept(pending.entity().getId());
+                } catch (RuntimeException e) {
+                    log.warn("사용자 활동 로그 후속 작업 실패: seqNo={}, error={}", pending.entity().getId(),
+                            e.getMessage());
+                }
+            }
+        }
+        log.debug("사용자 활동 로그 배치 저장 완료: count={}", saved.size());
+    }
+
+    /**
+     * 건별 저장 (배치 저장 실패 시)
+     *
+     * <p>배치에서 이미 채번된 SEQ_NO 는 시퀀스 특성상 롤백되지 않으므로 그대로 사용합니다.</p>
+     *
+     * @return 저장에 성공한 로그
+     */
+    private List<PendingLog> flushEach(List<PendingLog> batch) {
+        List<PendingLog> saved = new ArrayList<>(batch.size());
+        for (PendingLog pending : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (pending.entity().getId() == null) {
+                        pending.entity().setId(jdbcTemplate.queryForObject(nextSeqSql, Long.class, 1));
+                    }
+                    jdbcTemplate.update(INSERT_SQL, ps -> bindLog(ps, pending));
+                });
+                saved.add(pending);
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                log.warn("사용자 활동 로그 저장 실패: user={}, api={}, error={}", pending.entity().getUserName(),
+                        pending.entity().getApiEndpoint(), e.getMessage());
+            }
+        }
+        writtenCounter.increment(saved.size());
+        return saved;
+    }
+
+    private void bindLog(PreparedStatement ps, PendingLog pending) throws SQLException {
+        UserUsageMgmt e = pending.entity();
+        LocalDateTime createdAt = e.getCreatedAt() != null ? e.getCreatedAt() : LocalDateTime.now();
+        ps.setLong(1, e.getId());
+        ps.setString(2, e.getUserName());
+        ps.setString(3, e.getProjectName());
+        ps.setString(4, e.getRoleName());
+        ps.setString(5, e.getMenuPath());
+        ps.setString(6, e.getAction());
+        ps.setString(7, e.getTargetAsset());
+        ps.setString(8, e.getResourceType());
+        ps.setString(9, e.getApiEndpoint());
+        ps.setString(10, e.getErrCode());
+        ps.setString(11, e.getClientIp());
+        ps.setString(12, e.getUserAgent());
+        ps.setString(13, e.getRequestContent());
+        ps.setString(14, e.getFirstRequestDetail());
+        ps.setString(15, e.getSecondRequestDetail());
+        ps.setString(16, e.getThirdRequestDetail());
+        ps.setString(17, e.getFourthRequestDetail());
+        ps.setString(18, e.getResponseContent());
+        ps.setString(19, e.getFirstResponseDetail());
+        ps.setString(20, e.getSecondResponseDetail());
+        ps.setString(21, e.getThirdResponseDetail());
+        ps.setString(22, e.getFourthResponseDetail());
+        ps.setTimestamp(23, Timestamp.valueOf(createdAt));
+        ps.setString(24, e.getCreatedBy() != null ? e.getCreatedBy() : "system");
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::runFlushLoop, "user-usage-log-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("사용자 활동 로그 배치 저장기 시작: queueCapacity={}, batchSize={}, flushIntervalMs={}, backpressure={}",
+                queue.remainingCapacity(), batchSize, flushIntervalMs, backpressure);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        log.info("사용자 활동 로그 배치 저장기 종료 - 잔여 로그 저장: {}건", queue.size());
+        try {
+            flusher.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (flusher.isAlive()) {
+            log.warn("사용자 활동 로그 배치 저장기 종료 대기 시간 초과 - 미저장 로그: {}건", queue.size());
+            flusher.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * DataSource/트랜잭션 매니저보다 먼저 종료되도록 늦게 시작하고 일찍 종료
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE - 1000;
+    }
+}
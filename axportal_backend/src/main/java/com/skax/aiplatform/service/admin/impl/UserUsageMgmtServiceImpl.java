@@ -16,6 +16,7 @@ import com.skax.aiplatform.repository.home.GpoProjectsRepository;
 import com.skax.aiplatform.service.admin.UserUsageMgmtService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -43,6 +44,10 @@ public class UserUsageMgmtServiceImpl implements UserUsageMgmtService {
     private final UserUsageMgmtRepository userUsageMgmtRepository;
     private final UserUsageMgmtMapper userUsageMgmtMapper;
     private final GpoProjectsRepository gpoProjectsRepository;
+    private final UserUsageLogWriter userUsageLogWriter;
+    private final UserUsageLogRetention userUsageLogRetention;
+    // 자기 호출 시에도 @Transactional(REQUIRES_NEW) 프록시를 거치도록 사용
+    private final ObjectProvider<UserUsageMgmtService> self;
 
     @Value("${spring.datasource.driver-class-name:}")
     private String driverClassName;
@@ -68,15 +73,7 @@ public class UserUsageMgmtServiceImpl implements UserUsageMgmtService {
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public UserUsageMgmtRes createUserUsageMgmt(UserUsageMgmtReq userUsageMgmt) {
         try {
-            UserUsageMgmt entity = userUsageMgmtMapper.toEntity(userUsageMgmt);
-            // projectName(UUID)가 비어있거나 null이면 null로 설정
-            if (entity.getProjectName() != null && entity.getProjectName().trim().isEmpty()) {
-                entity.setProjectName(null);
-            }
-            applyRequestDetails(entity, userUsageMgmt.getRequestContent());
-            applyResponseDetails(entity, userUsageMgmt.getResponseContent());
-            enforceFieldConstraints(entity);
-            UserUsageMgmt savedEntity = userUsageMgmtRepository.save(entity);
+            UserUsageMgmt savedEntity = userUsageMgmtRepository.save(toLogEntity(userUsageMgmt));
 
             log.debug("사용자 사용량 관리 저장 성공: user={}, action={}, errCode={}",
                     userUsageMgmt.getUserName(), userUsageMgmt.getAction(), userUsageMgmt.getErrCode());
@@ -100,15 +97,7 @@ public class UserUsageMgmtServiceImpl implements UserUsageMgmtService {
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void createUserUsageMgmtAsync(UserUsageMgmtReq userUsageMgmt) {
         try {
-            UserUsageMgmt entity = userUsageMgmtMapper.toEntity(userUsageMgmt);
-            // projectName(UUID)가 비어있거나 null이면 null로 설정
-            if (entity.getProjectName() != null && entity.getProjectName().trim().isEmpty()) {
-                entity.setProjectName(null);
-            }
-            applyRequestDetails(entity, userUsageMgmt.getRequestContent());
-            applyResponseDetails(entity, userUsageMgmt.getResponseContent());
-            enforceFieldConstraints(entity);
-            userUsageMgmtRepository.save(entity);
+            userUsageMgmtRepository.save(toLogEntity(userUsageMgmt));
 
             log.debug("비동기 사용자 사용량 관리 저장 성공: user={}, action={}, errCode={}",
                     userUsageMgmt.getUserName(), userUsageMgmt.getAction(), userUsageMgmt.getErrCode());
@@ -121,6 +110,50 @@ public class UserUsageMgmtServiceImpl implements UserUsageMgmtService {
         }
     }
 
+    @Override
+    public void submitUserUsageMgmt(UserUsageMgmtReq userUsageMgmt, String loginLogUserInfo) {
+        String userName = userUsageMgmt.getUserName();
+        // 추출된 사용자 정보가 있을 때만 로그인 로그 업데이트
+        boolean updateLoginLog = loginLogUserInfo != null && !loginLogUserInfo.isEmpty();
+
+        // 배치 저장기가 비활성화된 경우 기존 동기 저장 경로 사용
+        if (!userUsageLogWriter.isEnabled()) {
+            UserUsageMgmtService proxy = self.getObject();
+            UserUsageMgmtRes savedLog = proxy.createUserUsageMgmt(userUsageMgmt);
+            if (updateLoginLog && savedLog != null && savedLog.getId() != null) {
+                proxy.updateNearestLoginLogWithUserInfo(Long.valueOf(savedLog.getId()), userName, loginLogUserInfo);
+            }
+            return;
+        }
+
+        try {
+            UserUsageMgmt entity = toLogEntity(userUsageMgmt);
+            entity.setCreatedAt(LocalDateTime.now());
+            // 후속 작업은 flusher 스레드에서 실행되므로 프록시를 통해 별도 트랜잭션으로 처리
+            UserUsageMgmtService proxy = self.getObject();
+            userUsageLogWriter.submit(entity, !updateLoginLog ? null
+                    : seqNo -> proxy.updateNearestLoginLogWithUserInfo(seqNo, userName, loginLogUserInfo));
+        } catch (RuntimeException e) {
+            // 원본 API 호출에 영향을 주지 않도록 로그만 출력
+            log.warn("사용자 사용량 관리 배치 저장 요청 실패 (런타임 오류): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 로그 요청을 저장용 엔티티로 변환 (상세 분할/필드 길이 보정 포함)
+     */
+    private UserUsageMgmt toLogEntity(UserUsageMgmtReq userUsageMgmt) {
+        UserUsageMgmt entity = userUsageMgmtMapper.toEntity(userUsageMgmt);
+        // projectName(UUID)가 비어있거나 null이면 null로 설정
+        if (entity.getProjectName() != null && entity.getProjectName().trim().isEmpty()) {
+            entity.setProjectName(null);
+        }
+        applyRequestDetails(entity, userUsageMgmt.getRequestContent());
+        applyResponseDetails(entity, userUsageMgmt.getResponseContent());
+        enforceFieldConstraints(entity);
+        return entity;
+    }
+
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void updateNearestLoginLogWithUserInfo(Long currentLogId, String userName, String userInfo) {
@@ -779,30 +812,19 @@ public class UserUsageMgmtServiceImpl implements UserUsageMgmtService {
     }
 
     @Override
-    @Transactional
     public long deleteOldUserUsageMgmtData() {
         try {
-            LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-            log.info("30일 전 사용자 사용량 관리 데이터 삭제 시작 - 기준 날짜: {}", thirtyDaysAgo);
-
-            // 삭제 전 개수 확인
-            long countBeforeDelete = userUsageMgmtRepository.count();
-
-            // 30일 전 데이터 삭제
-            userUsageMgmtRepository.deleteByCreatedAtBefore(thirtyDaysAgo);
-
-            // 삭제 후 개수 확인
-            long countAfterDelete = userUsageMgmtRepository.count();
-            long deletedCount = countBeforeDelete - countAfterDelete;
-
-            log.info("30일 전 사용자 사용량 관리 데이터 삭제 완료 - 삭제된 레코드 수: {}건", deletedCount);
+            // SEQ_NO 구간 단위로 나누어 구간마다 커밋 (전체 count 없이 삭제 건수 집계)
+            UserUsageLogRetention.PurgeResult result = userUsageLogRetention.purge();
+            log.info("보관 기간이 지난 사용자 사용량 관리 데이터 삭제 완료 - 기준 날짜: {}, 삭제된 레코드 수: {}건, 삭제된 파티션 수: {}개",
+                    result.cutoff(), result.deletedRows(), result.droppedPartitions());
 
-            return deletedCount;
+            return result.deletedRows();
         } catch (org.springframework.dao.DataAccessException e) {
-            log.error("30일 전 사용자 사용량 관리 데이터 삭제 실패 (데이터베이스 오류): {}", e.getMessage(), e);
+            log.error("보관 기간이 지난 사용자 사용량 관리 데이터 삭제 실패 (데이터베이스 오류): {}", e.getMessage(), e);
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "데이터 삭제에 실패했습니다: " + e.getMessage());
         } catch (RuntimeException e) {
-            log.error("30일 전 사용자 사용량 관리 데이터 삭제 실패 (런타임 오류): {}", e.getMessage(), e);
+            log.error("보관 기간이 지난 사용자 사용량 관리 데이터 삭제 실패 (런타임 오류): {}", e.getMessage(), e);
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "데이터 삭제에 실패했습니다: " + e.getMessage());
         }
     }
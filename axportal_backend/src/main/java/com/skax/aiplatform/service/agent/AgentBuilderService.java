@@ -6,6 +6,7 @@ import java.util.Map;
 
 import com.skax.aiplatform.client.sktai.lineage.dto.response.LineageRelationWithTypes;
 import com.skax.aiplatform.common.response.PageResponse;
+import com.skax.aiplatform.common.stream.StreamSessionManager.StreamSession;
 import com.skax.aiplatform.dto.agent.response.AgentAppInfoRes;
 import com.skax.aiplatform.dto.agent.response.AgentBuilderRes;
 
@@ -97,8 +98,10 @@ public interface AgentBuilderService {
      * 
      * @param request      스트리밍 요청 데이터
      * @param outputStream 출력 스트림
+     * @param session      스트림 세션 (업스트림 연결 등록 및 유휴 시간 갱신)
+     * @return 끝까지 전달했으면 true, 클라이언트 연결이 끊겨 중단했으면 false
      */
-    void streamAgentGraph(Map<String, Object> request, OutputStream outputStream) throws Exception;
+    boolean streamAgentGraph(Map<String, Object> request, OutputStream outputStream, StreamSession session) throws Exception;
 
     /**
      * 에이전트 배포 정보 조회
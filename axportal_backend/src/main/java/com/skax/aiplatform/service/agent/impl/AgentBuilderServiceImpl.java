@@ -1,7 +1,6 @@
 package com.skax.aiplatform.service.agent.impl;
 
 import java.io.OutputStream;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +34,7 @@ import com.skax.aiplatform.client.sktai.lineage.service.SktaiLineageService;
 import com.skax.aiplatform.common.exception.BusinessException;
 import com.skax.aiplatform.common.exception.ErrorCode;
 import com.skax.aiplatform.common.response.PageResponse;
+import com.skax.aiplatform.common.stream.StreamSessionManager.StreamSession;
 import com.skax.aiplatform.common.util.PaginationUtils;
 import com.skax.aiplatform.dto.agent.response.AgentAppInfoRes;
 import com.skax.aiplatform.dto.agent.response.AgentBuilderRes;
@@ -43,6 +43,7 @@ import com.skax.aiplatform.mapper.agent.AgentBuilderMapper;
 import com.skax.aiplatform.repository.mapping.GpoAssetPrjMapMasRepository;
 import com.skax.aiplatform.service.admin.AdminAuthService;
 import com.skax.aiplatform.service.agent.AgentBuilderService;
+import com.skax.aiplatform.service.common.AssetVisibilityResolver;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -70,6 +71,7 @@ public class AgentBuilderServiceImpl implements AgentBuilderService {
     private final SktaiLineageService sktaiLineageService;
 
     private final GpoAssetPrjMapMasRepository assetPrjMapMasRepository;
+    private final AssetVisibilityResolver assetVisibilityResolver;
     private final SktaiAgentInferencePromptsService sktaiAgentInferencePromptsService;
 
     private final ObjectMapper objectMapper;
@@ -96,11 +98,14 @@ public class AgentBuilderServiceImpl implements AgentBuilderService {
                 agentBuilders = new ArrayList<>();
             }
 
+            // 공개 여부 일괄 조회 (페이지 단위 IN 조회)
+            Map<String, GpoAssetPrjMapMas> assets = assetVisibilityResolver.findAssets(agentBuilders.stream()
+                    .map(builder -> "/api/v1/agent/agents/graphs/" + builder.getId()).toList());
+
             // publicStatus 설정 (Mapper로 변환한 후 추가 정보 설정)
             for (AgentBuilderRes agentBuilder : agentBuilders) {
                 String graphId = agentBuilder.getId();
-                GpoAssetPrjMapMas existing = assetPrjMapMasRepository
-                        .findByAsstUrl("/api/v1/agent/agents/graphs/" + graphId).orElse(null);
+                GpoAssetPrjMapMas existing = assets.get("/api/v1/agent/agents/graphs/" + graphId);
                 String publicStatus;
                 if (existing != null && existing.getLstPrjSeq() != null) {
                     publicStatus = existing.getLstPrjSeq() < 0 ? "전체공유" : "내부공유";
@@ -410,7 +415,8 @@ public class AgentBuilderServiceImpl implements AgentBuilderService {
 
 
     @Override
-    public void streamAgentGraph(Map<String, Object> request, OutputStream outputStream) throws Exception {
+    public boolean streamAgentGraph(Map<String, Object> request, OutputStream outputStream, StreamSession session)
+            throws Exception {
         try {
             log.debug("에이전트 그래프 스트리밍 실행 시작 (OutputStream)");
             String graphId = request.get("graph_id") != null ? request.get("graph_id").toString() : null;
@@ -431,19 +437,27 @@ public class AgentBuilderServiceImpl implements AgentBuilderService {
             if (response == null || response.body() == null) {
                 throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR, "스트리밍 응답을 받을 수 없습니다.");
             }
+            // 유휴 시간 초과 또는 클라이언트 연결 종료 시 업스트림 호출을 취소할 수 있도록 등록
+            session.attach(response);
             try (java.io.InputStream inputStream = response.body().asInputStream()) {
-                // 원본 응답이 이미 UTF-8로 인코딩되어 있으므로 바이트를 그대로 전달
+                // 원본 응답이 이미 UTF-8로 인코딩되어 있으므로 읽은 버퍼를 변환 없이 그대로 전달
                 byte[] buffer = new byte[8192];
                 int bytesRead;
                 long totalBytesRead = 0;
                 int chunkCount = 0;
                 while ((bytesRead = inputStream.read(buffer)) != -1) {
+                    session.touch();
+                    try {
+                        outputStream.write(buffer, 0, bytesRead);
+                        outputStream.flush(); // 실시간 스트리밍을 위해 매번 flush
+                    } catch (java.io.IOException e) {
+                        // 클라이언트 연결 종료: 남은 응답을 읽지 않고 업스트림 호출 취소
+                        log.debug("에이전트 그래프 스트리밍 클라이언트 연결 종료 - {} 청크, {} bytes 전송 후 업스트림 취소: {}",
+                                chunkCount, totalBytesRead, e.getMessage());
+                        session.closeUpstream();
+                        return false;
+                    }
                     chunkCount++;
-                    String preview = new String(buffer, 0, bytesRead, StandardCharsets.UTF_8);
-                    log.debug("청크 #{}: {} bytes - 시작: {}", chunkCount, bytesRead, preview);
-                    
-                    outputStream.write(buffer, 0, bytesRead);
-                    outputStream.flush(); // 실시간 스트리밍을 위해 매번 flush
                     totalBytesRead += bytesRead;
                 }
                 log.debug("에이전트 그래프 스트리밍 데이터 전송 완료 - 총 {} 청크, {} bytes", chunkCount, totalBytesRead);
@@ -453,6 +467,7 @@ public class AgentBuilderServiceImpl implements AgentBuilderService {
                 // 이미 전송된 데이터는 정상적으로 처리되었으므로 에러를 throw하지 않음
             }
             log.debug("에이전트 그래프 스트리밍 실행 완료 (OutputStream)");
+            return true;
         } catch (BusinessException e) {
             log.error("에이전트 그래프 스트리밍 실행 실패 (비즈니스 오류)", e);
             throw e;
@@ -460,6 +475,7 @@ public class AgentBuilderServiceImpl implements AgentBuilderService {
             // 🔥 스트리밍 중 연결이 끊어진 경우: 정상 종료로 간주
             log.debug("에이전트 그래프 스트리밍 중 연결 종료 (정상 종료 가능): {}", e.getMessage());
             // 이미 전송된 데이터는 정상적으로 처리되었으므로 에러를 throw하지 않음
+            return true;
         } catch (Exception e) {
             log.error("에이전트 그래프 스트리밍 실행 실패 (예상치 못한 오류)", e);
             throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR,
@@ -1,6 +1,7 @@
 package com.skax.aiplatform.service.agent.impl;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
@@ -35,6 +36,7 @@ import com.skax.aiplatform.mapper.agent.AgentMcpMapper;
 import com.skax.aiplatform.repository.mapping.GpoAssetPrjMapMasRepository;
 import com.skax.aiplatform.service.admin.AdminAuthService;
 import com.skax.aiplatform.service.agent.AgentMcpService;
+import com.skax.aiplatform.service.common.AssetVisibilityResolver;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -55,6 +57,7 @@ public class AgentMcpServiceImpl implements AgentMcpService {
     private final SktaiServingService sktaiServingService;
 
     private final GpoAssetPrjMapMasRepository assetPrjMapMasRepository;
+    private final AssetVisibilityResolver assetVisibilityResolver;
     private final AgentMcpMapper agentMcpMapper;
 
     
@@ -70,9 +73,13 @@ public class AgentMcpServiceImpl implements AgentMcpService {
                     .map(agentMcpMapper::toMcpCatalogInfoResFromDetail)
                     .collect(Collectors.toList());
 
+        // 공개 여부 일괄 조회 (페이지 단위 IN 조회)
+        Map<String, GpoAssetPrjMapMas> assets = assetVisibilityResolver.findAssets(mcpCatalogList.stream()
+                .map(catalog -> "/api/v1/mcp/catalogs/" + catalog.getId()).toList());
+
         for (McpCatalogInfoRes mcpCatalogInfoRes : mcpCatalogList) {
             // 공개 여부 설정 (lst_prj_seq 값에 따라)
-            GpoAssetPrjMapMas existing = assetPrjMapMasRepository.findByAsstUrl("/api/v1/mcp/catalogs/" + mcpCatalogInfoRes.getId()).orElse(null);
+            GpoAssetPrjMapMas existing = assets.get("/api/v1/mcp/catalogs/" + mcpCatalogInfoRes.getId());
             String publicStatus = null;
             if (existing != null && existing.getLstPrjSeq() != null) {
                 // 음수면 "전체공유", 양수면 "내부공유"
@@ -1,6 +1,7 @@
 package com.skax.aiplatform.service.agent.impl;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
@@ -23,6 +24,7 @@ import com.skax.aiplatform.mapper.agent.AgentToolsMapper;
 import com.skax.aiplatform.repository.mapping.GpoAssetPrjMapMasRepository;
 import com.skax.aiplatform.service.admin.AdminAuthService;
 import com.skax.aiplatform.service.agent.AgentToolService;
+import com.skax.aiplatform.service.common.AssetVisibilityResolver;
 
 import feign.FeignException;
 import lombok.RequiredArgsConstructor;
@@ -46,6 +48,7 @@ public class AgentToolServiceImpl implements AgentToolService {
     private final SktaiAgentToolsService sktaiAgentToolsService;
 
     private final GpoAssetPrjMapMasRepository assetPrjMapMasRepository;
+    private final AssetVisibilityResolver assetVisibilityResolver;
 
     private final AgentToolsMapper agentToolsMapper;
     private final AdminAuthService adminAuthService;
@@ -62,9 +65,13 @@ public class AgentToolServiceImpl implements AgentToolService {
                     .map(agentToolsMapper::from)
                     .collect(Collectors.toList());
 
+            // 공개 여부 일괄 조회 (페이지 단위 IN 조회)
+            Map<String, GpoAssetPrjMapMas> assets = assetVisibilityResolver.findAssets(agentToolList.stream()
+                    .map(agentTool -> "/api/v1/agent/tools/" + agentTool.getId()).toList());
+
             for (AgentToolRes agentToolRes : agentToolList) {
                 // 공개 여부 설정 (lst_prj_seq 값에 따라)
-                GpoAssetPrjMapMas existing = assetPrjMapMasRepository.findByAsstUrl("/api/v1/agent/tools/" + agentToolRes.getId()).orElse(null);
+                GpoAssetPrjMapMas existing = assets.get("/api/v1/agent/tools/" + agentToolRes.getId());
                 String publicStatus = null;
                 if (existing != null && existing.getLstPrjSeq() != null) {
                     // 음수면 "전체공유", 양수면 "내부공유"
@@ -2,19 +2,19 @@ package com.skax.aiplatform.service.auth;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import com.skax.aiplatform.client.sktai.auth.dto.response.AccessTokenResponseWithProject;
 import com.skax.aiplatform.common.exception.BusinessException;
 import com.skax.aiplatform.common.exception.ErrorCode;
 import com.skax.aiplatform.dto.auth.TokenCacheData;
-import jakarta.annotation.PostConstruct;
+import com.skax.aiplatform.service.auth.store.TokenStore;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConversionException;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
@@ -26,18 +26,37 @@ import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 
-import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
 public class TokenCacheService {
 
-    private Cache<String, TokenCacheData> tokenCache;
+    private final TokenStore tokenStore;
+
+    private final Executor refreshExecutor;
+
+    /**
+     * 만료 몇 초 전부터 백그라운드 선제 갱신(refresh-ahead)을 시작할지
+     */
+    private final long refreshAheadSeconds;
+
+    /**
+     * 사용자별 진행 중인 갱신 작업 (single flight)
+     */
+    private final Map<String, CompletableFuture<TokenCacheData>> inFlightRefreshes = new ConcurrentHashMap<>();
 
     @Value("${sktai.api.base-url}")
     private String sktaiBaseUrl;
@@ -45,102 +64,211 @@ public class TokenCacheService {
     // 스레드 안전한 ObjectMapper 인스턴스 (재사용)
     private final ObjectMapper objectMapper = new ObjectMapper();
     
-    // 스레드 안전한 RestTemplate 인스턴스 (재사용)
-    private final RestTemplate restTemplate = new RestTemplate();
-
-    private static final String TOKEN_KEY_PREFIX = "token:";
-
-    @PostConstruct
-    public void init() {
-        // 기본 캐시 설정
-        // PostConstruct 생성자에서 최초 1회 캐시 객체를 초기화 하는 코드
-        // 시큐어코딩 관점에서 조치 대상이 아님으로 판단
-        tokenCache = Caffeine.newBuilder()
-                .maximumSize(1000)
-                .expireAfterWrite(1, TimeUnit.HOURS)
-                .build();
+    // 스레드 안전한 RestTemplate 인스턴스 (재사용, 갱신 호출 제한 시간 적용)
+    private final RestTemplate restTemplate;
+
+    /**
+     * 갱신 대기 시 HTTP 제한 시간에 더하는 여유 (저장소 반영 등)
+     */
+    private static final long REFRESH_WAIT_MARGIN_MILLIS = 1000L;
+
+    /**
+     * 요청 스레드가 갱신 완료를 기다리는 최대 시간 (연결 + 읽기 제한 시간 + 여유)
+     */
+    private final long refreshWaitMillis;
+
+    public TokenCacheService(
+            TokenStore tokenStore,
+            @Qualifier("asyncTaskExecutor") Executor refreshExecutor,
+            @Value("${sktai.token-store.refresh-ahead-seconds:60}") long refreshAheadSeconds,
+            @Value("${sktai.token-store.refresh-connect-timeout-ms:3000}") int refreshConnectTimeoutMillis,
+            @Value("${sktai.token-store.refresh-read-timeout-ms:5000}") int refreshReadTimeoutMillis) {
+        this.tokenStore = tokenStore;
+        this.refreshExecutor = refreshExecutor;
+        this.refreshAheadSeconds = refreshAheadSeconds;
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(refreshConnectTimeoutMillis);
+        requestFactory.setReadTimeout(refreshReadTimeoutMillis);
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.refreshWaitMillis = (long) refreshConnectTimeoutMillis + refreshReadTimeoutMillis
+                + REFRESH_WAIT_MARGIN_MILLIS;
     }
 
-    // 사용자명으로 토큰 조회 (캐시 전용)
+    // 사용자명으로 토큰 조회
     public TokenCacheData getTokenByUsername(String username) {
-        String key = TOKEN_KEY_PREFIX + username;
+        TokenCacheData cachedToken = tokenStore.find(username);
 
-        // 캐시에서 조회
-        TokenCacheData cachedToken = tokenCache.getIfPresent(key);
+        if (cachedToken == null) {
+            return null;
+        }
 
-        if (cachedToken != null && cachedToken.isValid()) {
+        if (cachedToken.isValid()) {
+            // 만료 임박 시 현재 토큰은 그대로 반환하고 백그라운드에서 선제 갱신
+            if (isRefreshAheadDue(cachedToken)) {
+                refreshSingleFlight(username);
+            }
             return cachedToken;
         }
 
-        // 캐시에 없거나 유효하지 않은 경우 null 반환
+        // 액세스 토큰만 만료된 경우 재로그인 대신 리프레시 토큰으로 갱신 (사용자당 1회)
+        if (!cachedToken.isRefreshExpired()) {
+            try {
+                TokenCacheData refreshed = refreshSingleFlight(username).get(refreshWaitMillis, TimeUnit.MILLISECONDS);
+                return refreshed != null && refreshed.isValid() ? refreshed : null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("사용자 {} 토큰 갱신 대기 중 인터럽트 발생", username);
+            } catch (ExecutionException | TimeoutException e) {
+                log.warn("사용자 {} 토큰 갱신 실패, 재로그인 필요: {}", username, e.getMessage());
+            }
+        }
+
+        // 갱신 불가한 경우 null 반환 (호출 측에서 재로그인)
         return null;
     }
 
-    // 토큰 캐시에 저장
+    // 토큰 저장
     public void cacheToken(TokenCacheData token) {
-        String key = TOKEN_KEY_PREFIX + token.getMemberId();
-
-        // 토큰이 유효한 경우에만 캐시
+        // 토큰이 유효한 경우에만 저장 (항목별 만료는 저장소에서 expAt 기준으로 처리)
         if (token.isValid()) {
-            tokenCache.put(key, token);
-
-            // 만료 시간이 있는 경우 별도 캐시 설정 (선택적)
-            if (token.getExpAt() != null) {
-                Duration timeToLive = Duration.between(LocalDateTime.now(), token.getExpAt());
-                if (!timeToLive.isNegative() && !timeToLive.isZero()) {
-                    // 개별 항목별 만료 시간은 Caffeine에서 직접 지원하지 않음
-                    // 대신 주기적으로 정리하거나 캐시 전체 만료 정책 사용
-                }
-            }
+            tokenStore.save(token);
         }
     }
 
-    // 토큰 캐시에서 삭제
+    // 토큰 삭제
     public void removeTokenFromCache(String username) {
-        String key = TOKEN_KEY_PREFIX + username;
-        tokenCache.invalidate(key);
+        tokenStore.remove(username);
+    }
+
+    private boolean isRefreshAheadDue(TokenCacheData token) {
+        return refreshAheadSeconds > 0
+                && token.getExpAt() != null
+                && !token.isRefreshExpired()
+                && LocalDateTime.now().plusSeconds(refreshAheadSeconds).isAfter(token.getExpAt());
+    }
+
+    /**
+     * 사용자당 하나의 갱신 작업만 실행되도록 보장
+     *
+     * @param username 사용자명
+     * @return 갱신 작업
+     */
+    private CompletableFuture<TokenCacheData> refreshSingleFlight(String username) {
+        CompletableFuture<TokenCacheData> running = inFlightRefreshes.get(username);
+        if (running != null) {
+            return running;
+        }
+
+        CompletableFuture<TokenCacheData> future = new CompletableFuture<>();
+        CompletableFuture<TokenCacheData> raced = inFlightRefreshes.putIfAbsent(username, future);
+        if (raced != null) {
+            return raced;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    future.complete(refreshSktaiAccessToken(username));
+                } catch (Exception e) {
+                    log.warn("사용자 {} SKTAI 토큰 갱신 실패: {}", username, e.getMessage());
+                    future.completeExceptionally(e);
+                } finally {
+                    inFlightRefreshes.remove(username, future);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlightRefreshes.remove(username, future);
+            future.completeExceptionally(e);
+        }
+        return future;
     }
 
     /**
      * 사용자명의 리프레시 토큰을 사용하여 SKTAI 액세스 토큰을 갱신하고 캐시 갱신
      *
+     * <p>저장은 갱신에 사용한 리프레시 토큰을 조건으로 하는 조건부 교체이므로 여러 파드가 동시에 갱신해도
+     * 한 건만 반영됩니다. 경합에서 진 경우(또는 이미 교체된 리프레시 토큰으로 갱신이 거절된 경우)
+     * 로컬 사본을 버리고 먼저 저장된 토큰을 사용합니다.</p>
+     *
      * @param username 현재 인증된 사용자명
      * @return 갱신된 TokenCacheData
      */
     public TokenCacheData refreshSktaiAccessToken(String username) {
-        // 캐시에서 기존 토큰 조회 (만료 여부와 무관하게)
-        String key = TOKEN_KEY_PREFIX + username;
-        TokenCacheData existing = tokenCache.getIfPresent(key);
+        // 다른 파드가 이미 갱신했을 수 있으므로 near cache 가 아닌 저장소 값을 기준으로 갱신
+        tokenStore.invalidateLocal(username);
+        TokenCacheData existing = tokenStore.find(username);
 
         if (existing == null) {
             throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "사용자 토큰 정보가 없습니다");
         }
 
+        // 다른 파드가 이미 갱신하여 아직 갱신 시점이 아니면 그대로 사용
+        if (existing.isValid() && !isRefreshAheadDue(existing)) {
+            return existing;
+        }
+
         // 리프레시 토큰 만료 체크
         if (existing.isRefreshExpired()) {
             throw new BusinessException(ErrorCode.EXPIRED_TOKEN, "리프레시 토큰이 만료되었습니다");
         }
 
         // SKTAI 토큰 갱신 호출
-        AccessTokenResponseWithProject refreshed = refreshTokenDirectly(existing.getRefreshToken());
-
-        // 토큰 데이터 업데이트
-        existing.setAccessToken(refreshed.getAccessToken());
-        existing.setRefreshToken(refreshed.getRefreshToken());
-        existing.setTokenType(refreshed.getTokenType());
-        existing.setTokenExpTimes(refreshed.getExpiresIn());
-        existing.setRefreshTokenExpTimes(refreshed.getRefreshExpiresIn());
-        existing.setExpAt(extractExpAtFromAccessToken(refreshed.getAccessToken(), refreshed.getExpiresIn()));
-        if (refreshed.getRefreshExpiresIn() != null) {
-            existing.setRefreshTokenExpAt(LocalDateTime.now().plusSeconds(refreshed.getRefreshExpiresIn()));
+        String previousRefreshToken = existing.getRefreshToken();
+        AccessTokenResponseWithProject refreshed;
+        try {
+            refreshed = refreshTokenDirectly(previousRefreshToken);
+        } catch (BusinessException e) {
+            // 다른 파드가 먼저 갱신하여 이전 리프레시 토큰이 폐기된 경우 저장된 최신 토큰 사용
+            TokenCacheData winner = findRefreshedByOther(username, previousRefreshToken);
+            if (winner != null) {
+                return winner;
+            }
+            throw e;
         }
-        existing.setTokenExpYn("N");
 
-        // 캐시 갱신
-        removeTokenFromCache(username);
-        cacheToken(existing);
+        // 토큰 데이터 생성 (near cache 에 공유된 기존 객체는 변경하지 않음)
+        TokenCacheData updated = TokenCacheData.builder()
+                .uuid(existing.getUuid())
+                .memberId(existing.getMemberId())
+                .accessToken(refreshed.getAccessToken())
+                .refreshToken(refreshed.getRefreshToken())
+                .tokenType(refreshed.getTokenType())
+                .tokenExpTimes(refreshed.getExpiresIn())
+                .refreshTokenExpTimes(refreshed.getRefreshExpiresIn())
+                .expAt(extractExpAtFromAccessToken(refreshed.getAccessToken(), refreshed.getExpiresIn()))
+                .refreshTokenExpAt(refreshed.getRefreshExpiresIn() != null
+                        ? LocalDateTime.now().plusSeconds(refreshed.getRefreshExpiresIn())
+                        : existing.getRefreshTokenExpAt())
+                .tokenExpYn("N")
+                .issueAt(LocalDateTime.now())
+                .build();
 
-        return existing;
+        // 저장소 조건부 갱신 (이전 리프레시 토큰이 그대로일 때만)
+        if (tokenStore.replace(previousRefreshToken, updated)) {
+            return updated;
+        }
+        TokenCacheData winner = findRefreshedByOther(username, previousRefreshToken);
+        if (winner == null) {
+            throw new BusinessException(ErrorCode.EXPIRED_TOKEN, "토큰이 다른 요청에 의해 변경되었습니다");
+        }
+        return winner;
+    }
+
+    /**
+     * 다른 요청/파드가 저장한 갱신 토큰 조회
+     *
+     * @param username             사용자명
+     * @param previousRefreshToken 갱신에 사용한 리프레시 토큰
+     * @return 이전과 다른 리프레시 토큰을 가진 유효한 토큰 (없으면 null)
+     */
+    private TokenCacheData findRefreshedByOther(String username, String previousRefreshToken) {
+        tokenStore.invalidateLocal(username);
+        TokenCacheData latest = tokenStore.find(username);
+        if (latest != null && latest.isValid()
+                && !Objects.equals(latest.getRefreshToken(), previousRefreshToken)) {
+            return latest;
+        }
+        return null;
     }
 
     /**
@@ -28,6 +28,7 @@ import com.skax.aiplatform.repository.home.GpoUsersRepository;
 import com.skax.aiplatform.service.admin.AdminAuthService;
 import com.skax.aiplatform.service.auth.AuthService;
 import com.skax.aiplatform.service.auth.TokenCacheService;
+import com.skax.aiplatform.service.common.ProjectMembershipCache;
 import com.skax.aiplatform.service.home.ProjectService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -74,6 +75,7 @@ public class AuthServiceImpl implements AuthService {
 
     // 사용자 프로젝트/역할 관리
     private final ProjectService projectService;
+    private final ProjectMembershipCache projectMembershipCache;
 
     @Value("${sktai.api.client-id}")
     private String sktaiApiClientId;
@@ -94,7 +96,8 @@ public class AuthServiceImpl implements AuthService {
             GpoUsersRepository gpoUsersRepository,
             GpoProjectsRepository gpoProjectsRepository,
             GpoRolesRepository gpoRolesRepository,
-            TokenInfo tokenInfo) {
+            TokenInfo tokenInfo,
+            ProjectMembershipCache projectMembershipCache) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.usersRepository = usersRepository;
         this.sktaiAuthService = sktaiAuthService;
@@ -107,6 +110,7 @@ public class AuthServiceImpl implements AuthService {
         this.gpoProjectsRepository = gpoProjectsRepository;
         this.gpoRolesRepository = gpoRolesRepository;
         this.tokenInfo = tokenInfo;
+        this.projectMembershipCache = projectMembershipCache;
     }
 
     /**
@@ -178,12 +182,14 @@ public class AuthServiceImpl implements AuthService {
                             gpoPrjuserroleRepository.save(pur);
                             log.info("ACTIVE 상태 제거: username={}, prjSeq={}", loginReq.getUsername(), pur.getProject().getPrjSeq());
                         }
+                        projectMembershipCache.evict(loginReq.getUsername());
                     }
                     // 5-3. ACTIVE 상태가 없는 경우 prjSeq == -999 프로젝트를 ACTIVE로 설정
                     else if (activeRoles.isEmpty()) {
                         if (publicProjectRole != null) {
                             publicProjectRole.updateStatus(ProjectUserRoleStatus.ACTIVE);
                             gpoPrjuserroleRepository.save(publicProjectRole);
+                            projectMembershipCache.evict(loginReq.getUsername());
                             log.info("공개 프로젝트 ACTIVE 설정: username={}, prjSeq=-999", loginReq.getUsername());
                         } else {
                             log.warn("ACTIVE 프로젝트가 없으며 공개 프로젝트(-999)도 찾을 수 없음: username={}", loginReq.getUsername());
@@ -318,6 +324,7 @@ public class AuthServiceImpl implements AuthService {
                                         if (pur.getStatusNm() != newStatus) {
                                             pur.updateStatus(newStatus);
                                             gpoPrjuserroleRepository.save(pur);
+                                            projectMembershipCache.evict(username);
                                         }
                                     });
                         } catch (NumberFormatException ex) {
@@ -454,6 +461,7 @@ public class AuthServiceImpl implements AuthService {
                         gpoProjectsRepository.findById(defaultPrjSeq).get(),
                         gpoRolesRepository.findById(defaultRoleSeq).get(),
                         gpoUsersRepository.findByMemberId(registerReq.getUserNo()).get()));
+                projectMembershipCache.evict(registerReq.getUserNo());
 
                 log.info("기본 프로젝트/역할 매핑 저장 완료: memberId={}, prjSeq={}, roleSeq={}",
                         registerReq.getUserNo(), defaultPrjSeq, defaultRoleSeq);
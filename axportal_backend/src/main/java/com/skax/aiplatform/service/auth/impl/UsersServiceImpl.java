@@ -18,6 +18,7 @@ import com.skax.aiplatform.repository.auth.GpoUsersMasRepository;
 import com.skax.aiplatform.repository.home.GpoPrjuserroleRepository;
 import com.skax.aiplatform.service.admin.AdminAuthService;
 import com.skax.aiplatform.service.auth.UsersService;
+import com.skax.aiplatform.service.common.ProjectMembershipCache;
 import com.skax.aiplatform.service.home.AlarmService;
 import com.skax.aiplatform.service.home.ProjectService;
 import lombok.RequiredArgsConstructor;
@@ -51,6 +52,7 @@ public class UsersServiceImpl implements UsersService {
     private final AlarmService alarmService;
 
     private final GpoPrjuserroleRepository gpoPrjuserroleRepository;
+    private final ProjectMembershipCache projectMembershipCache;
     private final GpoUsersMasRepository gpoUsersMasRepository;
     private final GpoAuthorityMasRepository gpoAuthorityMasRepository;
     private final AdminAuthService adminAuthService;
@@ -164,6 +166,7 @@ public class UsersServiceImpl implements UsersService {
                 purOpt.ifPresent(pur -> {
                     pur.updateStatus(ProjectUserRoleStatus.ACTIVE);
                     gpoPrjuserroleRepository.save(pur);
+                    projectMembershipCache.evict(memberId);
 
                     // adxp 토큰 exchange
                     authService.exchangeAndSave();
@@ -0,0 +1,213 @@
+package com.skax.aiplatform.service.auth.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skax.aiplatform.dto.auth.TokenCacheData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code gpo_tokens_mas} 테이블 기반 공유 토큰 저장소
+ *
+ * <p>여러 레플리카가 같은 SKT AI 토큰을 재사용하도록 Primary DataSource 에 토큰을 저장합니다.
+ * 파드 재기동 후에도 토큰이 유지되므로 일괄 재로그인(login storm)이 발생하지 않습니다.</p>
+ *
+ * <p>조회 비용을 줄이기 위해 짧은 TTL 의 near cache 를 앞에 둡니다.
+ * 다른 파드에서 갱신된 토큰은 near cache TTL 이내에 반영됩니다.</p>
+ *
+ * <p>Vertica JdbcTemplate 과 충돌하지 않도록 Primary DataSource 로 전용 JdbcTemplate 을 생성합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sktai.token-store.type", havingValue = "jdbc")
+public class JdbcTokenStore implements TokenStore {
+
+    private static final String SELECT_SQL = "SELECT uuid, member_id, access_token, refresh_token, token_type, "
+            + "exp_at, refresh_token_exp_at, token_exp_yn, token_exp_times, refresh_token_exp_times "
+            + "FROM gpo_tokens_mas WHERE member_id = ?";
+
+    private static final String UPDATE_SQL = "UPDATE gpo_tokens_mas SET access_token = ?, refresh_token = ?, "
+            + "token_type = ?, exp_at = ?, refresh_token_exp_at = ?, token_exp_yn = ?, token_exp_times = ?, "
+            + "refresh_token_exp_times = ? WHERE member_id = ?";
+
+    private static final String REPLACE_SQL = UPDATE_SQL + " AND refresh_token = ?";
+
+    private static final String INSERT_SQL = "INSERT INTO gpo_tokens_mas (uuid, member_id, access_token, "
+            + "refresh_token, token_type, exp_at, refresh_token_exp_at, token_exp_yn, token_exp_times, "
+            + "refresh_token_exp_times) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String DELETE_SQL = "DELETE FROM gpo_tokens_mas WHERE member_id = ?";
+
+    private static final String PURGE_SQL = "DELETE FROM gpo_tokens_mas WHERE refresh_token_exp_at < ? "
+            + "AND (exp_at IS NULL OR exp_at < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<String, TokenCacheData> nearCache;
+
+    public JdbcTokenStore(
+            DataSource dataSource,
+            @Value("${sktai.token-store.maximum-size:100000}") long maximumSize,
+            @Value("${sktai.token-store.near-cache-ttl-seconds:30}") long nearCacheTtlSeconds) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenStoreExpiry(Duration.ofSeconds(nearCacheTtlSeconds)))
+                .build();
+        log.info("SKTAI 토큰 저장소 초기화: type=jdbc, nearCacheSize={}, nearCacheTtl={}s",
+                maximumSize, nearCacheTtlSeconds);
+    }
+
+    @Override
+    public TokenCacheData find(String memberId) {
+        TokenCacheData cached = nearCache.getIfPresent(memberId);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            List<TokenCacheData> rows = jdbcTemplate.query(SELECT_SQL, this::mapRow, memberId);
+            TokenCacheData latest = null;
+            for (TokenCacheData row : rows) {
+                if (latest == null || isAfter(row.getExpAt(), latest.getExpAt())) {
+                    latest = row;
+                }
+            }
+            if (latest != null) {
+                nearCache.put(memberId, latest);
+            }
+            return latest;
+        } catch (DataAccessException e) {
+            log.error("토큰 저장소 조회 실패 - memberId={}: {}", memberId, e.getMessage(), e);
+            return null;
+        }
+    }
+
+    @Override
+    public void save(TokenCacheData token) {
+        nearCache.put(token.getMemberId(), token);
+        try {
+            int updated = jdbcTemplate.update(UPDATE_SQL,
+                    token.getAccessToken(), token.getRefreshToken(), token.getTokenType(),
+                    toTimestamp(token.getExpAt()), toTimestamp(token.getRefreshTokenExpAt()),
+                    token.getTokenExpYn(), token.getTokenExpTimes(), token.getRefreshTokenExpTimes(),
+                    token.getMemberId());
+            if (updated == 0) {
+                if (token.getUuid() == null) {
+                    token.setUuid(UUID.randomUUID().toString());
+                }
+                jdbcTemplate.update(INSERT_SQL,
+                        token.getUuid(), token.getMemberId(), token.getAccessToken(), token.getRefreshToken(),
+                        token.getTokenType(), toTimestamp(token.getExpAt()),
+                        toTimestamp(token.getRefreshTokenExpAt()), token.getTokenExpYn(),
+                        token.getTokenExpTimes(), token.getRefreshTokenExpTimes());
+            }
+        } catch (DataAccessException e) {
+            // 공유 저장 실패 시에도 현재 파드는 near cache 로 계속 동작
+            log.error("토큰 저장소 저장 실패 - memberId={}: {}", token.getMemberId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 리프레시 토큰 기준 조건부 UPDATE
+     *
+     * <p>여러 파드가 같은 리프레시 토큰으로 동시에 갱신해도 {@code refresh_token = ?} 조건에 의해 한 건만 반영됩니다.
+     * 반영되지 않은 파드는 near cache 를 비워 다음 조회에서 먼저 저장된 토큰을 사용합니다.
+     * 저장소 오류 시에는 near cache 를 변경하지 않고 false 를 반환합니다.</p>
+     */
+    @Override
+    public boolean replace(String expectedRefreshToken, TokenCacheData token) {
+        try {
+            int updated = jdbcTemplate.update(REPLACE_SQL,
+                    token.getAccessToken(), token.getRefreshToken(), token.getTokenType(),
+                    toTimestamp(token.getExpAt()), toTimestamp(token.getRefreshTokenExpAt()),
+                    token.getTokenExpYn(), token.getTokenExpTimes(), token.getRefreshTokenExpTimes(),
+                    token.getMemberId(), expectedRefreshToken);
+            if (updated == 0) {
+                nearCache.invalidate(token.getMemberId());
+                log.info("토큰 갱신 경합 - 다른 요청이 먼저 갱신하여 저장소 값을 사용합니다: memberId={}",
+                        token.getMemberId());
+                return false;
+            }
+        } catch (DataAccessException e) {
+            // 반영 여부를 알 수 없으므로 교체하지 않은 것으로 보고 near cache 는 그대로 둠
+            log.error("토큰 저장소 갱신 실패 - memberId={}: {}", token.getMemberId(), e.getMessage(), e);
+            return false;
+        }
+        nearCache.put(token.getMemberId(), token);
+        return true;
+    }
+
+    @Override
+    public void invalidateLocal(String memberId) {
+        nearCache.invalidate(memberId);
+    }
+
+    @Override
+    public void remove(String memberId) {
+        nearCache.invalidate(memberId);
+        try {
+            jdbcTemplate.update(DELETE_SQL, memberId);
+        } catch (DataAccessException e) {
+            log.error("토큰 저장소 삭제 실패 - memberId={}: {}", memberId, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 리프레시 토큰까지 만료된 행 정리
+     */
+    @Scheduled(fixedDelayString = "${sktai.token-store.purge-interval-ms:3600000}")
+    public void purgeExpiredTokens() {
+        try {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            int deleted = jdbcTemplate.update(PURGE_SQL, now, now);
+            if (deleted > 0) {
+                log.info("만료된 SKTAI 토큰 정리 완료: {}건", deleted);
+            }
+        } catch (DataAccessException e) {
+            log.error("만료된 SKTAI 토큰 정리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private TokenCacheData mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return TokenCacheData.builder()
+                .uuid(rs.getString("uuid"))
+                .memberId(rs.getString("member_id"))
+                .accessToken(rs.getString("access_token"))
+                .refreshToken(rs.getString("refresh_token"))
+                .tokenType(rs.getString("token_type"))
+                .expAt(toLocalDateTime(rs.getTimestamp("exp_at")))
+                .refreshTokenExpAt(toLocalDateTime(rs.getTimestamp("refresh_token_exp_at")))
+                .tokenExpYn(rs.getString("token_exp_yn"))
+                .tokenExpTimes(rs.getObject("token_exp_times", Long.class))
+                .refreshTokenExpTimes(rs.getObject("refresh_token_exp_times", Long.class))
+                .build();
+    }
+
+    private static boolean isAfter(LocalDateTime a, LocalDateTime b) {
+        return a != null && (b == null || a.isAfter(b));
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp value) {
+        return value != null ? value.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,66 @@
+package com.skax.aiplatform.service.auth.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skax.aiplatform.dto.auth.TokenCacheData;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파드 로컬 Caffeine 토큰 저장소 (기본값)
+ *
+ * <p>단일 레플리카 또는 로컬 개발 환경용입니다. 항목별로 토큰 만료 시각에 맞춰 만료되며,
+ * 최대 항목 수는 {@code sktai.token-store.maximum-size} 로 조정합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sktai.token-store.type", havingValue = "local", matchIfMissing = true)
+public class LocalTokenStore implements TokenStore {
+
+    private final Cache<String, TokenCacheData> tokenCache;
+
+    public LocalTokenStore(@Value("${sktai.token-store.maximum-size:100000}") long maximumSize) {
+        this.tokenCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenStoreExpiry(Duration.ofDays(365)))
+                .build();
+        log.info("SKTAI 토큰 저장소 초기화: type=local, maximumSize={}", maximumSize);
+    }
+
+    @Override
+    public TokenCacheData find(String memberId) {
+        return tokenCache.getIfPresent(memberId);
+    }
+
+    @Override
+    public void save(TokenCacheData token) {
+        tokenCache.put(token.getMemberId(), token);
+    }
+
+    @Override
+    public boolean replace(String expectedRefreshToken, TokenCacheData token) {
+        AtomicBoolean replaced = new AtomicBoolean();
+        tokenCache.asMap().computeIfPresent(token.getMemberId(), (memberId, current) -> {
+            if (!Objects.equals(current.getRefreshToken(), expectedRefreshToken)) {
+                return current;
+            }
+            replaced.set(true);
+            return token;
+        });
+        return replaced.get();
+    }
+
+    @Override
+    public void remove(String memberId) {
+        tokenCache.invalidate(memberId);
+    }
+}
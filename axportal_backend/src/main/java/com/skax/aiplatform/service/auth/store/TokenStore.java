@@ -0,0 +1,67 @@
+package com.skax.aiplatform.service.auth.store;
+
+import com.skax.aiplatform.dto.auth.TokenCacheData;
+
+/**
+ * SKT AI 토큰 저장소
+ *
+ * <p>{@link com.skax.aiplatform.service.auth.TokenCacheService} 가 사용하는 토큰 저장소 추상화입니다.
+ * {@code sktai.token-store.type} 설정으로 구현체를 선택합니다.</p>
+ * <ul>
+ *   <li>{@code local} (기본값): 파드 단위 Caffeine 캐시</li>
+ *   <li>{@code jdbc}: Primary DataSource 의 {@code gpo_tokens_mas} 테이블 (레플리카 간 공유)</li>
+ * </ul>
+ *
+ * <p>구현체는 항목별 만료를 {@link TokenCacheData#getExpAt()} /
+ * {@link TokenCacheData#getRefreshTokenExpAt()} 기준으로 처리합니다.
+ * 액세스 토큰이 만료되어도 리프레시 토큰이 유효한 동안은 갱신을 위해 보관합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+public interface TokenStore {
+
+    /**
+     * 사용자 토큰 조회 (만료 여부와 무관)
+     *
+     * @param memberId 사용자 ID
+     * @return 토큰 데이터 (없으면 null)
+     */
+    TokenCacheData find(String memberId);
+
+    /**
+     * 사용자 토큰 저장 (기존 항목 덮어쓰기)
+     *
+     * @param token 토큰 데이터
+     */
+    void save(TokenCacheData token);
+
+    /**
+     * 리프레시 토큰 기준 조건부 교체 (토큰 갱신 결과 저장용)
+     *
+     * <p>저장된 리프레시 토큰이 {@code expectedRefreshToken} 과 같을 때만 교체합니다.
+     * 다른 스레드/파드가 먼저 갱신한 경우 false 를 반환하며, 이때 구현체는 로컬 사본을 버려
+     * 다음 {@link #find(String)} 가 최신 값을 읽도록 합니다.</p>
+     *
+     * @param expectedRefreshToken 갱신에 사용한 (이전) 리프레시 토큰
+     * @param token                갱신된 토큰 데이터
+     * @return 교체했으면 true, 이미 다른 값으로 갱신되었거나 항목이 없거나 저장에 실패하면 false
+     */
+    boolean replace(String expectedRefreshToken, TokenCacheData token);
+
+    /**
+     * 로컬 사본 무효화 (공유 저장소 구현체의 near cache 용, 기본 동작 없음)
+     *
+     * @param memberId 사용자 ID
+     */
+    default void invalidateLocal(String memberId) {
+    }
+
+    /**
+     * 사용자 토큰 삭제
+     *
+     * @param memberId 사용자 ID
+     */
+    void remove(String memberId);
+}
@@ -0,0 +1,52 @@
+package com.skax.aiplatform.service.auth.store;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.skax.aiplatform.dto.auth.TokenCacheData;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 토큰 항목별 Caffeine 만료 정책
+ *
+ * <p>액세스 토큰 만료 시각과 리프레시 토큰 만료 시각 중 늦은 시각까지 보관하며,
+ * {@code maxTtl} 이 지정된 경우 그 이상 보관하지 않습니다 (near cache 용).</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+class TokenStoreExpiry implements Expiry<String, TokenCacheData> {
+
+    private final long maxTtlNanos;
+
+    TokenStoreExpiry(Duration maxTtl) {
+        this.maxTtlNanos = maxTtl.toNanos();
+    }
+
+    @Override
+    public long expireAfterCreate(String key, TokenCacheData value, long currentTime) {
+        return ttlNanos(value);
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, TokenCacheData value, long currentTime, long currentDuration) {
+        return ttlNanos(value);
+    }
+
+    @Override
+    public long expireAfterRead(String key, TokenCacheData value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+
+    private long ttlNanos(TokenCacheData value) {
+        LocalDateTime until = value.getExpAt();
+        if (value.getRefreshTokenExpAt() != null && (until == null || value.getRefreshTokenExpAt().isAfter(until))) {
+            until = value.getRefreshTokenExpAt();
+        }
+        if (until == null) {
+            return 0L;
+        }
+        long remaining = Duration.between(LocalDateTime.now(), until).toNanos();
+        return Math.max(0L, Math.min(maxTtlNanos, remaining));
+    }
+}
@@ -9,8 +9,10 @@ public interface HrDataBatchService {
     /**
      * HR 데이터 파일을 읽어서 데이터베이스에 저장
      * 매일 00:00에 실행되며, 최신 날짜의 파일만 처리
+     *
+     * @return 반영 건수 (신규 + 수정 + 삭제)
      */
-    void processHrDataFile();
+    int processHrDataFile();
 
     /**
      * 직원 원장 테이블과 유저 테이블을 비교하여 동기화 처리
@@ -10,14 +10,21 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.function.Function;
@@ -37,6 +44,8 @@ public class HrDataBatchServiceImpl implements HrDataBatchService {
 
     private final GpoGroupcoJkwMasRepository gpoGroupcoJkwMasRepository;
     private final GpoUsersMasRepository userRepository;
+    private final HrMasterDataWriter hrMasterDataWriter;
+    private final PlatformTransactionManager transactionManager;
 
     @Value("${batch.hr.file.directory:/gapdat/HR}")
     private String hrFileDirectory;
@@ -44,7 +53,17 @@ public class HrDataBatchServiceImpl implements HrDataBatchService {
     @Value("#{'${batch.hr.file.prefixes:tempfile}'.split(',')}")
     private List<String> hrFilePrefixes;
 
-    private static final String DELIMITER = "\\|";
+    @Value("${batch.hr.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${batch.hr.sync-page-size:1000}")
+    private int syncPageSize;
+
+    @Value("${batch.hr.checkpoint.file:}")
+    private String checkpointFile;
+
+    private static final char DELIMITER = '|';
+    private static final String CHECKPOINT_FILE_NAME = ".hr_import.checkpoint";
     private static final int EXPECTED_FIELD_COUNT = 31;
     private static final Pattern FILE_NAME_PATTERN = Pattern.compile("^(\\w+)_(\\d{8})\\.txt$");
 
@@ -54,10 +73,15 @@ public class HrDataBatchServiceImpl implements HrDataBatchService {
 
     /**
      * HR 데이터 파일을 읽어서 데이터베이스에 저장
+     *
+     * <p>파일을 한 줄씩 읽어 {@code batch.hr.chunk-size} 건 단위로 기존 행과 비교하고,
+     * 신규/변경 행만 JDBC batch 로 반영합니다. 청크마다 커밋하고 체크포인트를 기록하므로
+     * 중간에 실패하면 다음 실행에서 마지막 체크포인트 이후부터 이어서 처리합니다.</p>
+     *
+     * @return 반영 건수 (신규 + 수정 + 삭제)
      */
     @Override
-    @Transactional
-    public void processHrDataFile() {
+    public int processHrDataFile() {
         log.info("=== HR 데이터 배치 처리 시작 ===");
 
         try {
@@ -66,82 +90,45 @@ public class HrDataBatchServiceImpl implements HrDataBatchService {
 
             if (latestFiles.isEmpty()) {
                 log.warn("처리할 HR 파일을 찾을 수 없습니다. 디렉토리: {}, prefixes: {}", hrFileDirectory, hrFilePrefixes);
-                return;
+                return 0;
             }
 
+            // 체크포인트 재개를 위해 처리 순서 고정
+            latestFiles.sort(Comparator.comparing(path -> path.getFileName().toString()));
             log.info("총 {}개의 HR 파일 처리 시작", latestFiles.size());
 
-            // 2. 기존 'SH' 데이터 삭제
-            log.info("기존 grpco_c='SH' 데이터 삭제 시작");
-            gpoGroupcoJkwMasRepository.deleteByGrpcoC("SH");
-            log.info("기존 grpco_c='SH' 데이터 삭제 완료");
-
-            // 3. 남은 데이터를 메모리에 로드 (member_id 기준으로 Map 생성)
-            List<GpoGroupcoJkwMas> existingRecords = gpoGroupcoJkwMasRepository.findAll();
-            Map<String, GpoGroupcoJkwMas> existingMap = new HashMap<>();
-            for (GpoGroupcoJkwMas record : existingRecords) {
-                existingMap.put(record.getMemberId(), record);
-            }
-            log.info("기존 데이터 {}건을 메모리에 로드", existingMap.size());
+            // 2. 체크포인트 로드 (같은 파일 목록에 대한 미완료 실행이 있으면 이어서 처리)
+            Path checkpointPath = resolveCheckpointPath();
+            Properties checkpoint = loadCheckpoint(checkpointPath, latestFiles);
 
-            // 4. 전체 통계를 위한 카운터
+            // 3. 전체 통계를 위한 카운터
             int totalInsertCount = 0;
             int totalUpdateCount = 0;
+            int totalUnchangedCount = 0;
+            Set<String> seenShMemberIds = new HashSet<>();
 
-            // 5. 각 파일을 순차적으로 처리
+            // 4. 각 파일을 순차적으로 처리
             for (Path filePath : latestFiles) {
                 log.info("처리 대상 파일: {}", filePath.getFileName());
 
-                // 파일 읽기 및 파싱
-                List<GpoGroupcoJkwMas> employeeList = parseHrFile(filePath);
+                int[] counts = importHrFile(filePath, checkpoint, checkpointPath, seenShMemberIds);
 
-                if (employeeList.isEmpty()) {
-                    log.warn("파일 {}에서 유효한 데이터를 찾을 수 없습니다.", filePath.getFileName());
-                    continue;
-                }
+                totalInsertCount += counts[0];
+                totalUpdateCount += counts[1];
+                totalUnchangedCount += counts[2];
+            }
 
-                // 데이터베이스에 저장 (upsert 방식 - 메모리 기반 체크)
-                int insertCount = 0;
-                int updateCount = 0;
-
-                for (GpoGroupcoJkwMas employee : employeeList) {
-                    GpoGroupcoJkwMas existing = existingMap.get(employee.getMemberId());
-
-                    if (existing != null) {
-                        // 기존 레코드가 있으면 업데이트 (fstCreatedAt 유지)
-                        GpoGroupcoJkwMas updated = GpoGroupcoJkwMas.builder()
-                                .memberId(employee.getMemberId())
-                                .grpcoC(employee.getGrpcoC())
-                                .jkwNm(employee.getJkwNm())
-                                .jkwiNm(employee.getJkwiNm())
-                                .deptNm(employee.getDeptNm())
-                                .grpcoNm(employee.getGrpcoNm())
-                                .jkgpNm(employee.getJkgpNm())
-                                .hpNo(employee.getHpNo())
-                                .retrJkwYn(employee.getRetrJkwYn())
-                                .fstCreatedAt(existing.getFstCreatedAt()) // 기존 생성일시 유지
-                                .lstUpdatedAt(LocalDateTime.now()) // 수정일시 갱신
-                                .build();
-                        gpoGroupcoJkwMasRepository.save(updated);
-                        updateCount++;
-                    } else {
-                        // 새로운 레코드 삽입
-                        gpoGroupcoJkwMasRepository.save(employee);
-                        // existingMap에도 추가하여 다음 파일 처리 시 중복 방지
-                        existingMap.put(employee.getMemberId(), employee);
-                        insertCount++;
-                    }
-                }
+            // 5. 이번 파일에 없는 'SH' 데이터 삭제 (적재 전 전체 삭제 대신 빠진 직원만 삭제)
+            log.info("파일에 없는 grpco_c='SH' 데이터 삭제 시작");
+            int deleteCount = hrMasterDataWriter.deleteMissing("SH", seenShMemberIds, chunkSize);
+            log.info("파일에 없는 grpco_c='SH' 데이터 삭제 완료: {}건", deleteCount);
 
-                log.info("파일 {} 처리 완료: 신규 {}건, 수정 {}건",
-                        filePath.getFileName(), insertCount, updateCount);
+            deleteCheckpoint(checkpointPath);
 
-                totalInsertCount += insertCount;
-                totalUpdateCount += updateCount;
-            }
-
-            log.info("=== HR 데이터 배치 처리 완료 === 총 {}건 처리 (신규: {}건, 수정: {}건)",
-                    totalInsertCount + totalUpdateCount, totalInsertCount, totalUpdateCount);
+            log.info("=== HR 데이터 배치 처리 완료 === 총 {}건 처리 (신규: {}건, 수정: {}건, 변경 없음: {}건, 삭제: {}건)",
+                    totalInsertCount + totalUpdateCount + totalUnchangedCount,
+                    totalInsertCount, totalUpdateCount, totalUnchangedCount, deleteCount);
+            return totalInsertCount + totalUpdateCount + deleteCount;
 
         } catch (IOException e) {
             // 파일 읽기/쓰기 오류
@@ -164,25 +151,49 @@ public class HrDataBatchServiceImpl implements HrDataBatchService {
 
     /**
      * 직원 원장 테이블과 유저 테이블을 비교하여 동기화 처리
+     *
+     * <p>유저 테이블을 {@code batch.hr.sync-page-size} 명씩 나누어 페이지마다 별도 트랜잭션으로 처리합니다.</p>
      */
     @Override
-    @Transactional
     public void syncUsersWithHrData() {
         log.info("=== HR 데이터 동기화 시작 ===");
 
-        // 통계 카운터
-        int processCount = 0;       // 처리된 총 사용자 수
-        int updateCount = 0;        // 필드가 변경된 사용자 수
-        int noChangeCount = 0;      // 변경 없는 사용자 수
-        int notInHrCount = 0;       // HR 원장에 없는 사용자 수
+        // 통계 카운터 (처리된 총 사용자 수, 변경, 변경 없음, HR 원장에 없음)
+        SyncStats stats = new SyncStats();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
 
-        List<GpoUsersMas> registeredUsers = userRepository.findAll();
+        int pageNumber = 0;
+        boolean hasNext = true;
+        while (hasNext) {
+            int currentPage = pageNumber++;
+            hasNext = Boolean.TRUE.equals(transactionTemplate.execute(status -> syncUserPage(currentPage, stats)));
+        }
 
-        if (registeredUsers.isEmpty()) {
+        if (stats.processCount == 0) {
             log.info("유저 테이블에 등록된 사용자가 없습니다.");
             return;
         }
-        log.info("등록된 사용자 수: {}명", registeredUsers.size());
+
+        log.info("=== HR 데이터 동기화 완료 ===");
+        log.info("총 처리: {}명 (변경: {}명, 변경 없음: {}명, HR 없음: {}명)",
+                stats.processCount, stats.updateCount, stats.noChangeCount, stats.notInHrCount);
+    }
+
+    /**
+     * 유저 한 페이지 동기화 (변경된 엔티티는 트랜잭션 커밋 시 반영)
+     *
+     * @return 다음 페이지 존재 여부
+     */
+    private boolean syncUserPage(int pageNumber, SyncStats stats) {
+        Page<GpoUsersMas> page = userRepository.findAll(
+                PageRequest.of(pageNumber, syncPageSize, Sort.by("memberId")));
+        List<GpoUsersMas> registeredUsers = page.getContent();
+        if (registeredUsers.isEmpty()) {
+            return false;
+        }
+        if (pageNumber == 0) {
+            log.info("등록된 사용자 수: {}명", page.getTotalElements());
+        }
 
         Set<String> memberIds = registeredUsers.stream()
                 .map(GpoUsersMas::getMemberId)
@@ -195,28 +206,24 @@ public class HrDataBatchServiceImpl implements HrDataBatchService {
 
             if (hrRecord == null) {
                 log.warn("회원 ID '{}'에 해당하는 직원 원장 데이터가 없습니다.", memberId);
-                notInHrCount++;
-                processCount++;
+                stats.notInHrCount++;
+                stats.processCount++;
                 continue;
             }
 
             boolean hasChanges = syncSingleUser(user, hrRecord);
 
             if (hasChanges) {
-                updateCount++;
+                stats.updateCount++;
             } else {
-                noChangeCount++;
+                stats.noChangeCount++;
             }
 
-            processCount++;
+            stats.processCount++;
         }
-
-        log.info("=== HR 데이터 동기화 완료 ===");
-        log.info("총 처리: {}명 (변경: {}명, 변경 없음: {}명, HR 없음: {}명)",
-                processCount, updateCount, noChangeCount, notInHrCount);
+        return page.hasNext();
     }
 
-
     // == 유틸리티 메서드들 ==
 
     /**
@@ -274,61 +281,204 @@ public class HrDataBatchServiceImpl implements HrDataBatchService {
     }
 
     /**
-     * HR 파일 파싱
+     * HR 파일 스트리밍 적재
+     *
+     * <p>파일을 한 줄씩 파싱하여 청크 단위로 저장하고, 청크 저장 후 체크포인트(마지막 반영 줄 번호)를 기록합니다.
+     * 체크포인트 이전 줄은 저장하지 않고 'SH' member_id 수집만 합니다.</p>
+     *
+     * @return {신규, 수정, 변경 없음} 건수
      */
-    private List<GpoGroupcoJkwMas> parseHrFile(Path filePath) throws IOException {
-        List<GpoGroupcoJkwMas> employeeList = new ArrayList<>();
-        List<String> lines = Files.readAllLines(filePath);
-
-        log.info("파일 읽기 완료. 총 {}줄", lines.size());
+    private int[] importHrFile(Path filePath, Properties checkpoint, Path checkpointPath,
+            Set<String> seenShMemberIds) throws IOException {
+        String fileName = filePath.getFileName().toString();
+        long resumeLine = Long.parseLong(checkpoint.getProperty(fileName, "0"));
+        if (resumeLine > 0) {
+            log.info("체크포인트에서 이어서 처리: {} ({}번째 줄 이후)", fileName, resumeLine);
+        }
 
+        int[] counts = new int[3];
+        Map<String, GpoGroupcoJkwMas> chunk = new LinkedHashMap<>();
         int lineNumber = 0;
+        int parsedLines = 0;
         int skippedLines = 0;
+        int totalParsed = 0;
+        int totalSkipped = 0;
+        long startNanos = System.nanoTime();
 
-        for (String line : lines) {
-            lineNumber++;
+        try (BufferedReader reader = Files.newBufferedReader(filePath)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
 
-            // 빈 줄 건너뛰기
-            if (line == null || line.trim().isEmpty()) {
-                continue;
-            }
-
-            try {
-                // 파이프(|)로 분할
-                String[] fields = line.split(DELIMITER, -1);
+                // 빈 줄 건너뛰기
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
 
-                // 필드 개수 검증 (31개 미만이면 건너뛰기)
-                if (fields.length < EXPECTED_FIELD_COUNT) {
-                    log.warn("라인 {}: 필드 개수 부족 ({}개). 건너뜀.", lineNumber, fields.length);
+                GpoGroupcoJkwMas employee = parseLine(line, lineNumber);
+                if (employee == null) {
                     skippedLines++;
                     continue;
                 }
+                parsedLines++;
 
-                // 직원 정보 생성
-                GpoGroupcoJkwMas employee = createEmployeeFromFields(fields, lineNumber);
+                if ("SH".equals(employee.getGrpcoC())) {
+                    seenShMemberIds.add(employee.getMemberId());
+                }
+                // 이전 실행에서 이미 반영된 줄
+                if (lineNumber <= resumeLine) {
+                    continue;
+                }
 
-                if (employee != null) {
-                    employeeList.add(employee);
+                // 같은 파일 내 중복 member_id 는 뒤의 값으로 반영
+                chunk.remove(employee.getMemberId());
+                chunk.put(employee.getMemberId(), employee);
+
+                if (chunk.size() >= chunkSize) {
+                    flushChunk(chunk, counts, fileName, lineNumber, checkpoint, checkpointPath);
+                    hrMasterDataWriter.recordProgress(parsedLines, skippedLines, lineNumber);
+                    totalParsed += parsedLines;
+                    totalSkipped += skippedLines;
+                    parsedLines = 0;
+                    skippedLines = 0;
                 }
+            }
+        }
+        flushChunk(chunk, counts, fileName, lineNumber, checkpoint, checkpointPath);
+        hrMasterDataWriter.recordProgress(parsedLines, skippedLines, lineNumber);
+        totalParsed += parsedLines;
+        totalSkipped += skippedLines;
+
+        double elapsedSeconds = Math.max((System.nanoTime() - startNanos) / 1_000_000_000.0, 0.001);
+        log.info("파일 {} 처리 완료: 총 {}줄, 유효 {}건, 건너뜀 {}건, 신규 {}건, 수정 {}건, 변경 없음 {}건 ({} 줄/초)",
+                fileName, lineNumber, totalParsed, totalSkipped, counts[0], counts[1], counts[2],
+                Math.round(lineNumber / elapsedSeconds));
+        if (totalParsed == 0) {
+            log.warn("파일 {}에서 유효한 데이터를 찾을 수 없습니다.", fileName);
+        }
+        return counts;
+    }
+
+    /**
+     * 청크 저장 후 체크포인트 기록
+     */
+    private void flushChunk(Map<String, GpoGroupcoJkwMas> chunk, int[] counts, String fileName, int lineNumber,
+            Properties checkpoint, Path checkpointPath) {
+        if (!chunk.isEmpty()) {
+            HrMasterDataWriter.ChunkResult result = hrMasterDataWriter.writeChunk(chunk.values());
+            counts[0] += result.inserted();
+            counts[1] += result.updated();
+            counts[2] += result.unchanged();
+            chunk.clear();
+        }
+        checkpoint.setProperty(fileName, String.valueOf(lineNumber));
+        saveCheckpoint(checkpointPath, checkpoint);
+    }
 
-            } catch (ArrayIndexOutOfBoundsException e) {
-                // 배열 인덱스 범위 초과 오류
-                log.error("라인 {} 파싱 중 배열 인덱스 오류: {}", lineNumber, e.getMessage());
-                skippedLines++;
-            } catch (IllegalArgumentException | NullPointerException e) {
-                // 잘못된 인자나 null 참조 예외
-                log.error("라인 {} 파싱 중 잘못된 인자 오류: {}", lineNumber, e.getMessage());
-                skippedLines++;
-            } catch (Exception e) {
-                // 기타 예상치 못한 예외
-                log.error("라인 {} 파싱 중 오류: {}", lineNumber, e.getMessage());
-                skippedLines++;
+    /**
+     * HR 파일 한 줄 파싱
+     *
+     * @return 직원 정보 (유효하지 않은 줄이면 null)
+     */
+    private GpoGroupcoJkwMas parseLine(String line, int lineNumber) {
+        try {
+            // 파이프(|)로 분할
+            String[] fields = splitFields(line);
+
+            // 필드 개수 검증 (31개 미만이면 건너뛰기)
+            if (fields.length < EXPECTED_FIELD_COUNT) {
+                log.warn("라인 {}: 필드 개수 부족 ({}개). 건너뜀.", lineNumber, fields.length);
+                return null;
             }
+
+            // 직원 정보 생성
+            return createEmployeeFromFields(fields, lineNumber);
+
+        } catch (ArrayIndexOutOfBoundsException e) {
+            // 배열 인덱스 범위 초과 오류
+            log.error("라인 {} 파싱 중 배열 인덱스 오류: {}", lineNumber, e.getMessage());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            // 잘못된 인자나 null 참조 예외
+            log.error("라인 {} 파싱 중 잘못된 인자 오류: {}", lineNumber, e.getMessage());
+        } catch (Exception e) {
+            // 기타 예상치 못한 예외
+            log.error("라인 {} 파싱 중 오류: {}", lineNumber, e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * 구분자 기준 필드 분할 (정규식 없이, 뒤쪽 빈 필드 유지)
+     */
+    private static String[] splitFields(String line) {
+        List<String> fields = new ArrayList<>(EXPECTED_FIELD_COUNT + 1);
+        int start = 0;
+        int index;
+        while ((index = line.indexOf(DELIMITER, start)) >= 0) {
+            fields.add(line.substring(start, index));
+            start = index + 1;
+        }
+        fields.add(line.substring(start));
+        return fields.toArray(new String[0]);
+    }
+
+    /**
+     * 체크포인트 파일 경로 ({@code batch.hr.checkpoint.file}, 기본: HR 디렉토리의 .hr_import.checkpoint)
+     */
+    private Path resolveCheckpointPath() {
+        if (checkpointFile != null && !checkpointFile.isBlank()) {
+            return Paths.get(checkpointFile);
         }
+        return Paths.get(hrFileDirectory).resolve(CHECKPOINT_FILE_NAME);
+    }
 
-        log.info("파싱 완료. 유효 데이터: {}건, 건너뛴 줄: {}건", employeeList.size(), skippedLines);
+    /**
+     * 체크포인트 로드 (다른 파일 목록에 대한 체크포인트면 무시)
+     */
+    private Properties loadCheckpoint(Path checkpointPath, List<Path> files) {
+        Properties checkpoint = new Properties();
+        if (!Files.exists(checkpointPath)) {
+            return checkpoint;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(checkpointPath)) {
+            checkpoint.load(reader);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("HR 적재 체크포인트를 읽을 수 없어 처음부터 처리합니다: {}", e.getMessage());
+            return new Properties();
+        }
 
-        return employeeList;
+        Set<String> fileNames = files.stream()
+                .map(path -> path.getFileName().toString())
+                .collect(toSet());
+        if (!fileNames.containsAll(checkpoint.stringPropertyNames())) {
+            log.info("이전 파일에 대한 HR 적재 체크포인트를 무시합니다: {}", checkpoint.stringPropertyNames());
+            return new Properties();
+        }
+        log.info("HR 적재 체크포인트 발견: {}", checkpoint);
+        return checkpoint;
+    }
+
+    /**
+     * 체크포인트 저장 (저장 실패 시 재개만 불가하고 적재는 계속 진행)
+     */
+    private void saveCheckpoint(Path checkpointPath, Properties checkpoint) {
+        Path tempPath = checkpointPath.resolveSibling(checkpointPath.getFileName() + ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(tempPath)) {
+                checkpoint.store(writer, "HR import checkpoint");
+            }
+            Files.move(tempPath, checkpointPath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("HR 적재 체크포인트 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void deleteCheckpoint(Path checkpointPath) {
+        try {
+            Files.deleteIfExists(checkpointPath);
+        } catch (IOException e) {
+            log.warn("HR 적재 체크포인트 삭제 실패: {}", e.getMessage());
+        }
     }
 
     /**
@@ -525,4 +675,13 @@ public class HrDataBatchServiceImpl implements HrDataBatchService {
         return value != null ? value.trim() : null;
     }
 
+    /**
+     * 유저 동기화 통계
+     */
+    private static class SyncStats {
+        private int processCount;
+        private int updateCount;
+        private int noChangeCount;
+        private int notInHrCount;
+    }
 }
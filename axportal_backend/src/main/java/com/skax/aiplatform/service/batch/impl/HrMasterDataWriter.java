@@ -0,0 +1,255 @@
+package com.skax.aiplatform.service.batch.impl;
+
+import com.skax.aiplatform.entity.GpoGroupcoJkwMas;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HR 직원 원장(GPO_GRPCO_JKW_MAS) 청크 단위 저장기
+ *
+ * <p>파싱된 직원 정보를 청크 단위로 받아 기존 행과 비교한 뒤, 신규 행은 batch insert,
+ * 값이 바뀐 행만 batch update 하고 변경 없는 행은 건드리지 않습니다. 청크마다 별도 트랜잭션으로 커밋합니다.</p>
+ *
+ * <p>Vertica JdbcTemplate 과 충돌하지 않도록 Primary DataSource 로 전용 JdbcTemplate 을 생성합니다.</p>
+ *
+ * <p>메트릭: {@code hr.import.rows{action=inserted|updated|unchanged|deleted}}, {@code hr.import.lines{result}},
+ * {@code hr.import.progress.lines} (진행 중인 적재에서 읽은 줄 수), {@code hr.import.chunk}</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class HrMasterDataWriter {
+
+    private static final String SELECT_SQL = "SELECT member_id, grpco_c, jkw_nm, jkwi_nm, dept_nm, grpco_nm, "
+            + "jkgp_nm, hp_no, retr_jkw_yn FROM gpo_grpco_jkw_mas WHERE member_id IN (:memberIds)";
+
+    private static final String INSERT_SQL = "INSERT INTO gpo_grpco_jkw_mas (member_id, grpco_c, jkw_nm, jkwi_nm, "
+            + "dept_nm, grpco_nm, jkgp_nm, hp_no, retr_jkw_yn, fst_created_at, lst_updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL = "UPDATE gpo_grpco_jkw_mas SET grpco_c = ?, jkw_nm = ?, jkwi_nm = ?, "
+            + "dept_nm = ?, grpco_nm = ?, jkgp_nm = ?, hp_no = ?, retr_jkw_yn = ?, lst_updated_at = ? "
+            + "WHERE member_id = ?";
+
+    private static final String SELECT_GROUP_IDS_SQL = "SELECT member_id FROM gpo_grpco_jkw_mas WHERE grpco_c = ?";
+
+    private static final String DELETE_SQL = "DELETE FROM gpo_grpco_jkw_mas WHERE member_id = ?";
+
+    /**
+     * 청크 저장 결과
+     *
+     * @param inserted  신규 건수
+     * @param updated   변경 건수
+     * @param unchanged 변경 없음 건수
+     */
+    public record ChunkResult(int inserted, int updated, int unchanged) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter insertedCounter;
+    private final Counter updatedCounter;
+    private final Counter unchangedCounter;
+    private final Counter deletedCounter;
+    private final Counter parsedLineCounter;
+    private final Counter skippedLineCounter;
+    private final AtomicLong progressLines = new AtomicLong();
+    private final Timer chunkTimer;
+
+    public HrMasterDataWriter(DataSource dataSource, PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.insertedCounter = rowCounter(meterRegistry, "inserted");
+        this.updatedCounter = rowCounter(meterRegistry, "updated");
+        this.unchangedCounter = rowCounter(meterRegistry, "unchanged");
+        this.deletedCounter = rowCounter(meterRegistry, "deleted");
+        this.parsedLineCounter = lineCounter(meterRegistry, "parsed");
+        this.skippedLineCounter = lineCounter(meterRegistry, "skipped");
+        Gauge.builder("hr.import.progress.lines", progressLines, AtomicLong::get)
+                .description("진행 중인 HR 파일 적재에서 읽은 줄 수")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("hr.import.chunk")
+                .description("HR 직원 원장 청크 저장 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 청크 저장 (기존 행과 비교하여 신규/변경 행만 반영)
+     *
+     * @param employees 직원 정보 (member_id 중복 없음)
+     * @return 저장 결과
+     */
+    public ChunkResult writeChunk(Collection<GpoGroupcoJkwMas> employees) {
+        if (employees.isEmpty()) {
+            return new ChunkResult(0, 0, 0);
+        }
+        return chunkTimer.record(() -> transactionTemplate.execute(status -> {
+            Map<String, GpoGroupcoJkwMas> existingMap = findExisting(employees);
+
+            List<GpoGroupcoJkwMas> inserts = new ArrayList<>();
+            List<GpoGroupcoJkwMas> updates = new ArrayList<>();
+            int unchanged = 0;
+            for (GpoGroupcoJkwMas employee : employees) {
+                GpoGroupcoJkwMas existing = existingMap.get(employee.getMemberId());
+                if (existing == null) {
+                    inserts.add(employee);
+                } else if (isChanged(existing, employee)) {
+                    updates.add(employee);
+                } else {
+                    unchanged++;
+                }
+            }
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, inserts, inserts.size(), (ps, employee) -> {
+                    ps.setString(1, employee.getMemberId());
+                    ps.setString(2, employee.getGrpcoC());
+                    ps.setString(3, employee.getJkwNm());
+                    ps.setString(4, employee.getJkwiNm());
+                    ps.setString(5, employee.getDeptNm());
+                    ps.setString(6, employee.getGrpcoNm());
+                    ps.setString(7, employee.getJkgpNm());
+                    ps.setString(8, employee.getHpNo());
+                    ps.setObject(9, employee.getRetrJkwYn());
+                    ps.setTimestamp(10, now);
+                    ps.setTimestamp(11, now);
+                });
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, updates, updates.size(), (ps, employee) -> {
+                    ps.setString(1, employee.getGrpcoC());
+                    ps.setString(2, employee.getJkwNm());
+                    ps.setString(3, employee.getJkwiNm());
+                    ps.setString(4, employee.getDeptNm());
+                    ps.setString(5, employee.getGrpcoNm());
+                    ps.setString(6, employee.getJkgpNm());
+                    ps.setString(7, employee.getHpNo());
+                    ps.setObject(8, employee.getRetrJkwYn());
+                    ps.setTimestamp(9, now);
+                    ps.setString(10, employee.getMemberId());
+                });
+            }
+
+            insertedCounter.increment(inserts.size());
+            updatedCounter.increment(updates.size());
+            unchangedCounter.increment(unchanged);
+            return new ChunkResult(inserts.size(), updates.size(), unchanged);
+        }));
+    }
+
+    /**
+     * 파싱 결과 및 진행 상황 기록
+     *
+     * @param parsedLines  유효하게 파싱된 줄 수
+     * @param skippedLines 건너뛴 줄 수
+     * @param lineNumber   현재 파일에서 읽은 마지막 줄 번호
+     */
+    public void recordProgress(int parsedLines, int skippedLines, long lineNumber) {
+        parsedLineCounter.increment(parsedLines);
+        skippedLineCounter.increment(skippedLines);
+        progressLines.set(lineNumber);
+    }
+
+    /**
+     * 이번 적재 파일에 없는 그룹사 직원 삭제
+     *
+     * @param grpcoC    그룹사 코드
+     * @param seenIds   이번 적재에서 확인된 해당 그룹사 member_id
+     * @param chunkSize 삭제 batch 크기
+     * @return 삭제 건수
+     */
+    public int deleteMissing(String grpcoC, Set<String> seenIds, int chunkSize) {
+        List<String> missingIds = new ArrayList<>();
+        jdbcTemplate.query(SELECT_GROUP_IDS_SQL, (RowCallbackHandler) rs -> {
+            String memberId = rs.getString(1);
+            if (!seenIds.contains(memberId)) {
+                missingIds.add(memberId);
+            }
+        }, grpcoC);
+
+        for (int from = 0; from < missingIds.size(); from += chunkSize) {
+            List<String> chunk = missingIds.subList(from, Math.min(from + chunkSize, missingIds.size()));
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(DELETE_SQL, chunk,
+                    chunk.size(), (ps, memberId) -> ps.setString(1, memberId)));
+        }
+        deletedCounter.increment(missingIds.size());
+        return missingIds.size();
+    }
+
+    private Map<String, GpoGroupcoJkwMas> findExisting(Collection<GpoGroupcoJkwMas> employees) {
+        List<String> memberIds = employees.stream().map(GpoGroupcoJkwMas::getMemberId).toList();
+        Map<String, GpoGroupcoJkwMas> existingMap = new HashMap<>();
+        RowCallbackHandler handler = rs -> {
+            Number retrJkwYn = (Number) rs.getObject("retr_jkw_yn");
+            existingMap.put(rs.getString("member_id"), GpoGroupcoJkwMas.builder()
+                    .memberId(rs.getString("member_id"))
+                    .grpcoC(rs.getString("grpco_c"))
+                    .jkwNm(rs.getString("jkw_nm"))
+                    .jkwiNm(rs.getString("jkwi_nm"))
+                    .deptNm(rs.getString("dept_nm"))
+                    .grpcoNm(rs.getString("grpco_nm"))
+                    .jkgpNm(rs.getString("jkgp_nm"))
+                    .hpNo(rs.getString("hp_no"))
+                    .retrJkwYn(retrJkwYn != null ? retrJkwYn.intValue() : null)
+                    .build());
+        };
+        namedJdbcTemplate.query(SELECT_SQL, new MapSqlParameterSource("memberIds", memberIds), handler);
+        return existingMap;
+    }
+
+    private static boolean isChanged(GpoGroupcoJkwMas existing, GpoGroupcoJkwMas employee) {
+        return !Objects.equals(existing.getGrpcoC(), employee.getGrpcoC())
+                || !Objects.equals(existing.getJkwNm(), employee.getJkwNm())
+                || !Objects.equals(existing.getJkwiNm(), employee.getJkwiNm())
+                || !Objects.equals(existing.getDeptNm(), employee.getDeptNm())
+                || !Objects.equals(existing.getGrpcoNm(), employee.getGrpcoNm())
+                || !Objects.equals(existing.getJkgpNm(), employee.getJkgpNm())
+                || !Objects.equals(existing.getHpNo(), employee.getHpNo())
+                || !Objects.equals(existing.getRetrJkwYn(), employee.getRetrJkwYn());
+    }
+
+    private static Counter lineCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("hr.import.lines")
+                .description("HR 파일 파싱 줄 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter rowCounter(MeterRegistry meterRegistry, String action) {
+        return Counter.builder("hr.import.rows")
+                .description("HR 직원 원장 적재 행 수")
+                .tag("action", action)
+                .register(meterRegistry);
+    }
+}
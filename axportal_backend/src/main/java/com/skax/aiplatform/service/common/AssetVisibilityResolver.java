@@ -0,0 +1,182 @@
+package com.skax.aiplatform.service.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skax.aiplatform.entity.mapping.GpoAssetPrjMapMas;
+import com.skax.aiplatform.repository.deploy.GpoMigMasRepository;
+import com.skax.aiplatform.repository.mapping.GpoAssetPrjMapMasRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 목록 화면용 자산 공개범위/운영 이행 여부 일괄 조회기
+ *
+ * <p>자산 목록의 행마다 수행되던 {@code gpo_asstprj_map_mas} / {@code gpo_mig_mas} 단건 조회를
+ * 페이지 단위 {@code IN} 조회 한 번씩으로 대체합니다.</p>
+ *
+ * <p>공개범위 매핑은 {@code asset.visibility-cache.ttl-seconds} (기본 30초) 동안 Pod 로컬 캐시에 보관하며,
+ * 정책 반영({@code AdminAuthServiceImpl.setResourcePolicyBy*}) 등 매핑 변경 시 {@link #evict(String)} 로 무효화합니다.
+ * 매핑이 없는 자산은 캐시하지 않으므로 신규 자산의 매핑은 바로 조회됩니다.
+ * 적중률은 actuator 메트릭({@code cache.gets{cache=asset.visibility}})으로 확인할 수 있습니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class AssetVisibilityResolver {
+
+    /**
+     * IN 절 최대 파라미터 수 (Tibero/Oracle 제한)
+     */
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    private final GpoAssetPrjMapMasRepository assetPrjMapMasRepository;
+    private final GpoMigMasRepository gpoMigMasRepository;
+    private final Cache<String, GpoAssetPrjMapMas> cache;
+
+    public AssetVisibilityResolver(
+            GpoAssetPrjMapMasRepository assetPrjMapMasRepository,
+            GpoMigMasRepository gpoMigMasRepository,
+            MeterRegistry meterRegistry,
+            @Value("${asset.visibility-cache.maximum-size:10000}") long maximumSize,
+            @Value("${asset.visibility-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.assetPrjMapMasRepository = assetPrjMapMasRepository;
+        this.gpoMigMasRepository = gpoMigMasRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "asset.visibility");
+    }
+
+    /**
+     * 자산 URL 목록의 프로젝트 매핑 일괄 조회
+     *
+     * <p>반환 엔티티는 공개범위 필드(asstUrl, fstPrjSeq, lstPrjSeq)만 담은 분리된 복사본이므로
+     * 수정해도 DB 에 반영되지 않습니다.</p>
+     *
+     * @param asstUrls 자산 URL 목록
+     * @return 자산 URL 별 매핑 (매핑이 없는 자산은 포함하지 않음)
+     */
+    public Map<String, GpoAssetPrjMapMas> findAssets(Collection<String> asstUrls) {
+        Map<String, GpoAssetPrjMapMas> result = new HashMap<>();
+        if (asstUrls == null || asstUrls.isEmpty()) {
+            return result;
+        }
+
+        List<String> misses = new ArrayList<>();
+        for (String asstUrl : new LinkedHashSet<>(asstUrls)) {
+            if (asstUrl == null) {
+                continue;
+            }
+            GpoAssetPrjMapMas cached = cache.getIfPresent(asstUrl);
+            if (cached != null) {
+                result.put(asstUrl, copyOf(cached));
+            } else {
+                misses.add(asstUrl);
+            }
+        }
+
+        for (List<String> chunk : chunks(misses)) {
+            for (GpoAssetPrjMapMas asset : assetPrjMapMasRepository.findByAsstUrlIn(chunk)) {
+                GpoAssetPrjMapMas snapshot = copyOf(asset);
+                cache.put(snapshot.getAsstUrl(), snapshot);
+                result.put(snapshot.getAsstUrl(), copyOf(snapshot));
+            }
+        }
+        log.debug("자산 공개범위 일괄 조회 - 요청: {}건, DB 조회: {}건, 매핑: {}건", asstUrls.size(), misses.size(), result.size());
+        return result;
+    }
+
+    /**
+     * 운영 이행된 자산 ID 일괄 조회 ({@code gpo_mig_mas.pgm_desc_ctnt} 기준)
+     *
+     * @param ids 자산 ID 목록
+     * @return 운영 이행 이력이 있는 자산 ID
+     */
+    public Set<String> findMigratedIds(Collection<String> ids) {
+        Set<String> migrated = new HashSet<>();
+        if (ids == null || ids.isEmpty()) {
+            return migrated;
+        }
+        List<String> targets = ids.stream().filter(Objects::nonNull).distinct().toList();
+        for (List<String> chunk : chunks(targets)) {
+            migrated.addAll(gpoMigMasRepository.findPgmDescCtntIn(chunk));
+        }
+        return migrated;
+    }
+
+    /**
+     * 자산 매핑 캐시 무효화
+     *
+     * <p>트랜잭션 안에서 호출된 경우 커밋 이후에 한 번 더 무효화하여 커밋 전 재적재를 방지합니다.</p>
+     *
+     * @param asstUrl 자산 URL
+     */
+    public void evict(String asstUrl) {
+        if (asstUrl == null) {
+            return;
+        }
+        cache.invalidate(asstUrl);
+        afterCommit(() -> cache.invalidate(asstUrl));
+    }
+
+    /**
+     * 여러 자산 매핑 캐시 무효화
+     *
+     * @param asstUrls 자산 URL 목록
+     */
+    public void evictAll(Collection<String> asstUrls) {
+        if (asstUrls == null || asstUrls.isEmpty()) {
+            return;
+        }
+        List<String> keys = List.copyOf(asstUrls);
+        cache.invalidateAll(keys);
+        afterCommit(() -> cache.invalidateAll(keys));
+    }
+
+    private static GpoAssetPrjMapMas copyOf(GpoAssetPrjMapMas asset) {
+        return GpoAssetPrjMapMas.builder()
+                .asstUrl(asset.getAsstUrl())
+                .fstPrjSeq(asset.getFstPrjSeq())
+                .lstPrjSeq(asset.getLstPrjSeq())
+                .build();
+    }
+
+    private static List<List<String>> chunks(List<String> values) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += IN_CHUNK_SIZE) {
+            chunks.add(values.subList(from, Math.min(from + IN_CHUNK_SIZE, values.size())));
+        }
+        return chunks;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+}
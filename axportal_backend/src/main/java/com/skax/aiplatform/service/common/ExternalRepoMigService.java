@@ -92,6 +92,7 @@ public class ExternalRepoMigService {
     private final ModelCtlgMapper modelCtlgMapper;
     private final SktaiLineageService sktaiLineageService;
     private final GpoAssetPrjMapMasRepository assetPrjMapMasRepository;
+    private final AssetVisibilityResolver assetVisibilityResolver;
     private final SktaiAuthService sktaiAuthService;
     private final GpoUsersMasRepository gpoUsersMasRepository;
 
@@ -980,6 +981,7 @@ public class ExternalRepoMigService {
                     }
 
                     assetPrjMapMasRepository.save(mapping);
+                    assetVisibilityResolver.evict(mapping.getAsstUrl());
                     return; // 첫 번째 매칭되는 항목만 처리하고 종료
                 }
             }
@@ -0,0 +1,274 @@
+package com.skax.aiplatform.service.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skax.aiplatform.entity.auth.GpoPortalResourceMas;
+import com.skax.aiplatform.repository.admin.GpoAuthorityMasRepository;
+import com.skax.aiplatform.repository.admin.GpoPortalResourceMasRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * 역할별 포탈 API 권한 인덱스
+ *
+ * <p>요청마다 수행되던 역할 권한 조회({@code GPO_ROLE_AUTH_MAP_MAS})와 포탈 리소스 전체 조회
+ * ({@code GPO_P_AUTHRESRC_MAP_MAS})를 역할 단위로 한 번만 수행하고,
+ * 역할 → HTTP 메서드 → (정확 일치 URL 집합 + 리터럴 접두사별 패턴 목록) 형태로 컴파일해 캐시합니다.
+ * 권한 판단은 해시 조회 후, 접두사가 일치하는 패턴에 대해서만 {@link AntPathMatcher} 매칭을 수행합니다.</p>
+ *
+ * <p>역할 권한 변경 시 {@link #evictRole(Long)} / {@link #evictAll()} 로 명시적으로 무효화하며,
+ * 트랜잭션 안에서 호출된 경우 커밋 이후에 한 번 더 무효화합니다.
+ * 포탈 리소스 원장은 애플리케이션에서 변경하지 않으므로 TTL({@code portal.authorization.ttl-seconds})
+ * 만료 시 다시 적재됩니다. 판단 소요 시간은 {@code portal.authorization.decision} 메트릭으로 확인할 수 있습니다.</p>
+ *
+ * <p>인덱스는 파드 단위이므로 명시적 무효화는 변경을 처리한 파드에만 적용됩니다. 다른 파드에서 역할 권한 변경이
+ * 반영되기까지 최대 TTL 만큼 지연되므로 TTL 기본값은 60초로 둡니다. 역할 규칙 재적재 비용은 역할당 조회 1회입니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class PortalAuthorizationIndex {
+
+    /**
+     * 모든 역할에 부여되는 기본 권한 ID
+     */
+    public static final String DEFAULT_AUTHORITY_ID = "A000001";
+
+    private static final String RESOURCES_KEY = "ALL";
+
+    private final GpoAuthorityMasRepository gpoAuthorityMasRepository;
+    private final GpoPortalResourceMasRepository gpoPortalResourceMasRepository;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    /**
+     * 권한 ID → 포탈 리소스 목록 (단일 키)
+     */
+    private final Cache<String, Map<String, List<GpoPortalResourceMas>>> resourceCache;
+
+    /**
+     * 역할 시퀀스 → 컴파일된 권한 규칙
+     */
+    private final Cache<Long, RoleRules> roleCache;
+
+    private final Timer allowTimer;
+    private final Timer denyTimer;
+
+    public PortalAuthorizationIndex(
+            GpoAuthorityMasRepository gpoAuthorityMasRepository,
+            GpoPortalResourceMasRepository gpoPortalResourceMasRepository,
+            MeterRegistry meterRegistry,
+            @Value("${portal.authorization.ttl-seconds:60}") long ttlSeconds,
+            @Value("${portal.authorization.maximum-roles:5000}") long maximumRoles) {
+        this.gpoAuthorityMasRepository = gpoAuthorityMasRepository;
+        this.gpoPortalResourceMasRepository = gpoPortalResourceMasRepository;
+        this.resourceCache = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.roleCache = Caffeine.newBuilder()
+                .maximumSize(maximumRoles)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, roleCache, "portal.authorization.role");
+        this.allowTimer = Timer.builder("portal.authorization.decision")
+                .description("포탈 API 권한 판단 소요 시간")
+                .tag("outcome", "allow")
+                .register(meterRegistry);
+        this.denyTimer = Timer.builder("portal.authorization.decision")
+                .description("포탈 API 권한 판단 소요 시간")
+                .tag("outcome", "deny")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 역할이 요청을 허용하는 포탈 리소스 URL 조회
+     *
+     * @param roleSeq 역할 시퀀스
+     * @param method  HTTP 메서드
+     * @param path    요청 경로 (servletPath)
+     * @return 일치한 리소스 URL 패턴 (허용되지 않으면 null)
+     */
+    public String findMatchingResource(long roleSeq, String method, String path) {
+        long startTime = System.nanoTime();
+        String matched = null;
+        try {
+            MethodRules rules = roleCache.get(roleSeq, this::compile).forMethod(method);
+            matched = rules != null ? rules.match(path, pathMatcher) : null;
+            return matched;
+        } finally {
+            (matched != null ? allowTimer : denyTimer).record(Duration.ofNanos(System.nanoTime() - startTime));
+        }
+    }
+
+    /**
+     * 역할 규칙 무효화 (역할 권한 매핑 변경 시)
+     *
+     * @param roleSeq 역할 시퀀스
+     */
+    public void evictRole(Long roleSeq) {
+        if (roleSeq == null) {
+            return;
+        }
+        roleCache.invalidate(roleSeq);
+        afterCommit(() -> roleCache.invalidate(roleSeq));
+    }
+
+    /**
+     * 전체 무효화 (프로젝트/역할 삭제, 포탈 리소스 변경 시)
+     */
+    public void evictAll() {
+        invalidateAll();
+        afterCommit(this::invalidateAll);
+    }
+
+    private void invalidateAll() {
+        resourceCache.invalidateAll();
+        roleCache.invalidateAll();
+    }
+
+    private RoleRules compile(Long roleSeq) {
+        Set<String> authKeys = new LinkedHashSet<>(gpoAuthorityMasRepository.findAuthKeysByRoleSeq(roleSeq));
+        authKeys.add(DEFAULT_AUTHORITY_ID);
+
+        Map<String, List<GpoPortalResourceMas>> resourcesByAuthority =
+                resourceCache.get(RESOURCES_KEY, key -> loadResources());
+
+        Map<String, MethodRules.Builder> builders = new HashMap<>();
+        for (String authKey : authKeys) {
+            for (GpoPortalResourceMas resource : resourcesByAuthority.getOrDefault(authKey, Collections.emptyList())) {
+                if (resource.getScope() == null || resource.getResourceUrl() == null) {
+                    continue;
+                }
+                builders.computeIfAbsent(resource.getScope(), scope -> new MethodRules.Builder())
+                        .add(resource.getResourceUrl(), pathMatcher);
+            }
+        }
+
+        Map<String, MethodRules> rulesByMethod = new HashMap<>();
+        builders.forEach((method, builder) -> rulesByMethod.put(method, builder.build()));
+        log.debug("포탈 권한 인덱스 생성: roleSeq={}, authKeys={}, methods={}", roleSeq, authKeys.size(),
+                rulesByMethod.keySet());
+        return new RoleRules(rulesByMethod);
+    }
+
+    private Map<String, List<GpoPortalResourceMas>> loadResources() {
+        Map<String, List<GpoPortalResourceMas>> resourcesByAuthority = gpoPortalResourceMasRepository.findAll()
+                .stream()
+                .filter(resource -> resource.getAuthorityId() != null)
+                .collect(Collectors.groupingBy(GpoPortalResourceMas::getAuthorityId));
+        log.info("포탈 리소스 권한 적재: authorities={}", resourcesByAuthority.size());
+        return resourcesByAuthority;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * 역할의 HTTP 메서드별 규칙
+     */
+    private record RoleRules(Map<String, MethodRules> rulesByMethod) {
+
+        MethodRules forMethod(String method) {
+            return method != null ? rulesByMethod.get(method) : null;
+        }
+    }
+
+    /**
+     * 단일 HTTP 메서드의 경로 규칙
+     *
+     * @param exactPaths 와일드카드가 없는 URL (정확 일치)
+     * @param patterns   와일드카드 URL (리터럴 접두사 기준 정렬)
+     */
+    private record MethodRules(Set<String> exactPaths, List<PathRule> patterns) {
+
+        String match(String path, AntPathMatcher pathMatcher) {
+            if (path == null) {
+                return null;
+            }
+            if (exactPaths.contains(path)) {
+                return path;
+            }
+            for (PathRule rule : patterns) {
+                if (path.startsWith(rule.literalPrefix()) && pathMatcher.match(rule.pattern(), path)) {
+                    return rule.pattern();
+                }
+            }
+            return null;
+        }
+
+        private static final class Builder {
+            private final Set<String> exactPaths = new HashSet<>();
+            private final Set<String> patterns = new LinkedHashSet<>();
+
+            void add(String resourceUrl, AntPathMatcher pathMatcher) {
+                if (pathMatcher.isPattern(resourceUrl)) {
+                    patterns.add(resourceUrl);
+                } else {
+                    exactPaths.add(resourceUrl);
+                }
+            }
+
+            MethodRules build() {
+                List<PathRule> rules = new ArrayList<>(patterns.size());
+                for (String pattern : patterns) {
+                    rules.add(new PathRule(literalPrefix(pattern), pattern));
+                }
+                // 구체적인(긴) 접두사를 먼저 검사
+                rules.sort(Comparator.comparingInt((PathRule rule) -> rule.literalPrefix().length()).reversed());
+                return new MethodRules(Set.copyOf(exactPaths), List.copyOf(rules));
+            }
+        }
+    }
+
+    /**
+     * 패턴과 매칭 전 후보 필터용 리터럴 접두사
+     *
+     * @param literalPrefix 첫 와일드카드 이전 마지막 '/' 까지의 경로 ('/api/**' 가 '/api' 와도 일치하므로 '/' 는 제외)
+     * @param pattern       Ant 스타일 패턴
+     */
+    private record PathRule(String literalPrefix, String pattern) {
+    }
+
+    private static String literalPrefix(String pattern) {
+        int wildcard = pattern.length();
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '*' || c == '?' || c == '{') {
+                wildcard = i;
+                break;
+            }
+        }
+        int lastSeparator = pattern.lastIndexOf('/', wildcard);
+        return lastSeparator > 0 ? pattern.substring(0, lastSeparator) : "";
+    }
+}
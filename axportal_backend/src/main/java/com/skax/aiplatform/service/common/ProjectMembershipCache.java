@@ -0,0 +1,183 @@
+package com.skax.aiplatform.service.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skax.aiplatform.entity.mapping.ProjectUserRole;
+import com.skax.aiplatform.entity.mapping.ProjectUserRoleStatus;
+import com.skax.aiplatform.repository.admin.ProjectUserRoleRepository;
+import com.skax.aiplatform.repository.home.GpoPrjuserroleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자별 활성 프로젝트/역할명 캐시
+ *
+ * <p>사용자 활동 로그마다 수행되던
+ * {@link ProjectUserRoleRepository#findActiveProjectAndRoleByMemberId(String)} 조회 결과를
+ * 사용자 ID 기준으로 캐시합니다.
+ * API 권한 검사({@code ServiceControllerInterceptor})에서 사용하는 활성 프로젝트/역할 식별자
+ * ({@link #getActiveRole(String)})도 같은 무효화 시점을 공유하도록 함께 관리합니다.</p>
+ *
+ * <p>프로젝트 구성원/역할 변경 시 {@link #evict(String)} / {@link #evictAll()} 로 명시적으로 무효화하며,
+ * 트랜잭션 안에서 호출된 경우 커밋 이후에 한 번 더 무효화하여 커밋 전 재적재를 방지합니다.
+ * 적중률은 actuator 메트릭({@code cache.gets{cache=project.membership}})으로 확인할 수 있습니다.</p>
+ *
+ * <p>캐시는 파드 단위이므로 명시적 무효화는 변경을 처리한 파드에만 적용됩니다. 다른 파드에서는 TTL 만료 시점까지
+ * 이전 값을 사용할 수 있으므로, 권한 검사에 쓰이는 활성 역할은 짧은 TTL
+ * ({@code project.membership-cache.active-role-ttl-seconds}, 기본 30초)로 역할 회수 반영 지연을 제한하고,
+ * 활동 로그용 프로젝트/역할명은 {@code project.membership-cache.ttl-seconds}(기본 300초)를 사용합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class ProjectMembershipCache {
+
+    /**
+     * 활성 프로젝트가 없을 때 사용하는 기본 프로젝트명
+     */
+    public static final String DEFAULT_PROJECT_NAME = "Ax_Portal";
+
+    /**
+     * 활성 프로젝트/역할명
+     *
+     * @param projectName 프로젝트 UUID
+     * @param roleName    역할명 (없으면 null)
+     */
+    public record Membership(String projectName, String roleName) {
+    }
+
+    /**
+     * 활성 프로젝트/역할 식별자
+     *
+     * @param prjSeq  프로젝트 시퀀스
+     * @param roleSeq 역할 시퀀스
+     */
+    public record ActiveRole(long prjSeq, long roleSeq) {
+    }
+
+    private static final Membership NO_MEMBERSHIP = new Membership(DEFAULT_PROJECT_NAME, null);
+
+    private final ProjectUserRoleRepository projectUserRoleRepository;
+    private final GpoPrjuserroleRepository gpoPrjuserroleRepository;
+    private final Cache<String, Membership> cache;
+    private final Cache<String, Optional<ActiveRole>> activeRoleCache;
+
+    public ProjectMembershipCache(
+            ProjectUserRoleRepository projectUserRoleRepository,
+            GpoPrjuserroleRepository gpoPrjuserroleRepository,
+            MeterRegistry meterRegistry,
+            @Value("${project.membership-cache.maximum-size:10000}") long maximumSize,
+            @Value("${project.membership-cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${project.membership-cache.active-role-ttl-seconds:30}") long activeRoleTtlSeconds) {
+        this.projectUserRoleRepository = projectUserRoleRepository;
+        this.gpoPrjuserroleRepository = gpoPrjuserroleRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.activeRoleCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(activeRoleTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "project.membership");
+        CaffeineCacheMetrics.monitor(meterRegistry, activeRoleCache, "project.membership.active-role");
+    }
+
+    /**
+     * 사용자의 활성 프로젝트/역할명 조회 (여러 개일 경우 첫 번째만 사용)
+     *
+     * <p>조회 실패 시 예외를 그대로 전달하며, 실패 결과는 캐시하지 않습니다.</p>
+     *
+     * @param memberId 사용자 ID
+     * @return 활성 프로젝트/역할명 (활성 프로젝트가 없으면 기본 프로젝트명)
+     */
+    public Membership get(String memberId) {
+        return cache.get(memberId, this::load);
+    }
+
+    /**
+     * 사용자의 활성(ACTIVE) 프로젝트/역할 식별자 조회
+     *
+     * <p>조회 실패 시 예외를 그대로 전달하며, 실패 결과는 캐시하지 않습니다.</p>
+     *
+     * @param memberId 사용자 ID
+     * @return 활성 프로젝트/역할 식별자 (활성 매핑이 없으면 empty)
+     */
+    public Optional<ActiveRole> getActiveRole(String memberId) {
+        return activeRoleCache.get(memberId, this::loadActiveRole);
+    }
+
+    /**
+     * 사용자 캐시 무효화
+     *
+     * @param memberId 사용자 ID
+     */
+    public void evict(String memberId) {
+        if (memberId == null) {
+            return;
+        }
+        invalidate(memberId);
+        afterCommit(() -> invalidate(memberId));
+    }
+
+    /**
+     * 전체 캐시 무효화 (프로젝트/역할 단위 변경 시)
+     */
+    public void evictAll() {
+        invalidateAll();
+        afterCommit(this::invalidateAll);
+    }
+
+    private void invalidate(String memberId) {
+        cache.invalidate(memberId);
+        activeRoleCache.invalidate(memberId);
+    }
+
+    private void invalidateAll() {
+        cache.invalidateAll();
+        activeRoleCache.invalidateAll();
+    }
+
+    private Membership load(String memberId) {
+        List<Object[]> results = projectUserRoleRepository.findActiveProjectAndRoleByMemberId(memberId);
+        if (results == null || results.isEmpty()) {
+            return NO_MEMBERSHIP;
+        }
+        Object[] result = results.get(0);
+        return new Membership((String) result[0], (String) result[1]);
+    }
+
+    private Optional<ActiveRole> loadActiveRole(String memberId) {
+        ProjectUserRole projectUserRole =
+                gpoPrjuserroleRepository.findByMemberIdAndStatusNm(memberId, ProjectUserRoleStatus.ACTIVE);
+        if (projectUserRole == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new ActiveRole(projectUserRole.getProject().getPrjSeq(),
+                projectUserRole.getRole().getRoleSeq()));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+}
@@ -39,6 +39,8 @@ import com.skax.aiplatform.repository.home.GpoProjectsRepository;
 import com.skax.aiplatform.repository.home.GpoRolesRepository;
 import com.skax.aiplatform.repository.home.GpoUsersRepository;
 import com.skax.aiplatform.service.admin.AdminAuthService;
+import com.skax.aiplatform.service.common.PortalAuthorizationIndex;
+import com.skax.aiplatform.service.common.ProjectMembershipCache;
 import com.skax.aiplatform.service.common.ProjectMigService;
 
 import lombok.AllArgsConstructor;
@@ -65,6 +67,8 @@ public class ProjectMigServiceImpl implements ProjectMigService {
     private final GpoRolesRepository gpoRolesRepository;
     private final ProjectMgmtRepository projectMgmtRepository;
     private final IoneApiService ioneApiService;
+    private final ProjectMembershipCache projectMembershipCache;
+    private final PortalAuthorizationIndex portalAuthorizationIndex;
 
     private static final String EXPORT_FILE_NAME = "project_migration_data.json";
 
@@ -250,6 +254,8 @@ public class ProjectMigServiceImpl implements ProjectMigService {
                                             .project(project)
                                             .role(adminRole)
                                             .build());
+                                    // 커밋 후 새 매핑으로 다시 조회되도록 멤버십 캐시 무효화
+                                    projectMembershipCache.evict(portalAdminId);
 
                                     // ADXP 그룹 추가
                                     adminAuthService.assignUserToGroup(portalAdminId, adminGroupNm);
@@ -311,6 +317,8 @@ public class ProjectMigServiceImpl implements ProjectMigService {
             projectUserRoleRepository.deleteByPrjSeq(prjSeq);
             roleRepository.deleteByPrjSeq(prjSeq);
             projectMgmtRepository.deleteByPrjSeq(prjSeq);
+            projectMembershipCache.evictAll();
+            portalAuthorizationIndex.evictAll();
             log.info("Deleted related entities for project: {}", prjSeq);
         } catch (RuntimeException re) {
             log.error("Failed to delete related entities for project: {}", prjSeq, re);
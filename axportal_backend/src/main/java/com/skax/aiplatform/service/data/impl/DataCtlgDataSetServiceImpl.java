@@ -6,26 +6,31 @@ import java.io.FileOutputStream;
 import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URLConnection;
 import java.net.URLEncoder;
-import java.nio.file.DirectoryNotEmptyException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import java.nio.file.NoSuchFileException;
-import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.text.Normalizer;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
@@ -71,8 +76,10 @@ import com.skax.aiplatform.common.exception.ErrorCode;
 import com.skax.aiplatform.common.response.PageResponse;
 import com.skax.aiplatform.common.util.MultipartFileHeaderChecker;
 import com.skax.aiplatform.common.util.PaginationUtils;
+import com.skax.aiplatform.common.util.S3FileNameIndex;
 import com.skax.aiplatform.common.util.S3Util;
 import com.skax.aiplatform.common.util.TokenInfo;
+import com.skax.aiplatform.config.S3TransferProperties;
 import com.skax.aiplatform.dto.data.request.DataCtlgDataSetTag;
 import com.skax.aiplatform.dto.data.request.DataCtlgDataSetUpdateReq;
 import com.skax.aiplatform.dto.data.request.DataCtlgDataSourceFileDownloadReq;
@@ -93,6 +100,7 @@ import com.skax.aiplatform.mapper.data.DataCtlgDataSetMapper;
 import com.skax.aiplatform.repository.mapping.GpoAssetPrjMapMasRepository;
 import com.skax.aiplatform.service.admin.AdminAuthService;
 import com.skax.aiplatform.service.auth.UsersService;
+import com.skax.aiplatform.service.common.AssetVisibilityResolver;
 import com.skax.aiplatform.service.data.DataCtlgDataSetService;
 
 import feign.FeignException;
@@ -130,7 +138,13 @@ public class DataCtlgDataSetServiceImpl implements DataCtlgDataSetService {
         private final ApplicationEventPublisher eventPublisher;
 
         private final GpoAssetPrjMapMasRepository assetPrjMapMasRepository;
-        private final String FILE_UPLOAD_PATH = "shbdat/finetuning/tempfiles";
+        private final AssetVisibilityResolver assetVisibilityResolver;
+        private final DataCtlgTempFileManager tempFileManager;
+        private final S3FileNameIndex s3FileNameIndex;
+        private final S3TransferProperties s3TransferProperties;
+
+        @Qualifier("asyncTaskExecutor")
+        private final Executor asyncTaskExecutor;
         private static final String ADMIN_USERNAME = "admin";
 
         /**
@@ -200,11 +214,13 @@ public class DataCtlgDataSetServiceImpl implements DataCtlgDataSetService {
                         List<DataCtlgDataSetListRes> datasetList = sktaiResponse.getData().stream()
                                         .map(dataCtlgDataSetMapper::toDatasetListRes)
                                         .collect(Collectors.toList());
+                        // 공개 여부 일괄 조회 (페이지 단위 IN 조회)
+                        Map<String, GpoAssetPrjMapMas> assets = assetVisibilityResolver.findAssets(datasetList.stream()
+                                        .map(item -> "/datasets/" + item.getId()).toList());
+
                         for (DataCtlgDataSetListRes dataset : datasetList) {
                                 // 공개 여부 설정 값 가져오기
-                                GpoAssetPrjMapMas existing = assetPrjMapMasRepository
-                                                .findByAsstUrl("/datasets/" + dataset.getId())
-                                                .orElse(null);
+                                GpoAssetPrjMapMas existing = assets.get("/datasets/" + dataset.getId());
                                 String publicStatus = null;
                                 if (existing != null && existing.getLstPrjSeq() != null) {
                                         // 음수면 "전체공유", 양수면 "내부공유"
@@ -800,25 +816,54 @@ public class DataCtlgDataSetServiceImpl implements DataCtlgDataSetService {
                 StepResult s3UploadStep = null;
                 StepResult esMetaStep = null;
 
+                // S3 업로드가 요청되면 임시 파일 없이 원본 스트림을 S3로 바로 전송 (설정 시)
+                boolean streamToS3 = Boolean.TRUE.equals(request.getUploadToS3())
+                                && tempFileManager.isStreamingUpload();
+
                 try {
-                        // 1. 임시 디렉토리 생성 및 파일 다운로드
+                        // 1. 임시 디렉토리 생성 및 파일 다운로드 (스트리밍 모드에서는 S3 업로드까지 수행)
                         long stepStartTime = System.currentTimeMillis();
                         try {
-                                tempFile = downloadFileToTempStorage(dataId, isCustomType);
-                                log.info(">>> 임시 파일 다운로드 완료 - dataId: {}, tempFile: {}", dataId,
-                                                tempFile.getAbsolutePath());
+                                if (streamToS3) {
+                                        Map<String, Object> s3Result = streamDataSourceFileToS3(dataId, isCustomType,
+                                                        request.getTitle());
+                                        long processingTimeMs = System.currentTimeMillis() - stepStartTime;
 
-                                Map<String, Object> downloadResult = new HashMap<>();
-                                downloadResult.put("tempFilePath", tempFile.getAbsolutePath());
-                                downloadResult.put("fileSize", tempFile.length());
-                                downloadResult.put("fileName", tempFile.getName());
+                                        Map<String, Object> downloadResult = new HashMap<>();
+                                        downloadResult.put("streamed", true);
+                                        downloadResult.put("fileSize", s3Result.get("contentLength"));
+                                        downloadResult.put("fileName", request.getTitle());
+                                        downloadResult.put("sha256", s3Result.get("sha256"));
 
-                                downloadStep = StepResult.builder()
-                                                .success(true)
-                                                .message("임시 파일 다운로드가 성공적으로 완료되었습니다")
-                                                .result(downloadResult)
-                                                .processingTimeMs(System.currentTimeMillis() - stepStartTime)
-                                                .build();
+                                        downloadStep = StepResult.builder()
+                                                        .success(true)
+                                                        .message("원본 파일 스트리밍 다운로드가 성공적으로 완료되었습니다")
+                                                        .result(downloadResult)
+                                                        .processingTimeMs(processingTimeMs)
+                                                        .build();
+                                        s3UploadStep = StepResult.builder()
+                                                        .success(true)
+                                                        .message("S3 업로드가 성공적으로 완료되었습니다")
+                                                        .result(s3Result)
+                                                        .processingTimeMs(processingTimeMs)
+                                                        .build();
+                                } else {
+                                        tempFile = downloadFileToTempStorage(dataId, isCustomType);
+                                        log.info(">>> 임시 파일 다운로드 완료 - dataId: {}, tempFile: {}", dataId,
+                                                        tempFile.getAbsolutePath());
+
+                                        Map<String, Object> downloadResult = new HashMap<>();
+                                        downloadResult.put("tempFilePath", tempFile.getAbsolutePath());
+                                        downloadResult.put("fileSize", tempFile.length());
+                                        downloadResult.put("fileName", tempFile.getName());
+
+                                        downloadStep = StepResult.builder()
+                                                        .success(true)
+                                                        .message("임시 파일 다운로드가 성공적으로 완료되었습니다")
+                                                        .result(downloadResult)
+                                                        .processingTimeMs(System.currentTimeMillis() - stepStartTime)
+                                                        .build();
+                                }
 
                         } catch (RuntimeException e) {
                                 log.error(">>> 임시 파일 다운로드 실패 (RuntimeException) - datasetId: {}", dataId, e);
@@ -848,8 +893,11 @@ public class DataCtlgDataSetServiceImpl implements DataCtlgDataSetService {
                                 throw e;
                         }
 
-                        // 2. S3 업로드 (요청된 경우에만)
-                        if (Boolean.TRUE.equals(request.getUploadToS3())) {
+                        // 2. S3 업로드 (요청된 경우에만, 스트리밍 모드는 1단계에서 완료)
+                        if (streamToS3) {
+                                log.info(">>> S3 스트리밍 업로드 완료 - dataId: {}, s3Key: {}",
+                                                dataId, s3UploadStep.getResult().get("s3Key"));
+                        } else if (Boolean.TRUE.equals(request.getUploadToS3())) {
                                 stepStartTime = System.currentTimeMillis();
                                 try {
                                         Map<String, Object> s3Result = uploadTempFileToS3(tempFile, dataId,
@@ -1191,66 +1239,124 @@ public class DataCtlgDataSetServiceImpl implements DataCtlgDataSetService {
         }
 
         /**
-         * 임시 디렉토리를 생성하고 검증합니다.
-         *
-         * @return 임시 디렉토리 Path
+         * SKT AI API를 통해 데이터 소스 파일 리소스를 조회합니다.
+         * 
+         * @param datasourceFileId 데이터소스 파일 ID
+         * @param isCustomType     커스텀 타입 여부
+         * @return 다운로드 리소스
          */
-        private Path createAndValidateTempDirectory() {
-                Path tempDir = Paths.get(FILE_UPLOAD_PATH);
-                log.info(">>> 임시 디렉토리 경로 결정: {}", tempDir.toAbsolutePath());
-
-                // 디렉토리 존재 여부 및 권한 확인
-                if (!Files.exists(tempDir)) {
-                        try {
-                                Files.createDirectories(tempDir);
-                                log.info(">>> 임시 디렉토리 생성 완료: {}", tempDir.toAbsolutePath());
-                        } catch (IOException e) {
-                                log.error(">>> 임시 디렉토리 생성 실패: {}, error: {}", tempDir.toAbsolutePath(), e.getMessage(),
-                                                e);
-                                throw new BusinessException(
-                                                ErrorCode.EXTERNAL_API_ERROR,
-                                                "임시 디렉토리 생성에 실패했습니다: " + e.getMessage());
-                        }
+        private Resource openDataSourceResource(String datasourceFileId, boolean isCustomType) {
+                Resource resource = null;
+
+                // 커스텀 타입일 때
+                if (isCustomType) {
+                        // SKT AI API를 통한 데이터 소스 파일 다운로드
+                        ResponseEntity<Resource> downloadResponse = sktaiDataDatasetsService
+                                        .getDatasetSourceArchive(UUID.fromString(datasourceFileId));
+                        resource = downloadResponse.getBody();
+                        // 커스텀 타입이 아닐 때
                 } else {
-                        // 디렉토리가 존재하지만 쓰기 권한이 있는지 확인
-                        if (!Files.isWritable(tempDir)) {
-                                log.error(">>> 임시 디렉토리 쓰기 권한 없음: {}", tempDir.toAbsolutePath());
-                                throw new BusinessException(
-                                                ErrorCode.EXTERNAL_API_ERROR,
-                                                "임시 디렉토리에 쓰기 권한이 없습니다: " + tempDir.toAbsolutePath());
-                        }
-                        log.info(">>> 임시 디렉토리 확인 완료: {}", tempDir.toAbsolutePath());
+                        // SKT AI API를 통한 데이터 소스 파일 다운로드
+                        ResponseEntity<Resource> downloadResponse = sktaiDataDatasourcesService
+                                        .downloadFile(datasourceFileId);
+                        resource = downloadResponse.getBody();
                 }
-                return tempDir;
+
+                if (resource == null || !resource.exists()) {
+                        log.error(">>> 다운로드할 파일을 찾을 수 없음 - datasourceFileId: {}", datasourceFileId);
+                        throw new IllegalArgumentException("다운로드할 파일을 찾을 수 없습니다: " + datasourceFileId);
+                }
+                return resource;
         }
 
         /**
-         * 고유한 임시 파일을 생성합니다.
+         * SKT AI API 다운로드 스트림을 임시 파일 없이 S3에 바로 업로드합니다.
+         * 
+         * <p>
+         * 원본 스트림을 파트 단위 메모리 버퍼로 읽어 S3 멀티파트 업로드로 병렬 전송하며,
+         * 파트별 Content-MD5 및 완료 ETag 검증으로 무결성을 확인합니다.
+         * </p>
          * 
-         * @param tempDir 임시 디렉토리
-         * @param prefix  파일명 접두사
-         * @return 생성된 임시 파일
+         * @param datasourceFileId 데이터소스 파일 ID
+         * @param isCustomType     커스텀 타입 여부
+         * @param originalFileName 원본 파일명
+         * @return S3 업로드 결과 ({@link #uploadTempFileToS3} 결과와 동일한 키)
          */
-        private File createUniqueTempFile(Path tempDir, String prefix) {
-                // 임시 파일 생성 (안전한 방식)
-                String fileName = "temp_" + prefix + "_" + System.currentTimeMillis();
-                File tempFile = new File(tempDir.toFile(), fileName);
-
-                // 임시 파일이 이미 존재하는지 확인 (중복 방지)
-                int counter = 1;
-                while (tempFile.exists()) {
-                        fileName = "temp_" + prefix + "_" + System.currentTimeMillis() + "_" + counter;
-                        tempFile = new File(tempDir.toFile(), fileName);
-                        counter++;
-                        if (counter > 100) { // 무한 루프 방지
-                                throw new BusinessException(
-                                                ErrorCode.EXTERNAL_API_ERROR,
-                                                "고유한 임시 파일명을 생성할 수 없습니다.");
+        private Map<String, Object> streamDataSourceFileToS3(String datasourceFileId, boolean isCustomType,
+                        String originalFileName) {
+                log.info(">>> S3 스트리밍 업로드 시작 - datasourceFileId: {}, originalFileName: {}", datasourceFileId,
+                                originalFileName);
+
+                try {
+                        Resource resource = openDataSourceResource(datasourceFileId, isCustomType);
+                        String s3Key = buildS3Key(datasourceFileId, originalFileName);
+                        String contentType = originalFileName != null
+                                        ? URLConnection.guessContentTypeFromName(originalFileName)
+                                        : null;
+                        if (contentType == null) {
+                                contentType = "application/octet-stream";
                         }
+                        String finalContentType = contentType;
+
+                        Map<String, Object> s3Result = tempFileManager.transfer(datasourceFileId, () -> {
+                                try (InputStream inputStream = resource.getInputStream()) {
+                                        return s3Util.uploadStream(inputStream, s3Key, finalContentType, null);
+                                }
+                        });
+                        long fileSize = ((Number) s3Result.get("fileSize")).longValue();
+                        tempFileManager.recordBytes(fileSize);
+                        s3FileNameIndex.invalidate((String) s3Result.get("bucketName"));
+
+                        Map<String, Object> result = new HashMap<>();
+                        result.put("success", true);
+                        result.put("s3Bucket", s3Result.get("bucketName"));
+                        result.put("s3Key", s3Result.get("s3Key"));
+                        result.put("s3Url", "s3://" + s3Result.get("bucketName") + "/" + s3Result.get("s3Key"));
+                        result.put("etag", s3Result.get("etag"));
+                        result.put("sha256", s3Result.get("sha256"));
+                        result.put("partCount", s3Result.get("partCount"));
+                        result.put("contentType", finalContentType);
+                        result.put("contentLength", fileSize);
+                        result.put("uploadTimestamp", LocalDateTime.now().toString());
+                        result.put("originalFileName", originalFileName);
+
+                        log.info(">>> S3 스트리밍 업로드 완료 - s3Key: {}, etag: {}, sha256: {}, fileSize: {} bytes",
+                                        s3Key, s3Result.get("etag"), s3Result.get("sha256"), fileSize);
+                        return result;
+
+                } catch (BusinessException e) {
+                        throw e;
+                } catch (FeignException e) {
+                        log.error(">>> S3 스트리밍 업로드 실패 (FeignException) - datasourceFileId: {}, 상태코드: {}",
+                                        datasourceFileId, e.status(), e);
+                        throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR,
+                                        String.format("S3 스트리밍 업로드 중 오류가 발생했습니다: HTTP %d - %s", e.status(),
+                                                        e.getMessage()));
+                } catch (IOException e) {
+                        log.error(">>> S3 스트리밍 업로드 실패 (IOException) - datasourceFileId: {}", datasourceFileId, e);
+                        throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR,
+                                        "S3 스트리밍 업로드에 실패했습니다: " + e.getMessage());
+                } catch (RuntimeException e) {
+                        log.error(">>> S3 스트리밍 업로드 실패 (RuntimeException) - datasourceFileId: {}", datasourceFileId,
+                                        e);
+                        throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR,
+                                        "S3 스트리밍 업로드에 실패했습니다: " + e.getMessage());
                 }
+        }
 
-                log.info(">>> 임시 파일 생성 - path: {}", tempFile.getAbsolutePath());
-                return tempFile;
+        /**
+         * 데이터소스 파일 업로드용 S3 키 생성 (URL 인코딩)
+         * 
+         * @param datasourceFileId 데이터소스 파일 ID
+         * @param originalFileName 원본 파일명
+         * @return S3 키
+         */
+        private String buildS3Key(String datasourceFileId, String originalFileName) {
+                String s3Key = "file_" + datasourceFileId + "_" + System.currentTimeMillis();
+                if (originalFileName != null && !originalFileName.isEmpty()) {
+                        s3Key += "__gaf__" + originalFileName;
+                }
+                return URLEncoder.encode(s3Key, StandardCharsets.UTF_8);
         }
 
         /**
@@ -1263,55 +1369,41 @@ public class DataCtlgDataSetServiceImpl implements DataCtlgDataSetService {
         private File downloadFileToTempStorage(String datasourceFileId, boolean isCustomType) {
                 log.info(">>> 임시 파일 다운로드 시작 - datasourceFileId: {}", datasourceFileId);
 
+                File tempFile = null;
                 try {
-                        // 임시 디렉토리 생성 및 검증
-                        Path tempDir = createAndValidateTempDirectory();
-                        Resource resource = null;
-
-                        // 커스텀 타입일 때
-                        if (isCustomType) {
-                                // SKT AI API를 통한 데이터 소스 파일 다운로드
-                                ResponseEntity<Resource> downloadResponse = sktaiDataDatasetsService
-                                                .getDatasetSourceArchive(UUID.fromString(datasourceFileId));
-                                resource = downloadResponse.getBody();
-                                // 커스텀 타입이 아닐 때
-                        } else {
-                                // SKT AI API를 통한 데이터 소스 파일 다운로드
-                                ResponseEntity<Resource> downloadResponse = sktaiDataDatasourcesService
-                                                .downloadFile(datasourceFileId);
-                                resource = downloadResponse.getBody();
-                        }
-
-                        if (resource == null || !resource.exists()) {
-                                log.error(">>> 다운로드할 파일을 찾을 수 없음 - datasourceFileId: {}", datasourceFileId);
-                                throw new IllegalArgumentException("다운로드할 파일을 찾을 수 없습니다: " + datasourceFileId);
-                        }
-
-                        // 고유한 임시 파일 생성
-                        File tempFile = createUniqueTempFile(tempDir, datasourceFileId);
-
-                        // 파일 다운로드 (스트리밍 방식)
-                        try (InputStream inputStream = resource.getInputStream();
-                                        FileOutputStream outputStream = new FileOutputStream(tempFile)) {
-
-                                byte[] buffer = new byte[8192]; // 8KB 버퍼
-                                int bytesRead;
-                                long totalBytes = 0;
-
-                                while ((bytesRead = inputStream.read(buffer)) != -1) {
-                                        outputStream.write(buffer, 0, bytesRead);
-                                        totalBytes += bytesRead;
-
-                                        // 진행률 로깅 (10MB마다)
-                                        if (totalBytes % (10 * 1024 * 1024) == 0) {
-                                                log.info(">>> 다운로드 진행률 - datasourceFileId: {}, downloaded: {} MB",
-                                                                datasourceFileId, totalBytes / (1024 * 1024));
+                        Resource resource = openDataSourceResource(datasourceFileId, isCustomType);
+
+                        // 요청 전용 임시 파일 할당
+                        tempFile = tempFileManager.allocate("temp_" + datasourceFileId).toFile();
+                        File targetFile = tempFile;
+                        Resource source = resource;
+
+                        // 파일 다운로드 (스트리밍 방식, 동시 전송 수 제한)
+                        long totalBytes = tempFileManager.transfer(datasourceFileId, () -> {
+                                try (InputStream inputStream = source.getInputStream();
+                                                FileOutputStream outputStream = new FileOutputStream(targetFile)) {
+
+                                        byte[] buffer = new byte[8192]; // 8KB 버퍼
+                                        int bytesRead;
+                                        long bytes = 0;
+
+                                        while ((bytesRead = inputStream.read(buffer)) != -1) {
+                                                outputStream.write(buffer, 0, bytesRead);
+                                                bytes += bytesRead;
+
+                                                // 진행률 로깅 (10MB마다)
+                                                if (bytes % (10 * 1024 * 1024) == 0) {
+                                                        log.info(">>> 다운로드 진행률 - datasourceFileId: {}, downloaded: {} MB",
+                                                                        datasourceFileId, bytes / (1024 * 1024));
+                                                }
                                         }
+                                        return bytes;
                                 }
+                        });
+                        tempFileManager.recordBytes(totalBytes);
 
-                                log.info(">>> 임시 파일 다운로드 완료 - datasourceFileId: {}, fileSize: {} bytes",
-                                                datasourceFileId, totalBytes);
-                        }
+                        log.info(">>> 임시 파일 다운로드 완료 - datasourceFileId: {}, fileSize: {} bytes",
+                                        datasourceFileId, totalBytes);
 
                         // 다운로드된 파일 검증
                         if (!tempFile.exists() || tempFile.length() == 0) {
@@ -1328,11 +1420,13 @@ public class DataCtlgDataSetServiceImpl implements DataCtlgDataSetService {
 
                 } catch (IOException e) {
                         log.error(">>> 임시 파일 다운로드 실패 - datasourceFileId: {}", datasourceFileId, e);
+                        cleanupTempFile(tempFile);
                         throw new BusinessException(
                                         ErrorCode.EXTERNAL_API_ERROR,
                                         "임시 파일 다운로드에 실패했습니다: " + e.getMessage());
                 } catch (Exception e) {
                         log.error(">>> 임시 파일 다운로드 실패 - datasourceFileId: {}", datasourceFileId, e);
+                        cleanupTempFile(tempFile);
                         throw new BusinessException(
                                         ErrorCode.EXTERNAL_API_ERROR,
                                         "임시 파일 다운로드에 실패했습니다: " + e.getMessage());
@@ -1346,34 +1440,22 @@ public class DataCtlgDataSetServiceImpl implements DataCtlgDataSetService {
          * @param bucketName 버킷 이름 (null이면 기본 버킷 사용)
          * @return 다운로드 결과 정보 (tempFile 포함)
          */
-        private synchronized Map<String, Object> downloadFileFromS3ToTempStorage(String fileName, String bucketName) {
+        private Map<String, Object> downloadFileFromS3ToTempStorage(String fileName, String bucketName) {
                 log.info(">>> S3에서 임시 파일 다운로드 시작 - fileName: {}", fileName);
 
+                File tempFile = null;
                 try {
-                        // 임시 디렉토리 생성 및 검증
-                        Path tempDir = createAndValidateTempDirectory();
-
-                        // 원본 파일명 그대로 사용
-                        File tempFile = new File(tempDir.toFile(), fileName);
+                        // 요청 전용 디렉토리에 원본 파일명 그대로 사용
+                        tempFile = tempFileManager.allocate(fileName).toFile();
                         String absoluteFilePath = tempFile.getAbsolutePath();
                         log.info(">>> 임시 파일 생성 경로 - fileName: {}, 절대경로: {}", fileName, absoluteFilePath);
 
-                        // 파일이 이미 존재하는 경우 삭제
-                        if (tempFile.exists()) {
-                                log.warn(">>> 기존 파일 삭제 시도 - 절대경로: {}", absoluteFilePath);
-                                // boolean deleted = tempFile.delete();
-                                boolean deleted = Files.deleteIfExists(tempFile.toPath());
-                                if (deleted) {
-                                        log.info(">>> 기존 파일 삭제 성공 - 절대경로: {}", absoluteFilePath);
-                                } else {
-                                        log.warn(">>> 기존 파일 삭제 실패 - 절대경로: {}", absoluteFilePath);
-                                }
-                        }
-
-                        // S3에서 파일 다운로드
+                        // S3에서 파일 다운로드 (동시 전송 수 제한)
                         log.info(">>> S3에서 파일 다운로드 시작 - fileName: {}, 저장경로: {}", fileName, absoluteFilePath);
-                        Map<String, Object> downloadResult = s3Util.downloadFileByFileName(
-                                        fileName, bucketName, tempFile);
+                        File targetFile = tempFile;
+                        Map<String, Object> downloadResult = tempFileManager.transfer(fileName,
+                                        () -> s3Util.downloadFileByFileName(fileName, bucketName, targetFile));
+                        tempFileManager.recordBytes(tempFile.length());
 
                         // 다운로드된 파일 검증
                         if (!tempFile.exists() || tempFile.length() == 0) {
@@ -1393,18 +1475,22 @@ public class DataCtlgDataSetServiceImpl implements DataCtlgDataSetService {
                         return downloadResult;
 
                 } catch (BusinessException e) {
+                        cleanupTempFile(tempFile);
                         throw e;
                 } catch (FeignException e) {
+                        cleanupTempFile(tempFile);
                         log.error(">>> S3에서 임시 파일 다운로드 실패 (FeignException) - fileName: {}, 상태코드: {}", fileName,
                                         e.status(), e);
                         throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR,
                                         String.format("S3에서 임시 파일 다운로드 중 오류가 발생했습니다: HTTP %d - %s", e.status(),
                                                         e.getMessage()));
                 } catch (RuntimeException e) {
+                        cleanupTempFile(tempFile);
                         log.error(">>> S3에서 임시 파일 다운로드 실패 (RuntimeException) - fileName: {}", fileName, e);
                         throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR,
                                         "S3에서 임시 파일 다운로드에 실패했습니다: " + e.getMessage());
                 } catch (Exception e) {
+                        cleanupTempFile(tempFile);
                         log.error(">>> S3에서 임시 파일 다운로드 실패 (Exception) - fileName: {}", fileName, e);
                         throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR,
                                         "S3에서 임시 파일 다운로드에 실패했습니다: " + e.getMessage());
@@ -1425,13 +1511,8 @@ public class DataCtlgDataSetServiceImpl implements DataCtlgDataSetService {
                                 tempFile.getAbsolutePath(), datasourceFileId, originalFileName);
 
                 try {
-                        // S3 키 생성
-                        String s3Key = "file_" + datasourceFileId + "_" + System.currentTimeMillis();
-                        if (originalFileName != null && !originalFileName.isEmpty()) {
-                                s3Key += "__gaf__" + originalFileName;
-                        }
-                        // S3 키 URL 인코딩
-                        s3Key = URLEncoder.encode(s3Key, "UTF-8");
+                        // S3 키 생성 (URL 인코딩)
+                        String s3Key = buildS3Key(datasourceFileId, originalFileName);
 
                         // 파일 크기 확인
                         long fileSize = tempFile.length();
@@ -1442,6 +1523,7 @@ public class DataCtlgDataSetServiceImpl implements DataCtlgDataSetService {
 
                         // S3Util을 사용하여 파일 업로드
                         Map<String, Object> s3Result = s3Util.uploadFile(tempFile, s3Key, contentType);
+                        s3FileNameIndex.invalidate((String) s3Result.get("bucketName"));
 
                         // 결과에 추가 정보 포함
                         Map<String, Object> result = new HashMap<>();
@@ -1481,175 +1563,28 @@ public class DataCtlgDataSetServiceImpl implements DataCtlgDataSetService {
         }
 
         /**
-         * 경로 기반으로 임시 파일 정리 (단순화된 삭제)
+         * 경로 기반으로 임시 파일 정리
          * 
          * @param filePath 삭제할 파일의 절대 경로
          */
-        private synchronized void cleanupTempFileByPath(String filePath) {
+        private void cleanupTempFileByPath(String filePath) {
                 if (filePath == null || filePath.trim().isEmpty()) {
                         log.warn(">>> 삭제할 파일 경로가 null이거나 비어있습니다");
                         return;
                 }
-
-                log.info(">>> 임시 파일 삭제 시작 - 절대경로: {}", filePath);
-
-                try {
-                        // 경로를 기반으로 새 File 객체 생성
-                        File fileToDelete = new File(filePath);
-                        Path filePathNormalized = fileToDelete.toPath().toAbsolutePath().normalize();
-
-                        // 안전성 검증: 삭제할 파일이 임시 디렉토리 내부인지 확인
-                        Path tempDir = createAndValidateTempDirectory();
-                        Path tempDirNormalized = tempDir.toAbsolutePath().normalize();
-
-                        if (!filePathNormalized.startsWith(tempDirNormalized)) {
-                                log.error(">>> 보안 위험: 삭제하려는 파일 경로가 임시 디렉토리 밖입니다 - tempDir: {}, filePath: {}",
-                                                tempDirNormalized, filePathNormalized);
-                                throw new SecurityException("파일 경로가 허용된 디렉토리 밖입니다. 삭제를 거부합니다.");
-                        }
-
-                        // 파일 존재 여부 확인
-                        if (!fileToDelete.exists()) {
-                                log.warn(">>> 삭제할 파일이 존재하지 않음 - 절대경로: {}", filePath);
-                                return;
-                        }
-
-                        // 파일 정보 확인
-                        long fileSize = fileToDelete.length();
-                        boolean isFile = fileToDelete.isFile();
-
-                        log.info(">>> 파일 정보 확인 - 절대경로: {}, 파일크기: {} bytes, isFile: {}",
-                                        filePath, fileSize, isFile);
-
-                        if (!isFile) {
-                                log.warn(">>> 파일이 아닌 경로입니다 - 절대경로: {}", filePath);
-                                return;
-                        }
-
-                        boolean deleted = Files.deleteIfExists(fileToDelete.toPath());
-                        // 파일 삭제 시도
-                        // boolean deleted = fileToDelete.delete();
-
-                        if (deleted) {
-                                // 삭제 확인
-                                if (fileToDelete.exists()) {
-                                        log.warn(">>> 파일 삭제 후에도 여전히 존재함 - 절대경로: {}", filePath);
-                                } else {
-                                        log.info(">>> 임시 파일 삭제 성공 - 절대경로: {}, 파일크기: {} bytes", filePath, fileSize);
-                                }
-                        } else {
-                                // 삭제 실패 시 Files.deleteIfExists() 재시도
-                                try {
-                                        deleted = Files.deleteIfExists(fileToDelete.toPath());
-                                        if (deleted) {
-                                                log.info(">>> Files.deleteIfExists()로 파일 삭제 성공 - 절대경로: {}, 파일크기: {} bytes",
-                                                                filePath, fileSize);
-                                        } else {
-                                                log.error(">>> 임시 파일 삭제 실패 - 절대경로: {}, 파일크기: {} bytes", filePath,
-                                                                fileSize);
-                                        }
-                                } catch (IOException e) {
-                                        log.error(">>> 임시 파일 삭제 실패 - 절대경로: {}, 파일크기: {} bytes, error: {}",
-                                                        filePath, fileSize, e.getMessage());
-                                }
-                        }
-
-                } catch (SecurityException e) {
-                        log.error(">>> 임시 파일 정리 중 보안 예외 발생 - 절대경로: {}, error: {}", filePath, e.getMessage(), e);
-                } catch (RuntimeException e) {
-                        log.error(">>> 임시 파일 정리 중 런타임 예외 발생 - 절대경로: {}, error: {}", filePath, e.getMessage(), e);
-                } catch (Exception e) {
-                        log.error(">>> 임시 파일 정리 중 예상치 못한 오류 발생 - 절대경로: {}, error: {}", filePath, e.getMessage(), e);
-                }
+                tempFileManager.release(Paths.get(filePath));
         }
 
         /**
-         * 임시 파일 정리
+         * 임시 파일 정리 (요청 전용 디렉토리와 함께 삭제)
          * 
          * @param tempFile 정리할 임시 파일
          */
-        private synchronized void cleanupTempFile(File tempFile) {
+        private void cleanupTempFile(File tempFile) {
                 if (tempFile == null) {
-                        log.warn(">>> 삭제할 임시 파일이 null입니다");
                         return;
                 }
-
-                String filePath = tempFile.getAbsolutePath();
-                log.info(">>> 임시 파일 삭제 시작 - 절대경로: {}", filePath);
-
-                try {
-                        // 경로를 기반으로 새 File 객체 생성 (안전하게)
-                        File fileToDelete = new File(filePath);
-
-                        // 파일 존재 여부 확인
-                        if (!fileToDelete.exists()) {
-                                log.warn(">>> 삭제할 파일이 존재하지 않음 - 절대경로: {}", filePath);
-                                return;
-                        }
-
-                        // 파일 정보 확인
-                        long fileSize = fileToDelete.length();
-                        boolean isFile = fileToDelete.isFile();
-                        boolean canWrite = fileToDelete.canWrite();
-
-                        log.info(">>> 파일 정보 확인 - 절대경로: {}, 파일크기: {} bytes, isFile: {}, canWrite: {}",
-                                        filePath, fileSize, isFile, canWrite);
-
-                        if (!isFile) {
-                                log.warn(">>> 파일이 아닌 경로입니다 - 절대경로: {}", filePath);
-                                return;
-                        }
-
-                        boolean deleted = Files.deleteIfExists(fileToDelete.toPath());
-                        // // 파일 삭제 시도 (여러 방법 시도)
-                        // boolean deleted = false;
-
-                        // // 방법 1: File.delete() 사용
-                        // deleted = fileToDelete.delete();
-
-                        if (!deleted) {
-                                // 방법 2: Files.deleteIfExists() 사용
-                                try {
-                                        deleted = Files.deleteIfExists(fileToDelete.toPath());
-                                        if (deleted) {
-                                                log.info(">>> Files.deleteIfExists()로 파일 삭제 성공 - 절대경로: {}", filePath);
-                                        }
-                                } catch (IOException e) {
-                                        log.warn(">>> Files.deleteIfExists() 실패 - 절대경로: {}, error: {}", filePath,
-                                                        e.getMessage());
-                                }
-                        }
-
-                        if (deleted) {
-                                // 삭제 확인
-                                if (fileToDelete.exists()) {
-                                        log.warn(">>> 파일 삭제 후에도 여전히 존재함 - 절대경로: {}", filePath);
-                                } else {
-                                        log.info(">>> 임시 파일 삭제 성공 - 절대경로: {}, 파일크기: {} bytes", filePath, fileSize);
-                                }
-                        } else {
-                                log.error(">>> 임시 파일 삭제 실패 - 절대경로: {}, 파일크기: {} bytes, canWrite: {}",
-                                                filePath, fileSize, canWrite);
-
-                                // 삭제 실패 원인 분석
-                                if (!canWrite) {
-                                        log.error(">>> 파일 쓰기 권한 없음 - 다른 프로세스에서 사용 중일 수 있음, 절대경로: {}", filePath);
-                                } else {
-                                        log.error(">>> 파일이 쓰기 가능하지만 삭제되지 않음 - 권한 문제일 수 있음, 절대경로: {}", filePath);
-                                }
-                        }
-                } catch (NoSuchFileException e) {
-                        // 파일이 이미 삭제된 경우 (정상)
-                        log.debug(">>> 파일이 이미 존재하지 않음 - 절대경로: {}", filePath);
-                } catch (DirectoryNotEmptyException e) {
-                        log.warn(">>> 디렉토리가 비어있지 않아 삭제할 수 없음 - 절대경로: {}", filePath);
-                } catch (SecurityException e) {
-                        log.error(">>> 임시 파일 정리 중 보안 예외 발생 - 절대경로: {}, error: {}", filePath, e.getMessage(), e);
-                } catch (RuntimeException e) {
-                        log.error(">>> 임시 파일 정리 중 런타임 예외 발생 - 절대경로: {}, error: {}", filePath, e.getMessage(), e);
-                } catch (Exception e) {
-                        log.error(">>> 임시 파일 정리 중 예상치 못한 오류 발생 - 절대경로: {}, error: {}", filePath, e.getMessage(), e);
-                }
+                tempFileManager.release(tempFile.toPath());
         }
 
         /**
@@ -1742,72 +1677,28 @@ public class DataCtlgDataSetServiceImpl implements DataCtlgDataSetService {
                                 }
                         }
 
-                        // 2. 전체 객체 목록 조회
-                        Map<String, Object> allObjects = s3Util.listBucketObjects(bucketName, null, null);
-                        List<Map<String, Object>> objects = (List<Map<String, Object>>) allObjects.get("objects");
+                        // 2. 원본 파일명 인덱스 조회 (페이지 단위 전체 목록 기반, 짧은 TTL 캐시)
+                        S3FileNameIndex.Index fileNameIndex = s3FileNameIndex.get(bucketName);
 
-                        // 3. originalFileName이 있으면 그대로 비교, 없으면 key에서 '__gaf__' 뒤를 즉석 파싱하여 비교 (fallback)
+                        // 3. 입력 파일명별 해시 조회 (key의 '__gaf__' 뒤 원본 파일명, NFC 정규화 비교)
                         List<String> foundKeys = new ArrayList<>();
                         List<String> unmatchedInputFileNames = new ArrayList<>();
-                        if (objects != null) {
-                                log.info(">>> 총 {}개 객체에서 {}개 파일명 검색 중...", objects.size(), targetFileNames.size());
-                                for (Map<String, Object> object : objects) {
-                                        String originalFileName = (String) object.get("originalFileName");
-                                        String key = (String) object.get("key");
-
-                                        // 비교용 후보명: 우선 originalFileName, 없으면 key에서 '__gaf__' 뒤를 파싱, 그것도 없으면 전체 key
-                                        String candidateName = originalFileName;
-                                        if (candidateName == null) {
-                                                if (key != null && key.contains("__gaf__")) {
-                                                        candidateName = key.substring(key.lastIndexOf("__gaf__") + 7);
-                                                } else {
-                                                        candidateName = key; // 최후 fallback
-                                                }
-                                        }
-
-                                        if (candidateName != null) {
-                                                for (String targetFileName : targetFileNames) {
-                                                        String normalizedInput = Normalizer.normalize(targetFileName,
-                                                                        Normalizer.Form.NFC);
-                                                        String normalizedStored = Normalizer.normalize(candidateName,
-                                                                        Normalizer.Form.NFC);
-
-                                                        log.debug("파일명 비교 - 입력: '{}' → 후보: '{}' | 일치 여부: {}",
-                                                                        targetFileName, candidateName,
-                                                                        normalizedStored.equals(normalizedInput));
-
-                                                        if (normalizedStored.equals(normalizedInput)) {
-                                                                log.info(">>> 매칭된 객체 발견 - key: {}, candidateName: {}",
-                                                                                key,
-                                                                                candidateName);
-                                                                foundKeys.add(key);
-                                                                break; // 중복 방지를 위해 break
-                                                        }
-                                                }
+                        Set<String> foundKeySet = new HashSet<>();
+                        for (String targetFileName : targetFileNames) {
+                                List<String> keys = fileNameIndex.findKeys(targetFileName);
+                                if (keys.isEmpty()) {
+                                        unmatchedInputFileNames.add(targetFileName);
+                                        continue;
+                                }
+                                for (String key : keys) {
+                                        if (foundKeySet.add(key)) {
+                                                log.info(">>> 매칭된 객체 발견 - key: {}, fileName: {}", key, targetFileName);
+                                                foundKeys.add(key);
                                         }
                                 }
                         }
 
                         log.info(">>>검색 결과: {}개 객체 발견", foundKeys.size());
-                        // unmatched 계산
-                        for (String inputName : targetFileNames) {
-                                boolean matched = false;
-                                for (String k : foundKeys) {
-                                        String candidate = k;
-                                        if (candidate != null && candidate.contains("__gaf__")) {
-                                                candidate = candidate.substring(candidate.lastIndexOf("__gaf__") + 7);
-                                        }
-                                        String normalizedInput = Normalizer.normalize(inputName, Normalizer.Form.NFC);
-                                        String normalizedStored = Normalizer.normalize(candidate, Normalizer.Form.NFC);
-                                        if (normalizedStored.equals(normalizedInput)) {
-                                                matched = true;
-                                                break;
-                                        }
-                                }
-                                if (!matched) {
-                                        unmatchedInputFileNames.add(inputName);
-                                }
-                        }
 
                         if (foundKeys.isEmpty()) {
                                 log.info(">>> 일치하는 파일명이 없습니다. 빈 임시 버킷을 생성합니다.");
@@ -1840,55 +1731,38 @@ public class DataCtlgDataSetServiceImpl implements DataCtlgDataSetService {
                         Map<String, Object> tempBucketResult = s3Util.createTempBucket("temp-copy");
                         String tempBucketName = (String) tempBucketResult.get("tempBucketName");
 
-                        // 5. 파일들을 S3 copy_object로 직접 복사
+                        // 5. 파일들을 S3 copy_object로 직접 복사 (서버 측 복사를 제한된 동시성으로 병렬 실행)
                         List<Map<String, Object>> copiedFiles = new ArrayList<>();
                         List<String> failedFiles = new ArrayList<>();
 
+                        Semaphore copyPermits = new Semaphore(s3TransferProperties.getCopyParallelism());
+                        List<CompletableFuture<Map<String, Object>>> copyFutures = new ArrayList<>(foundKeys.size());
                         for (String foundKey : foundKeys) {
+                                copyPermits.acquireUninterruptibly();
                                 try {
-                                        log.info(">>> 파일 복사 시작 - sourceKey: {}", foundKey);
-
-                                        // foundKey에서 원본 파일명 추출 (targetKey는 __gaf__ 뒤의 원본 파일명만 사용)
-                                        String originalFileName = foundKey;
-                                        if (foundKey != null && foundKey.contains("__gaf__")) {
-                                                originalFileName = foundKey
-                                                                .substring(foundKey.lastIndexOf("__gaf__") + 7);
-                                        }
-
-                                        // 복사할 대상 키 결정 (__gaf__ 뒤의 원본 파일명만 사용)
-                                        String targetKey = originalFileName;
-
-                                        // S3 copy_object로 직접 복사
-                                        log.info(">>> S3 객체 복사 시작 - sourceBucket: {}, sourceKey: {}, targetBucket: {}, targetKey: {}",
-                                                        bucketName, foundKey, tempBucketName, targetKey);
-
-                                        Map<String, Object> copyResult = s3Util.copyObject(
-                                                        bucketName, foundKey, tempBucketName, targetKey);
-
-                                        // copyObject의 리턴값 전체를 포함
-                                        Map<String, Object> fileResult = new HashMap<>(copyResult);
-                                        fileResult.put("fileName", originalFileName);
-                                        fileResult.put("sourceKey", foundKey);
-                                        fileResult.put("targetKey", targetKey);
-
-                                        copiedFiles.add(fileResult);
-
+                                        copyFutures.add(CompletableFuture.supplyAsync(() -> {
+                                                try {
+                                                        return copyObjectByOriginalName(bucketName, foundKey,
+                                                                        tempBucketName);
+                                                } finally {
+                                                        copyPermits.release();
+                                                }
+                                        }, asyncTaskExecutor));
                                 } catch (RuntimeException e) {
-                                        log.error("파일 복사 실패 (RuntimeException) - foundKey: {}, error: {}", foundKey,
-                                                        e.getMessage(), e);
-                                        String fileName = foundKey;
-                                        if (foundKey != null && foundKey.contains("__gaf__")) {
-                                                fileName = foundKey.substring(foundKey.lastIndexOf("__gaf__") + 7);
-                                        }
-                                        failedFiles.add(fileName);
-                                } catch (Exception e) {
-                                        log.error("파일 복사 실패 (Exception) - foundKey: {}, error: {}", foundKey,
-                                                        e.getMessage(), e);
-                                        String fileName = foundKey;
-                                        if (foundKey != null && foundKey.contains("__gaf__")) {
-                                                fileName = foundKey.substring(foundKey.lastIndexOf("__gaf__") + 7);
-                                        }
-                                        failedFiles.add(fileName);
+                                        copyPermits.release();
+                                        throw e;
+                                }
+                        }
+
+                        for (int i = 0; i < foundKeys.size(); i++) {
+                                String foundKey = foundKeys.get(i);
+                                try {
+                                        copiedFiles.add(copyFutures.get(i).join());
+                                } catch (CompletionException e) {
+                                        Throwable cause = e.getCause() != null ? e.getCause() : e;
+                                        log.error("파일 복사 실패 - foundKey: {}, error: {}", foundKey,
+                                                        cause.getMessage(), cause);
+                                        failedFiles.add(S3FileNameIndex.originalFileName(foundKey));
                                 }
                         }
 
@@ -1963,6 +1837,33 @@ public class DataCtlgDataSetServiceImpl implements DataCtlgDataSetService {
                 }
         }
 
+        /**
+         * 단일 객체를 원본 파일명(__gaf__ 뒤)을 대상 키로 하여 임시 버킷에 복사
+         *
+         * @param bucketName     원본 버킷 이름
+         * @param sourceKey      원본 객체 키
+         * @param tempBucketName 임시 버킷 이름
+         * @return copyObject 결과 + fileName/sourceKey/targetKey
+         */
+        private Map<String, Object> copyObjectByOriginalName(String bucketName, String sourceKey,
+                        String tempBucketName) {
+                // 복사할 대상 키 결정 (__gaf__ 뒤의 원본 파일명만 사용)
+                String originalFileName = S3FileNameIndex.originalFileName(sourceKey);
+                String targetKey = originalFileName;
+
+                log.info(">>> S3 객체 복사 시작 - sourceBucket: {}, sourceKey: {}, targetBucket: {}, targetKey: {}",
+                                bucketName, sourceKey, tempBucketName, targetKey);
+
+                Map<String, Object> copyResult = s3Util.copyObject(bucketName, sourceKey, tempBucketName, targetKey);
+
+                // copyObject의 리턴값 전체를 포함
+                Map<String, Object> fileResult = new HashMap<>(copyResult);
+                fileResult.put("fileName", originalFileName);
+                fileResult.put("sourceKey", sourceKey);
+                fileResult.put("targetKey", targetKey);
+                return fileResult;
+        }
+
         /**
          * 파일명 리스트로부터 훈련 데이터셋 생성 (학습데이터 생성 - 커스텀아닌경우)
          * 
@@ -40,6 +40,7 @@ import com.skax.aiplatform.entity.mapping.GpoAssetPrjMapMas;
 import com.skax.aiplatform.repository.knowledge.GpoKwlgInfoMasRepository;
 import com.skax.aiplatform.repository.mapping.GpoAssetPrjMapMasRepository;
 import com.skax.aiplatform.service.admin.AdminAuthService;
+import com.skax.aiplatform.service.common.AssetVisibilityResolver;
 import com.skax.aiplatform.service.data.DataCtlgExternalKnowledgeService;
 
 import feign.FeignException;
@@ -75,6 +76,7 @@ public class DataCtlgExternalKnowledgeServiceImpl implements DataCtlgExternalKno
     private final UdpDataikuService udpDataikuService;
     private final AdminAuthService adminAuthService;
     private final GpoAssetPrjMapMasRepository assetPrjMapMasRepository;
+    private final AssetVisibilityResolver assetVisibilityResolver;
     private final SktaiAuthService sktaiAuthService;
     private final com.skax.aiplatform.service.model.ModelServingService modelServingService;
 
@@ -192,6 +194,12 @@ public class DataCtlgExternalKnowledgeServiceImpl implements DataCtlgExternalKno
             ExternalRepoListResponse response = sktaiExternalReposService.getExternalRepos(page, size, sort, filter,
                     search);
 
+            // 공개 여부 일괄 조회 (페이지 단위 IN 조회)
+            Map<String, GpoAssetPrjMapMas> assets = response.getData() != null
+                    ? assetVisibilityResolver.findAssets(response.getData().stream()
+                            .map(externalRepo -> "/api/v1/knowledge/repos/" + externalRepo.getId()).toList())
+                    : Map.of();
+
             // 2️⃣ DB에서 추가 정보 조회하여 병합
             if (response.getData() != null && !response.getData().isEmpty()) {
                 for (com.skax.aiplatform.client.sktai.externalKnowledge.dto.response.ExternalRepoInfo repo : response
@@ -202,9 +210,7 @@ public class DataCtlgExternalKnowledgeServiceImpl implements DataCtlgExternalKno
 
                     // 공개 여부 설정 값 가져오기 (거api/v1/knowledge/repos/external 이지만, adxp 가이드 대로 external 제
                     // )
-                    GpoAssetPrjMapMas existing = assetPrjMapMasRepository
-                            .findByAsstUrl("/api/v1/knowledge/repos/" + repo.getId())
-                            .orElse(null);
+                    GpoAssetPrjMapMas existing = assets.get("/api/v1/knowledge/repos/" + repo.getId());
                     String publicStatus;
                     if (existing != null && existing.getLstPrjSeq() != null) {
                         publicStatus = existing.getLstPrjSeq() < 0 ? "전체공유" : "내부공유";
@@ -0,0 +1,362 @@
+package com.skax.aiplatform.service.data.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.skax.aiplatform.common.exception.BusinessException;
+import com.skax.aiplatform.common.exception.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 데이터 카탈로그 학습 데이터 임시 파일 관리자
+ *
+ * <p>
+ * 학습 데이터 생성 흐름에서 S3/SKT AI 로부터 내려받는 임시 파일을 관리합니다.
+ * 요청마다 고유한 하위 디렉토리를 할당하므로 서로 다른 요청이 같은 파일명을 다운로드해도 충돌하지 않으며,
+ * 서비스 전역 락 없이 동시에 전송할 수 있습니다.
+ * </p>
+ *
+ * <ul>
+ * <li>동시 전송 수 제한: {@code data-ctlg.temp-file.max-parallel-transfers}</li>
+ * <li>스트리밍 업로드 사용 여부: {@code data-ctlg.transfer.streaming-upload} (임시 파일 없이 S3 멀티파트로 직접 전송,
+ * 파트 크기/동시성은 {@code s3.transfer.*})</li>
+ * <li>백그라운드 정리: 사용 중이 아닌 파일 중 보관 기간을 넘긴 파일과
+ * 디스크 한도({@code disk-quota-mb})를 넘는 오래된 파일을 삭제</li>
+ * <li>메트릭: {@code data.ctlg.tempfile.transfers.active}, {@code data.ctlg.tempfile.bytes},
+ * {@code data.ctlg.tempfile.disk.usage}, {@code data.ctlg.tempfile.transfer}</li>
+ * </ul>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class DataCtlgTempFileManager {
+
+        /**
+         * 임시 파일 전송 작업
+         *
+         * @param <T> 결과 타입
+         */
+        @FunctionalInterface
+        public interface TransferTask<T> {
+                T run() throws IOException;
+        }
+
+        private final Path baseDir;
+        private final Semaphore transferPermits;
+        private final long transferWaitTimeoutMs;
+        private final Duration maxAge;
+        private final long diskQuotaBytes;
+        private final boolean streamingUpload;
+
+        /**
+         * 사용 중인 요청 디렉토리 (정리 대상에서 제외)
+         */
+        private final Set<Path> inUse = ConcurrentHashMap.newKeySet();
+
+        private final AtomicInteger activeTransfers = new AtomicInteger();
+        private final AtomicLong diskUsageBytes = new AtomicLong();
+        private final Counter bytesCounter;
+        private final Counter cleanupCounter;
+        private final Timer transferTimer;
+
+        public DataCtlgTempFileManager(
+                        MeterRegistry meterRegistry,
+                        @Value("${data-ctlg.temp-file.base-dir:shbdat/finetuning/tempfiles}") String baseDir,
+                        @Value("${data-ctlg.temp-file.max-parallel-transfers:4}") int maxParallelTransfers,
+                        @Value("${data-ctlg.temp-file.transfer-wait-timeout-ms:300000}") long transferWaitTimeoutMs,
+                        @Value("${data-ctlg.temp-file.max-age-minutes:360}") long maxAgeMinutes,
+                        @Value("${data-ctlg.temp-file.disk-quota-mb:20480}") long diskQuotaMb,
+                        @Value("${data-ctlg.transfer.streaming-upload:true}") boolean streamingUpload) {
+                this.baseDir = Paths.get(baseDir).toAbsolutePath().normalize();
+                this.transferPermits = new Semaphore(maxParallelTransfers, true);
+                this.transferWaitTimeoutMs = transferWaitTimeoutMs;
+                this.maxAge = Duration.ofMinutes(maxAgeMinutes);
+                this.diskQuotaBytes = diskQuotaMb * 1024 * 1024;
+                this.streamingUpload = streamingUpload;
+
+                Gauge.builder("data.ctlg.tempfile.transfers.active", activeTransfers, AtomicInteger::get)
+                                .description("진행 중인 임시 파일 전송 수")
+                                .register(meterRegistry);
+                Gauge.builder("data.ctlg.tempfile.disk.usage", diskUsageBytes, AtomicLong::get)
+                                .description("임시 파일 디렉토리 사용량 (마지막 정리 시점)")
+                                .baseUnit("bytes")
+                                .register(meterRegistry);
+                this.bytesCounter = Counter.builder("data.ctlg.tempfile.bytes")
+                                .description("임시 파일로 전송된 누적 바이트")
+                                .baseUnit("bytes")
+                                .register(meterRegistry);
+                this.cleanupCounter = Counter.builder("data.ctlg.tempfile.cleanup.deleted")
+                                .description("백그라운드 정리로 삭제된 임시 파일/디렉토리 수")
+                                .register(meterRegistry);
+                this.transferTimer = Timer.builder("data.ctlg.tempfile.transfer")
+                                .description("임시 파일 전송 소요 시간")
+                                .register(meterRegistry);
+
+                log.info(">>> 임시 파일 관리자 초기화 - baseDir: {}, maxParallelTransfers: {}, maxAge: {}, diskQuota: {} MB, streamingUpload: {}",
+                                this.baseDir, maxParallelTransfers, maxAge, diskQuotaMb, streamingUpload);
+        }
+
+        /**
+         * 임시 파일 없이 원본 스트림을 S3로 바로 업로드할지 여부
+         *
+         * @return 스트리밍 업로드 사용 여부
+         */
+        public boolean isStreamingUpload() {
+                return streamingUpload;
+        }
+
+        /**
+         * 요청 전용 임시 파일 경로 할당
+         *
+         * <p>
+         * 요청마다 고유한 하위 디렉토리를 생성하고 그 안의 파일 경로를 반환합니다.
+         * 반환된 경로는 {@link #release(Path)} 호출 전까지 백그라운드 정리 대상에서 제외됩니다.
+         * </p>
+         *
+         * @param fileName 파일명 (경로 구분자는 제거됨)
+         * @return 임시 파일 경로 (파일은 아직 생성되지 않음)
+         */
+        public Path allocate(String fileName) {
+                Path requestDir = baseDir.resolve(UUID.randomUUID().toString());
+                // 디렉토리 생성 전에 등록하여 백그라운드 정리와 경합하지 않도록 함
+                inUse.add(requestDir);
+                try {
+                        Files.createDirectories(requestDir);
+                } catch (IOException e) {
+                        inUse.remove(requestDir);
+                        log.error(">>> 임시 디렉토리 생성 실패: {}, error: {}", requestDir, e.getMessage(), e);
+                        throw new BusinessException(
+                                        ErrorCode.EXTERNAL_API_ERROR,
+                                        "임시 디렉토리 생성에 실패했습니다: " + e.getMessage());
+                }
+                return requestDir.resolve(safeFileName(fileName));
+        }
+
+        /**
+         * 동시 전송 수 제한 하에서 전송 작업 실행
+         *
+         * @param label 로그용 전송 식별자
+         * @param task  전송 작업
+         * @param <T>   결과 타입
+         * @return 전송 작업 결과
+         * @throws IOException 전송 작업 입출력 오류
+         */
+        public <T> T transfer(String label, TransferTask<T> task) throws IOException {
+                boolean acquired;
+                try {
+                        acquired = transferPermits.tryAcquire(transferWaitTimeoutMs, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE, "임시 파일 전송 대기 중 인터럽트되었습니다.");
+                }
+                if (!acquired) {
+                        log.warn(">>> 임시 파일 전송 대기 시간 초과 - label: {}, waitMs: {}", label, transferWaitTimeoutMs);
+                        throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS,
+                                        "동시에 처리 중인 파일 전송이 많습니다. 잠시 후 다시 시도해주세요.");
+                }
+
+                activeTransfers.incrementAndGet();
+                long startNanos = System.nanoTime();
+                try {
+                        return task.run();
+                } finally {
+                        transferTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                        activeTransfers.decrementAndGet();
+                        transferPermits.release();
+                }
+        }
+
+        /**
+         * 전송된 바이트 수 기록
+         *
+         * @param bytes 바이트 수
+         */
+        public void recordBytes(long bytes) {
+                if (bytes > 0) {
+                        bytesCounter.increment(bytes);
+                }
+        }
+
+        /**
+         * 임시 파일 반환 (파일과 요청 디렉토리 삭제)
+         *
+         * @param file {@link #allocate(String)} 로 할당받은 파일 경로
+         */
+        public void release(Path file) {
+                if (file == null) {
+                        return;
+                }
+
+                Path normalized = file.toAbsolutePath().normalize();
+                if (!normalized.startsWith(baseDir) || normalized.equals(baseDir)) {
+                        log.error(">>> 보안 위험: 삭제하려는 파일 경로가 임시 디렉토리 밖입니다 - tempDir: {}, filePath: {}",
+                                        baseDir, normalized);
+                        return;
+                }
+
+                // baseDir 바로 아래의 요청 디렉토리 단위로 삭제
+                Path requestDir = baseDir.resolve(baseDir.relativize(normalized).getName(0));
+                try {
+                        deleteRecursively(requestDir);
+                        log.info(">>> 임시 파일 삭제 완료 - 절대경로: {}", normalized);
+                } catch (IOException | UncheckedIOException e) {
+                        log.warn(">>> 임시 파일 삭제 실패 (백그라운드 정리 대상) - 절대경로: {}, error: {}", normalized,
+                                        e.getMessage());
+                } finally {
+                        inUse.remove(requestDir);
+                }
+        }
+
+        /**
+         * 오래된 임시 파일 및 디스크 한도 초과분 정리
+         */
+        @Scheduled(fixedDelayString = "${data-ctlg.temp-file.cleanup-interval-ms:600000}",
+                        initialDelayString = "${data-ctlg.temp-file.cleanup-interval-ms:600000}")
+        public void cleanup() {
+                if (!Files.isDirectory(baseDir)) {
+                        diskUsageBytes.set(0);
+                        return;
+                }
+
+                record Entry(Path path, long lastModified, long size) {
+                }
+
+                List<Entry> entries = new ArrayList<>();
+                try (DirectoryStream<Path> stream = Files.newDirectoryStream(baseDir)) {
+                        for (Path path : stream) {
+                                try {
+                                        entries.add(new Entry(path, Files.getLastModifiedTime(path).toMillis(), sizeOf(path)));
+                                } catch (IOException | UncheckedIOException e) {
+                                        log.debug(">>> 임시 파일 정보 조회 실패 - path: {}, error: {}", path, e.getMessage());
+                                }
+                        }
+                } catch (IOException e) {
+                        log.warn(">>> 임시 디렉토리 조회 실패 - baseDir: {}, error: {}", baseDir, e.getMessage());
+                        return;
+                }
+
+                long totalBytes = entries.stream().mapToLong(Entry::size).sum();
+                long expireBefore = System.currentTimeMillis() - maxAge.toMillis();
+                entries.sort(Comparator.comparingLong(Entry::lastModified));
+
+                int deletedCount = 0;
+                for (Entry entry : entries) {
+                        if (inUse.contains(entry.path())) {
+                                continue;
+                        }
+                        boolean expired = entry.lastModified() < expireBefore;
+                        boolean overQuota = totalBytes > diskQuotaBytes;
+                        if (!expired && !overQuota) {
+                                // 오래된 순으로 정렬되어 있으므로 이후 항목도 정리 대상 아님
+                                break;
+                        }
+                        try {
+                                deleteRecursively(entry.path());
+                                totalBytes -= entry.size();
+                                deletedCount++;
+                                cleanupCounter.increment();
+                        } catch (IOException | UncheckedIOException e) {
+                                log.warn(">>> 임시 파일 정리 실패 - path: {}, error: {}", entry.path(), e.getMessage());
+                        }
+                }
+
+                diskUsageBytes.set(totalBytes);
+                if (deletedCount > 0) {
+                        log.info(">>> 임시 파일 정리 완료 - 삭제: {}건, 사용량: {} bytes", deletedCount, totalBytes);
+                }
+                if (totalBytes > diskQuotaBytes) {
+                        log.warn(">>> 임시 파일 디스크 한도 초과 (사용 중인 파일 제외 불가) - 사용량: {} bytes, 한도: {} bytes",
+                                        totalBytes, diskQuotaBytes);
+                }
+        }
+
+        private static String safeFileName(String fileName) {
+                if (fileName == null || fileName.isBlank()) {
+                        return "file";
+                }
+                String name = fileName.replace('\\', '/');
+                name = name.substring(name.lastIndexOf('/') + 1);
+                if (name.isBlank() || ".".equals(name) || "..".equals(name)) {
+                        return "file";
+                }
+                return name;
+        }
+
+        private static long sizeOf(Path path) throws IOException {
+                if (!Files.isDirectory(path)) {
+                        return Files.size(path);
+                }
+                AtomicLong size = new AtomicLong();
+                Files.walkFileTree(path, new SimpleFileVisitor<>() {
+                        @Override
+                        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                                size.addAndGet(attrs.size());
+                                return FileVisitResult.CONTINUE;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                                return FileVisitResult.CONTINUE;
+                        }
+                });
+                return size.get();
+        }
+
+        private static void deleteRecursively(Path path) throws IOException {
+                if (!Files.exists(path)) {
+                        return;
+                }
+                Files.walkFileTree(path, new SimpleFileVisitor<>() {
+                        @Override
+                        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                                Files.deleteIfExists(file);
+                                return FileVisitResult.CONTINUE;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
+                                if (exc instanceof NoSuchFileException) {
+                                        return FileVisitResult.CONTINUE;
+                                }
+                                throw exc;
+                        }
+
+                        @Override
+                        public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+                                Files.deleteIfExists(dir);
+                                return FileVisitResult.CONTINUE;
+                        }
+                });
+        }
+}
@@ -3,6 +3,7 @@ package com.skax.aiplatform.service.deploy;
 import java.util.List;
 import java.util.Map;
 
+import com.skax.aiplatform.client.sktai.agentgateway.service.AgentEventStream;
 import com.skax.aiplatform.client.sktai.auth.dto.request.PolicyRequest;
 import com.skax.aiplatform.common.response.PageResponse;
 import com.skax.aiplatform.dto.deploy.request.AgentSysLogSearchReq;
@@ -181,15 +182,17 @@ public interface AgentDeployService {
     AgentServingRes getAgentServing(String agentServingId); 
 
     /**
-     * Agent 스트리밍 추론 (Raw SSE)
+     * Agent 스트리밍 추론 (증분 SSE 중계)
+     * 
+     * <p>업스트림 스트리밍 연결을 열어 반환합니다. 호출 측은 이벤트를 수신 즉시 중계하고 사용 후 닫아야 합니다.</p>
      * 
      * @param agentId Agent 식별자
      * @param routerPath 라우터 경로 (선택사항)
      * @param request 스트리밍 요청 정보
      * @param authorization SKTAI API 인증 헤더
-     * @return Raw SSE 응답 문자열
+     * @return 열린 스트리밍 응답
      */
-    String getStreamAgentRaw(String agentId, String routerPath, StreamReq request, String authorization);
+    AgentEventStream openStreamAgent(String agentId, String routerPath, StreamReq request, String authorization);
 
     /**
      * Agent 클러스터 리소스 조회
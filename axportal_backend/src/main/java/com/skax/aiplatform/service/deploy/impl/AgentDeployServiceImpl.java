@@ -2,6 +2,7 @@ package com.skax.aiplatform.service.deploy.impl;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
@@ -28,6 +29,7 @@ import com.skax.aiplatform.client.sktai.agent.dto.response.GraphResponse;
 import com.skax.aiplatform.client.sktai.agent.service.SktaiAgentAppsService;
 import com.skax.aiplatform.client.sktai.agent.service.SktaiAgentGraphsService;
 import com.skax.aiplatform.client.sktai.agentgateway.dto.request.StreamRequest;
+import com.skax.aiplatform.client.sktai.agentgateway.service.AgentEventStream;
 import com.skax.aiplatform.client.sktai.agentgateway.service.SktaiAgentGatewayService;
 import com.skax.aiplatform.client.sktai.auth.dto.request.PolicyRequest;
 import com.skax.aiplatform.client.sktai.auth.service.SktaiAuthService;
@@ -62,9 +64,9 @@ import com.skax.aiplatform.entity.mapping.GpoAssetPrjMapMas;
 import com.skax.aiplatform.entity.project.Project;
 import com.skax.aiplatform.mapper.deploy.AgentDeployMapper;
 import com.skax.aiplatform.repository.admin.ProjectMgmtRepository;
-import com.skax.aiplatform.repository.deploy.GpoMigMasRepository;
 import com.skax.aiplatform.repository.mapping.GpoAssetPrjMapMasRepository;
 import com.skax.aiplatform.service.admin.AdminAuthService;
+import com.skax.aiplatform.service.common.AssetVisibilityResolver;
 import com.skax.aiplatform.service.common.MigService;
 import com.skax.aiplatform.service.deploy.AgentDeployService;
 import com.skax.aiplatform.service.deploy.ApiGwService;
@@ -104,8 +106,8 @@ public class AgentDeployServiceImpl implements AgentDeployService {
     private final MigService migService;
 
     private final GpoAssetPrjMapMasRepository assetPrjMapMasRepository;
+    private final AssetVisibilityResolver assetVisibilityResolver;
     private final ProjectMgmtRepository projectMgmtRepository;
-    private final GpoMigMasRepository gpoMigMasRepository;
 
     /**
      * Agent App(배포) 목록 조회
@@ -126,6 +128,10 @@ public class AgentDeployServiceImpl implements AgentDeployService {
             // Mapper를 통해 AppsResponse를 AgentAppRes 리스트로 변환
             List<AgentAppRes> appList = agentDeployMapper.toDeployResListFromApps(response.getData());
             
+            // 공개 여부 일괄 조회 (페이지 단위 IN 조회)
+            Map<String, GpoAssetPrjMapMas> assets = assetVisibilityResolver.findAssets(appList.stream()
+                    .map(agentApp -> "/api/v1/agent/agents/apps/" + agentApp.getId()).toList());
+
             // 각 앱의 targetId로 그래프 정보를 조회하여 builderName 설정 및 마이그레이션 여부 확인
             for (AgentAppRes app : appList) {
                 // builderName 설정
@@ -169,7 +175,7 @@ public class AgentDeployServiceImpl implements AgentDeployService {
                 }
 
                 // 공개 여부 설정 (lst_prj_seq 값에 따라)
-                GpoAssetPrjMapMas existing = assetPrjMapMasRepository.findByAsstUrl("/api/v1/agent/agents/apps/" + app.getId()).orElse(null);
+                GpoAssetPrjMapMas existing = assets.get("/api/v1/agent/agents/apps/" + app.getId());
                 String publicStatus = null;
                 if (existing != null && existing.getLstPrjSeq() != null) {
                     // 음수면 "전체공유", 양수면 "내부공유"
@@ -283,11 +289,10 @@ public class AgentDeployServiceImpl implements AgentDeployService {
             // Mapper를 통해 AppDeploymentsResponse를 AgentDeployRes 리스트로 변환
             List<AgentDeployRes> deployResList = agentDeployMapper.toDeployResListFromAppDeployments(response);
             
-            // 각 배포에 대해 운영 이행 활성 여부 설정
-            deployResList.forEach(deploy -> {
-                boolean isMigration = gpoMigMasRepository.findByPgmDescCtnt(deploy.getId()).isPresent();
-                deploy.setIsMigration(isMigration);
-            });
+            // 각 배포에 대해 운영 이행 활성 여부 설정 (페이지 단위 IN 조회)
+            Set<String> migratedIds = assetVisibilityResolver.findMigratedIds(deployResList.stream()
+                    .map(AgentDeployRes::getId).toList());
+            deployResList.forEach(deploy -> deploy.setIsMigration(migratedIds.contains(deploy.getId())));
             
             log.debug("매핑된 배포 목록: {}", deployResList);
 
@@ -878,86 +883,91 @@ public class AgentDeployServiceImpl implements AgentDeployService {
     }
 
     @Override
-    public String getStreamAgentRaw(String agentId, String routerPath, StreamReq request, String authorization) {
+    public AgentEventStream openStreamAgent(String agentId, String routerPath, StreamReq request, String authorization) {
         authorization = "Bearer " + authorization;
         try {
-            // 배포 정보에서 graph_id 추출하여 그래프 업데이트
-            AgentAppRes appInfo = getAgentAppById(agentId);
-            String graphId = appInfo.getTargetId();
+            StreamRequest req = prepareStreamRequest(agentId, request);
+
+            // 업스트림 연결만 열고, 이벤트는 호출 측에서 수신 즉시 중계
+            return sktaiAgentGatewayService.openAgentStream(authorization, agentId, req, routerPath);
+        } catch (FeignException e) {
+            throw new BusinessException(ErrorCode.EXTERNAL_SERVICE_ERROR, 
+                    "Agent App 스트리밍에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 스트리밍 요청 준비 (배포 그래프의 guardrails_prompt 보정 후 요청 변환)
+     */
+    private StreamRequest prepareStreamRequest(String agentId, StreamReq request) {
+        // 배포 정보에서 graph_id 추출하여 그래프 업데이트
+        AgentAppRes appInfo = getAgentAppById(agentId);
+        String graphId = appInfo.getTargetId();
+        
+        if (graphId != null && !graphId.trim().isEmpty()) {
             
-            if (graphId != null && !graphId.trim().isEmpty()) {
+            // 그래프 데이터를 직접 조회
+            GraphResponse graphResponse = sktaiAgentGraphsService.getGraph(graphId);
+            if (graphResponse != null && graphResponse.getNodes() != null) {
+                boolean hasChanges = false;
+                List<Object> nodeObjects = graphResponse.getNodes();
                 
-                // 그래프 데이터를 직접 조회
-                GraphResponse graphResponse = sktaiAgentGraphsService.getGraph(graphId);
-                if (graphResponse != null && graphResponse.getNodes() != null) {
-                    boolean hasChanges = false;
-                    List<Object> nodeObjects = graphResponse.getNodes();
-                    
-                    for (Object nodeObj : nodeObjects) {
-                        if (nodeObj instanceof Map) {
+                for (Object nodeObj : nodeObjects) {
+                    if (nodeObj instanceof Map) {
+                        @SuppressWarnings("unchecked")
+                        Map<String, Object> node = (Map<String, Object>) nodeObj;
+                        String nodeType = (String) node.get("type");
+                        
+                        if ("agent__generator".equals(nodeType)) {
                             @SuppressWarnings("unchecked")
-                            Map<String, Object> node = (Map<String, Object>) nodeObj;
-                            String nodeType = (String) node.get("type");
-                            
-                            if ("agent__generator".equals(nodeType)) {
-                                @SuppressWarnings("unchecked")
-                                Map<String, Object> nodeData = (Map<String, Object>) node.get("data");
-                                if (nodeData != null) {
-                                    Object guardrailsPrompt = nodeData.get("guardrails_prompt");
+                            Map<String, Object> nodeData = (Map<String, Object>) node.get("data");
+                            if (nodeData != null) {
+                                Object guardrailsPrompt = nodeData.get("guardrails_prompt");
+                                
+                                if (guardrailsPrompt instanceof Map) {
+                                    @SuppressWarnings("unchecked")
+                                    Map<String, Object> promptMap = (Map<String, Object>) guardrailsPrompt;
                                     
-                                    if (guardrailsPrompt instanceof Map) {
-                                        @SuppressWarnings("unchecked")
-                                        Map<String, Object> promptMap = (Map<String, Object>) guardrailsPrompt;
-                                        
-                                        // messages와 variables를 빈 배열로 초기화
-                                        if (promptMap.get("messages") == null) {
-                                            promptMap.put("messages", new java.util.ArrayList<>());
-                                            hasChanges = true;
-                                        }
-                                        if (promptMap.get("variables") == null) {
-                                            promptMap.put("variables", new java.util.ArrayList<>());
-                                            hasChanges = true;
-                                        }
-                                    } else if (guardrailsPrompt == null) {
-                                        // Few-shot이 없으면 null로 두고 넘어감 (모델만으로 진행)
-                                        log.info("✅ 노드 {}에 Few-shot이 없음 - 모델만으로 진행", node.get("id"));
+                                    // messages와 variables를 빈 배열로 초기화
+                                    if (promptMap.get("messages") == null) {
+                                        promptMap.put("messages", new java.util.ArrayList<>());
+                                        hasChanges = true;
+                                    }
+                                    if (promptMap.get("variables") == null) {
+                                        promptMap.put("variables", new java.util.ArrayList<>());
+                                        hasChanges = true;
                                     }
+                                } else if (guardrailsPrompt == null) {
+                                    // Few-shot이 없으면 null로 두고 넘어감 (모델만으로 진행)
+                                    log.info("✅ 노드 {}에 Few-shot이 없음 - 모델만으로 진행", node.get("id"));
                                 }
                             }
                         }
                     }
-                    
-                    // 변경사항이 있으면 그래프 업데이트
-                    if (hasChanges) {
-                        try {
-                            @SuppressWarnings("unchecked")
-                            com.skax.aiplatform.client.sktai.agent.dto.request.GraphUpdateRequest updateRequest = 
-                                com.skax.aiplatform.client.sktai.agent.dto.request.GraphUpdateRequest.builder()
-                                    .nodes((List<Object>) (List<?>) nodeObjects)
-                                    .edges((List<Object>) (List<?>) graphResponse.getEdges())
-                                    .build();
-                            
-                            sktaiAgentGraphsService.updateGraph(graphId, updateRequest);
-
-                        } catch (FeignException updateEx) {
-                            log.warn("⚠️ 그래프 업데이트 실패 (계속 진행): {}", updateEx.getMessage());
-                        }
-                    } else {
-                        log.info("✅ 변경사항 없음 - 그래프 업데이트 건너뜀");
+                }
+                
+                // 변경사항이 있으면 그래프 업데이트
+                if (hasChanges) {
+                    try {
+                        @SuppressWarnings("unchecked")
+                        com.skax.aiplatform.client.sktai.agent.dto.request.GraphUpdateRequest updateRequest = 
+                            com.skax.aiplatform.client.sktai.agent.dto.request.GraphUpdateRequest.builder()
+                                .nodes((List<Object>) (List<?>) nodeObjects)
+                                .edges((List<Object>) (List<?>) graphResponse.getEdges())
+                                .build();
+                        
+                        sktaiAgentGraphsService.updateGraph(graphId, updateRequest);
+
+                    } catch (FeignException updateEx) {
+                        log.warn("⚠️ 그래프 업데이트 실패 (계속 진행): {}", updateEx.getMessage());
                     }
+                } else {
+                    log.info("✅ 변경사항 없음 - 그래프 업데이트 건너뜀");
                 }
             }
-
-            StreamRequest req = agentDeployMapper.toStreamReq(request);
-
-            // Raw SSE 응답을 그대로 반환
-            String rawResponse = sktaiAgentGatewayService.streamAgentRaw(authorization, agentId, req, routerPath);
-            
-            return rawResponse;
-        } catch (FeignException e) {
-            throw new BusinessException(ErrorCode.EXTERNAL_SERVICE_ERROR, 
-                    "Agent App 스트리밍에 실패했습니다: " + e.getMessage());
         }
+
+        return agentDeployMapper.toStreamReq(request);
     }
 
     @Override
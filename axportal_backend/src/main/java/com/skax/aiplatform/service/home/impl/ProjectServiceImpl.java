@@ -49,6 +49,8 @@ import com.skax.aiplatform.repository.home.GpoProjectsRepository;
 import com.skax.aiplatform.repository.home.GpoRolesRepository;
 import com.skax.aiplatform.repository.home.GpoUsersRepository;
 import com.skax.aiplatform.service.admin.AdminAuthService;
+import com.skax.aiplatform.service.common.PortalAuthorizationIndex;
+import com.skax.aiplatform.service.common.ProjectMembershipCache;
 import com.skax.aiplatform.service.home.ProjectService;
 
 import lombok.AllArgsConstructor;
@@ -65,6 +67,8 @@ public class ProjectServiceImpl implements ProjectService {
 
     private final GpoUsersRepository gpoUsersRepository;
     private final GpoPrjuserroleRepository gpoPrjuserroleRepository;
+    private final ProjectMembershipCache projectMembershipCache;
+    private final PortalAuthorizationIndex portalAuthorizationIndex;
     private final GpoProjectsRepository gpoProjectsRepository;
     private final GpoRolesRepository gpoRolesRepository;
 
@@ -129,6 +133,7 @@ public class ProjectServiceImpl implements ProjectService {
                 .role(adminRole)
                 .build();
         gpoPrjuserroleRepository.save(newRow);
+        projectMembershipCache.evict(projBaseInfoCreateReq.getUsername());
 
         // 프로젝트 생성자에게 ADXP 관리자 권한 부여
         adminAuthService.assignUserToGroup(projBaseInfoCreateReq.getUsername(), adminGroupNm);
@@ -222,6 +227,7 @@ public class ProjectServiceImpl implements ProjectService {
                         .role(testRole)
                         .build();
                 gpoPrjuserroleRepository.save(newDev);
+                projectMembershipCache.evict(memberId);
 
                 // 프로젝트 참여자에게 ADXP 테스터 권한 부여
                 adminAuthService.assignUserToGroup(dev.getMemberId(), testGroupNm);
@@ -310,6 +316,7 @@ public class ProjectServiceImpl implements ProjectService {
                 .role(isPortalAdmin ? adminRole : testRole)
                 .build();
         gpoPrjuserroleRepository.save(newRow);
+        projectMembershipCache.evict(user.getMemberId());
 
         // 프로젝트 참여자에게 ADXP 테스터 권한 부여
         String projectSeq = String.valueOf(project.getPrjSeq());
@@ -371,10 +378,12 @@ public class ProjectServiceImpl implements ProjectService {
 
             // 1. 역할-권한 매핑 정보 삭제
             gpoRoleAuthMapMasRepository.deleteByRolePrjSeq(prjSeq);
+            portalAuthorizationIndex.evictAll();
             log.info("역할-권한 매핑 정보 삭제 완료: prjSeq={}", prjSeq);
 
             // 2. 프로젝트-사용자-역할 매핑 정보 삭제
             projectUserRoleRepository.deleteByPrjSeq(prjSeq);
+            projectMembershipCache.evictAll();
             log.info("프로젝트 구성원 매핑 정보 삭제 완료: prjSeq={}", prjSeq);
 
             // 3. 프로젝트 역할 정보 삭제
@@ -435,6 +444,7 @@ public class ProjectServiceImpl implements ProjectService {
 
         gpoPrjuserroleRepository.findByMemberIdAndPrjSeq(memberId, projectId).ifPresent((projectUserRole) -> {
             gpoPrjuserroleRepository.delete(projectUserRole);
+            projectMembershipCache.evict(memberId);
 
             String projectSeq = String.valueOf(projectUserRole.getProject().getPrjSeq());
             String roleSeq = String.valueOf(projectUserRole.getRole().getRoleSeq());
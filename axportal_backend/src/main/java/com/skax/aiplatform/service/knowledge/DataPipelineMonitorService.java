@@ -6,9 +6,12 @@ import java.util.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.skax.aiplatform.client.udp.dataiku.UdpDataikuClient;
 import com.skax.aiplatform.client.udp.dataiku.config.UdpDataikuProperties;
 import com.skax.aiplatform.client.udp.elasticsearch.UdpElasticsearchClient;
+import com.skax.aiplatform.client.udp.elasticsearch.dto.response.MultiSearchResponse;
 import com.skax.aiplatform.client.udp.elasticsearch.dto.response.SearchResponse;
 import com.skax.aiplatform.common.exception.BusinessException;
 import com.skax.aiplatform.entity.knowledge.GpoKwlgInfoMas;
@@ -41,6 +44,8 @@ public class DataPipelineMonitorService {
     private final UdpElasticsearchClient udpElasticsearchClient;
     private final UdpDataikuClient udpDataikuClient;
     private final UdpDataikuProperties udpDataikuProperties;
+    private final DataPipelineStatusWriter dataPipelineStatusWriter;
+    private final ObjectMapper objectMapper;
 
     @Value("${udp.api.auth.authrization-bearer-token:}")
     private String authorizationBearerToken;
@@ -51,6 +56,9 @@ public class DataPipelineMonitorService {
     @Value("${spring.profiles.active:elocal}")
     private String activeProfile;
 
+    @Value("${datapipeline.monitor.msearch-batch-size:100}")
+    private int msearchBatchSize;
+
     //private final String STOPPED = "STOPPED";
     private final String STARTED = "STARTED";
 
@@ -58,10 +66,11 @@ public class DataPipelineMonitorService {
      * 실행 중인 Data Pipeline 상태 모니터링 및 업데이트
      *
      * <p>data_pipeline_load_status = 'running'인 항목들을 조회하여
-     * 각각의 실행 상태를 확인하고 DB를 업데이트합니다.</p>
+     * 상태 인덱스 조회를 _msearch 로 묶어 실행하고, 상태가 바뀐 항목만 한 번의 JDBC batch 로 저장합니다.</p>
+     *
+     * @return 상태가 갱신된 파이프라인 수
      */
-    @Transactional
-    public void monitorAndUpdatePipelineStatus() {
+    public int monitorAndUpdatePipelineStatus() {
 //        log.info("[Data Pipeline Monitor] 모니터링 시작");
 
         // 1. DB에서 실행 중인 파이프라인 목록 조회 (status = 'running')
@@ -70,176 +79,169 @@ public class DataPipelineMonitorService {
 
 //        log.info("[Data Pipeline Monitor] 실행 중인 파이프라인 개수: {}", runningPipelines.size());
 
-        // 2. 각 파이프라인의 상태 확인 및 업데이트
-        int successCount = 0;
+        List<String> indexNames = runningPipelines.stream()
+                .map(GpoKwlgInfoMas::getIdxNm)
+                .filter(indexName -> indexName != null && !indexName.isEmpty())
+                .distinct()
+                .toList();
+        if (indexNames.isEmpty()) {
+            return 0;
+        }
+
+        // 2. 인덱스명별 상태 문서 일괄 조회 (조회 실패한 인덱스는 결과에서 제외되어 이번 주기에서 skip)
+        Map<String, List<Map<String, Object>>> statusDocumentsByIndex = queryStatusesFromElasticsearch(indexNames);
+
+        // 3. 각 파이프라인의 상태 판단 (변경된 항목만 수집)
+        List<DataPipelineStatusWriter.StatusChange> changes = new ArrayList<>();
         int failCount = 0;
 
         for (GpoKwlgInfoMas pipeline : runningPipelines) {
+            List<Map<String, Object>> statusDocuments = statusDocumentsByIndex.get(pipeline.getIdxNm());
+            if (statusDocuments == null || statusDocuments.isEmpty()) {
+                continue;
+            }
             try {
-                updatePipelineStatus(pipeline);
-                successCount++;
-
-            } catch (BusinessException e) {
-                log.error("[Data Pipeline Monitor] 파이프라인 상태 업데이트 실패 (BusinessException) - " +
-                                "실행ID: {}, 에러: {}",
-                        pipeline.getDataPipelineExeId(), e.getMessage(), e);
-                failCount++;
-            } catch (FeignException e) {
-                log.error("[Data Pipeline Monitor] 파이프라인 상태 업데이트 실패 (FeignException) - " +
-                                "실행ID: {}, 상태코드: {}, 에러: {}",
-                        pipeline.getDataPipelineExeId(), e.status(), e.getMessage(), e);
-                failCount++;
+                DataPipelineStatusWriter.StatusChange change = resolveStatusChange(pipeline, statusDocuments);
+                if (change != null) {
+                    changes.add(change);
+                }
             } catch (RuntimeException e) {
-                log.error("[Data Pipeline Monitor] 파이프라인 상태 업데이트 실패 (RuntimeException) - " +
-                                "실행ID: {}, 에러: {}",
-                        pipeline.getDataPipelineExeId(), e.getMessage(), e);
-                failCount++;
-            } catch (Exception e) {
-                log.error("[Data Pipeline Monitor] 파이프라인 상태 업데이트 실패 (Exception) - " +
+                log.error("[Data Pipeline Monitor] 파이프라인 상태 판단 실패 (RuntimeException) - " +
                                 "실행ID: {}, 에러: {}",
                         pipeline.getDataPipelineExeId(), e.getMessage(), e);
                 failCount++;
             }
         }
 
-        log.debug("[Data Pipeline Monitor] 모니터링 완료 - 성공: {}, 실패: {}",
-                successCount, failCount);
+        // 4. 변경분 일괄 저장
+        int updatedCount = dataPipelineStatusWriter.write(changes);
+
+        log.debug("[Data Pipeline Monitor] 모니터링 완료 - 대상: {}, 변경: {}, 갱신: {}, 실패: {}",
+                runningPipelines.size(), changes.size(), updatedCount, failCount);
+        return updatedCount;
     }
 
     /**
-     * 개별 파이프라인 상태 업데이트
+     * 개별 파이프라인 상태 판단
      *
-     * <p>Elasticsearch에서 index_name으로 상태 정보를 조회하고 DB를 업데이트합니다.</p>
+     * <p>조회된 상태 문서들로 최종 상태/진행률을 계산하고, 현재 값과 다를 때만 변경분을 반환합니다.</p>
      *
-     * @param pipeline 업데이트할 파이프라인 정보
+     * @param pipeline        파이프라인 정보
+     * @param statusDocuments 상태 인덱스 조회 결과
+     * @return 상태 변경분 (변경 사항이 없으면 null)
      */
-    private void updatePipelineStatus(GpoKwlgInfoMas pipeline) {
-        String indexName = pipeline.getIdxNm();
+    private DataPipelineStatusWriter.StatusChange resolveStatusChange(GpoKwlgInfoMas pipeline,
+            List<Map<String, Object>> statusDocuments) {
+        // 1. 조회된 문서들에서 status와 rate 추출
+        List<String> statuses = new ArrayList<>();
+        List<String> rates = new ArrayList<>();
+
+        for (Map<String, Object> doc : statusDocuments) {
+            Object sourceObj = doc.get("_source");
+            if (sourceObj instanceof Map) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> source = (Map<String, Object>) sourceObj;
 
-        if (indexName == null || indexName.isEmpty()) {
-//            log.warn("[Data Pipeline Monitor] Skip - 인덱스명 없음, 지식ID: {}", pipeline.getKwlgId());
-            return;
+                Object statusObj = source.get("status");
+                if (statusObj != null) {
+                    statuses.add(String.valueOf(statusObj));
+                }
+
+                Object rateObj = source.get("rate");
+                if (rateObj != null) {
+                    rates.add(String.valueOf(rateObj));
+                }
+            }
         }
 
-        try {
-            // 1. Elasticsearch에서 index_name으로 조회
-            List<Map<String, Object>> statusDocuments = queryStatusFromElasticsearch(indexName);
+        // 2. 상태 판단
+        String finalStatus = determineStatusFromList(statuses);
+        BigDecimal currentProgress = pipeline.getDbLoadJinhgRt();
+        BigDecimal finalProgress = determineProgress(statuses, rates, currentProgress);
+        // error 상태일 때는 진행률 유지
+        BigDecimal progress = finalProgress != null ? finalProgress : currentProgress;
+
+        boolean statusChanged = !finalStatus.equals(pipeline.getDataPipelineLoadStatus());
+        boolean progressChanged = progress != null
+                && (currentProgress == null || progress.compareTo(currentProgress) != 0);
+        if (!statusChanged && !progressChanged) {
+            return null;
+        }
 
-            if (statusDocuments == null || statusDocuments.isEmpty()) {
-                return;
-            }
+        // 완료 상태일 때 인덱스 생성 종료 시간 업데이트
+        java.time.LocalDateTime idxMkEndAt = "complete".equalsIgnoreCase(finalStatus)
+                ? java.time.LocalDateTime.now()
+                : pipeline.getIdxMkEndAt();
 
-            // 2. 조회된 문서들에서 status와 rate 추출
-            List<String> statuses = new ArrayList<>();
-            List<String> rates = new ArrayList<>();
+//        log.info("[Data Pipeline Monitor] 업데이트 대상 - 인덱스명: {}, 상태: {}, 진행률: {}%",
+//                pipeline.getIdxNm(), finalStatus, progress);
 
-            for (Map<String, Object> doc : statusDocuments) {
-                Object sourceObj = doc.get("_source");
-                if (sourceObj instanceof Map) {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> source = (Map<String, Object>) sourceObj;
+        return new DataPipelineStatusWriter.StatusChange(pipeline.getKwlgId(), finalStatus, progress, idxMkEndAt);
+    }
 
-                    Object statusObj = source.get("status");
-                    if (statusObj != null) {
-                        statuses.add(String.valueOf(statusObj));
-                    }
+    /**
+     * Elasticsearch에서 index_name 목록으로 상태 정보 일괄 조회
+     *
+     * <p>{@code datapipeline.monitor.msearch-batch-size} 개씩 _msearch 요청 하나로 묶어 조회합니다.
+     * 요청이 실패한 묶음의 인덱스는 결과에서 제외됩니다.</p>
+     *
+     * @param indexNames 조회할 인덱스명 목록
+     * @return 인덱스명별 상태 문서 목록
+     */
+    private Map<String, List<Map<String, Object>>> queryStatusesFromElasticsearch(List<String> indexNames) {
+        Map<String, List<Map<String, Object>>> result = new HashMap<>();
+        int batchSize = Math.max(1, msearchBatchSize);
 
-                    Object rateObj = source.get("rate");
-                    if (rateObj != null) {
-                        rates.add(String.valueOf(rateObj));
+        for (int from = 0; from < indexNames.size(); from += batchSize) {
+            List<String> batch = indexNames.subList(from, Math.min(from + batchSize, indexNames.size()));
+            try {
+                MultiSearchResponse response = udpElasticsearchClient.multiSearch(buildStatusMultiSearchBody(batch));
+                List<SearchResponse> responses = response != null ? response.getResponses() : null;
+                if (responses == null) {
+                    continue;
+                }
+                for (int i = 0; i < batch.size() && i < responses.size(); i++) {
+                    SearchResponse searchResponse = responses.get(i);
+                    if (searchResponse != null && searchResponse.getHits() != null) {
+                        result.put(batch.get(i), searchResponse.getHits());
                     }
                 }
+            } catch (BusinessException e) {
+                log.warn("[Data Pipeline Monitor] Skip - Elasticsearch 조회 실패 (BusinessException), 인덱스 수: {}, 에러: {}",
+                        batch.size(), e.getMessage());
+            } catch (FeignException e) {
+                log.warn("[Data Pipeline Monitor] Skip - Elasticsearch 조회 실패 (FeignException), 인덱스 수: {}, 상태코드: {}, 에러: {}",
+                        batch.size(), e.status(), e.getMessage());
+            } catch (JsonProcessingException e) {
+                log.warn("[Data Pipeline Monitor] Skip - Elasticsearch 조회 본문 생성 실패, 인덱스 수: {}, 에러: {}",
+                        batch.size(), e.getMessage());
+            } catch (RuntimeException e) {
+                log.warn("[Data Pipeline Monitor] Skip - Elasticsearch 조회 실패 (RuntimeException), 인덱스 수: {}, 에러: {}",
+                        batch.size(), e.getMessage());
             }
-
-            // 3. 상태 판단 및 DB 업데이트
-            String finalStatus = determineStatusFromList(statuses);
-            BigDecimal finalProgress = determineProgress(statuses, rates, pipeline.getDbLoadJinhgRt());
-
-            pipeline.setDataPipelineLoadStatus(finalStatus);
-            // error 상태가 아닐 때만 진행률 업데이트
-            if (finalProgress != null) {
-                pipeline.setDbLoadJinhgRt(finalProgress);
-            }
-
-            // 완료 상태일 때 인덱스 생성 종료 시간 업데이트
-            if ("complete".equalsIgnoreCase(finalStatus)) {
-                pipeline.setIdxMkEndAt(java.time.LocalDateTime.now());
-            }
-
-            gpoKwlgInfoMasRepository.save(pipeline);
-
-//            log.info("[Data Pipeline Monitor] 업데이트 완료 - 인덱스명: {}, 상태: {}, 진행률: {}%",
-//                    indexName, finalStatus, finalProgress != null ? finalProgress : pipeline.getDbLoadJinhgRt());
-
-        } catch (BusinessException e) {
-            log.warn("[Data Pipeline Monitor] Skip - Elasticsearch 조회 실패 (BusinessException), 인덱스명: {}, 에러: {}",
-                    indexName, e.getMessage());
-            // 에러 발생 시 skip하고 다음 항목 계속 처리
-        } catch (FeignException e) {
-            log.warn("[Data Pipeline Monitor] Skip - Elasticsearch 조회 실패 (FeignException), 인덱스명: {}, 상태코드: {}, 에러: {}",
-                    indexName, e.status(), e.getMessage());
-            // 에러 발생 시 skip하고 다음 항목 계속 처리
-        } catch (RuntimeException e) {
-            log.warn("[Data Pipeline Monitor] Skip - Elasticsearch 조회 실패 (RuntimeException), 인덱스명: {}, 에러: {}",
-                    indexName, e.getMessage());
-            // 에러 발생 시 skip하고 다음 항목 계속 처리
-        } catch (Exception e) {
-            log.warn("[Data Pipeline Monitor] Skip - Elasticsearch 조회 실패 (Exception), 인덱스명: {}, 에러: {}",
-                    indexName, e.getMessage());
-            // 에러 발생 시 skip하고 다음 항목 계속 처리
         }
+        return result;
     }
 
     /**
-     * Elasticsearch에서 index_name으로 상태 정보 조회
+     * 상태 인덱스 _msearch 본문 생성 (인덱스명별 term 쿼리)
      *
-     * @param indexName 조회할 인덱스명
-     * @return 상태 문서 목록
+     * @param indexNames 조회할 인덱스명 목록
+     * @return NDJSON 본문
      */
-    private List<Map<String, Object>> queryStatusFromElasticsearch(String indexName) {
-        try {
-            // Elasticsearch 쿼리 구성
-            Map<String, Object> query = new HashMap<>();
-            Map<String, Object> term = new HashMap<>();
-            Map<String, Object> termField = new HashMap<>();
-            termField.put("value", indexName);
-            term.put("index_name", termField);
-            query.put("term", term);
-
-            Map<String, Object> body = new HashMap<>();
-            body.put("query", query);
-            body.put("size", 1000); // 최대 1000개 조회
-
-//            log.debug("[Data Pipeline Monitor] Elasticsearch 조회 - 인덱스: {}, index_name: {}",
-//                    STATUS_INDEX_NAME, indexName);
-
-            // Elasticsearch 조회
-            SearchResponse response = udpElasticsearchClient.searchData(STATUS_INDEX_NAME, body);
-
-            if (response == null || response.getHits() == null) {
-//                log.warn("[Data Pipeline Monitor] Elasticsearch 응답이 비어있음");
-                return new ArrayList<>();
-            }
-
-            return response.getHits();
-
-        } catch (BusinessException e) {
-            log.error("[Data Pipeline Monitor] Elasticsearch 조회 실패 (BusinessException) - 인덱스명: {}, 에러: {}",
-                    indexName, e.getMessage(), e);
-            throw e;
-        } catch (FeignException e) {
-            log.error("[Data Pipeline Monitor] Elasticsearch 조회 실패 (FeignException) - 인덱스명: {}, 상태코드: {}, 에러: {}",
-                    indexName, e.status(), e.getMessage(), e);
-            throw e;
-        } catch (RuntimeException e) {
-            log.error("[Data Pipeline Monitor] Elasticsearch 조회 실패 (RuntimeException) - 인덱스명: {}, 에러: {}",
-                    indexName, e.getMessage(), e);
-            throw e;
-        } catch (Exception e) {
-            log.error("[Data Pipeline Monitor] Elasticsearch 조회 실패 (Exception) - 인덱스명: {}, 에러: {}",
-                    indexName, e.getMessage(), e);
-            throw e;
+    private String buildStatusMultiSearchBody(List<String> indexNames) throws JsonProcessingException {
+        String header = objectMapper.writeValueAsString(Map.of("index", STATUS_INDEX_NAME));
+        StringBuilder body = new StringBuilder();
+        for (String indexName : indexNames) {
+            Map<String, Object> query = Map.of("term", Map.of("index_name", Map.of("value", indexName)));
+            Map<String, Object> search = new HashMap<>();
+            search.put("query", query);
+            search.put("size", 1000); // 최대 1000개 조회
+
+            body.append(header).append('\n')
+                    .append(objectMapper.writeValueAsString(search)).append('\n');
         }
+        return body.toString();
     }
 
     /**
@@ -0,0 +1,83 @@
+package com.skax.aiplatform.service.knowledge;
+
+import java.math.BigDecimal;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Data Pipeline 적재 상태 일괄 저장기
+ *
+ * <p>모니터링 주기마다 변경된 파이프라인 상태만 모아 하나의 JDBC batch update 로 저장합니다.
+ * 그 사이 다른 경로에서 상태가 바뀐 행을 덮어쓰지 않도록 여전히 running 상태인 행만 갱신합니다.</p>
+ *
+ * <p>Vertica JdbcTemplate 과 충돌하지 않도록 Primary DataSource 로 전용 JdbcTemplate 을 생성합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class DataPipelineStatusWriter {
+
+    private static final String UPDATE_SQL = "UPDATE gpo_kwlg_info_mas "
+            + "SET data_pipeline_load_status = ?, db_load_jinhg_rt = ?, idx_mk_end_at = ?, lst_updated_at = ? "
+            + "WHERE kwlg_id = ? AND data_pipeline_load_status = 'running'";
+
+    /**
+     * 파이프라인 상태 변경분
+     *
+     * @param kwlgId     지식ID
+     * @param status     적재 상태
+     * @param progress   적재 진행률
+     * @param idxMkEndAt 인덱스 생성 종료 시간
+     */
+    public record StatusChange(String kwlgId, String status, BigDecimal progress, LocalDateTime idxMkEndAt) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DataPipelineStatusWriter(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * 상태 변경분 일괄 저장
+     *
+     * @param changes 상태 변경분 목록
+     * @return 실제 갱신된 행 수
+     */
+    @Transactional
+    public int write(List<StatusChange> changes) {
+        if (changes == null || changes.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[] results = jdbcTemplate.batchUpdate(UPDATE_SQL, changes, changes.size(), (ps, change) -> {
+            ps.setString(1, change.status());
+            ps.setBigDecimal(2, change.progress());
+            ps.setTimestamp(3, change.idxMkEndAt() != null ? Timestamp.valueOf(change.idxMkEndAt()) : null);
+            ps.setTimestamp(4, now);
+            ps.setString(5, change.kwlgId());
+        })[0];
+
+        int updated = 0;
+        for (int result : results) {
+            // SUCCESS_NO_INFO(-2) 를 반환하는 드라이버는 갱신된 것으로 간주
+            updated += result > 0 || result == Statement.SUCCESS_NO_INFO ? 1 : 0;
+        }
+        log.debug("[Data Pipeline Monitor] 상태 일괄 저장 - 대상: {}, 갱신: {}", changes.size(), updated);
+        return updated;
+    }
+}
@@ -0,0 +1,360 @@
+package com.skax.aiplatform.service.kube;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skax.aiplatform.common.exception.BusinessException;
+import com.skax.aiplatform.common.exception.ErrorCode;
+import com.skax.aiplatform.config.VerticaProperties;
+import com.skax.aiplatform.dto.admin.response.DwAccountRes;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DW 계정 Secret 레지스트리
+ *
+ * <p>{@code vertica.dw-secret-json-path} 의 Secret JSON({@code {accountId: {role, pw}}})을 한 번 파싱하여
+ * 계정 ID / 역할별 인덱스와 정렬된 목록을 메모리에 보관합니다. 요청 처리 시에는 파일을 읽지 않습니다.</p>
+ *
+ * <p>Secret 이 마운트된 디렉터리를 {@link WatchService} 로 감시하여 변경 시 다시 파싱한 뒤 스냅샷을 통째로 교체합니다.
+ * Kubernetes Secret 볼륨은 {@code ..data} 심볼릭 링크 교체로 갱신되므로 파일이 아닌 디렉터리 이벤트를 기준으로 합니다.
+ * 재적재에 실패하면 직전 스냅샷을 유지합니다. 감시를 등록할 수 없거나 감시가 해제되면
+ * 조회 시점에 최대 30초 간격으로 다시 적재합니다.</p>
+ *
+ * <p>메트릭: {@code dw.secret.reloads{outcome}}, {@code dw.secret.last-load} (epoch 초), {@code dw.secret.accounts}</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class DwSecretRegistry implements SmartLifecycle {
+
+    /**
+     * 파싱된 Secret 의 불변 스냅샷
+     *
+     * @param present   Secret 파일 존재 여부
+     * @param failed    파싱 실패 여부 (최초 적재 실패 시)
+     * @param accounts  계정 ID 별 속성 (role, pw)
+     * @param byRole    역할(소문자)별 정렬된 계정 ID
+     * @param all       계정 ID 순 전체 목록
+     */
+    private record Snapshot(boolean present, boolean failed, Map<String, Map<String, String>> accounts,
+            Map<String, List<String>> byRole, List<DwAccountRes> all) {
+
+        static final Snapshot MISSING = new Snapshot(false, false, Map.of(), Map.of(), List.of());
+        static final Snapshot FAILED = new Snapshot(true, true, Map.of(), Map.of(), List.of());
+    }
+
+    /**
+     * 감시가 없을 때 조회 시점 재적재 최소 간격
+     */
+    private static final Duration LAZY_RELOAD_INTERVAL = Duration.ofSeconds(30);
+
+    private static final TypeReference<Map<String, Map<String, String>>> SECRET_TYPE = new TypeReference<>() {
+    };
+
+    private final VerticaProperties verticaProperties;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong reloadCount = new AtomicLong();
+    private final Counter reloadSuccess;
+    private final Counter reloadFailure;
+
+    private volatile Snapshot snapshot = Snapshot.MISSING;
+    private volatile Instant lastLoadedAt;
+    private volatile Instant lastAttemptAt;
+    private volatile boolean running;
+    private WatchService watchService;
+    private Path watchDir;
+    private volatile Thread watcher;
+
+    public DwSecretRegistry(VerticaProperties verticaProperties, MeterRegistry meterRegistry) {
+        this.verticaProperties = verticaProperties;
+        this.reloadSuccess = Counter.builder("dw.secret.reloads")
+                .description("DW Secret 적재 건수")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.reloadFailure = Counter.builder("dw.secret.reloads")
+                .description("DW Secret 적재 건수")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+        Gauge.builder("dw.secret.last-load", this,
+                        r -> r.lastLoadedAt != null ? r.lastLoadedAt.getEpochSecond() : 0)
+                .description("마지막 DW Secret 적재 시각 (epoch 초)")
+                .register(meterRegistry);
+        Gauge.builder("dw.secret.accounts", this, r -> r.snapshot.accounts().size())
+                .description("적재된 DW 계정 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 계정 속성 조회
+     *
+     * @param accountId 계정 ID
+     * @return 계정 속성 (role, pw)
+     * @throws BusinessException Secret 파일이 없거나(FILE_NOT_FOUND) 계정이 없는 경우(USER_NOT_FOUND)
+     */
+    public Map<String, String> getAccount(String accountId) {
+        Snapshot current = requireSnapshot();
+        Map<String, String> account = current.accounts().get(accountId);
+        if (account == null || account.isEmpty()) {
+            log.error("[DW-SECRET] Secret JSON key '{}' 없음", accountId);
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다");
+        }
+        return account;
+    }
+
+    /**
+     * 역할별 계정 ID 목록 (계정 ID 순)
+     *
+     * @param role 역할 (대소문자 무시)
+     * @return 계정 ID 목록
+     */
+    public List<String> getAccountIdsByRole(String role) {
+        return requireSnapshot().byRole().getOrDefault(role.toLowerCase(Locale.ROOT), List.of());
+    }
+
+    /**
+     * 전체 계정 목록 (계정 ID 순)
+     *
+     * @return 계정 목록
+     */
+    public List<DwAccountRes> getAllAccounts() {
+        return requireSnapshot().all();
+    }
+
+    /**
+     * 적재 횟수 (최초 적재 포함, 성공 건만)
+     *
+     * @return 적재 횟수
+     */
+    public long getReloadCount() {
+        return reloadCount.get();
+    }
+
+    /**
+     * 마지막 적재 시각
+     *
+     * @return 마지막 성공 적재 시각 (적재 전이면 null)
+     */
+    public Instant getLastLoadedAt() {
+        return lastLoadedAt;
+    }
+
+    /**
+     * Secret 파일 재적재
+     *
+     * <p>파싱이 끝난 뒤 스냅샷을 한 번에 교체하므로 조회 스레드는 이전 또는 새 스냅샷 중 하나만 봅니다.</p>
+     */
+    public synchronized void reload() {
+        lastAttemptAt = Instant.now();
+        Path path = secretPath();
+        if (path == null || !Files.exists(path)) {
+            // Secret 교체 도중 일시적으로 파일이 보이지 않을 수 있으므로 적재된 스냅샷은 유지
+            log.error("[DW-SECRET] Secret 파일 없음: {}", path);
+            return;
+        }
+        try {
+            Map<String, Map<String, String>> secretMap = objectMapper.readValue(Files.readString(path), SECRET_TYPE);
+            snapshot = index(secretMap);
+            lastLoadedAt = Instant.now();
+            reloadCount.incrementAndGet();
+            reloadSuccess.increment();
+            log.info("[DW-SECRET] Secret 적재 완료 - path={}, 계정 수={}, 적재 횟수={}",
+                    path, snapshot.accounts().size(), reloadCount.get());
+        } catch (IOException | RuntimeException e) {
+            reloadFailure.increment();
+            if (!snapshot.present() || snapshot.failed()) {
+                snapshot = Snapshot.FAILED;
+            }
+            log.error("[DW-SECRET] Secret 적재 실패 (직전 스냅샷 유지) - path={}, error={}", path, e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        reload();
+
+        Path path = secretPath();
+        Path dir = path != null ? path.toAbsolutePath().getParent() : null;
+        if (dir == null || !Files.isDirectory(dir)) {
+            log.warn("[DW-SECRET] Secret 디렉터리가 없어 변경 감시를 생략합니다: {}", dir);
+            return;
+        }
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            register(dir);
+        } catch (IOException e) {
+            log.warn("[DW-SECRET] Secret 변경 감시 등록 실패 - dir={}, error={}", dir, e.getMessage());
+            closeWatchService();
+            return;
+        }
+        watchDir = dir;
+        watcher = new Thread(this::runWatchLoop, "dw-secret-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        log.info("[DW-SECRET] Secret 변경 감시 시작 - dir={}", dir);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        closeWatchService();
+        Thread current = watcher;
+        if (current != null) {
+            current.interrupt();
+            try {
+                current.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (current.isAlive()) {
+                log.warn("[DW-SECRET] Secret 변경 감시 스레드가 종료되지 않았습니다");
+            }
+            watcher = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runWatchLoop() {
+        while (running) {
+            try {
+                WatchKey key = watchService.take();
+                // 심볼릭 링크 교체 시 이벤트가 연달아 발생하므로 잠시 모아서 한 번만 재적재
+                TimeUnit.MILLISECONDS.sleep(200);
+                key.pollEvents();
+                watchService.poll();
+                reload();
+                if (!key.reset() && !reRegister()) {
+                    return;
+                }
+            } catch (ClosedWatchServiceException e) {
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 감시 키가 무효화된 경우(디렉터리 삭제/재생성 등) 디렉터리를 다시 등록
+     *
+     * <p>재등록에 실패하면 감시를 종료하고 {@code watcher} 를 비워 조회 시 지연 재적재로 전환합니다.</p>
+     *
+     * @return 재등록 성공 여부
+     */
+    private boolean reRegister() {
+        if (running && Files.isDirectory(watchDir)) {
+            try {
+                register(watchDir);
+                reload();
+                log.info("[DW-SECRET] Secret 디렉터리 감시 재등록 - dir={}", watchDir);
+                return true;
+            } catch (IOException | ClosedWatchServiceException e) {
+                log.warn("[DW-SECRET] Secret 디렉터리 감시 재등록 실패 - dir={}, error={}", watchDir, e.getMessage());
+            }
+        }
+        log.warn("[DW-SECRET] Secret 디렉터리 감시가 해제되어 지연 재적재로 전환합니다 - dir={}", watchDir);
+        watcher = null;
+        closeWatchService();
+        return false;
+    }
+
+    private void register(Path dir) throws IOException {
+        dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+    }
+
+    private void closeWatchService() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                log.debug("[DW-SECRET] WatchService 종료 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private Snapshot requireSnapshot() {
+        Snapshot current = snapshot;
+        if (watcher == null && (!current.present() || isStale())) {
+            // 감시 중이 아니면 기동 이후 생성/변경된 파일을 반영하기 위해 다시 시도
+            reload();
+            current = snapshot;
+        }
+        if (!current.present()) {
+            log.error("[DW-SECRET] Secret 파일 없음: {}", verticaProperties.getDwSecretJsonPath());
+            throw new BusinessException(ErrorCode.FILE_NOT_FOUND, "파일을 찾을 수 없습니다");
+        }
+        if (current.failed()) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "파일 읽기 오류");
+        }
+        return current;
+    }
+
+    private boolean isStale() {
+        Instant attemptedAt = lastAttemptAt;
+        return attemptedAt == null || attemptedAt.plus(LAZY_RELOAD_INTERVAL).isBefore(Instant.now());
+    }
+
+    private Path secretPath() {
+        String file = verticaProperties.getDwSecretJsonPath();
+        return (file == null || file.isBlank()) ? null : Path.of(file);
+    }
+
+    private static Snapshot index(Map<String, Map<String, String>> secretMap) {
+        Map<String, Map<String, String>> accounts = new HashMap<>();
+        Map<String, List<String>> byRole = new HashMap<>();
+        List<DwAccountRes> all = new ArrayList<>();
+        if (secretMap != null) {
+            secretMap.forEach((accountId, attrs) -> {
+                Map<String, String> account = attrs != null ? Collections.unmodifiableMap(new HashMap<>(attrs)) : Map.of();
+                accounts.put(accountId, account);
+                String role = account.get("role");
+                if (role != null) {
+                    byRole.computeIfAbsent(role.toLowerCase(Locale.ROOT), k -> new ArrayList<>()).add(accountId);
+                }
+                all.add(DwAccountRes.builder().accountId(accountId).role(role).build());
+            });
+        }
+        byRole.replaceAll((role, ids) -> ids.stream().sorted().toList());
+        all.sort(Comparator.comparing(DwAccountRes::getAccountId));
+        return new Snapshot(true, false, Collections.unmodifiableMap(accounts), Map.copyOf(byRole), List.copyOf(all));
+    }
+}
@@ -0,0 +1,434 @@
+package com.skax.aiplatform.service.kube;
+
+import com.skax.aiplatform.config.KubeClientConfig;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.networking.v1.Ingress;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientTimeoutException;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * IDE 네임스페이스 Kubernetes 리소스 읽기 캐시 (Shared Informer 기반)
+ *
+ * <p>{@code kube.namespace} 의 Deployment / Pod / Service / Ingress 를 informer 로 감시하여
+ * 로컬 인덱스 저장소에서 이름·라벨 조회를 처리합니다. 라벨 조회는 {@code key=value} 인덱스로 후보를 좁힌 뒤
+ * 나머지 라벨을 비교합니다.</p>
+ *
+ * <p>informer 가 아직 동기화되지 않았거나 watch 가 끊긴 경우에는 API 서버를 직접 조회하므로
+ * 캐시 상태와 무관하게 결과는 항상 반환됩니다. 상태 대기({@link #awaitIngress})는 sleep 반복 대신
+ * informer 이벤트로 조건을 확인하며 제한 시간이 지나면 {@link Optional#empty()} 를 반환합니다.</p>
+ *
+ * <p>설정: {@code kube.cache.enabled} (기본 true), {@code kube.cache.resync-seconds} (기본 600)<br>
+ * 메트릭: {@code kube.cache.reads{kind,source=cache|api}} (cache 건수가 절약된 API 호출 수),
+ * {@code kube.cache.staleness{kind}} (마지막 이벤트 이후 경과 초), {@code kube.cache.watching{kind}}</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class KubeResourceCache implements SmartLifecycle {
+
+    /**
+     * 라벨 인덱스 이름 ({@code key=value} 단위)
+     */
+    private static final String LABEL_INDEX = "labels";
+
+    private final KubernetesClient kubeClient;
+    private final KubeClientConfig kubeConfig;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long resyncMillis;
+
+    private final Map<Class<?>, Resource<?>> resources = new ConcurrentHashMap<>();
+    private volatile boolean running;
+
+    public KubeResourceCache(
+            KubernetesClient kubeClient,
+            KubeClientConfig kubeConfig,
+            MeterRegistry meterRegistry,
+            @Value("${kube.cache.enabled:true}") boolean enabled,
+            @Value("${kube.cache.resync-seconds:600}") long resyncSeconds) {
+        this.kubeClient = kubeClient;
+        this.kubeConfig = kubeConfig;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.resyncMillis = TimeUnit.SECONDS.toMillis(resyncSeconds);
+    }
+
+    /**
+     * Deployment 조회 (이름)
+     *
+     * @param namespace 네임스페이스
+     * @param name      Deployment 이름
+     * @return Deployment (없으면 null)
+     */
+    public Deployment getDeployment(String namespace, String name) {
+        return get(Deployment.class, namespace, name,
+                () -> kubeClient.apps().deployments().inNamespace(namespace).withName(name).get());
+    }
+
+    /**
+     * Deployment 목록 조회 (라벨)
+     *
+     * @param namespace 네임스페이스
+     * @param labels    라벨 (모두 일치)
+     * @return Deployment 목록
+     */
+    public List<Deployment> listDeployments(String namespace, Map<String, String> labels) {
+        return list(Deployment.class, namespace, labels,
+                () -> kubeClient.apps().deployments().inNamespace(namespace).withLabels(labels).list().getItems());
+    }
+
+    /**
+     * Pod 목록 조회 (라벨)
+     *
+     * @param namespace 네임스페이스
+     * @param labels    라벨 (모두 일치)
+     * @return Pod 목록
+     */
+    public List<Pod> listPods(String namespace, Map<String, String> labels) {
+        return list(Pod.class, namespace, labels,
+                () -> kubeClient.pods().inNamespace(namespace).withLabels(labels).list().getItems());
+    }
+
+    /**
+     * Service 목록 조회 (라벨)
+     *
+     * @param namespace 네임스페이스
+     * @param labels    라벨 (모두 일치)
+     * @return Service 목록
+     */
+    public List<Service> listServices(String namespace, Map<String, String> labels) {
+        return list(Service.class, namespace, labels,
+                () -> kubeClient.services().inNamespace(namespace).withLabels(labels).list().getItems());
+    }
+
+    /**
+     * Ingress 목록 조회 (라벨)
+     *
+     * @param namespace 네임스페이스
+     * @param labels    라벨 (모두 일치)
+     * @return Ingress 목록
+     */
+    public List<Ingress> listIngresses(String namespace, Map<String, String> labels) {
+        return list(Ingress.class, namespace, labels,
+                () -> kubeClient.network().v1().ingresses().inNamespace(namespace).withLabels(labels).list().getItems());
+    }
+
+    /**
+     * Ingress 가 조건을 만족할 때까지 대기
+     *
+     * <p>informer 가 동작 중이면 저장소 값과 이후 이벤트로 조건을 확인하고,
+     * 그렇지 않으면 fabric8 의 watch 기반 {@code waitUntilCondition} 을 사용합니다.</p>
+     *
+     * @param namespace 네임스페이스
+     * @param name      Ingress 이름
+     * @param condition 대기 조건
+     * @param timeout   최대 대기 시간
+     * @return 조건을 만족한 Ingress (시간 초과 시 empty)
+     */
+    public Optional<Ingress> awaitIngress(String namespace, String name, Predicate<Ingress> condition,
+            Duration timeout) {
+        Resource<Ingress> resource = resource(Ingress.class, namespace);
+        if (resource == null) {
+            try {
+                return Optional.ofNullable(kubeClient.network().v1().ingresses().inNamespace(namespace)
+                        .withName(name)
+                        .waitUntilCondition(ing -> ing != null && condition.test(ing),
+                                timeout.toMillis(), TimeUnit.MILLISECONDS));
+            } catch (KubernetesClientTimeoutException e) {
+                return Optional.empty();
+            }
+        }
+        return resource.await(name, condition, timeout);
+    }
+
+    /**
+     * 네임스페이스의 캐시 사용 가능 여부 (informer 동기화 완료 및 watch 유지 중)
+     *
+     * @param namespace 네임스페이스
+     * @return 모든 리소스 informer 가 사용 가능하면 true
+     */
+    public boolean isReady(String namespace) {
+        return running && namespace != null && namespace.equals(kubeConfig.getNamespace())
+                && !resources.isEmpty() && resources.values().stream().allMatch(Resource::isUsable);
+    }
+
+    @Override
+    public void start() {
+        String namespace = kubeConfig.getNamespace();
+        if (!enabled || running || namespace == null || namespace.isBlank()) {
+            return;
+        }
+        register(Deployment.class, "deployment",
+                kubeClient.apps().deployments().inNamespace(namespace).runnableInformer(resyncMillis));
+        register(Pod.class, "pod",
+                kubeClient.pods().inNamespace(namespace).runnableInformer(resyncMillis));
+        register(Service.class, "service",
+                kubeClient.services().inNamespace(namespace).runnableInformer(resyncMillis));
+        register(Ingress.class, "ingress",
+                kubeClient.network().v1().ingresses().inNamespace(namespace).runnableInformer(resyncMillis));
+        running = true;
+        log.info("[Kubernetes] 리소스 캐시 시작 - namespace={}, kinds={}, resyncMs={}",
+                namespace, resources.size(), resyncMillis);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        resources.values().forEach(Resource::stop);
+        log.info("[Kubernetes] 리소스 캐시 종료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * KubernetesClient 보다 늦게 시작하고 먼저 종료
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE - 1000;
+    }
+
+    private <T extends HasMetadata> T get(Class<T> kind, String namespace, String name, Supplier<T> api) {
+        Resource<T> resource = resource(kind, namespace);
+        return resource != null ? resource.get(namespace, name) : fromApi(kind, api);
+    }
+
+    private <T extends HasMetadata> List<T> list(Class<T> kind, String namespace, Map<String, String> labels,
+            Supplier<List<T>> api) {
+        Resource<T> resource = resource(kind, namespace);
+        return resource != null ? resource.list(namespace, labels) : fromApi(kind, api);
+    }
+
+    private <R> R fromApi(Class<?> kind, Supplier<R> api) {
+        Resource<?> resource = resources.get(kind);
+        if (resource != null) {
+            resource.apiReads.increment();
+        }
+        return api.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends HasMetadata> Optional<Resource<T>> resource(Class<T> kind) {
+        return Optional.ofNullable((Resource<T>) resources.get(kind));
+    }
+
+    /**
+     * 캐시로 응답 가능한 리소스 반환 (불가하면 null)
+     */
+    private <T extends HasMetadata> Resource<T> resource(Class<T> kind, String namespace) {
+        if (!running || namespace == null || !namespace.equals(kubeConfig.getNamespace())) {
+            return null;
+        }
+        return resource(kind).filter(Resource::isUsable).orElse(null);
+    }
+
+    private <T extends HasMetadata> void register(Class<T> kind, String kindName, SharedIndexInformer<T> informer) {
+        Resource<T> resource = new Resource<>(kindName, informer);
+        resources.put(kind, resource);
+        resource.start();
+    }
+
+    private static List<String> labelIndex(HasMetadata obj) {
+        Map<String, String> labels = obj.getMetadata() != null ? obj.getMetadata().getLabels() : null;
+        if (labels == null || labels.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> keys = new ArrayList<>(labels.size());
+        labels.forEach((k, v) -> keys.add(k + "=" + v));
+        return keys;
+    }
+
+    private static boolean matches(HasMetadata obj, Map<String, String> labels) {
+        Map<String, String> actual = obj.getMetadata() != null ? obj.getMetadata().getLabels() : null;
+        if (labels == null || labels.isEmpty()) {
+            return true;
+        }
+        return actual != null && actual.entrySet().containsAll(labels.entrySet());
+    }
+
+    /**
+     * 리소스 종류별 informer / 대기 조건 / 메트릭
+     */
+    private final class Resource<T extends HasMetadata> implements ResourceEventHandler<T> {
+
+        private final String kindName;
+        private final SharedIndexInformer<T> informer;
+        private final Map<String, List<Waiter<T>>> waiters = new ConcurrentHashMap<>();
+        private final Counter cacheReads;
+        private final Counter apiReads;
+        private volatile long lastEventAt = System.currentTimeMillis();
+
+        private Resource(String kindName, SharedIndexInformer<T> informer) {
+            this.kindName = kindName;
+            this.informer = informer;
+            Map<String, Function<T, List<String>>> indexers = Map.of(LABEL_INDEX, KubeResourceCache::labelIndex);
+            informer.addIndexers(indexers);
+            informer.addEventHandler(this);
+            informer.exceptionHandler((started, t) -> {
+                log.warn("[Kubernetes] {} informer 오류 (재시도) - started={}, cause={}", kindName, started,
+                        t.toString());
+                return true;
+            });
+            this.cacheReads = Counter.builder("kube.cache.reads")
+                    .description("Kubernetes 리소스 조회 건수 (source=cache 는 절약된 API 호출)")
+                    .tag("kind", kindName).tag("source", "cache")
+                    .register(meterRegistry);
+            this.apiReads = Counter.builder("kube.cache.reads")
+                    .description("Kubernetes 리소스 조회 건수 (source=cache 는 절약된 API 호출)")
+                    .tag("kind", kindName).tag("source", "api")
+                    .register(meterRegistry);
+            Gauge.builder("kube.cache.staleness", this,
+                            r -> (System.currentTimeMillis() - r.lastEventAt) / 1000.0)
+                    .description("마지막 informer 이벤트 이후 경과 시간(초)")
+                    .tag("kind", kindName)
+                    .register(meterRegistry);
+            Gauge.builder("kube.cache.watching", this, r -> r.isUsable() ? 1 : 0)
+                    .description("informer 동기화 및 watch 유지 여부")
+                    .tag("kind", kindName)
+                    .register(meterRegistry);
+        }
+
+        private void start() {
+            informer.start().whenComplete((ignored, t) -> {
+                if (t != null) {
+                    log.warn("[Kubernetes] {} informer 시작 실패 - API 직접 조회로 동작: {}", kindName, t.toString());
+                } else {
+                    lastEventAt = System.currentTimeMillis();
+                    log.info("[Kubernetes] {} informer 동기화 완료 - {}건", kindName, informer.getStore().list().size());
+                }
+            });
+        }
+
+        private void stop() {
+            informer.stop();
+            waiters.values().forEach(list -> list.forEach(w -> w.future.cancel(false)));
+            waiters.clear();
+        }
+
+        private boolean isUsable() {
+            return informer.hasSynced() && informer.isWatching();
+        }
+
+        private T get(String namespace, String name) {
+            cacheReads.increment();
+            return informer.getStore().getByKey(Cache.namespaceKeyFunc(namespace, name));
+        }
+
+        private List<T> list(String namespace, Map<String, String> labels) {
+            cacheReads.increment();
+            List<T> candidates;
+            if (labels == null || labels.isEmpty()) {
+                candidates = informer.getStore().list();
+            } else {
+                Map.Entry<String, String> first = labels.entrySet().iterator().next();
+                candidates = informer.getIndexer().byIndex(LABEL_INDEX, first.getKey() + "=" + first.getValue());
+            }
+            return candidates.stream()
+                    .filter(obj -> namespace.equals(obj.getMetadata().getNamespace()))
+                    .filter(obj -> matches(obj, labels))
+                    .toList();
+        }
+
+        private Optional<T> await(String name, Predicate<T> condition, Duration timeout) {
+            Waiter<T> waiter = new Waiter<>(condition);
+            waiters.computeIfAbsent(name, k -> new CopyOnWriteArrayList<>()).add(waiter);
+            try {
+                // 등록 이후 이벤트를 놓치지 않도록 등록 뒤에 현재 저장소 값을 확인
+                T current = informer.getStore().getByKey(Cache.namespaceKeyFunc(kubeConfig.getNamespace(), name));
+                waiter.offer(current);
+                cacheReads.increment();
+                return Optional.of(waiter.future.get(timeout.toMillis(), TimeUnit.MILLISECONDS));
+            } catch (TimeoutException e) {
+                return Optional.empty();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            } catch (ExecutionException | CancellationException e) {
+                return Optional.empty();
+            } finally {
+                waiters.computeIfPresent(name, (k, list) -> {
+                    list.remove(waiter);
+                    return list.isEmpty() ? null : list;
+                });
+            }
+        }
+
+        @Override
+        public void onAdd(T obj) {
+            touch(obj);
+        }
+
+        @Override
+        public void onUpdate(T oldObj, T newObj) {
+            touch(newObj);
+        }
+
+        @Override
+        public void onDelete(T obj, boolean deletedFinalStateUnknown) {
+            lastEventAt = System.currentTimeMillis();
+        }
+
+        private void touch(T obj) {
+            lastEventAt = System.currentTimeMillis();
+            List<Waiter<T>> pending = waiters.get(obj.getMetadata().getName());
+            if (pending != null) {
+                pending.forEach(w -> w.offer(obj));
+            }
+        }
+    }
+
+    private static final class Waiter<T> {
+
+        private final Predicate<T> condition;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private Waiter(Predicate<T> condition) {
+            this.condition = condition;
+        }
+
+        private void offer(T obj) {
+            if (obj != null && !future.isDone() && condition.test(obj)) {
+                future.complete(obj);
+            }
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.skax.aiplatform.service.kube.impl;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.skax.aiplatform.common.exception.BusinessException;
 import com.skax.aiplatform.common.exception.ErrorCode;
@@ -9,25 +8,24 @@ import com.skax.aiplatform.config.KubeClientConfig;
 import com.skax.aiplatform.dto.admin.response.DwAccountRes;
 import com.skax.aiplatform.dto.kube.request.*;
 import com.skax.aiplatform.dto.kube.response.*;
+import com.skax.aiplatform.service.kube.DwSecretRegistry;
+import com.skax.aiplatform.service.kube.KubeResourceCache;
 import com.skax.aiplatform.service.kube.KubeService;
 import io.fabric8.kubernetes.api.model.*;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
 import io.fabric8.kubernetes.api.model.networking.v1.*;
 import io.fabric8.kubernetes.client.KubernetesClient;
-import io.fabric8.kubernetes.client.KubernetesClientBuilder;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.KubernetesClientTimeoutException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -38,6 +36,12 @@ public class KubeServiceImpl implements KubeService {
     private final KubeClientConfig kubeConfig;
     private final com.skax.aiplatform.config.VerticaProperties verticaProperties;
     private final TokenInfo tokenInfo;
+    private final KubeResourceCache kubeResourceCache;
+    private final DwSecretRegistry dwSecretRegistry;
+
+    // Ingress 생성 후 ALB hostname 대기 시간
+    @Value("${kube.ingress.hostname-wait-ms:10000}")
+    private long ingressHostnameWaitMs;
 
     // Vertica 설정이 있을 때만 주입되는 선택적 의존성
     /* 25.11.27 미사용 서비스
@@ -522,37 +526,16 @@ public class KubeServiceImpl implements KubeService {
             ing = kubeClient.network().v1().ingresses().inNamespace(ns).resource(ing).serverSideApply();
 
             // status에서 ALB DNS(hostname) 가져오기
-            // wait ALB hostname
+            // wait ALB hostname (informer 이벤트 기반, 최대 kube.ingress.hostname-wait-ms)
             String hostFromStatus = null;
-            int failCount = 0;
-            for (int i = 0; i < 5; i++) { // 최대 5번 (약 10초 대기)
-                try {
-                    var got = kubeClient.network().v1().ingresses()
-                            .inNamespace(ns)
-                            .withName(ingName)
-                            .get();
-                    hostFromStatus = Optional.ofNullable(got)
-                            .map(Ingress::getStatus)
-                            .map(IngressStatus::getLoadBalancer)
-                            .map(IngressLoadBalancerStatus::getIngress)
-                            .filter(list -> !list.isEmpty())
-                            .map(list -> list.get(0).getHostname())
-                            .orElse(null);
-                } catch (KubernetesClientException e) {
-                    failCount++;
-                    if (failCount == 4 && hostFromStatus == null) {
-                        log.warn("[Kubernetes] Failed to retrieve Ingress hostname after {} attempts", failCount);
-                    }
-                    log.info("[Kubernetes] ALB hostname not ready for ingress={}, ns={}, retry={}/5", ingName, ns,
-                            failCount);
-                } catch (RuntimeException e) {
-                    // unexpected runtime error
-                    failCount++;
-                    log.error("[Kubernetes] unexpected runtime error: {}", e.getMessage(), e);
-                }
-                if (hostFromStatus != null && !hostFromStatus.isBlank())
-                    break;
-                Thread.sleep(2000); // 2초 대기 후 재시도
+            try {
+                hostFromStatus = kubeResourceCache.awaitIngress(ns, ingName,
+                                got -> albHostname(got) != null, Duration.ofMillis(ingressHostnameWaitMs))
+                        .map(this::albHostname)
+                        .orElse(null);
+            } catch (KubernetesClientException e) {
+                log.warn("[Kubernetes] Failed to retrieve Ingress hostname: ingress={}, ns={}, cause={}", ingName, ns,
+                        e.getMessage());
             }
 
             if (hostFromStatus == null) {
@@ -669,10 +652,9 @@ public class KubeServiceImpl implements KubeService {
     public KubeGetDeploymentRes getDeployment(KubeGetDeploymentReq req) {
         try {
             var ns = req.getNamespace();
-            var dep = kubeClient.apps().deployments().inNamespace(ns).withName(req.getDeployName()).get();
+            var dep = kubeResourceCache.getDeployment(ns, req.getDeployName());
             if (dep == null && req.getLabels() != null) {
-                dep = kubeClient.apps().deployments().inNamespace(ns).withLabels(req.getLabels())
-                        .list().getItems().stream().findFirst().orElse(null);
+                dep = kubeResourceCache.listDeployments(ns, req.getLabels()).stream().findFirst().orElse(null);
             }
             if (dep == null) {
                 return KubeGetDeploymentRes.builder().name(null).build();
@@ -704,7 +686,7 @@ public class KubeServiceImpl implements KubeService {
 
             boolean podReady = false;
             if (req.getLabels() != null) {
-                podReady = kubeClient.pods().inNamespace(ns).withLabels(req.getLabels()).list().getItems().stream()
+                podReady = kubeResourceCache.listPods(ns, req.getLabels()).stream()
                         .anyMatch(p -> "Running".equalsIgnoreCase(p.getStatus().getPhase()) &&
                                 p.getStatus().getConditions() != null &&
                                 p.getStatus().getConditions().stream()
@@ -741,10 +723,6 @@ public class KubeServiceImpl implements KubeService {
         String ns = requireProjectNamespace(req.getNamespace());
         Map<String, String> labels = safeLabels(req.getLabels());
 
-        var ings = kubeClient.network().v1().ingresses().inNamespace(ns).withLabels(labels).list().getItems();
-        var svcs = kubeClient.services().inNamespace(ns).withLabels(labels).list().getItems();
-        var deps = kubeClient.apps().deployments().inNamespace(ns).withLabels(labels).list().getItems();
-
         // VirtualService 삭제 (Istio CRD)
         try {
             kubeClient.genericKubernetesResources("networking.istio.io/v1", "VirtualService")
@@ -763,18 +741,18 @@ public class KubeServiceImpl implements KubeService {
                     e.getMessage());
         }
 
+        // 라벨 기반 삭제는 대상이 없어도 안전하므로 사전 조회 없이 항상 요청
+        // (방금 생성되었거나 watch 공백으로 캐시에 없는 리소스도 삭제되도록 캐시를 기준으로 하지 않음)
+
         // Ingress 삭제
-        if (!ings.isEmpty())
-            kubeClient.network().v1().ingresses().inNamespace(ns).withLabels(labels).delete();
+        kubeClient.network().v1().ingresses().inNamespace(ns).withLabels(labels).delete();
 
         // Deployment 삭제 (FOREGROUND propagation으로 자동으로 Pod도 삭제됨)
-        if (!deps.isEmpty())
-            kubeClient.apps().deployments().inNamespace(ns).withLabels(labels)
-                    .withPropagationPolicy(DeletionPropagation.FOREGROUND).delete();
+        kubeClient.apps().deployments().inNamespace(ns).withLabels(labels)
+                .withPropagationPolicy(DeletionPropagation.FOREGROUND).delete();
 
         // Service 삭제
-        if (!svcs.isEmpty())
-            kubeClient.services().inNamespace(ns).withLabels(labels).delete();
+        kubeClient.services().inNamespace(ns).withLabels(labels).delete();
 
         // 이름 기반 fallback (규칙형)
         if (req.getVsName() != null) {
@@ -842,54 +820,20 @@ public class KubeServiceImpl implements KubeService {
         String accountRole = "";
         String accountPw = "";
         String sessionLabel = "";
-        String dwSecretFile = verticaProperties.getDwSecretJsonPath();
 
         if (accountId == null) {
             throw new IllegalArgumentException("조회 조건이 없습니다");
         }
 
-        log.info("[DW-SECRET] Secret 파일 Path props : {}", dwSecretFile);
-        Path path = Path.of(dwSecretFile);
-
-        // 파일 존재 여부 로그
-        if (Files.exists(path)) {
-            log.info("[DW-SECRET] Secret 파일 존재: {}", dwSecretFile);
-            try {
-                String json = Files.readString(path);
-                ObjectMapper mapper = new ObjectMapper();
-                // JSON -> Map<String, Map<String,String>>
-                Map<String, Map<String, String>> secretMap = mapper.readValue(json, new TypeReference<Map<String, Map<String, String>>>() {
-                });
-                accountInfoMap = secretMap.get(accountId);
-                if (accountInfoMap == null || accountInfoMap.isEmpty()) {
-                    log.error("[DW-SECRET] Secret JSON key '{}' 없음", accountId);
-                    throw new BusinessException(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다");
-                } else {
-                    accountRole = accountInfoMap.get("role");
-                    accountPw = accountInfoMap.get("pw");
-                    log.info("[DW-SECRET] Secret JSON accountRole : {}, accountPw : {}", accountRole, accountPw.charAt(0) + "*".repeat(accountPw.length() - 1));
-                }
-                sessionLabel = "GAF_" + empNo;
-            } catch (IOException e) {
-                // 파일 읽기 문제
-                log.error("[DW-SECRET] Secret 파일 읽기 오류: {}", e.getMessage(), e);
-                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "파일 읽기 오류");
-
-            } catch (RuntimeException e) {
-                // NPE 등 치명적인 로직 오류
-                log.error("[DW-SECRET] Secret 처리 중 런타임 오류: {}", e.getMessage(), e);
-                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "런타임 오류 발생");
-
-            } catch (Exception e) {
-                log.error("[DW-SECRET] Secret 처리 중 예상치 못한 오류: {}", e.getMessage(), e);
-                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "알수없는 오류 발생");
-            }
-
-        } else {
-            log.error("[DW-SECRET] Secret 파일 없음: {}", dwSecretFile);
-            throw new BusinessException(ErrorCode.FILE_NOT_FOUND, "파일을 찾을 수 없습니다");
+        // 기동 시 적재된 Secret 레지스트리에서 조회 (파일 변경 시 자동 재적재)
+        accountInfoMap = dwSecretRegistry.getAccount(accountId);
+        accountRole = accountInfoMap.get("role");
+        accountPw = accountInfoMap.get("pw");
+        if (accountPw != null && !accountPw.isEmpty()) {
+            log.info("[DW-SECRET] Secret JSON accountRole : {}, accountPw : {}", accountRole,
+                    accountPw.charAt(0) + "*".repeat(accountPw.length() - 1));
         }
-
+        sessionLabel = "GAF_" + empNo;
 
         // 3-6. Vertica 설정: application.yml에서 읽음
         String host = verticaProperties.getHost();
@@ -916,37 +860,9 @@ public class KubeServiceImpl implements KubeService {
         log.info("[ Execute Service KubeServiceImpl.getDwAllAccounts ]");
         log.info("-----------------------------------------------------------------------------------------");
 
-        String dwSecretFile = verticaProperties.getDwSecretJsonPath();
-        log.info("[DW-SECRET] Secret 파일 Path props : {}", dwSecretFile);
-        Path path = Path.of(dwSecretFile);
-
-        if (!Files.exists(path)) {
-            log.error("[DW-SECRET] Secret 파일 없음: {}", dwSecretFile);
-            throw new BusinessException(ErrorCode.FILE_NOT_FOUND, "파일을 찾을 수 없습니다");
-        }
-
-        try {
-            String json = Files.readString(path);
-            ObjectMapper mapper = new ObjectMapper();
-            Map<String, Map<String, String>> secretMap = mapper.readValue(json, new TypeReference<Map<String, Map<String, String>>>() {
-            });
-
-            List<String> analysisAccounts = secretMap.entrySet().stream()
-                    .filter(entry -> "analysis".equalsIgnoreCase(entry.getValue().get("role")))
-                    .map(Map.Entry::getKey)
-                    .sorted()
-                    .collect(Collectors.toList());
-
-            log.info("[DW-SECRET] analysis role 계정 수: {}", analysisAccounts.size());
-            return analysisAccounts;
-
-        } catch (IOException e) {
-            log.error("[DW-SECRET] Secret 파일 읽기 오류: {}", e.getMessage(), e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "파일 읽기 오류");
-        } catch (Exception e) {
-            log.error("[DW-SECRET] Secret 처리 중 오류: {}", e.getMessage(), e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "DW 계정 목록 조회 중 오류 발생");
-        }
+        List<String> analysisAccounts = dwSecretRegistry.getAccountIdsByRole("analysis");
+        log.info("[DW-SECRET] analysis role 계정 수: {}", analysisAccounts.size());
+        return analysisAccounts;
     }
 
     @Override
@@ -955,39 +871,9 @@ public class KubeServiceImpl implements KubeService {
         log.info("[ Execute Service KubeServiceImpl.getDwAllAccountsForAdmin ]");
         log.info("-----------------------------------------------------------------------------------------");
 
-        String dwSecretFile = verticaProperties.getDwSecretJsonPath();
-        log.info("[DW-SECRET] Secret 파일 Path props : {}", dwSecretFile);
-        Path path = Path.of(dwSecretFile);
-
-        if (!Files.exists(path)) {
-            log.error("[DW-SECRET] Secret 파일 없음: {}", dwSecretFile);
-            throw new BusinessException(ErrorCode.FILE_NOT_FOUND, "파일을 찾을 수 없습니다");
-        }
-
-        try {
-            String json = Files.readString(path);
-            ObjectMapper mapper = new ObjectMapper();
-            Map<String, Map<String, String>> secretMap = mapper.readValue(json, new TypeReference<Map<String, Map<String, String>>>() {
-            });
-
-            List<DwAccountRes> accounts = secretMap.entrySet().stream()
-                    .map(entry -> DwAccountRes.builder()
-                            .accountId(entry.getKey())
-                            .role(entry.getValue().get("role"))
-                            .build())
-                    .sorted(Comparator.comparing(DwAccountRes::getAccountId))
-                    .collect(Collectors.toList());
-
-            log.info("[DW-SECRET] Admin용 전체 계정 수: {}", accounts.size());
-            return accounts;
-
-        } catch (IOException e) {
-            log.error("[DW-SECRET] Secret 파일 읽기 오류: {}", e.getMessage(), e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "파일 읽기 오류");
-        } catch (Exception e) {
-            log.error("[DW-SECRET] Secret 처리 중 오류: {}", e.getMessage(), e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "DW 계정 목록 조회 중 오류 발생");
-        }
+        List<DwAccountRes> accounts = dwSecretRegistry.getAllAccounts();
+        log.info("[DW-SECRET] Admin용 전체 계정 수: {}", accounts.size());
+        return accounts;
     }
 
     /*
@@ -1002,14 +888,25 @@ public class KubeServiceImpl implements KubeService {
         if (!allowed.equals(use)) {
             throw new BusinessException(ErrorCode.FORBIDDEN, "namespace not allowed: " + use);
         }
-        // 실존 확인
+        // 실존 확인 (리소스 캐시가 동기화되어 있으면 네임스페이스가 존재하므로 API 조회 생략)
         if (allowed == null || allowed.isBlank() ||
-                kubeClient.namespaces().withName(allowed).get() == null) {
+                (!kubeResourceCache.isReady(allowed) && kubeClient.namespaces().withName(allowed).get() == null)) {
             throw new IllegalStateException("네임스페이스 접근 불가: " + allowed);
         }
         return allowed;
     }
 
+    private String albHostname(Ingress ingress) {
+        return Optional.ofNullable(ingress)
+                .map(Ingress::getStatus)
+                .map(IngressStatus::getLoadBalancer)
+                .map(IngressLoadBalancerStatus::getIngress)
+                .filter(list -> !list.isEmpty())
+                .map(list -> list.get(0).getHostname())
+                .filter(host -> !host.isBlank())
+                .orElse(null);
+    }
+
     private Map<String, String> safeLabels(Map<String, String> labels) {
         if (labels == null || labels.isEmpty())
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "labels required");
@@ -1037,41 +934,36 @@ public class KubeServiceImpl implements KubeService {
 
         String podStatus = null;
 
-        try (KubernetesClient client = new KubernetesClientBuilder().build()) {
-            PodList podList = client.pods()
-                    .inNamespace(kubeConfig.getNamespace())
-                    .withLabels(podLabels)
-                    .list();
-
-            if (!podList.getItems().isEmpty()) {
-                Pod pod = podList.getItems().get(0);
-                podStatus = pod.getStatus().getPhase();
-                log.debug("[Kubernetes] Pod Phase : {}", podStatus);
-
-                // Pod 상태별 처리
-                switch (podStatus) {
-                    case "Pending":
-                        log.info("Pod 상태: Pending - Node 배정 대기 또는 자원 부족");
-                        break;
-                    case "Running":
-                        log.info("Pod 상태: Running - 컨테이너 실행 중");
-                        break;
-                    case "Succeeded":
-                        log.info("Pod 상태: Succeeded - 모든 컨테이너 정상 종료 (Job/Batch)");
-                        break;
-                    case "Failed":
-                        log.info("Pod 상태: Failed - 모든 컨테이너 실패");
-                        break;
-                    case "Unknown":
-                        log.info("Pod 상태: Unknown - 상태 확인 불가");
-                        break;
-                    default:
-                        log.info("Pod 상태: {} - 추가 확인 필요", podStatus);
-                        break;
-                }
-            } else {
-                log.warn("조회된 Pod가 없습니다.");
+        List<Pod> pods = kubeResourceCache.listPods(kubeConfig.getNamespace(), podLabels);
+
+        if (!pods.isEmpty()) {
+            Pod pod = pods.get(0);
+            podStatus = pod.getStatus().getPhase();
+            log.debug("[Kubernetes] Pod Phase : {}", podStatus);
+
+            // Pod 상태별 처리
+            switch (podStatus) {
+                case "Pending":
+                    log.info("Pod 상태: Pending - Node 배정 대기 또는 자원 부족");
+                    break;
+                case "Running":
+                    log.info("Pod 상태: Running - 컨테이너 실행 중");
+                    break;
+                case "Succeeded":
+                    log.info("Pod 상태: Succeeded - 모든 컨테이너 정상 종료 (Job/Batch)");
+                    break;
+                case "Failed":
+                    log.info("Pod 상태: Failed - 모든 컨테이너 실패");
+                    break;
+                case "Unknown":
+                    log.info("Pod 상태: Unknown - 상태 확인 불가");
+                    break;
+                default:
+                    log.info("Pod 상태: {} - 추가 확인 필요", podStatus);
+                    break;
             }
+        } else {
+            log.warn("조회된 Pod가 없습니다.");
         }
         return podStatus;
     }
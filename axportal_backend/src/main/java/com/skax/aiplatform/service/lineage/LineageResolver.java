@@ -0,0 +1,277 @@
+package com.skax.aiplatform.service.lineage;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skax.aiplatform.client.sktai.lineage.SktaiLineageClient;
+import com.skax.aiplatform.client.sktai.lineage.dto.ActionType;
+import com.skax.aiplatform.client.sktai.lineage.dto.Direction;
+import com.skax.aiplatform.client.sktai.lineage.dto.response.LineageRelationWithTypes;
+import com.skax.aiplatform.common.exception.BusinessException;
+import com.skax.aiplatform.common.exception.ErrorCode;
+import com.skax.aiplatform.common.util.ContextPropagatingTaskDecorator;
+
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 목록 화면용 Lineage 일괄 조회기
+ *
+ * <p>카탈로그 목록의 행마다 순차로 호출되던 SKTAI Lineage 탐색을 페이지 단위로 모아 처리합니다.</p>
+ * <ul>
+ *   <li>한 페이지 안의 중복 키는 한 번만 조회합니다.</li>
+ *   <li>캐시에 없는 키는 전용 스레드 풀({@code lineage.lookup.max-concurrency}, 기본 8)로 동시에 조회하며,
+ *       작업 스레드에는 호출 스레드의 SecurityContext(사용자별 SKTAI 토큰)와 MDC(traceId 등)를 전달합니다.</li>
+ *   <li>결과는 (objectKey, direction, action, depth) 단위로 {@code lineage.cache.ttl-seconds} (기본 30초) 동안 캐시하며,
+ *       포털을 통한 Lineage 생성/삭제 시 {@link #evict(Collection)} 로 무효화합니다.</li>
+ * </ul>
+ *
+ * <p>페이지별 지연은 {@code lineage.page.lookup{page, mode}} 타이머로 기록합니다.
+ * {@code lineage.lookup.concurrent=false} 로 두면 기존과 같이 순차 조회(mode=sequential)하므로 전후 비교에 사용할 수 있습니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class LineageResolver implements DisposableBean {
+
+    /**
+     * Lineage 캐시 키
+     */
+    private record LineageKey(String objectKey, Direction direction, String action, int depth) {
+    }
+
+    private final SktaiLineageClient sktaiLineageClient;
+    private final MeterRegistry meterRegistry;
+    private final Cache<LineageKey, List<LineageRelationWithTypes>> cache;
+    private final ThreadPoolTaskExecutor executor;
+    private final boolean concurrent;
+    private final long timeoutMillis;
+    private final Counter remoteCalls;
+    private final Counter remoteFailures;
+
+    /**
+     * 무효화 세대 - 조회 도중 무효화가 일어나면 조회 결과를 캐시에 남기지 않기 위해 사용
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public LineageResolver(
+            SktaiLineageClient sktaiLineageClient,
+            MeterRegistry meterRegistry,
+            @Value("${lineage.cache.ttl-seconds:30}") long ttlSeconds,
+            @Value("${lineage.cache.maximum-size:5000}") long maximumSize,
+            @Value("${lineage.lookup.concurrent:true}") boolean concurrent,
+            @Value("${lineage.lookup.max-concurrency:8}") int maxConcurrency,
+            @Value("${lineage.lookup.timeout-ms:10000}") long timeoutMillis) {
+        this.sktaiLineageClient = sktaiLineageClient;
+        this.meterRegistry = meterRegistry;
+        this.concurrent = concurrent;
+        this.timeoutMillis = timeoutMillis;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "lineage.relations");
+        this.remoteCalls = Counter.builder("lineage.lookup.remote")
+                .description("SKTAI Lineage 탐색 호출 수")
+                .register(meterRegistry);
+        this.remoteFailures = Counter.builder("lineage.lookup.remote.failures")
+                .description("SKTAI Lineage 탐색 실패 수")
+                .register(meterRegistry);
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(100);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setKeepAliveSeconds(60);
+        executor.setThreadNamePrefix("Lineage-");
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        // 큐가 가득 차면 호출 스레드에서 직접 조회하여 자연스럽게 속도를 조절
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+    }
+
+    /**
+     * 여러 객체의 Lineage 일괄 조회
+     *
+     * <p>조회에 실패했거나 제한 시간({@code lineage.lookup.timeout-ms}) 안에 끝나지 않은 키는 결과에 포함하지 않습니다.
+     * 호출 측은 기존 단건 조회 실패 시와 동일하게 처리하면 됩니다.</p>
+     *
+     * @param page       메트릭 태그용 화면 이름 (예: model-catalog)
+     * @param objectKeys 탐색할 객체 키 목록
+     * @param direction  탐색 방향
+     * @param action     액션 타입 (null 이면 USE)
+     * @param depth      탐색 깊이
+     * @return 객체 키 별 Lineage 관계 목록 (변경 불가)
+     */
+    public Map<String, List<LineageRelationWithTypes>> getLineages(String page, Collection<String> objectKeys,
+            Direction direction, String action, int depth) {
+        Map<String, List<LineageRelationWithTypes>> result = new HashMap<>();
+        if (objectKeys == null || objectKeys.isEmpty()) {
+            return result;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String actionValue = action != null ? action : ActionType.USE.getValue();
+        List<LineageKey> misses = new ArrayList<>();
+        for (String objectKey : new LinkedHashSet<>(objectKeys)) {
+            if (objectKey == null) {
+                continue;
+            }
+            LineageKey key = new LineageKey(objectKey, direction, actionValue, depth);
+            List<LineageRelationWithTypes> cached = cache.getIfPresent(key);
+            if (cached != null) {
+                result.put(objectKey, cached);
+            } else {
+                misses.add(key);
+            }
+        }
+
+        if (concurrent && misses.size() > 1) {
+            fetchConcurrently(misses, result);
+        } else {
+            for (LineageKey key : misses) {
+                try {
+                    result.put(key.objectKey(), load(key));
+                } catch (BusinessException e) {
+                    log.warn("Lineage 조회 실패 - objectKey: {}, direction: {}, error: {}",
+                            key.objectKey(), direction, e.getMessage());
+                }
+            }
+        }
+
+        long elapsedNanos = sample.stop(Timer.builder("lineage.page.lookup")
+                .description("목록 화면 한 페이지의 Lineage 조회 시간")
+                .tag("page", page)
+                .tag("mode", concurrent ? "concurrent" : "sequential")
+                .register(meterRegistry));
+        log.debug("Lineage 일괄 조회 - page: {}, 요청: {}건, 원격 조회: {}건, 결과: {}건, 소요: {} ms", page,
+                objectKeys.size(), misses.size(), result.size(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        return result;
+    }
+
+    /**
+     * 단일 객체의 Lineage 조회 (캐시 사용)
+     *
+     * @param objectKey 탐색할 객체 키
+     * @param direction 탐색 방향
+     * @param action    액션 타입 (null 이면 USE)
+     * @param depth     탐색 깊이
+     * @return Lineage 관계 목록 (변경 불가)
+     * @throws BusinessException API 호출 실패 시
+     */
+    public List<LineageRelationWithTypes> getLineage(String objectKey, Direction direction, String action, int depth) {
+        LineageKey key = new LineageKey(objectKey, direction, action != null ? action : ActionType.USE.getValue(), depth);
+        List<LineageRelationWithTypes> cached = cache.getIfPresent(key);
+        return cached != null ? cached : load(key);
+    }
+
+    /**
+     * Lineage 캐시 무효화
+     *
+     * <p>해당 객체를 기준으로 조회한 결과와, 해당 객체가 source/target 으로 포함된 결과를 모두 제거합니다.</p>
+     *
+     * @param objectKeys 관계가 변경된 객체 키 목록
+     */
+    public void evict(Collection<String> objectKeys) {
+        if (objectKeys == null) {
+            return;
+        }
+        Set<String> keys = objectKeys.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (keys.isEmpty()) {
+            return;
+        }
+        invalidations.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> keys.contains(key.objectKey()));
+        cache.asMap().values().removeIf(relations -> relations.stream()
+                .anyMatch(relation -> keys.contains(relation.getSourceKey()) || keys.contains(relation.getTargetKey())));
+        log.debug("Lineage 캐시 무효화 - objectKeys: {}", keys);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private void fetchConcurrently(List<LineageKey> misses, Map<String, List<LineageRelationWithTypes>> result) {
+        Map<LineageKey, Future<List<LineageRelationWithTypes>>> futures = new LinkedHashMap<>();
+        for (LineageKey key : misses) {
+            futures.put(key, executor.submit(() -> load(key)));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        for (Map.Entry<LineageKey, Future<List<LineageRelationWithTypes>>> entry : futures.entrySet()) {
+            LineageKey key = entry.getKey();
+            Future<List<LineageRelationWithTypes>> future = entry.getValue();
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                result.put(key.objectKey(), future.get(remaining, TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                log.warn("Lineage 조회 시간 초과 - objectKey: {}, timeout: {} ms", key.objectKey(), timeoutMillis);
+            } catch (ExecutionException e) {
+                log.warn("Lineage 조회 실패 - objectKey: {}, direction: {}, error: {}",
+                        key.objectKey(), key.direction(), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.values().forEach(pending -> pending.cancel(true));
+                log.warn("Lineage 일괄 조회 중단 - 남은 키는 결과에서 제외합니다.");
+                return;
+            }
+        }
+    }
+
+    private List<LineageRelationWithTypes> load(LineageKey key) {
+        long generation = invalidations.get();
+        List<LineageRelationWithTypes> relations;
+        try {
+            remoteCalls.increment();
+            relations = sktaiLineageClient.getLineageByObjectKeyAndDirection(key.objectKey(),
+                    key.direction() != null ? key.direction().getValue() : null, key.action(), key.depth());
+        } catch (FeignException e) {
+            remoteFailures.increment();
+            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR, "Lineage 탐색에 실패했습니다: " + e.getMessage());
+        }
+
+        List<LineageRelationWithTypes> snapshot = relations == null
+                ? List.of()
+                : Collections.unmodifiableList(new ArrayList<>(relations));
+        cache.put(key, snapshot);
+        // 조회 도중 무효화가 있었다면 변경 전 결과일 수 있으므로 캐시에서 제거
+        if (invalidations.get() != generation) {
+            cache.invalidate(key);
+        }
+        return snapshot;
+    }
+}
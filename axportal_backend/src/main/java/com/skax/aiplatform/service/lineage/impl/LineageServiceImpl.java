@@ -1,5 +1,6 @@
 package com.skax.aiplatform.service.lineage.impl;
 
+import java.util.Arrays;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
@@ -13,6 +14,7 @@ import com.skax.aiplatform.dto.lineage.request.LineageCreateReq;
 import com.skax.aiplatform.dto.lineage.request.LineageSearchReq;
 import com.skax.aiplatform.dto.lineage.response.LineageRelationRes;
 import com.skax.aiplatform.mapper.lineage.LineageMapper;
+import com.skax.aiplatform.service.lineage.LineageResolver;
 import com.skax.aiplatform.service.lineage.LineageService;
 
 import feign.FeignException;
@@ -36,6 +38,7 @@ public class LineageServiceImpl implements LineageService {
     
     private final SktaiLineageClient sktaiLineageClient;
     private final LineageMapper lineageMapper;
+    private final LineageResolver lineageResolver;
     
     @Override
     public void createLineage(LineageCreateReq request) {
@@ -44,6 +47,7 @@ public class LineageServiceImpl implements LineageService {
             
             LineageCreate lineageCreate = lineageMapper.toLineageCreate(request);
             sktaiLineageClient.createLineage(lineageCreate);
+            lineageResolver.evict(Arrays.asList(request.getSourceKey(), request.getTargetKey()));
             
             log.debug("Lineage 생성 완료: sourceKey={}, targetKey={}", 
                      request.getSourceKey(), request.getTargetKey());
@@ -104,6 +108,7 @@ public class LineageServiceImpl implements LineageService {
             log.debug("Lineage 삭제 요청: sourceKey={}", sourceKey);
             
             sktaiLineageClient.deleteLineage(sourceKey);
+            lineageResolver.evict(Arrays.asList(sourceKey));
             
             log.debug("Lineage 삭제 완료: sourceKey={}", sourceKey);
             
@@ -2,6 +2,8 @@ package com.skax.aiplatform.service.model.impl;
 
 import java.lang.reflect.Field;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -50,10 +52,11 @@ import com.skax.aiplatform.entity.model.GpoModelMngMas;
 import com.skax.aiplatform.enums.ModelGardenStatus;
 import com.skax.aiplatform.mapper.model.ModelCtlgMapper;
 import com.skax.aiplatform.repository.auth.GpoUsersMasRepository;
-import com.skax.aiplatform.repository.deploy.GpoMigMasRepository;
 import com.skax.aiplatform.repository.mapping.GpoAssetPrjMapMasRepository;
 import com.skax.aiplatform.repository.model.GpoModelMngMasRepository;
 import com.skax.aiplatform.service.admin.AdminAuthService;
+import com.skax.aiplatform.service.common.AssetVisibilityResolver;
+import com.skax.aiplatform.service.lineage.LineageResolver;
 import com.skax.aiplatform.service.model.ModelCtlgService;
 import com.skax.aiplatform.service.model.ModelGardenService;
 
@@ -72,7 +75,8 @@ public class ModelCtlgServiceImpl implements ModelCtlgService {
     private final GpoModelMngMasRepository gpoModelMngMasRepository;
     private final SktaiAuthService sktaiAuthService;
     private final GpoUsersMasRepository gpoUsersMasRepository;
-    private final GpoMigMasRepository gpoMigMasRepository;
+    private final AssetVisibilityResolver assetVisibilityResolver;
+    private final LineageResolver lineageResolver;
 
     public ModelCtlgServiceImpl(SktaiModelsService sktaiModelService,
             SktaiModelProvidersService sktaiModelProvidersService, AdminAuthService adminAuthService,
@@ -80,7 +84,8 @@ public class ModelCtlgServiceImpl implements ModelCtlgService {
             SktaiLineageService sktaiLineageService,
             GpoAssetPrjMapMasRepository assetPrjMapMasRepository, GpoModelMngMasRepository gpoModelMngMasRepository,
             SktaiAuthService sktaiAuthService,
-            GpoUsersMasRepository gpoUsersMasRepository, GpoMigMasRepository gpoMigMasRepository) {
+            GpoUsersMasRepository gpoUsersMasRepository, AssetVisibilityResolver assetVisibilityResolver,
+            LineageResolver lineageResolver) {
         this.sktaiModelService = sktaiModelService;
         this.sktaiModelProvidersService = sktaiModelProvidersService;
         this.adminAuthService = adminAuthService;
@@ -91,7 +96,8 @@ public class ModelCtlgServiceImpl implements ModelCtlgService {
         this.gpoModelMngMasRepository = gpoModelMngMasRepository;
         this.sktaiAuthService = sktaiAuthService;
         this.gpoUsersMasRepository = gpoUsersMasRepository;
-        this.gpoMigMasRepository = gpoMigMasRepository;
+        this.assetVisibilityResolver = assetVisibilityResolver;
+        this.lineageResolver = lineageResolver;
     }
 
     @Override
@@ -110,24 +116,39 @@ public class ModelCtlgServiceImpl implements ModelCtlgService {
         List<GetModelCtlgRes> response = models.getData().stream()
                 .map(model -> modelCtlgMapper.toGetModelCtlgRes(model, null)).collect(Collectors.toList());
 
+        // 파인튜닝으로 생성된 모델관리 확인 (내부에서 모든 예외를 처리하므로 예외가 전파되지 않음)
+        // 공개범위 일괄 조회 전에 매핑을 먼저 생성
+        for (GetModelCtlgRes modelCtlg : response) {
+            processFinetuningModelMapping(modelCtlg);
+        }
+
+        // 공개범위/운영 배포 여부 일괄 조회 (페이지 단위 IN 조회)
+        Map<String, GpoAssetPrjMapMas> assets = assetVisibilityResolver.findAssets(response.stream()
+                .map(modelCtlg -> "/api/v1/models/" + modelCtlg.getId()).toList());
+        Set<String> migratedIds = assetVisibilityResolver.findMigratedIds(response.stream()
+                .map(GetModelCtlgRes::getId).toList());
+
+        // 모델 ID로 Lineage 일괄 조회 (upstream 방향으로 - 모델에 들어오는 관계)
+        Map<String, List<LineageRelationWithTypes>> lineages = lineageResolver.getLineages("model-catalog",
+                response.stream().map(GetModelCtlgRes::getId).toList(), Direction.UPSTREAM,
+                ActionType.USE.getValue(), 1);
+
         // 각 모델에 대해 Lineage 조회
         for (GetModelCtlgRes modelCtlg : response) {
             try {
-                // 파인튜닝으로 생성된 모델관리 확인 (내부에서 모든 예외를 처리하므로 예외가 전파되지 않음)
-                processFinetuningModelMapping(modelCtlg);
-
                 // 공개범위 조회
-                GpoAssetPrjMapMas existing = assetPrjMapMasRepository
-                        .findByAsstUrl("/api/v1/models/" + modelCtlg.getId()).orElse(null);
+                GpoAssetPrjMapMas existing = assets.get("/api/v1/models/" + modelCtlg.getId());
                 String publicStatus = "전체공유";
                 if (existing != null && existing.getLstPrjSeq() != null && existing.getLstPrjSeq() > 0) {
                     publicStatus = "내부공유";
                 }
                 modelCtlg.setPublicStatus(publicStatus);
 
-                // 모델 ID로 Lineage 조회 (upstream 방향으로 - 모델에 들어오는 관계)
-                List<LineageRelationWithTypes> lineageRelations = sktaiLineageService.getLineageByObjectKeyAndDirection(
-                        modelCtlg.getId(), Direction.UPSTREAM, ActionType.USE.getValue(), 1);
+                // Lineage 조회 실패 시에도 모델 정보는 정상 반환
+                if (!lineages.containsKey(modelCtlg.getId())) {
+                    continue;
+                }
+                List<LineageRelationWithTypes> lineageRelations = lineages.get(modelCtlg.getId());
                 log.debug("모델 {} Lineage 조회 완료: {}건", modelCtlg.getId(),
                         lineageRelations != null ? lineageRelations.size() : 0);
                 log.debug("모델 {} Lineage 정보: {}", modelCtlg.getId(), lineageRelations);
@@ -146,7 +167,7 @@ public class ModelCtlgServiceImpl implements ModelCtlgService {
                     }
                 }
                 ///// 운영 배포 여부
-                boolean isActive = gpoMigMasRepository.findByPgmDescCtnt(modelCtlg.getId()).isPresent();
+                boolean isActive = migratedIds.contains(modelCtlg.getId());
                 log.info("마이그레이션 여부 조회 성공: modelId={}, isActive={}", modelCtlg.getId(), isActive);
                 if (isActive) {
                     deployStatus += ", PROD";
@@ -549,6 +570,7 @@ public class ModelCtlgServiceImpl implements ModelCtlgService {
                     }
 
                     assetPrjMapMasRepository.save(mapping);
+                    assetVisibilityResolver.evict(mapping.getAsstUrl());
                     return; // 첫 번째 매칭되는 항목만 처리하고 종료
                 }
             }
@@ -6,6 +6,7 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -27,7 +28,6 @@ import com.skax.aiplatform.client.sktai.lineage.dto.ActionType;
 import com.skax.aiplatform.client.sktai.lineage.dto.Direction;
 import com.skax.aiplatform.client.sktai.lineage.dto.ObjectType;
 import com.skax.aiplatform.client.sktai.lineage.dto.response.LineageRelationWithTypes;
-import com.skax.aiplatform.client.sktai.lineage.service.SktaiLineageService;
 import com.skax.aiplatform.client.sktai.resrcMgmt.ResrcMgmtClient;
 import com.skax.aiplatform.client.sktai.resrcMgmt.ResrcMgmtGpuClient;
 import com.skax.aiplatform.client.sktai.serving.dto.request.BackendAiServingCreate;
@@ -65,6 +65,8 @@ import com.skax.aiplatform.mapper.model.ModelDeployMapper;
 import com.skax.aiplatform.repository.mapping.GpoAssetPrjMapMasRepository;
 import com.skax.aiplatform.repository.model.GpoDockerImgUrlMasRepository;
 import com.skax.aiplatform.service.admin.AdminAuthService;
+import com.skax.aiplatform.service.common.AssetVisibilityResolver;
+import com.skax.aiplatform.service.lineage.LineageResolver;
 import com.skax.aiplatform.service.common.MigService;
 import com.skax.aiplatform.service.common.ProjectInfoService;
 import com.skax.aiplatform.service.deploy.ApiGwService;
@@ -82,7 +84,6 @@ public class ModelDeployServiceImpl implements ModelDeployService {
 
     private final SktaiServingService sktaiServingService;
     private final LablupSessionService lablupSessionService;
-    private final SktaiLineageService sktaiLineageService;
     private final ModelDeployMapper modelDeployMapper;
 
     private final ApiGwService apiGwService;
@@ -90,6 +91,8 @@ public class ModelDeployServiceImpl implements ModelDeployService {
     private final SktaiAuthService sktaiAuthService;
 
     private final GpoAssetPrjMapMasRepository assetPrjMapMasRepository;
+    private final AssetVisibilityResolver assetVisibilityResolver;
+    private final LineageResolver lineageResolver;
     private final GpoDockerImgUrlMasRepository dockerImgUrlMasRepository;
 
     private final ResrcMgmtClient resrcMgmtClient;
@@ -118,10 +121,28 @@ public class ModelDeployServiceImpl implements ModelDeployService {
         List<GetModelDeployRes> response = servings.getData().stream()
                 .map(serving -> modelDeployMapper.toGetModelListDeployRes(serving)).collect(Collectors.toList());
 
+        // 공개범위 일괄 조회 (페이지 단위 IN 조회)
+        Map<String, GpoAssetPrjMapMas> assets = assetVisibilityResolver.findAssets(response.stream()
+                .map(serving -> "/api/v1/servings/" + serving.getServingId()).toList());
+
+        if (CollectionUtils.isEmpty(deployModelNames)) {
+            deployModelNames = List.of();
+        }
+
+        // 내 가드레일에 연결되지 않은 서빙의 가드레일 리니지 일괄 조회
+        List<String> unlinkedServingNames = new ArrayList<>();
+        for (GetModelDeployRes item : response) {
+            if (!deployModelNames.contains(item.getName())) {
+                unlinkedServingNames.add(item.getName());
+            }
+        }
+        Map<String, List<LineageRelationWithTypes>> guardrailLineages = lineageResolver.getLineages("model-deploy",
+                unlinkedServingNames, Direction.DOWNSTREAM, ActionType.USE.getValue(), 5);
+
         for (GetModelDeployRes item : response) {
             /////////////////////////////// 공개범위 조회 ///////////////////////////////
             GpoAssetPrjMapMas existing =
-                    assetPrjMapMasRepository.findByAsstUrl("/api/v1/servings/" + item.getServingId()).orElse(null);
+                    assets.get("/api/v1/servings/" + item.getServingId());
             String publicStatus = "전체공유";
             if (existing != null && existing.getLstPrjSeq() != null && existing.getLstPrjSeq() > 0) {
                 publicStatus = "내부공유";
@@ -137,10 +158,6 @@ public class ModelDeployServiceImpl implements ModelDeployService {
             String servingName = item.getName();
             String guardrailApplied;
 
-            if (CollectionUtils.isEmpty(deployModelNames)) {
-                deployModelNames = List.of();
-            }
-
             // 현재 서빙이 내 가드레일에 연결되어 있는지 확인
             boolean isLinkedToMyGuardrail = deployModelNames.contains(servingName);
 
@@ -152,23 +169,12 @@ public class ModelDeployServiceImpl implements ModelDeployService {
                 // Case 2 & 3: 내 가드레일에 적용되지 않은 경우, 다른 가드레일 연결 여부 확인
                 boolean isLinkedToOtherGuardrail = false;
 
-                try {
-                    List<LineageRelationWithTypes> lineageRelation =
-                            sktaiLineageService.getLineageByObjectKeyAndDirection(
-                                    servingName,
-                                    Direction.DOWNSTREAM,
-                                    ActionType.USE.getValue(),
-                                    5
-                            );
-
-                    if (!CollectionUtils.isEmpty(lineageRelation)) {
-                        isLinkedToOtherGuardrail = lineageRelation.stream().anyMatch(relation ->
-                                ObjectType.SERVING_MODEL.equals(relation.getSourceType())
-                                        && ObjectType.GUARDRAILS.equals(relation.getTargetType()));
-                    }
-                } catch (Exception e) {
-                    log.warn("가드레일 리니지 조회 실패 - servingName: {}, error: {}", servingName, e.getMessage());
-                    // 예외 발생 시 isLinkedToOtherGuardrail는 그대로 false 유지
+                // 리니지 조회 실패 시 isLinkedToOtherGuardrail는 그대로 false 유지
+                List<LineageRelationWithTypes> lineageRelation = guardrailLineages.get(servingName);
+                if (!CollectionUtils.isEmpty(lineageRelation)) {
+                    isLinkedToOtherGuardrail = lineageRelation.stream().anyMatch(relation ->
+                            ObjectType.SERVING_MODEL.equals(relation.getSourceType())
+                                    && ObjectType.GUARDRAILS.equals(relation.getTargetType()));
                 }
 
                 if (isLinkedToOtherGuardrail) {
@@ -1,6 +1,7 @@
 package com.skax.aiplatform.service.model.impl;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Pageable;
@@ -34,6 +35,7 @@ import com.skax.aiplatform.entity.mapping.GpoAssetPrjMapMas;
 import com.skax.aiplatform.mapper.model.ModelFinetuningMapper;
 import com.skax.aiplatform.repository.mapping.GpoAssetPrjMapMasRepository;
 import com.skax.aiplatform.service.admin.AdminAuthService;
+import com.skax.aiplatform.service.common.AssetVisibilityResolver;
 import com.skax.aiplatform.service.model.ModelFinetuningService;
 
 import lombok.RequiredArgsConstructor;
@@ -51,6 +53,7 @@ public class ModelFineTuningServiceImpl implements ModelFinetuningService {
     private final SktaiAuthService sktaiAuthService;
     private final ModelFinetuningMapper finetuningMapper;
     private final GpoAssetPrjMapMasRepository assetPrjMapMasRepository;
+    private final AssetVisibilityResolver assetVisibilityResolver;
 
     /**
      * 파인튜닝 모델 생성
@@ -166,9 +169,13 @@ public class ModelFineTuningServiceImpl implements ModelFinetuningService {
                 log.warn("4. SKTAI system data issue");
             } else {
 
+                // 공개 여부 일괄 조회 (페이지 단위 IN 조회)
+                Map<String, GpoAssetPrjMapMas> assets = assetVisibilityResolver.findAssets(content.stream()
+                        .map(training -> "/api/v1/backend-ai/finetuning/trainings/" + training.getId()).toList());
+
                 for (ModelFineTuningTrainingsRes item : content) {
                     // 공개 여부 설정 (lst_prj_seq 값에 따라)
-                    GpoAssetPrjMapMas existing = assetPrjMapMasRepository.findByAsstUrl("/api/v1/backend-ai/finetuning/trainings/" + item.getId()).orElse(null);
+                    GpoAssetPrjMapMas existing = assets.get("/api/v1/backend-ai/finetuning/trainings/" + item.getId());
                     String publicStatus = "전체공유";
                     if (existing != null && existing.getLstPrjSeq() != null && existing.getLstPrjSeq() > 0) {
                         publicStatus = "내부공유";
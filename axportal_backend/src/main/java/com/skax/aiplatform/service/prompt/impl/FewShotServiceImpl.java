@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -56,6 +57,8 @@ import com.skax.aiplatform.mapper.lineage.LineageMapper;
 import com.skax.aiplatform.mapper.prompt.FewShotMapper;
 import com.skax.aiplatform.repository.mapping.GpoAssetPrjMapMasRepository;
 import com.skax.aiplatform.service.admin.AdminAuthService;
+import com.skax.aiplatform.service.common.AssetVisibilityResolver;
+import com.skax.aiplatform.service.lineage.LineageResolver;
 import com.skax.aiplatform.service.prompt.FewShotService;
 
 import feign.FeignException;
@@ -87,6 +90,8 @@ public class FewShotServiceImpl implements FewShotService {
     private final AdminAuthService adminAuthService;
 
     private final GpoAssetPrjMapMasRepository assetPrjMapMasRepository;
+    private final AssetVisibilityResolver assetVisibilityResolver;
+    private final LineageResolver lineageResolver;
 
     private final LineageMapper lineageMapper;
     private final FewShotMapper fewShotMapper;
@@ -105,16 +110,25 @@ public class FewShotServiceImpl implements FewShotService {
                     .map(fewShotMapper::from)
                     .collect(Collectors.toList());
             
+            // 공개 여부 일괄 조회 (페이지 단위 IN 조회)
+            Map<String, GpoAssetPrjMapMas> assets = assetVisibilityResolver.findAssets(fewShotList.stream()
+                    .map(shot -> "/api/v1/agent/few-shots/" + shot.getUuid()).toList());
+
+            // FewShot ID로 Lineage 일괄 조회 (upstream 방향으로 - FewShot을 사용하는 관계)
+            Map<String, List<LineageRelationWithTypes>> lineages = lineageResolver.getLineages("few-shot",
+                    fewShotList.stream().map(FewShotRes::getUuid).toList(), Direction.UPSTREAM,
+                    ActionType.USE.getValue(), 5);
+
             // 각 FewShot에 대해 Lineage 조회 및 AGENT_GRAPH 필터링
             for (FewShotRes fewShot : fewShotList) {
                 try {
-                    // FewShot ID로 Lineage 조회 (downstream 방향으로 - FewShot에서 나가는 관계)
-                    List<LineageRelationWithTypes> lineageRelations = sktaiLineageService.getLineageByObjectKeyAndDirection(
-                            fewShot.getUuid(), 
-                            Direction.UPSTREAM, 
-                            ActionType.USE.getValue(), 
-                            5
-                    );
+                    List<LineageRelationWithTypes> lineageRelations = lineages.get(fewShot.getUuid());
+                    if (lineageRelations == null) {
+                        // Lineage 조회 실패 시 기본값 설정
+                        fewShot.setConnectedAgentCount(0);
+                        fewShot.setAgentGraphRelations(List.of()); // 빈 리스트로 설정
+                        continue;
+                    }
                     
                     // SourceType AGENT_GRAPH인 것만 필터링
                     List<LineageRelationWithTypes> agentGraphRelations = lineageRelations.stream()
@@ -144,7 +158,7 @@ public class FewShotServiceImpl implements FewShotService {
                     }
 
                     // 공개 여부 설정 (lst_prj_seq 값에 따라)
-                    GpoAssetPrjMapMas existing = assetPrjMapMasRepository.findByAsstUrl("/api/v1/agent/few-shots/" + fewShot.getUuid()).orElse(null);
+                    GpoAssetPrjMapMas existing = assets.get("/api/v1/agent/few-shots/" + fewShot.getUuid());
                     String publicStatus = null;
                     if (existing != null && existing.getLstPrjSeq() != null) {
                         // 음수면 "전체공유", 양수면 "내부공유"
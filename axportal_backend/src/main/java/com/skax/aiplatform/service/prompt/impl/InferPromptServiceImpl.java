@@ -10,6 +10,7 @@ import com.skax.aiplatform.client.sktai.auth.service.SktaiAuthService;
 import com.skax.aiplatform.client.sktai.common.dto.Pagination;
 import com.skax.aiplatform.client.sktai.lineage.SktaiLineageClient;
 import com.skax.aiplatform.client.sktai.lineage.dto.ActionType;
+import com.skax.aiplatform.client.sktai.lineage.dto.Direction;
 import com.skax.aiplatform.client.sktai.lineage.dto.ObjectType;
 import com.skax.aiplatform.client.sktai.lineage.dto.response.LineageRelationWithTypes;
 import com.skax.aiplatform.common.exception.BusinessException;
@@ -25,6 +26,8 @@ import com.skax.aiplatform.mapper.prompt.InferPromptMapper;
 import com.skax.aiplatform.repository.auth.GpoUsersMasRepository;
 import com.skax.aiplatform.repository.mapping.GpoAssetPrjMapMasRepository;
 import com.skax.aiplatform.service.admin.AdminAuthService;
+import com.skax.aiplatform.service.common.AssetVisibilityResolver;
+import com.skax.aiplatform.service.lineage.LineageResolver;
 import com.skax.aiplatform.service.prompt.InferPromptService;
 import feign.FeignException;
 import lombok.RequiredArgsConstructor;
@@ -75,6 +78,8 @@ public class InferPromptServiceImpl implements InferPromptService {
     private final SktaiLineageClient sktaiLineageClient;
 
     private final GpoAssetPrjMapMasRepository assetPrjMapMasRepository;
+    private final AssetVisibilityResolver assetVisibilityResolver;
+    private final LineageResolver lineageResolver;
     private final GpoUsersMasRepository usersMasRepository;
 
     @Override
@@ -99,10 +104,13 @@ public class InferPromptServiceImpl implements InferPromptService {
 
         List<InfPromptRes> content = infPromptResPageResponse.getContent();
 
+        // 공개 여부 일괄 조회 (페이지 단위 IN 조회)
+        Map<String, GpoAssetPrjMapMas> assets = assetVisibilityResolver.findAssets(content.stream()
+                .map(prompt -> "/api/v1/agent/inference-prompts/" + prompt.getUuid()).toList());
+
         for (InfPromptRes infPromptRes : content) {
             // 공개 여부 설정 (lst_prj_seq 값에 따라)
-            GpoAssetPrjMapMas existing = assetPrjMapMasRepository
-                    .findByAsstUrl("/api/v1/agent/inference-prompts/" + infPromptRes.getUuid()).orElse(null);
+            GpoAssetPrjMapMas existing = assets.get("/api/v1/agent/inference-prompts/" + infPromptRes.getUuid());
             String publicStatus = null;
 
             if (existing != null && existing.getLstPrjSeq() != null) {
@@ -154,31 +162,19 @@ public class InferPromptServiceImpl implements InferPromptService {
         List<InfPromptRes> content = toSanitizedPromptSummaries(response.getData());
 
         // 각 프롬프트에 대해 연결된 PROMPT 수 조회 및 매핑
+        Map<String, List<LineageRelationWithTypes>> lineages = lineageResolver.getLineages("infer-prompt",
+                content.stream().map(InfPromptRes::getUuid).toList(), Direction.UPSTREAM,
+                ActionType.USE.getValue(), 5);
         for (InfPromptRes prompt : content) {
-            try {
-                // Lineage 조회 (upstream 방향으로)
-                List<LineageRelationWithTypes> lineageRelations = sktaiLineageClient.getLineageByObjectKeyAndDirection(
-                        prompt.getUuid(),
-                        "upstream",
-                        ActionType.USE.getValue(),
-                        5);
-
-                // PROMPT 타입만 필터링하여 개수 계산
-                long agentGraphCount = lineageRelations.stream()
-                        .filter(relation -> ObjectType.AGENT_GRAPH.equals(relation.getSourceType()))
-                        .count();
-
-                prompt.setConnectedAgentCount((int) agentGraphCount);
-
-            } catch (FeignException e) {
-                log.warn("InferPrompt {} Lineage 조회 실패 (FeignException): {}", prompt.getUuid(), e.getMessage());
-                // Lineage 조회 실패 시 기본값 설정
-                prompt.setConnectedAgentCount(0);
-            } catch (RuntimeException e) {
-                log.warn("InferPrompt {} Lineage 조회 실패 (RuntimeException): {}", prompt.getUuid(), e.getMessage());
-                // Lineage 조회 실패 시 기본값 설정
-                prompt.setConnectedAgentCount(0);
-            }
+            // Lineage 조회 실패 시 기본값 설정
+            List<LineageRelationWithTypes> lineageRelations = lineages.getOrDefault(prompt.getUuid(), List.of());
+
+            // AGENT_GRAPH 타입만 필터링하여 개수 계산
+            long agentGraphCount = lineageRelations.stream()
+                    .filter(relation -> ObjectType.AGENT_GRAPH.equals(relation.getSourceType()))
+                    .count();
+
+            prompt.setConnectedAgentCount((int) agentGraphCount);
         }
 
         // 2) 페이지네이션 정보 확인
@@ -213,32 +209,19 @@ public class InferPromptServiceImpl implements InferPromptService {
                 .toList();
 
         // 각 프롬프트에 대해 연결된 에이전트 수 조회 및 매핑
+        Map<String, List<LineageRelationWithTypes>> lineages = lineageResolver.getLineages("infer-prompt-tag",
+                content.stream().map(InfPromptRes::getUuid).toList(), Direction.UPSTREAM,
+                ActionType.USE.getValue(), 5);
         for (InfPromptRes prompt : content) {
-            try {
-                // todo 확인 필요
-                // Lineage 조회 (upstream 방향으로)
-                List<LineageRelationWithTypes> lineageRelations = sktaiLineageClient.getLineageByObjectKeyAndDirection(
-                        prompt.getUuid(),
-                        "upstream",
-                        ActionType.USE.getValue(),
-                        5);
-
-                // 프롬프트 타입만 필터링하여 개수 계산
-                long agentGraphCount = lineageRelations.stream()
-                        .filter(relation -> ObjectType.AGENT_GRAPH.equals(relation.getSourceType()))
-                        .count();
-
-                prompt.setConnectedAgentCount((int) agentGraphCount);
-
-            } catch (FeignException e) {
-                log.warn("InferPrompt {} Lineage 조회 실패 (FeignException): {}", prompt.getUuid(), e.getMessage());
-                // Lineage 조회 실패 시 기본값 설정
-                prompt.setConnectedAgentCount(0);
-            } catch (RuntimeException e) {
-                log.warn("InferPrompt {} Lineage 조회 실패 (RuntimeException): {}", prompt.getUuid(), e.getMessage());
-                // Lineage 조회 실패 시 기본값 설정
-                prompt.setConnectedAgentCount(0);
-            }
+            // Lineage 조회 실패 시 기본값 설정
+            List<LineageRelationWithTypes> lineageRelations = lineages.getOrDefault(prompt.getUuid(), List.of());
+
+            // AGENT_GRAPH 타입만 필터링하여 개수 계산
+            long agentGraphCount = lineageRelations.stream()
+                    .filter(relation -> ObjectType.AGENT_GRAPH.equals(relation.getSourceType()))
+                    .count();
+
+            prompt.setConnectedAgentCount((int) agentGraphCount);
         }
 
         // Page<InfPromptRes> pageResult = new PageImpl<>(
@@ -0,0 +1,49 @@
+-- 배치 작업 조정기 (BatchJobCoordinator) 테이블 - PostgreSQL
+-- ddl-auto: none 환경이므로 batch.coordinator.enabled=true 로 배포하기 전에 먼저 적용해야 합니다.
+
+-- 배치 작업 잠금 (job_nm PK 는 INSERT 충돌로 동시 획득을 막는 데 사용)
+CREATE TABLE IF NOT EXISTS gpo_batch_lock_mas (
+    job_nm      VARCHAR(100)  NOT NULL,
+    lock_owner  VARCHAR(200),
+    locked_at   TIMESTAMP,
+    lock_until  TIMESTAMP     NOT NULL,
+    CONSTRAINT pk_gpo_batch_lock_mas PRIMARY KEY (job_nm)
+);
+
+COMMENT ON TABLE gpo_batch_lock_mas IS '배치 작업 잠금';
+COMMENT ON COLUMN gpo_batch_lock_mas.job_nm IS '작업명';
+COMMENT ON COLUMN gpo_batch_lock_mas.lock_owner IS '잠금 소유자 (인스턴스ID/실행ID)';
+COMMENT ON COLUMN gpo_batch_lock_mas.locked_at IS '잠금 획득 일시';
+COMMENT ON COLUMN gpo_batch_lock_mas.lock_until IS '잠금 만료 일시';
+
+-- 배치 작업 실행 이력
+CREATE TABLE IF NOT EXISTS gpo_batch_run_mas (
+    run_id        VARCHAR(50)    NOT NULL,
+    job_nm        VARCHAR(100)   NOT NULL,
+    trigger_type  VARCHAR(20),
+    run_status    VARCHAR(20),
+    instance_id   VARCHAR(200),
+    rqst_user_id  VARCHAR(50),
+    started_at    TIMESTAMP      NOT NULL,
+    ended_at      TIMESTAMP,
+    duration_ms   BIGINT,
+    row_cnt       BIGINT,
+    error_msg     VARCHAR(2000),
+    CONSTRAINT pk_gpo_batch_run_mas PRIMARY KEY (run_id)
+);
+
+CREATE INDEX IF NOT EXISTS ix_gpo_batch_run_mas_01 ON gpo_batch_run_mas (job_nm, started_at);
+CREATE INDEX IF NOT EXISTS ix_gpo_batch_run_mas_02 ON gpo_batch_run_mas (started_at);
+
+COMMENT ON TABLE gpo_batch_run_mas IS '배치 작업 실행 이력';
+COMMENT ON COLUMN gpo_batch_run_mas.run_id IS '실행ID';
+COMMENT ON COLUMN gpo_batch_run_mas.job_nm IS '작업명';
+COMMENT ON COLUMN gpo_batch_run_mas.trigger_type IS '실행 구분 (SCHEDULED, MANUAL)';
+COMMENT ON COLUMN gpo_batch_run_mas.run_status IS '실행 상태 (RUNNING, SUCCESS, FAILED)';
+COMMENT ON COLUMN gpo_batch_run_mas.instance_id IS '실행 인스턴스ID';
+COMMENT ON COLUMN gpo_batch_run_mas.rqst_user_id IS '요청자 (수동 실행 시)';
+COMMENT ON COLUMN gpo_batch_run_mas.started_at IS '시작 일시';
+COMMENT ON COLUMN gpo_batch_run_mas.ended_at IS '종료 일시';
+COMMENT ON COLUMN gpo_batch_run_mas.duration_ms IS '소요 시간 (ms)';
+COMMENT ON COLUMN gpo_batch_run_mas.row_cnt IS '처리 건수';
+COMMENT ON COLUMN gpo_batch_run_mas.error_msg IS '오류 메시지';
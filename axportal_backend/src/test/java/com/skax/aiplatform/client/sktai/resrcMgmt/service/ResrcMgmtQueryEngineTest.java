@@ -0,0 +1,233 @@
+package com.skax.aiplatform.client.sktai.resrcMgmt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.skax.aiplatform.client.sktai.resrcMgmt.ResrcMgmtClient;
+import com.skax.aiplatform.client.sktai.resrcMgmt.ResrcMgmtGpuClient;
+import com.skax.aiplatform.client.sktai.resrcMgmt.service.ResrcMgmtQueryEngine.Source;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * ResrcMgmtQueryEngine 테스트
+ *
+ * <p>고정된 Prometheus matrix 응답으로 구간 분할/병합, [from, to] 범위 자르기, matrix 가 아닌 응답의
+ * 직접 조회 전환, 다중 시계열과 빈 구간 처리를 확인합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+class ResrcMgmtQueryEngineTest {
+
+    private static final String QUERY = "sum(rate(container_cpu_usage_seconds_total[5m])) by (pod)";
+    private static final int WINDOW_POINTS = 10;
+
+    private final ResrcMgmtClient resrcMgmtClient = mock(ResrcMgmtClient.class);
+    private final ResrcMgmtGpuClient resrcMgmtGpuClient = mock(ResrcMgmtGpuClient.class);
+    private final ResrcMgmtQueryEngine engine = new ResrcMgmtQueryEngine(resrcMgmtClient, resrcMgmtGpuClient,
+            new SimpleMeterRegistry(), 4, 15, WINDOW_POINTS, 24, 600, 100);
+
+    @AfterEach
+    void tearDown() {
+        engine.destroy();
+    }
+
+    static Stream<Arguments> mergeCases() {
+        return Stream.of(
+                Arguments.of("단일 구간 범위 자르기",
+                        List.of(matrix(series("a", 0, 60, 120, 180))), 60, 120,
+                        Map.of("a", List.of(60L, 120L))),
+                Arguments.of("구간 이어 붙이기",
+                        List.of(matrix(series("a", 0, 60)), matrix(series("a", 120, 180))), 0, 180,
+                        Map.of("a", List.of(0L, 60L, 120L, 180L))),
+                Arguments.of("다중 시계열",
+                        List.of(matrix(series("a", 0, 60), series("b", 0)), matrix(series("b", 120), series("c", 120))),
+                        0, 120,
+                        Map.of("a", List.of(0L, 60L), "b", List.of(0L, 120L), "c", List.of(120L))),
+                Arguments.of("빈 구간 포함",
+                        List.of(matrix(), matrix(series("a", 120)), matrix()), 0, 300,
+                        Map.of("a", List.of(120L))),
+                Arguments.of("범위 밖 시계열 제외",
+                        List.of(matrix(series("a", 0, 60), series("b", 600))), 0, 60,
+                        Map.of("a", List.of(0L, 60L))),
+                Arguments.of("모든 구간이 빈 경우",
+                        List.of(matrix(), matrix()), 0, 300,
+                        Map.of()),
+                Arguments.of("vector 응답",
+                        List.of(matrix(series("a", 0)), response("success", "vector", List.of())), 0, 60,
+                        null),
+                Arguments.of("실패 응답",
+                        List.of(response("error", "matrix", List.of())), 0, 60,
+                        null),
+                Arguments.of("Map 이 아닌 응답",
+                        List.of("unexpected"), 0, 60,
+                        null));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("mergeCases")
+    void mergesMatrixResponses(String name, List<Object> responses, long from, long to,
+            Map<String, List<Long>> expected) {
+        Object merged = ResrcMgmtQueryEngine.mergeMatrix(responses, from, to);
+
+        if (expected == null) {
+            assertThat(merged).isNull();
+        } else {
+            assertThat(timestampsByPod(merged)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void splitsRangeIntoAlignedWindowsAndMerges() {
+        answerWithMatrix(resrcMgmtClient);
+
+        Object result = engine.queryRange(Source.PORTAL, QUERY, "1000", "2500", "60");
+
+        verify(resrcMgmtClient).executeQueryRange(QUERY, "600", "1140", "60");
+        verify(resrcMgmtClient).executeQueryRange(QUERY, "1200", "1740", "60");
+        verify(resrcMgmtClient).executeQueryRange(QUERY, "1800", "2340", "60");
+        verify(resrcMgmtClient).executeQueryRange(QUERY, "2400", "2940", "60");
+        verify(resrcMgmtClient, times(4)).executeQueryRange(eq(QUERY), anyString(), anyString(), anyString());
+
+        List<Long> timestamps = timestampsByPod(result).get("a");
+        assertThat(timestamps).hasSize(26);
+        assertThat(timestamps.get(0)).isEqualTo(960L);
+        assertThat(timestamps.get(timestamps.size() - 1)).isEqualTo(2460L);
+    }
+
+    @Test
+    void reusesCachedWindowsForOverlappingRanges() {
+        answerWithMatrix(resrcMgmtClient);
+
+        engine.queryRange(Source.PORTAL, QUERY, "1000", "2500", "60");
+        Object result = engine.queryRange(Source.PORTAL, QUERY, "1300", "1700", "60");
+
+        verify(resrcMgmtClient, times(4)).executeQueryRange(eq(QUERY), anyString(), anyString(), anyString());
+        assertThat(timestampsByPod(result).get("a")).first().isEqualTo(1260L);
+        assertThat(timestampsByPod(result).get("a")).last().isEqualTo(1680L);
+    }
+
+    @Test
+    void fallsBackToDirectQueryWhenWindowIsNotMatrix() {
+        Object vector = response("success", "vector", List.of());
+        Object direct = matrix(series("direct", 960));
+        when(resrcMgmtClient.executeQueryRange(eq(QUERY), anyString(), anyString(), anyString())).thenReturn(vector);
+        when(resrcMgmtClient.executeQueryRange(QUERY, "960", "2460", "60")).thenReturn(direct);
+
+        Object result = engine.queryRange(Source.PORTAL, QUERY, "1000", "2500", "60");
+
+        assertThat(result).isSameAs(direct);
+    }
+
+    @Test
+    void passesThroughUnparsableTimes() {
+        Object direct = matrix(series("a", 0));
+        when(resrcMgmtClient.executeQueryRange(QUERY, "now-1h", "now", "1m")).thenReturn(direct);
+
+        Object result = engine.queryRange(Source.PORTAL, QUERY, "now-1h", "now", "1m");
+
+        assertThat(result).isSameAs(direct);
+    }
+
+    @Test
+    void queriesAlignedRangeOnceWhenTooManyWindows() {
+        answerWithMatrix(resrcMgmtClient);
+
+        Object result = engine.queryRange(Source.PORTAL, QUERY, "0", "60000", "60");
+
+        verify(resrcMgmtClient).executeQueryRange(QUERY, "0", "60000", "60");
+        verify(resrcMgmtClient, times(1)).executeQueryRange(eq(QUERY), anyString(), anyString(), anyString());
+        assertThat(timestampsByPod(result).get("a")).hasSize(1001);
+    }
+
+    @Test
+    void routesGpuSourceToGpuClient() {
+        when(resrcMgmtGpuClient.executeQueryRange(eq(QUERY), anyString(), anyString(), anyString()))
+                .thenAnswer(invocation -> matrix(series("gpu",
+                        Long.parseLong(invocation.getArgument(1)), Long.parseLong(invocation.getArgument(2)))));
+
+        Object result = engine.queryRange(Source.GPU, QUERY, "600", "1140", "60");
+
+        assertThat(timestampsByPod(result)).containsOnlyKeys("gpu");
+        verify(resrcMgmtClient, never()).executeQueryRange(anyString(), anyString(), anyString(), anyString());
+    }
+
+    /**
+     * 요청 범위 [start, end] 에 step 간격의 점을 가진 시계열 "a" 로 응답
+     */
+    private static void answerWithMatrix(ResrcMgmtClient client) {
+        when(client.executeQueryRange(eq(QUERY), anyString(), anyString(), anyString())).thenAnswer(invocation -> {
+            long start = Long.parseLong(invocation.getArgument(1));
+            long end = Long.parseLong(invocation.getArgument(2));
+            long step = Long.parseLong(invocation.getArgument(3));
+            List<Long> timestamps = new ArrayList<>();
+            for (long ts = start; ts <= end; ts += step) {
+                timestamps.add(ts);
+            }
+            return matrix(series("a", timestamps.stream().mapToLong(Long::longValue).toArray()));
+        });
+    }
+
+    private static Map<String, Object> series(String pod, long... timestamps) {
+        List<Object> values = new ArrayList<>();
+        for (long ts : timestamps) {
+            values.add(List.of(ts, "1"));
+        }
+        Map<String, Object> series = new LinkedHashMap<>();
+        series.put("metric", Map.of("pod", pod));
+        series.put("values", values);
+        return series;
+    }
+
+    @SafeVarargs
+    private static Object matrix(Map<String, Object>... series) {
+        return response("success", "matrix", List.of(series));
+    }
+
+    private static Object response(String status, String resultType, List<?> result) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("resultType", resultType);
+        data.put("result", result);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", status);
+        body.put("data", data);
+        return body;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, List<Long>> timestampsByPod(Object response) {
+        Map<String, Object> data = (Map<String, Object>) ((Map<String, Object>) response).get("data");
+        assertThat(data.get("resultType")).isEqualTo("matrix");
+        Map<String, List<Long>> timestamps = new LinkedHashMap<>();
+        for (Object item : (List<Object>) data.get("result")) {
+            Map<String, Object> series = (Map<String, Object>) item;
+            String pod = ((Map<String, String>) series.get("metric")).get("pod");
+            List<Long> points = new ArrayList<>();
+            for (Object point : (List<Object>) series.get("values")) {
+                points.add(((Number) ((List<Object>) point).get(0)).longValue());
+            }
+            timestamps.put(pod, points);
+        }
+        return timestamps;
+    }
+}
@@ -0,0 +1,175 @@
+package com.skax.aiplatform.common.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.skax.aiplatform.common.constant.Constants;
+import com.skax.aiplatform.common.util.TraceUtils;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * MethodTraceSampler 테스트
+ *
+ * <p>추적 모드, 샘플링 비율 경계(임계값 직전/직후, 0~1 범위 보정), 강제 추적 헤더 값과
+ * 비활성화, 레이어별 시간 기록을 확인합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+class MethodTraceSamplerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void fullModeAlwaysTraces() {
+        MethodTraceSampler sampler = newSampler("full", 0.0);
+
+        assertThat(sampler.isDeepTraced()).isTrue();
+    }
+
+    @Test
+    void unknownModeFallsBackToSampled() {
+        assertThat(MethodTraceSampler.Mode.from("verbose")).isEqualTo(MethodTraceSampler.Mode.SAMPLED);
+        assertThat(MethodTraceSampler.Mode.from(null)).isEqualTo(MethodTraceSampler.Mode.SAMPLED);
+        assertThat(MethodTraceSampler.Mode.from(" Full ")).isEqualTo(MethodTraceSampler.Mode.FULL);
+    }
+
+    @Test
+    void sampledModeFollowsSampleRate() {
+        TraceUtils.setTraceId("trace-0001");
+
+        assertThat(newSampler("SAMPLED", 0.0).isDeepTraced()).isFalse();
+        assertThat(newSampler("SAMPLED", 1.0).isDeepTraced()).isTrue();
+    }
+
+    @Test
+    void sampledModeSkipsRequestsWithoutTraceId() {
+        assertThat(newSampler("SAMPLED", 1.0).isDeepTraced()).isFalse();
+    }
+
+    @Test
+    void samplingDecisionIsStablePerTrace() {
+        MethodTraceSampler sampler = newSampler("SAMPLED", 0.5);
+        int sampled = 0;
+        for (int i = 0; i < 1_000; i++) {
+            TraceUtils.setTraceId("trace-" + i);
+            boolean first = sampler.isDeepTraced();
+            assertThat(sampler.isDeepTraced()).isEqualTo(first);
+            if (first) {
+                sampled++;
+            }
+        }
+
+        assertThat(sampled).isBetween(350, 650);
+    }
+
+    @Test
+    void samplesOnlyWhenTraceHashIsBelowThreshold() {
+        // "trace-boundary".hashCode() 의 floorMod(10000) 은 2354
+        TraceUtils.setTraceId("trace-boundary");
+
+        assertThat(newSampler("SAMPLED", 0.2354).isDeepTraced()).isFalse();
+        assertThat(newSampler("SAMPLED", 0.2355).isDeepTraced()).isTrue();
+    }
+
+    @Test
+    void clampsSampleRateToZeroAndOne() {
+        TraceUtils.setTraceId("trace-a");
+
+        assertThat(newSampler("SAMPLED", -0.5).isDeepTraced()).isFalse();
+        assertThat(newSampler("SAMPLED", 1.5).isDeepTraced()).isTrue();
+    }
+
+    @Test
+    void forceHeaderMarksRequestAsTraced() {
+        MethodTraceSampler sampler = newSampler("SAMPLED", 0.0);
+        bindRequestHeader("X-Trace-Sampled", "true");
+
+        assertThat(sampler.isDeepTraced()).isFalse();
+        sampler.markForcedFromRequest();
+        assertThat(sampler.isDeepTraced()).isTrue();
+    }
+
+    @Test
+    void acceptsOneAsForceHeaderValue() {
+        MethodTraceSampler sampler = newSampler("SAMPLED", 0.0);
+        bindRequestHeader("X-Trace-Sampled", "1");
+
+        sampler.markForcedFromRequest();
+        assertThat(sampler.isDeepTraced()).isTrue();
+    }
+
+    @Test
+    void ignoresForceHeaderWithOtherValue() {
+        MethodTraceSampler sampler = newSampler("SAMPLED", 0.0);
+        bindRequestHeader("X-Trace-Sampled", "no");
+
+        sampler.markForcedFromRequest();
+        assertThat(sampler.isDeepTraced()).isFalse();
+    }
+
+    @Test
+    void blankForceHeaderDisablesForcedTracing() {
+        MethodTraceSampler sampler = newSampler("SAMPLED", 0.0, " ");
+        bindRequestHeader("X-Trace-Sampled", "true");
+
+        sampler.markForcedFromRequest();
+        assertThat(sampler.isDeepTraced()).isFalse();
+    }
+
+    @Test
+    void fullModeDoesNotMarkForcedRequest() {
+        MethodTraceSampler sampler = newSampler("FULL", 0.0);
+        bindRequestHeader("X-Trace-Sampled", "true");
+
+        sampler.markForcedFromRequest();
+        assertThat(MDC.get("traceSampled")).isNull();
+        assertThat(sampler.isDeepTraced()).isTrue();
+    }
+
+    @Test
+    void recordsDurationPerLayerAndOutcome() {
+        MethodTraceSampler sampler = newSampler("SAMPLED", 0.0);
+
+        sampler.record(Constants.Logging.CATEGORY_SERVICE, 1_000_000, true);
+        sampler.record(Constants.Logging.CATEGORY_SERVICE, 2_000_000, false);
+        sampler.record("UNKNOWN", 1_000_000, true);
+
+        assertThat(timer(Constants.Logging.CATEGORY_SERVICE, "success").count()).isEqualTo(1);
+        assertThat(timer(Constants.Logging.CATEGORY_SERVICE, "error").count()).isEqualTo(1);
+        assertThat(timer(Constants.Logging.CATEGORY_REPOSITORY, "success").count()).isZero();
+    }
+
+    private MethodTraceSampler newSampler(String mode, double sampleRate) {
+        return newSampler(mode, sampleRate, "X-Trace-Sampled");
+    }
+
+    private MethodTraceSampler newSampler(String mode, double sampleRate, String forceHeader) {
+        return new MethodTraceSampler(meterRegistry, mode, sampleRate, forceHeader);
+    }
+
+    private static void bindRequestHeader(String name, String value) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(name, value);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private Timer timer(String layer, String outcome) {
+        return meterRegistry.get("method.trace.duration").tag("layer", layer).tag("outcome", outcome).timer();
+    }
+}
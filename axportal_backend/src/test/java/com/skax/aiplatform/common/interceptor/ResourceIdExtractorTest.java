@@ -0,0 +1,94 @@
+package com.skax.aiplatform.common.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * ResourceIdExtractor 테스트
+ *
+ * <p>접근자 탐색 순서(getId → getSeq → get*Id/get*Seq → 필드 → toString)와
+ * 값이 없을 때의 다음 접근자 대체를 확인합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+class ResourceIdExtractorTest {
+
+    static class WithIdAndSeq {
+        public String getId() {
+            return "id-1";
+        }
+
+        public Long getSeq() {
+            return 7L;
+        }
+    }
+
+    static class WithNullId {
+        public String getId() {
+            return null;
+        }
+
+        public Long getSeq() {
+            return 42L;
+        }
+    }
+
+    static class WithNamedId {
+        public String getModelId() {
+            return "model-9";
+        }
+    }
+
+    static class WithFieldOnly {
+        @SuppressWarnings("unused")
+        private final String assetId = "asset-3";
+    }
+
+    static class WithToStringOnly {
+        @Override
+        public String toString() {
+            return "Dataset(name=sample, id=ds-5, size=10)";
+        }
+    }
+
+    static class WithoutId {
+        @Override
+        public String toString() {
+            return "Empty()";
+        }
+    }
+
+    @Test
+    void prefersGetIdOverOtherAccessors() {
+        assertThat(ResourceIdExtractor.extract(new WithIdAndSeq())).isEqualTo("id-1");
+    }
+
+    @Test
+    void fallsBackToGetSeqWhenIdIsNull() {
+        assertThat(ResourceIdExtractor.extract(new WithNullId())).isEqualTo("42");
+    }
+
+    @Test
+    void usesNamedIdGetter() {
+        assertThat(ResourceIdExtractor.extract(new WithNamedId())).isEqualTo("model-9");
+    }
+
+    @Test
+    void readsIdFieldWithoutGetter() {
+        assertThat(ResourceIdExtractor.extract(new WithFieldOnly())).isEqualTo("asset-3");
+    }
+
+    @Test
+    void parsesToStringAsLastResort() {
+        assertThat(ResourceIdExtractor.extract(new WithToStringOnly())).isEqualTo("ds-5");
+    }
+
+    @Test
+    void returnsNullWhenNoIdFound() {
+        assertThat(ResourceIdExtractor.extract(null)).isNull();
+        assertThat(ResourceIdExtractor.extract(new WithoutId())).isNull();
+    }
+}
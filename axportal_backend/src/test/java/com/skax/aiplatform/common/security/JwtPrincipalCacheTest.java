@@ -0,0 +1,108 @@
+package com.skax.aiplatform.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * JwtPrincipalCache 테스트
+ *
+ * <p>검증 결과 재사용, 유효하지 않은 토큰 미캐시, 비활성화 시 매번 검증, 최대 보관 시간과
+ * 토큰 만료에 따른 항목 제거, 토큰별 항목 분리를 확인합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+class JwtPrincipalCacheTest {
+
+    private static final String SECRET = "jwtPrincipalCacheTestSecretKeyThatIsAtLeast256BitsLong!!";
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 900, 4500);
+
+    @Test
+    void returnsSamePrincipalForRepeatedToken() {
+        JwtPrincipalCache cache = newCache(true);
+        String token = jwtTokenProvider.createAccessToken("alice", "[ROLE_USER, ROLE_ADMIN]");
+
+        JwtPrincipal first = cache.resolve(token);
+        JwtPrincipal second = cache.resolve(token);
+
+        assertThat(first).isNotNull();
+        assertThat(second).isSameAs(first);
+        assertThat(first.getUsername()).isEqualTo("alice");
+        assertThat(first.getGrantedAuthorities())
+                .extracting(Object::toString)
+                .containsExactly("ROLE_USER", "ROLE_ADMIN");
+    }
+
+    @Test
+    void doesNotCacheInvalidToken() {
+        JwtPrincipalCache cache = newCache(true);
+        String token = jwtTokenProvider.createAccessToken("bob", "[ROLE_USER]");
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        assertThat(cache.resolve(tampered)).isNull();
+        assertThat(cache.resolve(tampered)).isNull();
+        assertThat(cache.resolve(token)).isNotNull();
+    }
+
+    @Test
+    void verifiesEveryTimeWhenDisabled() {
+        JwtPrincipalCache cache = newCache(false);
+        String token = jwtTokenProvider.createAccessToken("carol", "[ROLE_USER]");
+
+        JwtPrincipal first = cache.resolve(token);
+        JwtPrincipal second = cache.resolve(token);
+
+        assertThat(first).isNotNull();
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getUsername()).isEqualTo("carol");
+    }
+
+    @Test
+    void reverifiesAfterMaxTtl() {
+        JwtPrincipalCache cache = new JwtPrincipalCache(jwtTokenProvider, new SimpleMeterRegistry(), true, 1000, 0);
+        String token = jwtTokenProvider.createAccessToken("dave", "[ROLE_USER]");
+
+        JwtPrincipal first = cache.resolve(token);
+        JwtPrincipal second = cache.resolve(token);
+
+        assertThat(first).isNotNull();
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getUsername()).isEqualTo("dave");
+    }
+
+    @Test
+    void dropsCachedPrincipalOnceTokenExpires() throws InterruptedException {
+        JwtTokenProvider shortLivedProvider = new JwtTokenProvider(SECRET, 1, 4500);
+        JwtPrincipalCache cache = new JwtPrincipalCache(shortLivedProvider, new SimpleMeterRegistry(), true, 1000,
+                900);
+        String token = shortLivedProvider.createAccessToken("erin", "[ROLE_USER]");
+
+        assertThat(cache.resolve(token)).isNotNull();
+        Thread.sleep(1_100);
+
+        assertThat(cache.resolve(token)).isNull();
+    }
+
+    @Test
+    void keepsSeparateEntriesPerToken() {
+        JwtPrincipalCache cache = newCache(true);
+        String userToken = jwtTokenProvider.createAccessToken("frank", "[ROLE_USER]");
+        String adminToken = jwtTokenProvider.createAccessToken("frank", "[ROLE_ADMIN]");
+
+        JwtPrincipal user = cache.resolve(userToken);
+        JwtPrincipal admin = cache.resolve(adminToken);
+
+        assertThat(admin).isNotSameAs(user);
+        assertThat(cache.resolve(userToken)).isSameAs(user);
+        assertThat(admin.getGrantedAuthorities()).extracting(Object::toString).containsExactly("ROLE_ADMIN");
+    }
+
+    private JwtPrincipalCache newCache(boolean enabled) {
+        return new JwtPrincipalCache(jwtTokenProvider, new SimpleMeterRegistry(), enabled, 1000, 900);
+    }
+}
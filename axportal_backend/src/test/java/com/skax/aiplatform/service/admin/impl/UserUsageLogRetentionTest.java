@@ -0,0 +1,152 @@
+package com.skax.aiplatform.service.admin.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import com.skax.aiplatform.service.admin.impl.UserUsageLogRetention.PartitionMode;
+import com.skax.aiplatform.service.admin.impl.UserUsageLogRetention.PurgeResult;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * UserUsageLogRetention 테스트
+ *
+ * <p>H2 내장 DB 의 GPO_LOG_MAS 로 SEQ_NO 공백/순서 어긋남이 있는 경우의 경계 이분 탐색,
+ * 생성 시각 조건이 걸린 구간 삭제, 파티션 이름 해석을 확인합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+class UserUsageLogRetentionTest {
+
+    private static final int RETENTION_DAYS = 30;
+
+    private EmbeddedDatabase dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE GPO_LOG_MAS (SEQ_NO BIGINT PRIMARY KEY, FST_CREATED_AT TIMESTAMP)");
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    void findsBoundaryAcrossSequenceGaps() {
+        insert(LocalDateTime.now().minusDays(40), 1, 2, 3, 10, 11);
+        insert(LocalDateTime.now().minusDays(1), 50, 51);
+
+        long boundary = retention(PartitionMode.NONE, 5000).findBoundary(1, 51, cutoff());
+
+        assertThat(boundary).isEqualTo(12);
+    }
+
+    @Test
+    void findsBoundaryWhenAllRowsExpiredOrNone() {
+        insert(LocalDateTime.now().minusDays(40), 1, 2, 3);
+        UserUsageLogRetention retention = retention(PartitionMode.NONE, 5000);
+
+        assertThat(retention.findBoundary(1, 3, cutoff())).isEqualTo(4);
+        assertThat(retention.findBoundary(1, 3, LocalDateTime.now().minusDays(50))).isEqualTo(1);
+    }
+
+    @Test
+    void keepsOutOfOrderRecentRowsInsideDeleteRange() {
+        insert(LocalDateTime.now().minusDays(40), 1, 2, 3, 4, 6, 7, 8);
+        insert(LocalDateTime.now().minusDays(1), 5, 9, 10);
+
+        PurgeResult result = retention(PartitionMode.NONE, 5000).purge();
+
+        assertThat(result.deletedRows()).isEqualTo(7);
+        assertThat(remainingSeqs()).containsExactly(5L, 9L, 10L);
+    }
+
+    @Test
+    void deletesInChunksSkippingSequenceGaps() {
+        insert(LocalDateTime.now().minusDays(40), 1, 2, 3, 100, 101);
+        insert(LocalDateTime.now().minusDays(1), 200);
+
+        PurgeResult result = retention(PartitionMode.NONE, 2).purge();
+
+        assertThat(result.deletedRows()).isEqualTo(5);
+        assertThat(result.chunks()).isEqualTo(3);
+        assertThat(result.droppedPartitions()).isZero();
+        assertThat(remainingSeqs()).containsExactly(200L);
+        assertThat(meterRegistry.get("user.usage.log.purged").tag("method", "delete").counter().count())
+                .isEqualTo(5.0);
+    }
+
+    @Test
+    void purgesNothingFromEmptyTable() {
+        PurgeResult result = retention(PartitionMode.NONE, 5000).purge();
+
+        assertThat(result.deletedRows()).isZero();
+        assertThat(result.chunks()).isZero();
+    }
+
+    @Test
+    void parsesDailyPartitionEnd() {
+        UserUsageLogRetention retention = retention(PartitionMode.DAILY, 5000);
+
+        assertThat(retention.partitionEnd("gpo_log_mas_20251123")).isEqualTo(LocalDate.of(2025, 11, 24));
+        assertThat(retention.partitionEnd("gpo_log_mas_20251231")).isEqualTo(LocalDate.of(2026, 1, 1));
+        assertThat(retention.partitionEnd("gpo_log_mas_202511")).isNull();
+        assertThat(retention.partitionEnd("gpo_log_mas_20251340")).isNull();
+        assertThat(retention.partitionEnd("gpo_log_mas_default")).isNull();
+    }
+
+    @Test
+    void parsesMonthlyPartitionEnd() {
+        UserUsageLogRetention retention = retention(PartitionMode.MONTHLY, 5000);
+
+        assertThat(retention.partitionEnd("gpo_log_mas_202510")).isEqualTo(LocalDate.of(2025, 11, 1));
+        assertThat(retention.partitionEnd("gpo_log_mas_202512")).isEqualTo(LocalDate.of(2026, 1, 1));
+        assertThat(retention.partitionEnd("gpo_log_mas_20251123")).isNull();
+        assertThat(retention.partitionEnd("gpo_log_mas_202513")).isNull();
+        assertThat(retention.partitionEnd("other_table_202510")).isNull();
+    }
+
+    private UserUsageLogRetention retention(PartitionMode partitionMode, int chunkSize) {
+        return new UserUsageLogRetention(dataSource, new DataSourceTransactionManager(dataSource), meterRegistry,
+                "org.h2.Driver", RETENTION_DAYS, chunkSize, 0, partitionMode);
+    }
+
+    private static LocalDateTime cutoff() {
+        return LocalDateTime.now().minusDays(RETENTION_DAYS);
+    }
+
+    private void insert(LocalDateTime createdAt, long... seqs) {
+        for (long seq : seqs) {
+            jdbcTemplate.update("INSERT INTO GPO_LOG_MAS (SEQ_NO, FST_CREATED_AT) VALUES (?, ?)", seq,
+                    Timestamp.valueOf(createdAt));
+        }
+    }
+
+    private List<Long> remainingSeqs() {
+        return jdbcTemplate.queryForList("SELECT SEQ_NO FROM GPO_LOG_MAS ORDER BY SEQ_NO", Long.class);
+    }
+}
@@ -0,0 +1,166 @@
+package com.skax.aiplatform.service.batch.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.skax.aiplatform.entity.GpoGroupcoJkwMas;
+import com.skax.aiplatform.repository.auth.GpoUsersMasRepository;
+import com.skax.aiplatform.repository.common.GpoGroupcoJkwMasRepository;
+
+/**
+ * HrDataBatchServiceImpl HR 파일 적재 테스트
+ *
+ * <p>임시 디렉토리의 HR 파일로 청크 단위 저장, 실패 후 체크포인트 이후부터 재개,
+ * 파일 목록이 바뀐 경우 체크포인트 무시, 'SH' 누락 직원 삭제 대상 수집을 확인합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+class HrDataBatchServiceImplTest {
+
+    private static final String FILE_NAME = "hr_20251124.txt";
+    private static final String CHECKPOINT_FILE_NAME = ".hr_import.checkpoint";
+    private static final int FIELD_COUNT = 31;
+
+    @TempDir
+    Path hrDirectory;
+
+    private final HrMasterDataWriter writer = mock(HrMasterDataWriter.class);
+    private final List<List<String>> writtenChunks = new ArrayList<>();
+    private HrDataBatchServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new HrDataBatchServiceImpl(mock(GpoGroupcoJkwMasRepository.class),
+                mock(GpoUsersMasRepository.class), writer, mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(service, "hrFileDirectory", hrDirectory.toString());
+        ReflectionTestUtils.setField(service, "hrFilePrefixes", List.of("hr"));
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+        ReflectionTestUtils.setField(service, "checkpointFile", "");
+        recordWrittenChunks();
+    }
+
+    @Test
+    void writesFileInChunksAndClearsCheckpoint() throws IOException {
+        writeHrFile(FILE_NAME, line("SH", "E001"), line("SH", "E002"), line("SK", "K001"), "",
+                line("SH", "E003"), line("SH", "E004"));
+        when(writer.deleteMissing(eq("SH"), anySet(), anyInt())).thenReturn(1);
+
+        int applied = service.processHrDataFile();
+
+        assertThat(writtenChunks).containsExactly(List.of("E001", "E002"), List.of("K001", "E003"), List.of("E004"));
+        assertThat(applied).isEqualTo(5 + 1);
+        assertThat(seenShMemberIds()).containsExactlyInAnyOrder("E001", "E002", "E003", "E004");
+        assertThat(hrDirectory.resolve(CHECKPOINT_FILE_NAME)).doesNotExist();
+    }
+
+    @Test
+    void resumesFromCheckpointAfterFailure() throws IOException {
+        writeHrFile(FILE_NAME, line("SH", "E001"), line("SH", "E002"), line("SH", "E003"), line("SH", "E004"),
+                line("SH", "E005"));
+        doAnswer(invocation -> capture(invocation.getArgument(0)))
+                .doThrow(new IllegalStateException("DB 연결 끊김"))
+                .when(writer).writeChunk(any());
+
+        assertThatThrownBy(() -> service.processHrDataFile()).isInstanceOf(RuntimeException.class);
+        assertThat(Files.readString(hrDirectory.resolve(CHECKPOINT_FILE_NAME))).contains(FILE_NAME + "=2");
+
+        writtenChunks.clear();
+        recordWrittenChunks();
+        service.processHrDataFile();
+
+        assertThat(writtenChunks).containsExactly(List.of("E003", "E004"), List.of("E005"));
+        assertThat(seenShMemberIds()).containsExactlyInAnyOrder("E001", "E002", "E003", "E004", "E005");
+        assertThat(hrDirectory.resolve(CHECKPOINT_FILE_NAME)).doesNotExist();
+    }
+
+    @Test
+    void ignoresCheckpointForDifferentFileSet() throws IOException {
+        writeHrFile(FILE_NAME, line("SH", "E001"), line("SH", "E002"), line("SH", "E003"));
+        Files.writeString(hrDirectory.resolve(CHECKPOINT_FILE_NAME), "hr_20251123.txt=2\n");
+
+        service.processHrDataFile();
+
+        assertThat(writtenChunks).containsExactly(List.of("E001", "E002"), List.of("E003"));
+    }
+
+    @Test
+    void usesLatestFilePerPrefix() throws IOException {
+        writeHrFile("hr_20251123.txt", line("SH", "OLD1"));
+        writeHrFile(FILE_NAME, line("SH", "E001"));
+        writeHrFile("other_20251124.txt", line("SH", "X001"));
+
+        service.processHrDataFile();
+
+        assertThat(writtenChunks).containsExactly(List.of("E001"));
+    }
+
+    @Test
+    void skipsMalformedLinesAndKeepsLastDuplicate() throws IOException {
+        writeHrFile(FILE_NAME, "SH|E001|too-short", line("SH", "E002"), line("SH", "E002"), line("SH", " "));
+
+        service.processHrDataFile();
+
+        assertThat(writtenChunks).containsExactly(List.of("E002"));
+    }
+
+    private void recordWrittenChunks() {
+        doAnswer(invocation -> capture(invocation.getArgument(0))).when(writer).writeChunk(any());
+    }
+
+    /**
+     * 청크는 저장 후 재사용되므로 호출 시점의 member_id 를 복사
+     */
+    private HrMasterDataWriter.ChunkResult capture(Collection<GpoGroupcoJkwMas> chunk) {
+        writtenChunks.add(chunk.stream().map(GpoGroupcoJkwMas::getMemberId).toList());
+        return new HrMasterDataWriter.ChunkResult(chunk.size(), 0, 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> seenShMemberIds() {
+        ArgumentCaptor<Set<String>> captor = ArgumentCaptor.forClass(Set.class);
+        verify(writer, atLeastOnce()).deleteMissing(eq("SH"), captor.capture(), eq(2));
+        return captor.getValue();
+    }
+
+    private void writeHrFile(String fileName, String... lines) throws IOException {
+        Files.writeString(hrDirectory.resolve(fileName), String.join("\n", lines) + "\n");
+    }
+
+    private static String line(String grpcoC, String memberId) {
+        String[] fields = new String[FIELD_COUNT];
+        Arrays.fill(fields, "");
+        fields[0] = grpcoC;
+        fields[1] = memberId;
+        fields[2] = "홍길동";
+        fields[7] = "개발팀";
+        fields[24] = "N";
+        return String.join("|", fields);
+    }
+}
@@ -0,0 +1,156 @@
+package com.skax.aiplatform.service.batch.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import com.skax.aiplatform.entity.GpoGroupcoJkwMas;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * HrMasterDataWriter 테스트
+ *
+ * <p>H2 내장 DB 의 GPO_GRPCO_JKW_MAS 로 청크 저장 시 신규/변경/변경 없음 구분과
+ * 이번 적재에 없는 'SH' 직원 삭제를 확인합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+class HrMasterDataWriterTest {
+
+    private EmbeddedDatabase dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private HrMasterDataWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE gpo_grpco_jkw_mas (member_id VARCHAR(50) PRIMARY KEY, "
+                + "grpco_c VARCHAR(10), jkw_nm VARCHAR(100), jkwi_nm VARCHAR(100), dept_nm VARCHAR(100), "
+                + "grpco_nm VARCHAR(100), jkgp_nm VARCHAR(100), hp_no VARCHAR(20), retr_jkw_yn INTEGER, "
+                + "fst_created_at TIMESTAMP, lst_updated_at TIMESTAMP)");
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new HrMasterDataWriter(dataSource, new DataSourceTransactionManager(dataSource), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    void insertsNewEmployees() {
+        HrMasterDataWriter.ChunkResult result = writer.writeChunk(List.of(
+                employee("SH", "E001", "개발팀", 0),
+                employee("SH", "E002", "기획팀", 0)));
+
+        assertThat(result).isEqualTo(new HrMasterDataWriter.ChunkResult(2, 0, 0));
+        assertThat(deptOf("E001")).isEqualTo("개발팀");
+        assertThat(rows("inserted")).isEqualTo(2.0);
+    }
+
+    @Test
+    void updatesOnlyChangedEmployees() {
+        writer.writeChunk(List.of(
+                employee("SH", "E001", "개발팀", 0),
+                employee("SH", "E002", "기획팀", 0),
+                employee("SH", "E003", "운영팀", 0)));
+        jdbcTemplate.update("UPDATE gpo_grpco_jkw_mas SET lst_updated_at = TIMESTAMP '2000-01-01 00:00:00'");
+
+        HrMasterDataWriter.ChunkResult result = writer.writeChunk(List.of(
+                employee("SH", "E001", "개발팀", 0),
+                employee("SH", "E002", "전략팀", 0),
+                employee("SH", "E003", "운영팀", 1),
+                employee("SH", "E004", "인사팀", 0)));
+
+        assertThat(result).isEqualTo(new HrMasterDataWriter.ChunkResult(1, 2, 1));
+        assertThat(deptOf("E002")).isEqualTo("전략팀");
+        assertThat(jdbcTemplate.queryForObject("SELECT retr_jkw_yn FROM gpo_grpco_jkw_mas WHERE member_id = 'E003'",
+                Integer.class)).isEqualTo(1);
+        assertThat(updatedIds()).containsExactlyInAnyOrder("E002", "E003", "E004");
+        assertThat(rows("unchanged")).isEqualTo(1.0);
+    }
+
+    @Test
+    void treatsNullAndValueAsChanged() {
+        writer.writeChunk(List.of(employee("SH", "E001", null, 0)));
+
+        HrMasterDataWriter.ChunkResult result = writer.writeChunk(List.of(employee("SH", "E001", "개발팀", 0)));
+
+        assertThat(result).isEqualTo(new HrMasterDataWriter.ChunkResult(0, 1, 0));
+    }
+
+    @Test
+    void skipsEmptyChunk() {
+        assertThat(writer.writeChunk(List.of())).isEqualTo(new HrMasterDataWriter.ChunkResult(0, 0, 0));
+    }
+
+    @Test
+    void deletesOnlyMissingEmployeesOfGroup() {
+        writer.writeChunk(List.of(
+                employee("SH", "E001", "개발팀", 0),
+                employee("SH", "E002", "기획팀", 0),
+                employee("SH", "E003", "운영팀", 0),
+                employee("SH", "E004", "인사팀", 0),
+                employee("SK", "K001", "영업팀", 0)));
+
+        int deleted = writer.deleteMissing("SH", Set.of("E002"), 2);
+
+        assertThat(deleted).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForList("SELECT member_id FROM gpo_grpco_jkw_mas ORDER BY member_id",
+                String.class)).containsExactly("E002", "K001");
+        assertThat(rows("deleted")).isEqualTo(3.0);
+    }
+
+    @Test
+    void deletesNothingWhenAllEmployeesSeen() {
+        writer.writeChunk(List.of(employee("SH", "E001", "개발팀", 0)));
+
+        assertThat(writer.deleteMissing("SH", Set.of("E001"), 100)).isZero();
+    }
+
+    private static GpoGroupcoJkwMas employee(String grpcoC, String memberId, String deptNm, int retrJkwYn) {
+        return GpoGroupcoJkwMas.builder()
+                .memberId(memberId)
+                .grpcoC(grpcoC)
+                .jkwNm("홍길동")
+                .jkwiNm("매니저")
+                .deptNm(deptNm)
+                .grpcoNm(grpcoC + " 그룹사")
+                .jkgpNm("책임")
+                .hpNo("010-0000-0000")
+                .retrJkwYn(retrJkwYn)
+                .build();
+    }
+
+    private String deptOf(String memberId) {
+        return jdbcTemplate.queryForObject("SELECT dept_nm FROM gpo_grpco_jkw_mas WHERE member_id = ?",
+                String.class, memberId);
+    }
+
+    private List<String> updatedIds() {
+        return jdbcTemplate.queryForList("SELECT member_id FROM gpo_grpco_jkw_mas "
+                + "WHERE lst_updated_at > TIMESTAMP '2000-01-01 00:00:00'", String.class);
+    }
+
+    private double rows(String action) {
+        return meterRegistry.get("hr.import.rows").tag("action", action).counter().count();
+    }
+}
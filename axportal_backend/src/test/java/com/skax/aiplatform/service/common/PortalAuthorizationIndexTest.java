@@ -0,0 +1,144 @@
+package com.skax.aiplatform.service.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.skax.aiplatform.entity.auth.GpoPortalResourceMas;
+import com.skax.aiplatform.repository.admin.GpoAuthorityMasRepository;
+import com.skax.aiplatform.repository.admin.GpoPortalResourceMasRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * PortalAuthorizationIndex 테스트
+ *
+ * <p>정확 일치/패턴 일치/메서드 구분/기본 권한/무효화 동작과, 같은 경로에 여러 패턴이
+ * 일치할 때 정확 일치 → 긴 접두사 → 먼저 등록된 패턴 순으로 선택되는지 확인합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+class PortalAuthorizationIndexTest {
+
+    private static final long ROLE_SEQ = -301L;
+    private static final String ROLE_AUTHORITY = "A000100";
+
+    private final GpoAuthorityMasRepository authorityRepository = mock(GpoAuthorityMasRepository.class);
+    private final GpoPortalResourceMasRepository resourceRepository = mock(GpoPortalResourceMasRepository.class);
+    private final List<GpoPortalResourceMas> resources = new ArrayList<>();
+
+    private PortalAuthorizationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        resources.add(resource(PortalAuthorizationIndex.DEFAULT_AUTHORITY_ID, "GET", "/auth/me"));
+        resources.add(resource(ROLE_AUTHORITY, "GET", "/projects"));
+        resources.add(resource(ROLE_AUTHORITY, "GET", "/projects/**"));
+        resources.add(resource(ROLE_AUTHORITY, "GET", "/projects/shared/{prjSeq}/**"));
+        resources.add(resource(ROLE_AUTHORITY, "POST", "/projects/{prjSeq}/members"));
+        resources.add(resource("A000999", "DELETE", "/projects/**"));
+
+        when(authorityRepository.findAuthKeysByRoleSeq(ROLE_SEQ)).thenReturn(List.of(ROLE_AUTHORITY));
+        when(resourceRepository.findAll()).thenReturn(resources);
+        index = new PortalAuthorizationIndex(authorityRepository, resourceRepository, new SimpleMeterRegistry(),
+                60, 100);
+    }
+
+    @Test
+    void matchesExactPath() {
+        assertThat(index.findMatchingResource(ROLE_SEQ, "GET", "/projects")).isEqualTo("/projects");
+    }
+
+    @Test
+    void prefersMostSpecificPattern() {
+        assertThat(index.findMatchingResource(ROLE_SEQ, "GET", "/projects/shared/10/members"))
+                .isEqualTo("/projects/shared/{prjSeq}/**");
+        assertThat(index.findMatchingResource(ROLE_SEQ, "GET", "/projects/10/roles"))
+                .isEqualTo("/projects/**");
+    }
+
+    @Test
+    void separatesHttpMethods() {
+        assertThat(index.findMatchingResource(ROLE_SEQ, "POST", "/projects/10/members"))
+                .isEqualTo("/projects/{prjSeq}/members");
+        assertThat(index.findMatchingResource(ROLE_SEQ, "PUT", "/projects/10/members")).isNull();
+        assertThat(index.findMatchingResource(ROLE_SEQ, "DELETE", "/projects/10")).isNull();
+        assertThat(index.findMatchingResource(ROLE_SEQ, null, "/projects")).isNull();
+    }
+
+    @Test
+    void grantsDefaultAuthorityToEveryRole() {
+        when(authorityRepository.findAuthKeysByRoleSeq(-1L)).thenReturn(List.of());
+
+        assertThat(index.findMatchingResource(-1L, "GET", "/auth/me")).isEqualTo("/auth/me");
+        assertThat(index.findMatchingResource(-1L, "GET", "/projects")).isNull();
+    }
+
+    @Test
+    void compilesRoleOnceUntilEvicted() {
+        index.findMatchingResource(ROLE_SEQ, "GET", "/projects");
+        index.findMatchingResource(ROLE_SEQ, "GET", "/projects/1");
+        verify(authorityRepository, times(1)).findAuthKeysByRoleSeq(ROLE_SEQ);
+
+        when(authorityRepository.findAuthKeysByRoleSeq(ROLE_SEQ)).thenReturn(List.of());
+        index.evictRole(ROLE_SEQ);
+
+        assertThat(index.findMatchingResource(ROLE_SEQ, "GET", "/projects")).isNull();
+        verify(authorityRepository, times(2)).findAuthKeysByRoleSeq(ROLE_SEQ);
+        verify(resourceRepository, times(1)).findAll();
+    }
+
+    @Test
+    void evictAllReloadsResources() {
+        index.findMatchingResource(ROLE_SEQ, "GET", "/projects");
+        resources.add(resource(ROLE_AUTHORITY, "PUT", "/projects/{prjSeq}"));
+        index.evictAll();
+
+        assertThat(index.findMatchingResource(ROLE_SEQ, "PUT", "/projects/3")).isEqualTo("/projects/{prjSeq}");
+        verify(resourceRepository, times(2)).findAll();
+    }
+
+    @Test
+    void prefersExactPathOverPattern() {
+        resources.add(resource(ROLE_AUTHORITY, "GET", "/projects/10/roles"));
+        index.evictAll();
+
+        assertThat(index.findMatchingResource(ROLE_SEQ, "GET", "/projects/10/roles")).isEqualTo("/projects/10/roles");
+        assertThat(index.findMatchingResource(ROLE_SEQ, "GET", "/projects/11/roles")).isEqualTo("/projects/**");
+    }
+
+    @Test
+    void firstRegisteredPatternWinsForSamePrefix() {
+        GpoPortalResourceMas members = resource(ROLE_AUTHORITY, "GET", "/projects/{prjSeq}/members/**");
+        resources.add(members);
+        index.evictAll();
+
+        assertThat(index.findMatchingResource(ROLE_SEQ, "GET", "/projects/10/members/3"))
+                .isEqualTo("/projects/**");
+
+        resources.remove(members);
+        resources.add(0, members);
+        index.evictAll();
+
+        assertThat(index.findMatchingResource(ROLE_SEQ, "GET", "/projects/10/members/3"))
+                .isEqualTo("/projects/{prjSeq}/members/**");
+    }
+
+    private static GpoPortalResourceMas resource(String authorityId, String scope, String resourceUrl) {
+        GpoPortalResourceMas resource = mock(GpoPortalResourceMas.class);
+        when(resource.getAuthorityId()).thenReturn(authorityId);
+        when(resource.getScope()).thenReturn(scope);
+        when(resource.getResourceUrl()).thenReturn(resourceUrl);
+        return resource;
+    }
+}
@@ -0,0 +1,221 @@
+package com.skax.aiplatform.service.kube;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.skax.aiplatform.config.KubeClientConfig;
+
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.api.model.networking.v1.Ingress;
+import io.fabric8.kubernetes.api.model.networking.v1.IngressBuilder;
+import io.fabric8.kubernetes.api.model.networking.v1.IngressStatusBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * KubeResourceCache 테스트
+ *
+ * <p>fabric8 mock server(CRUD 모드)를 대상으로 informer 동기화, 라벨 조회, 미동기화 시 API 조회,
+ * Ingress 상태 대기를 확인합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-11-24
+ * @version 1.0
+ */
+@EnableKubernetesMockClient(crud = true)
+class KubeResourceCacheTest {
+
+    private static final String NAMESPACE = "ide-ns";
+
+    KubernetesClient client;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private KubeResourceCache cache;
+
+    @AfterEach
+    void tearDown() {
+        if (cache != null) {
+            cache.stop();
+        }
+    }
+
+    @Test
+    void syncsExistingResourcesAndServesReadsFromCache() {
+        createDeployment("ide-alice", Map.of("app", "webide", "user", "alice"));
+        cache = startedCache();
+
+        assertThat(cache.getDeployment(NAMESPACE, "ide-alice")).isNotNull();
+        assertThat(cache.getDeployment(NAMESPACE, "ide-missing")).isNull();
+        assertThat(reads("deployment", "cache")).isEqualTo(2.0);
+        assertThat(reads("deployment", "api")).isZero();
+    }
+
+    @Test
+    void reflectsChangesAfterSync() {
+        cache = startedCache();
+        createDeployment("ide-bob", Map.of("app", "webide", "user", "bob"));
+
+        awaitUntil(() -> cache.getDeployment(NAMESPACE, "ide-bob") != null);
+        assertThat(cache.listDeployments(NAMESPACE, Map.of("user", "bob"))).hasSize(1);
+    }
+
+    @Test
+    void listsByAllLabels() {
+        createPod("pod-1", Map.of("app", "webide", "user", "alice"));
+        createPod("pod-2", Map.of("app", "webide", "user", "bob"));
+        createPod("pod-3", Map.of("app", "other", "user", "alice"));
+        cache = startedCache();
+
+        assertThat(cache.listPods(NAMESPACE, Map.of("app", "webide", "user", "alice")))
+                .extracting(p -> p.getMetadata().getName())
+                .containsExactly("pod-1");
+        assertThat(cache.listPods(NAMESPACE, Map.of("app", "webide")))
+                .extracting(p -> p.getMetadata().getName())
+                .containsExactlyInAnyOrder("pod-1", "pod-2");
+        assertThat(cache.listPods(NAMESPACE, Map.of("app", "none"))).isEmpty();
+        assertThat(reads("pod", "api")).isZero();
+    }
+
+    @Test
+    void fallsBackToApiWhenNotSynced() {
+        createDeployment("ide-carol", Map.of("app", "webide", "user", "carol"));
+        cache = newCache(true);
+
+        assertThat(cache.isReady(NAMESPACE)).isFalse();
+        assertThat(cache.getDeployment(NAMESPACE, "ide-carol")).isNotNull();
+        assertThat(cache.listDeployments(NAMESPACE, Map.of("user", "carol"))).hasSize(1);
+        assertThat(reads("deployment", "cache")).isZero();
+    }
+
+    @Test
+    void fallsBackToApiForOtherNamespace() {
+        cache = startedCache();
+        client.apps().deployments().inNamespace("other-ns").resource(new DeploymentBuilder()
+                .withMetadata(new ObjectMetaBuilder().withName("ide-dave").withNamespace("other-ns").build())
+                .build()).create();
+
+        assertThat(cache.isReady("other-ns")).isFalse();
+        assertThat(cache.getDeployment("other-ns", "ide-dave")).isNotNull();
+    }
+
+    @Test
+    void awaitIngressTimesOutWhenConditionNeverMet() {
+        createIngress("ing-timeout");
+        cache = startedCache();
+
+        long started = System.nanoTime();
+        Optional<Ingress> result = cache.awaitIngress(NAMESPACE, "ing-timeout",
+                KubeResourceCacheTest::hasHostname, Duration.ofMillis(300));
+
+        assertThat(result).isEmpty();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isGreaterThanOrEqualTo(300);
+    }
+
+    @Test
+    void awaitIngressCompletesOnStatusUpdate() throws Exception {
+        Ingress created = createIngress("ing-ready");
+        cache = startedCache();
+
+        CompletableFuture<Optional<Ingress>> waiting = CompletableFuture.supplyAsync(() ->
+                cache.awaitIngress(NAMESPACE, "ing-ready", KubeResourceCacheTest::hasHostname, Duration.ofSeconds(10)));
+
+        created.setStatus(new IngressStatusBuilder()
+                .withNewLoadBalancer()
+                .addNewIngress().withHostname("alb.example.com").endIngress()
+                .endLoadBalancer()
+                .build());
+        client.network().v1().ingresses().inNamespace(NAMESPACE).resource(created).updateStatus();
+
+        Optional<Ingress> result = waiting.get(10, TimeUnit.SECONDS);
+        assertThat(result).isPresent();
+        assertThat(result.get().getStatus().getLoadBalancer().getIngress().get(0).getHostname())
+                .isEqualTo("alb.example.com");
+    }
+
+    @Test
+    void awaitIngressUsesWatchWhenCacheDisabled() {
+        createIngress("ing-disabled");
+        cache = newCache(false);
+        cache.start();
+
+        Optional<Ingress> result = cache.awaitIngress(NAMESPACE, "ing-disabled",
+                KubeResourceCacheTest::hasHostname, Duration.ofMillis(300));
+
+        assertThat(result).isEmpty();
+    }
+
+    private KubeResourceCache newCache(boolean enabled) {
+        KubeClientConfig config = new KubeClientConfig();
+        config.setNamespace(NAMESPACE);
+        return new KubeResourceCache(client, config, meterRegistry, enabled, 600);
+    }
+
+    private KubeResourceCache startedCache() {
+        KubeResourceCache started = newCache(true);
+        started.start();
+        awaitUntil(() -> started.isReady(NAMESPACE));
+        return started;
+    }
+
+    private double reads(String kind, String source) {
+        Counter counter = meterRegistry.find("kube.cache.reads").tag("kind", kind).tag("source", source).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private void createDeployment(String name, Map<String, String> labels) {
+        client.apps().deployments().inNamespace(NAMESPACE).resource(new DeploymentBuilder()
+                .withMetadata(new ObjectMetaBuilder().withName(name).withNamespace(NAMESPACE)
+                        .withLabels(labels).build())
+                .build()).create();
+    }
+
+    private void createPod(String name, Map<String, String> labels) {
+        Pod pod = new PodBuilder()
+                .withMetadata(new ObjectMetaBuilder().withName(name).withNamespace(NAMESPACE)
+                        .withLabels(labels).build())
+                .build();
+        client.pods().inNamespace(NAMESPACE).resource(pod).create();
+    }
+
+    private Ingress createIngress(String name) {
+        return client.network().v1().ingresses().inNamespace(NAMESPACE).resource(new IngressBuilder()
+                .withMetadata(new ObjectMetaBuilder().withName(name).withNamespace(NAMESPACE).build())
+                .build()).create();
+    }
+
+    private static boolean hasHostname(Ingress ing) {
+        return ing.getStatus() != null && ing.getStatus().getLoadBalancer() != null
+                && ing.getStatus().getLoadBalancer().getIngress() != null
+                && !ing.getStatus().getLoadBalancer().getIngress().isEmpty()
+                && ing.getStatus().getLoadBalancer().getIngress().get(0).getHostname() != null;
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("조건 대기 시간 초과");
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+}